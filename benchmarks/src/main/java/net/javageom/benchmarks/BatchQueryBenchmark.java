@@ -0,0 +1,127 @@
+/**
+ * File: 	BatchQueryBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Shapes2D;
+import net.javageom.geom2d.conic.Ellipse2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Containment and distance queries for arrays of random points, comparing
+ * calls for each point with the bulk methods of shapes, with and without
+ * parallel processing.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchQueryBenchmark {
+
+	@Param({"10000", "100000"})
+	public int size;
+
+	private SimplePolygon2D polygon;
+	private Polyline2D polyline;
+	private Ellipse2D ellipse;
+	private double[] xs;
+	private double[] ys;
+	private boolean[] inside;
+	private double[] dists;
+
+	@Setup
+	public void setup() {
+		polygon = Datasets.starPolygon(1000, 100, 100, 100, Datasets.SEED);
+		polyline = Datasets.randomWalk(100, Datasets.SEED);
+		ellipse = new Ellipse2D(100, 100, 80, 40, Math.PI / 6);
+
+		ArrayList<Point2D> points = Datasets.randomPoints(size, 200,
+				Datasets.SEED + 1);
+		xs = new double[size];
+		ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = points.get(i).x();
+			ys[i] = points.get(i).y();
+		}
+		inside = new boolean[size];
+		dists = new double[size];
+	}
+
+	@Benchmark
+	public boolean[] polygonContains() {
+		for (int i = 0; i < size; i++)
+			inside[i] = polygon.contains(xs[i], ys[i]);
+		return inside;
+	}
+
+	@Benchmark
+	public boolean[] polygonContainsBatch() {
+		polygon.contains(xs, ys, inside);
+		return inside;
+	}
+
+	@Benchmark
+	public boolean[] polygonContainsParallel() {
+		Shapes2D.contains(polygon, xs, ys, inside, true);
+		return inside;
+	}
+
+	@Benchmark
+	public double[] polylineDistance() {
+		for (int i = 0; i < size; i++)
+			dists[i] = polyline.distance(xs[i], ys[i]);
+		return dists;
+	}
+
+	@Benchmark
+	public double[] polylineDistanceBatch() {
+		polyline.distance(xs, ys, dists);
+		return dists;
+	}
+
+	@Benchmark
+	public double[] ellipseDistance() {
+		for (int i = 0; i < size; i++)
+			dists[i] = ellipse.distance(xs[i], ys[i]);
+		return dists;
+	}
+
+	@Benchmark
+	public double[] ellipseDistanceBatch() {
+		ellipse.distance(xs, ys, dists);
+		return dists;
+	}
+
+	@Benchmark
+	public double[] ellipseDistanceParallel() {
+		Shapes2D.distance(ellipse, xs, ys, dists, true);
+		return dists;
+	}
+}
@@ -0,0 +1,124 @@
+/**
+ * File: 	BezierIntersectionBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.circulinear.CirculinearCurves2D;
+import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.spline.BezierCurves2D;
+import net.javageom.geom2d.spline.CubicBezierCurve2D;
+import net.javageom.geom2d.spline.PolyCubicBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Intersections of two smooth poly-Bezier curves interpolating random walks,
+ * and of one of the curves with 100 straight lines. The exact computation is
+ * compared with the intersection of polylines with 16 edges per Bezier
+ * curve. The setup prints the number of intersections found by each method.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BezierIntersectionBenchmark {
+
+	@Param({"1000", "10000"})
+	public int size;
+
+	private PolyCubicBezierCurve2D curve1;
+	private PolyCubicBezierCurve2D curve2;
+	private ArrayList<StraightLine2D> lines;
+
+	@Setup
+	public void setup() {
+		curve1 = interpolate(Datasets.randomWalk(size + 1, Datasets.SEED));
+		curve2 = interpolate(Datasets.randomWalk(size + 1, Datasets.SEED + 1));
+
+		Random random = new Random(Datasets.SEED);
+		lines = new ArrayList<StraightLine2D>(100);
+		for (Point2D point : Datasets.randomPoints(100, 20, Datasets.SEED))
+			lines.add(new StraightLine2D(point, random.nextDouble() * Math.PI));
+
+		System.out.printf("%nintersections: curves %d (polyline %d), "
+				+ "lines %d (polyline %d)%n", curves().length,
+				curvesPolyline().length, lines(), linesPolyline());
+	}
+
+	@Benchmark
+	public double[][] curves() {
+		return BezierCurves2D.locateIntersections(curve1, curve2);
+	}
+
+	@Benchmark
+	public double[][] curvesPolyline() {
+		return CirculinearCurves2D.locateIntersections(
+				curve1.asPolyline(16 * size), curve2.asPolyline(16 * size));
+	}
+
+	@Benchmark
+	public int lines() {
+		int count = 0;
+		for (StraightLine2D line : lines)
+			count += BezierCurves2D.locateIntersections(curve1, line).length;
+		return count;
+	}
+
+	@Benchmark
+	public int linesPolyline() {
+		int count = 0;
+		for (StraightLine2D line : lines) {
+			for (CubicBezierCurve2D cubic : curve1.curves())
+				count += cubic.asPolyline(16).intersections(line).size();
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a smooth curve through the vertices of a polyline, using
+	 * Catmull-Rom tangents.
+	 */
+	private static PolyCubicBezierCurve2D interpolate(Polyline2D polyline) {
+		int n = polyline.vertexNumber();
+		PolyCubicBezierCurve2D curve = new PolyCubicBezierCurve2D(n - 1);
+		for (int i = 0; i < n - 1; i++) {
+			Point2D p0 = polyline.vertex(Math.max(i - 1, 0));
+			Point2D p1 = polyline.vertex(i);
+			Point2D p2 = polyline.vertex(i + 1);
+			Point2D p3 = polyline.vertex(Math.min(i + 2, n - 1));
+			curve.add(new CubicBezierCurve2D(p1.x(), p1.y(),
+					p1.x() + (p2.x() - p0.x()) / 6,
+					p1.y() + (p2.y() - p0.y()) / 6,
+					p2.x() - (p3.x() - p1.x()) / 6,
+					p2.y() - (p3.y() - p1.y()) / 6,
+					p2.x(), p2.y()));
+		}
+		return curve;
+	}
+}
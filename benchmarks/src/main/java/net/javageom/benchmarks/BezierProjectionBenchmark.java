@@ -0,0 +1,106 @@
+/**
+ * File: 	BezierProjectionBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.spline.CubicBezierCurve2D;
+import net.javageom.geom2d.spline.QuadBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Distance from 1000 points to quadratic and cubic Bezier curves, comparing
+ * the projection onto the curve with the distance to a polyline with 100
+ * edges. The setup prints the maximal error of each method, with respect to
+ * the distance to a polyline with 100000 edges.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BezierProjectionBenchmark {
+
+	private QuadBezierCurve2D quad;
+	private CubicBezierCurve2D cubic;
+	private ArrayList<Point2D> points;
+
+	@Setup
+	public void setup() {
+		quad = new QuadBezierCurve2D(new Point2D(0, 0), new Point2D(50, 150),
+				new Point2D(100, 0));
+		cubic = new CubicBezierCurve2D(new Point2D(0, 0), new Point2D(20, 100),
+				new Point2D(80, -50), new Point2D(100, 50));
+		points = Datasets.randomPoints(1000, 100, Datasets.SEED);
+
+		double quadExact = 0, quadPoly = 0, cubicExact = 0, cubicPoly = 0;
+		for (Point2D point : points) {
+			double ref = quad.asPolyline(100000).distance(point);
+			quadExact = Math.max(quadExact, Math.abs(quad.distance(point) - ref));
+			quadPoly = Math.max(quadPoly,
+					Math.abs(quad.asPolyline(100).distance(point) - ref));
+			ref = cubic.asPolyline(100000).distance(point);
+			cubicExact = Math.max(cubicExact,
+					Math.abs(cubic.distance(point) - ref));
+			cubicPoly = Math.max(cubicPoly,
+					Math.abs(cubic.asPolyline(100).distance(point) - ref));
+		}
+		System.out.printf("%nmax error: quad %.2e (polyline %.2e), "
+				+ "cubic %.2e (polyline %.2e)%n", quadExact, quadPoly,
+				cubicExact, cubicPoly);
+	}
+
+	@Benchmark
+	public double quad() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += quad.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double quadPolyline() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += quad.asPolyline(100).distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double cubic() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += cubic.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double cubicPolyline() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += cubic.asPolyline(100).distance(point);
+		return sum;
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * File: 	BufferBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.circulinear.CirculinearDomain2D;
+import net.javageom.geom2d.point.PointArray2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of buffers around point sets, polylines and polygons. The
+ * polygon is smooth, as buffers of polygons with many sharp vertices are
+ * not always computed successfully.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BufferBenchmark {
+
+	@Param({"100", "1000"})
+	public int size;
+
+	private PointArray2D points;
+	private Polyline2D polyline;
+	private SimplePolygon2D polygon;
+
+	@Setup
+	public void setup() {
+		points = new PointArray2D(Datasets.randomPoints(size,
+				10 * Math.sqrt(size), Datasets.SEED));
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		polygon = Datasets.flowerPolygon(size, 0, 0, 100);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D pointSet() {
+		return points.buffer(2);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D polyline() {
+		return polyline.buffer(2);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D polygon() {
+		return polygon.buffer(2);
+	}
+}
@@ -0,0 +1,69 @@
+/**
+ * File: 	BufferScalingBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.circulinear.CirculinearDomain2D;
+import net.javageom.geom2d.point.PointArray2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of buffers around point sets with a constant density, and
+ * around polylines similar to road centre lines, for input sizes from 10^3
+ * to 10^6 vertices. Each invocation takes up to several minutes for the
+ * largest sizes, so the execution time of single invocations is measured.
+ * Buffers of polygons are measured by {@link BufferBenchmark}.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BufferScalingBenchmark {
+
+	@Param({"1000", "10000", "100000", "1000000"})
+	public int size;
+
+	private PointArray2D points;
+	private Polyline2D polyline;
+
+	@Setup
+	public void setup() {
+		points = new PointArray2D(Datasets.randomPoints(size,
+				10 * Math.sqrt(size), Datasets.SEED));
+		polyline = Datasets.roadLine(size, Datasets.SEED);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D pointSet() {
+		return points.buffer(2);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D polyline() {
+		return polyline.buffer(2);
+	}
+}
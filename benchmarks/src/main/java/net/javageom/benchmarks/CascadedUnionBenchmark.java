@@ -0,0 +1,76 @@
+/**
+ * File: 	CascadedUnionBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.polygon.CascadedUnion2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Union of the parcels of a tiling, comparing successive unions with the
+ * cascaded union, using a single thread or the common pool.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CascadedUnionBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	public int size;
+
+	private ArrayList<SimplePolygon2D> parcels;
+	private CascadedUnion2D sequential;
+
+	@Setup
+	public void setup() {
+		parcels = Datasets.parcels(size, Datasets.SEED);
+		sequential = new CascadedUnion2D(new ForkJoinPool(1));
+	}
+
+	@Benchmark
+	public Polygon2D fold() {
+		Polygon2D result = parcels.get(0);
+		for (int i = 1; i < parcels.size(); i++)
+			result = Polygons2D.union(result, parcels.get(i));
+		return result;
+	}
+
+	@Benchmark
+	public Polygon2D cascaded() {
+		return sequential.union(parcels);
+	}
+
+	@Benchmark
+	public Polygon2D cascadedParallel() {
+		return Polygons2D.union(parcels);
+	}
+}
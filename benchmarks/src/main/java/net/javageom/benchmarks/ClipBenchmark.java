@@ -0,0 +1,110 @@
+/**
+ * File: 	ClipBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.conic.Circle2D;
+import net.javageom.geom2d.curve.CurveSet2D;
+import net.javageom.geom2d.curve.Curves2D;
+import net.javageom.geom2d.domain.Boundaries2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Clipping of curves and polygons by a box that contains about half of the
+ * shape. Methods suffixed by "Generic" use the clipping of generic curves,
+ * for comparison. The tiles method clips the polygon by each tile of a 4x4
+ * grid.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClipBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Polyline2D polyline;
+	private SimplePolygon2D polygon;
+	private Circle2D circle;
+	private Box2D polylineBox;
+	private Box2D polygonBox;
+
+	@Setup
+	public void setup() {
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		Box2D box = polyline.boundingBox();
+		polylineBox = new Box2D(box.getMinX(),
+				(box.getMinX() + box.getMaxX()) / 2, box.getMinY(),
+				box.getMaxY());
+		polygon = Datasets.starPolygon(size, 0, 0, 100, Datasets.SEED);
+		circle = new Circle2D(0, 0, 80);
+		polygonBox = new Box2D(-50, 150, -50, 150);
+	}
+
+	@Benchmark
+	public CurveSet2D<?> polyline() {
+		return polyline.clip(polylineBox);
+	}
+
+	@Benchmark
+	public CurveSet2D<?> polylineGeneric() {
+		return Curves2D.clipCurve(polyline, polylineBox);
+	}
+
+	@Benchmark
+	public Polygon2D polygon() {
+		return Polygons2D.clipPolygon(polygon, polygonBox);
+	}
+
+	@Benchmark
+	public Object polygonGeneric() {
+		return Boundaries2D.clipBoundary(polygon.boundary(), polygonBox);
+	}
+
+	@Benchmark
+	public int tiles() {
+		int n = 0;
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				Box2D tile = new Box2D(50 * i - 100, 50 * i - 50, 50 * j - 100,
+						50 * j - 50);
+				n += Polygons2D.clipPolygon(polygon, tile).vertexNumber();
+			}
+		}
+		return n;
+	}
+
+	@Benchmark
+	public CurveSet2D<?> circle() {
+		return circle.clip(polygonBox);
+	}
+}
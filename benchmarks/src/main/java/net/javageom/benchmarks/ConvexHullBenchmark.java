@@ -0,0 +1,96 @@
+/**
+ * File: 	ConvexHullBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+import net.javageom.geom2d.polygon.convhull.Chan2D;
+import net.javageom.geom2d.polygon.convhull.GrahamScan2D;
+import net.javageom.geom2d.polygon.convhull.JarvisMarch2D;
+import net.javageom.geom2d.polygon.convhull.MonotoneChain2D;
+import net.javageom.geom2d.polygon.convhull.ParallelConvexHull2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of the convex hull of random points.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexHullBenchmark {
+
+	@Param({"1000", "100000", "10000000"})
+	public int size;
+
+	private ArrayList<Point2D> points;
+	private double[] xs;
+	private double[] ys;
+
+	@Setup
+	public void setup() {
+		points = Datasets.randomPoints(size, 1000, Datasets.SEED);
+		xs = new double[size];
+		ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = points.get(i).x();
+			ys[i] = points.get(i).y();
+		}
+	}
+
+	@Benchmark
+	public Polygon2D grahamScan() {
+		return new GrahamScan2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Polygon2D jarvisMarch() {
+		return new JarvisMarch2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Polygon2D monotoneChain() {
+		return new MonotoneChain2D().convexHull(xs, ys);
+	}
+
+	@Benchmark
+	public Polygon2D chan() {
+		return new Chan2D().convexHull(xs, ys);
+	}
+
+	@Benchmark
+	public Polygon2D parallel() {
+		return new ParallelConvexHull2D().convexHull(xs, ys);
+	}
+
+	@Benchmark
+	public Polygon2D polygons2D() {
+		return Polygons2D.convexHull(points);
+	}
+}
@@ -0,0 +1,167 @@
+/**
+ * File: 	Datasets.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.MultiPolygon2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Generation of the datasets used by benchmarks. All datasets are generated
+ * from a seed, so that results can be compared between releases.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class Datasets {
+
+	/** The seed used by benchmarks, unless specified otherwise */
+	public final static long SEED = 20261017L;
+
+	/**
+	 * Creates points uniformly distributed within the square [0, size]^2.
+	 */
+	public static ArrayList<Point2D> randomPoints(int n, double size,
+			long seed) {
+		Random random = new Random(seed);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			points.add(new Point2D(random.nextDouble() * size,
+					random.nextDouble() * size));
+		return points;
+	}
+
+	/**
+	 * Creates a simple star-shaped polygon with n vertices, whose distance to
+	 * the center varies randomly between r/2 and r.
+	 */
+	public static SimplePolygon2D starPolygon(int n, double xc, double yc,
+			double r, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = i * 2 * Math.PI / n;
+			double rho = r * (.5 + .5 * random.nextDouble());
+			xs[i] = xc + rho * Math.cos(theta);
+			ys[i] = yc + rho * Math.sin(theta);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a smooth non convex polygon with n vertices, whose distance to
+	 * the center varies between 0.8*r and 1.2*r, with five lobes.
+	 */
+	public static SimplePolygon2D flowerPolygon(int n, double xc, double yc,
+			double r) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = i * 2 * Math.PI / n;
+			double rho = r * (1 + .2 * Math.sin(5 * theta));
+			xs[i] = xc + rho * Math.cos(theta);
+			ys[i] = yc + rho * Math.sin(theta);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a polygon with a hole, with n vertices on each ring. The outer
+	 * ring is a flower polygon with radius r, and the hole is a flower
+	 * polygon with radius r/2, rotated such that the lobes alternate.
+	 */
+	public static MultiPolygon2D flowerRing(int n, double xc, double yc,
+			double r) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = -i * 2 * Math.PI / n;
+			double rho = r * (.5 - .1 * Math.sin(5 * theta));
+			xs[i] = xc + rho * Math.cos(theta);
+			ys[i] = yc + rho * Math.sin(theta);
+		}
+		SimplePolygon2D hole = new SimplePolygon2D(xs, ys);
+		return new MultiPolygon2D(flowerPolygon(n, xc, yc, r).getRing(),
+				hole.getRing());
+	}
+
+	/**
+	 * Creates a tiling of a square by n parcels. Parcels are quadrilaterals
+	 * obtained from a grid of unit cells, whose vertices are moved randomly
+	 * and shared by adjacent parcels. Parcels are listed row by row.
+	 */
+	public static ArrayList<SimplePolygon2D> parcels(int n, long seed) {
+		Random random = new Random(seed);
+		int k = (int) Math.ceil(Math.sqrt(n));
+		double[][] gx = new double[k + 1][k + 1];
+		double[][] gy = new double[k + 1][k + 1];
+		for (int i = 0; i <= k; i++) {
+			for (int j = 0; j <= k; j++) {
+				gx[i][j] = i + .3 * (random.nextDouble() - .5);
+				gy[i][j] = j + .3 * (random.nextDouble() - .5);
+			}
+		}
+
+		ArrayList<SimplePolygon2D> parcels = new ArrayList<SimplePolygon2D>(n);
+		for (int j = 0; j < k && parcels.size() < n; j++) {
+			for (int i = 0; i < k && parcels.size() < n; i++) {
+				parcels.add(new SimplePolygon2D(
+						new double[] {gx[i][j], gx[i + 1][j], gx[i + 1][j + 1],
+								gx[i][j + 1]},
+						new double[] {gy[i][j], gy[i + 1][j], gy[i + 1][j + 1],
+								gy[i][j + 1]}));
+			}
+		}
+		return parcels;
+	}
+
+	/**
+	 * Creates an open polyline with n vertices, following a random walk with
+	 * unit steps and a slowly varying direction.
+	 */
+	public static Polyline2D randomWalk(int n, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double x = 0, y = 0, theta = 0;
+		for (int i = 0; i < n; i++) {
+			theta += (random.nextDouble() - .5);
+			x += Math.cos(theta);
+			y += Math.sin(theta);
+			xs[i] = x;
+			ys[i] = y;
+		}
+		return new Polyline2D(xs, ys);
+	}
+
+	/**
+	 * Creates an open polyline with n vertices, similar to a road centre
+	 * line. Abscissas increase by random steps between 10 and 15, and
+	 * ordinates follow a random walk with gaussian steps, so that the
+	 * polyline does not intersect itself.
+	 */
+	public static Polyline2D roadLine(int n, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double x = 0, y = 0;
+		for (int i = 0; i < n; i++) {
+			x += 10 + random.nextDouble() * 5;
+			y += random.nextGaussian() * 5;
+			xs[i] = x;
+			ys[i] = y;
+		}
+		return new Polyline2D(xs, ys);
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * File: 	DynamicKDTreeBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.point.DynamicKDTree2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Performance of DynamicKDTree2D under churn. Points are moved randomly,
+ * with a drift towards positive x that unbalances the tree if it is not
+ * rebalanced. The tree is created once per trial, so the drift accumulates
+ * over the iterations. The second benchmark interleaves moves with nearest
+ * neighbour queries, and samples the latency of each operation, including
+ * the pauses caused by the rebuilding of sub-trees.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicKDTreeBenchmark {
+
+	@Param({"100000"})
+	public int size;
+
+	private ArrayList<Point2D> points;
+	private DynamicKDTree2D tree;
+	private Random random;
+
+	@Setup
+	public void setup() {
+		points = Datasets.randomPoints(size, 1000, Datasets.SEED);
+		tree = new DynamicKDTree2D(points);
+		random = new Random(Datasets.SEED);
+	}
+
+	/**
+	 * Moves 1000 points.
+	 */
+	@Benchmark
+	public int moves() {
+		int count = 0;
+		for (int i = 0; i < 1000; i++)
+			count += move() ? 1 : 0;
+		return count;
+	}
+
+	/**
+	 * Moves 10 points, then searches the neighbour of a point close to one
+	 * of the points of the tree.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	public Point2D movesAndNearest() {
+		for (int i = 0; i < 10; i++)
+			move();
+		Point2D point = points.get(random.nextInt(size));
+		return tree.nearestNeighbor(new Point2D(point.x() + .5, point.y() + .5));
+	}
+
+	private boolean move() {
+		int index = random.nextInt(size);
+		Point2D point = points.get(index);
+		Point2D moved = new Point2D(point.x() + random.nextDouble() * 2,
+				point.y() + random.nextDouble() * 2 - 1);
+		if (!tree.move(point, moved))
+			return false;
+		points.set(index, moved);
+		return true;
+	}
+}
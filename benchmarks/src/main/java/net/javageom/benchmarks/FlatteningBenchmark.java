@@ -0,0 +1,89 @@
+/**
+ * File: 	FlatteningBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.conic.Ellipse2D;
+import net.javageom.geom2d.spline.CubicBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Distance from 1000 points to a cubic Bezier curve and to an ellipse,
+ * comparing the cached adaptive flattening used by the curves with a
+ * polyline with a fixed number of vertices computed for each query. Results
+ * are the sums of the distances.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatteningBenchmark {
+
+	private CubicBezierCurve2D bezier;
+	private Ellipse2D ellipse;
+	private ArrayList<Point2D> points;
+
+	@Setup
+	public void setup() {
+		bezier = new CubicBezierCurve2D(new Point2D(0, 0), new Point2D(20, 100),
+				new Point2D(80, -50), new Point2D(100, 50));
+		ellipse = new Ellipse2D(50, 50, 50, 20, Math.PI / 6);
+		points = Datasets.randomPoints(1000, 100, Datasets.SEED);
+	}
+
+	@Benchmark
+	public double bezierDistance() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += bezier.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double bezierDistanceUniform() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += bezier.asPolyline(100).distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double ellipseDistance() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += ellipse.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double ellipseDistanceUniform() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += ellipse.asPolyline(180).distance(point);
+		return sum;
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * File: 	GeneralPathBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.AffineTransform2D;
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.curve.Curve2D;
+import net.javageom.geom2d.spline.GeneralPath2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bounding box, transform and distance computed on 10000 glyph-like paths,
+ * each made of two closed contours with 20 quadratic, cubic and linear
+ * segments.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneralPathBenchmark {
+
+	private ArrayList<GeneralPath2D> paths;
+	private ArrayList<Point2D> points;
+	private AffineTransform2D transform;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(Datasets.SEED);
+		paths = new ArrayList<GeneralPath2D>(10000);
+		for (int i = 0; i < 10000; i++)
+			paths.add(createGlyph(random));
+		points = Datasets.randomPoints(10000, 1, Datasets.SEED);
+		transform = AffineTransform2D.createRotation(new Point2D(.5, .5), .3);
+	}
+
+	@Benchmark
+	public double boundingBox() {
+		double sum = 0;
+		for (GeneralPath2D path : paths) {
+			Box2D box = path.boundingBox();
+			sum += box.getWidth();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Curve2D transform() {
+		Curve2D result = null;
+		for (GeneralPath2D path : paths)
+			result = path.transform(transform);
+		return result;
+	}
+
+	@Benchmark
+	public double distance() {
+		double sum = 0;
+		for (int i = 0; i < paths.size(); i++)
+			sum += paths.get(i).distance(points.get(i));
+		return sum;
+	}
+
+	private static GeneralPath2D createGlyph(Random random) {
+		GeneralPath2D path = new GeneralPath2D();
+		for (int c = 0; c < 2; c++) {
+			double r = c == 0 ? .45 : .2;
+			path.moveTo(point(random, r, 0));
+			for (int k = 1; k < 20; k++) {
+				double t = k / 20.0;
+				switch (k % 3) {
+				case 0:
+					path.lineTo(point(random, r, t));
+					break;
+				case 1:
+					path.quadTo(point(random, r, t - .025), point(random, r, t));
+					break;
+				default:
+					path.cubicTo(point(random, r, t - .033),
+							point(random, r, t - .017), point(random, r, t));
+				}
+			}
+			path.closePath();
+		}
+		return path;
+	}
+
+	private static Point2D point(Random random, double r, double t) {
+		double rho = r * (.9 + .2 * random.nextDouble());
+		return new Point2D(.5 + rho * Math.cos(2 * Math.PI * t),
+				.5 + rho * Math.sin(2 * Math.PI * t));
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * File: 	GpcjBooleanBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.LinearRing2D;
+import net.javageom.geom2d.polygon.MultiPolygon2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.seisw.util.geom.Poly;
+import com.seisw.util.geom.PolyDefault;
+import com.seisw.util.geom.PolySimple;
+
+/**
+ * The benchmarks of {@link PolygonBooleanScalingBenchmark}, computed with
+ * the GPCJ library as in previous versions of Polygons2D, including the
+ * conversion of polygons. GPCJ requires a large thread stack for polygons
+ * with 10^5 vertices, and is too slow for larger polygons.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss1g"})
+public class GpcjBooleanBenchmark {
+
+	@Param({"1000", "10000", "100000"})
+	public int size;
+
+	private Polygon2D polygon1;
+	private Polygon2D polygon2;
+	private Polygon2D ring1;
+	private Polygon2D ring2;
+
+	@Setup
+	public void setup() {
+		polygon1 = Datasets.flowerPolygon(size, 0, 0, 100);
+		polygon2 = Datasets.flowerPolygon(size, 40, 20, 100);
+		ring1 = Datasets.flowerRing(size, 0, 0, 100);
+		ring2 = Datasets.flowerRing(size, 40, 20, 100);
+	}
+
+	@Benchmark
+	public Polygon2D union() {
+		return convert(convert(polygon1).union(convert(polygon2)));
+	}
+
+	@Benchmark
+	public Polygon2D intersection() {
+		return convert(convert(polygon1).intersection(convert(polygon2)));
+	}
+
+	@Benchmark
+	public Polygon2D unionWithHoles() {
+		return convert(convert(ring1).union(convert(ring2)));
+	}
+
+	@Benchmark
+	public Polygon2D differenceWithHoles() {
+		return convert(convert(ring1).difference(convert(ring2)));
+	}
+
+	private static Poly convert(Polygon2D polygon) {
+		PolyDefault result = new PolyDefault();
+		for (LinearRing2D ring : polygon.contours()) {
+			PolySimple poly = new PolySimple();
+			for (Point2D point : ring.vertices())
+				poly.add(new com.seisw.util.geom.Point2D(point.x(), point.y()));
+			result.add(poly);
+		}
+		return result;
+	}
+
+	private static Polygon2D convert(Poly poly) {
+		int n = poly.getNumInnerPoly();
+		if (n == 1)
+			return SimplePolygon2D.create(vertices(poly.getInnerPoly(0)));
+
+		LinearRing2D[] rings = new LinearRing2D[n];
+		for (int i = 0; i < n; i++)
+			rings[i] = LinearRing2D.create(vertices(poly.getInnerPoly(i)));
+		return MultiPolygon2D.create(rings);
+	}
+
+	private static Point2D[] vertices(Poly poly) {
+		int n = poly.getNumPoints();
+		Point2D[] points = new Point2D[n];
+		for (int i = 0; i < n; i++)
+			points[i] = new Point2D(poly.getX(i), poly.getY(i));
+		return points;
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * File: 	KDTreeBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.point.DynamicKDTree2D;
+import net.javageom.geom2d.point.KDTree2D;
+import net.javageom.geom2d.point.PackedKDTree2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Construction of KD-trees, and nearest neighbour, k-nearest, radius and
+ * range queries. Each query benchmark processes a batch of 1000 query
+ * points. The k-nearest and radius queries use reusable result buffers.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KDTreeBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private ArrayList<Point2D> points;
+	private ArrayList<Point2D> queries;
+	private KDTree2D tree;
+	private PackedKDTree2D packedTree;
+	private DynamicKDTree2D dynamicTree;
+
+	@Setup
+	public void setup() {
+		points = Datasets.randomPoints(size, 1000, Datasets.SEED);
+		queries = Datasets.randomPoints(1000, 1000, Datasets.SEED + 1);
+		tree = new KDTree2D(new ArrayList<Point2D>(points));
+		packedTree = new PackedKDTree2D(points);
+		dynamicTree = new DynamicKDTree2D(points);
+	}
+
+	@Benchmark
+	public KDTree2D buildKDTree() {
+		return new KDTree2D(new ArrayList<Point2D>(points));
+	}
+
+	@Benchmark
+	public PackedKDTree2D buildPackedKDTree() {
+		return new PackedKDTree2D(points);
+	}
+
+	@Benchmark
+	public DynamicKDTree2D buildDynamicKDTree() {
+		return new DynamicKDTree2D(points);
+	}
+
+	@Benchmark
+	public void nearestKDTree(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(tree.nearestNeighbor(query));
+	}
+
+	@Benchmark
+	public void nearestPackedKDTree(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(packedTree.nearestNeighborIndex(query.x(), query.y()));
+	}
+
+	@Benchmark
+	public void nearestDynamicKDTree(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(dynamicTree.nearestNeighbor(query));
+	}
+
+	@Benchmark
+	public int kNearestPackedKDTree() {
+		int[] indices = new int[8];
+		double[] distances = new double[8];
+		int count = 0;
+		for (Point2D query : queries)
+			count += packedTree.kNearest(query.x(), query.y(), 8, indices,
+					distances);
+		return count;
+	}
+
+	@Benchmark
+	public int withinRadiusPackedKDTree() {
+		int[] buffer = new int[1000];
+		int count = 0;
+		for (Point2D query : queries)
+			count += packedTree.withinRadius(query.x(), query.y(), 20, buffer);
+		return count;
+	}
+
+	@Benchmark
+	public void rangeSearchKDTree(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(tree.rangeSearch(box(query)));
+	}
+
+	@Benchmark
+	public void rangeSearchPackedKDTree(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(packedTree.rangeSearch(box(query)));
+	}
+
+	private static Box2D box(Point2D point) {
+		return new Box2D(point.x() - 20, point.x() + 20, point.y() - 20,
+				point.y() + 20);
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * File: 	LinearCurveBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.polygon.LinearRing2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Geometric queries on linear curves and polygons, for vertices stored as
+ * Point2D instances or in packed coordinate arrays.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearCurveBenchmark {
+
+	@Param({"1000", "1000000"})
+	public int size;
+
+	@Param({"points", "packed"})
+	public String storage;
+
+	private Polyline2D polyline;
+	private LinearRing2D ring;
+	private SimplePolygon2D polygon;
+	private Point2D query;
+	private StraightLine2D line;
+
+	@Setup
+	public void setup() {
+		Polyline2D walk = Datasets.randomWalk(size, Datasets.SEED);
+		SimplePolygon2D star = Datasets.starPolygon(size, 0, 0, 100,
+				Datasets.SEED);
+
+		if (storage.equals("packed")) {
+			double[][] coords = coordinates(walk.vertexArray());
+			polyline = Polyline2D.createPacked(coords[0], coords[1]);
+			coords = coordinates(star.vertices().toArray(new Point2D[0]));
+			ring = LinearRing2D.createPacked(coords[0], coords[1]);
+			polygon = SimplePolygon2D.createPacked(coords[0], coords[1]);
+		} else {
+			polyline = walk;
+			ring = star.getRing();
+			polygon = star;
+		}
+
+		query = new Point2D(20, 30);
+		line = new StraightLine2D(10, 0, 1, 1);
+	}
+
+	private static double[][] coordinates(Point2D[] points) {
+		int n = points.length;
+		double[][] coords = new double[2][n];
+		for (int i = 0; i < n; i++) {
+			coords[0][i] = points[i].x();
+			coords[1][i] = points[i].y();
+		}
+		return coords;
+	}
+
+	@Benchmark
+	public double polylineLength() {
+		return polyline.length();
+	}
+
+	@Benchmark
+	public double polylineDistance() {
+		return polyline.distance(query);
+	}
+
+	@Benchmark
+	public double polylineProject() {
+		return polyline.project(query);
+	}
+
+	@Benchmark
+	public int ringIntersections() {
+		return ring.intersections(line).size();
+	}
+
+	@Benchmark
+	public double ringSignedDistance() {
+		return ring.signedDistance(query);
+	}
+
+	@Benchmark
+	public boolean polygonContains() {
+		return polygon.contains(query);
+	}
+}
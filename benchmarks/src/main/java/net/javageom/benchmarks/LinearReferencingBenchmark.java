@@ -0,0 +1,84 @@
+/**
+ * File: 	LinearReferencingBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Locates 1000 random lengths along a random walk. The cumulative length
+ * index is compared with a linear walk along the edges, as performed before
+ * the index was introduced.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearReferencingBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Polyline2D polyline;
+	private double[] lengths;
+
+	@Setup
+	public void setup() {
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		Random random = new Random(Datasets.SEED);
+		lengths = new double[1000];
+		double total = polyline.length();
+		for (int i = 0; i < lengths.length; i++)
+			lengths[i] = random.nextDouble() * total;
+	}
+
+	@Benchmark
+	public Point2D[] indexed() {
+		return polyline.pointsAtLengths(lengths);
+	}
+
+	@Benchmark
+	public Point2D[] linearWalk() {
+		Point2D[] points = new Point2D[lengths.length];
+		int n = polyline.vertexNumber();
+		for (int k = 0; k < lengths.length; k++) {
+			double cumSum = 0;
+			int i = 0;
+			for (; i < n - 2; i++) {
+				double edgeLength = polyline.vertex(i).distance(polyline.vertex(i + 1));
+				if (cumSum + edgeLength >= lengths[k])
+					break;
+				cumSum += edgeLength;
+			}
+			double edgeLength = polyline.vertex(i).distance(polyline.vertex(i + 1));
+			points[k] = polyline.point(i + (lengths[k] - cumSum) / edgeLength);
+		}
+		return points;
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * File: 	ParallelKDTreeBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.point.PackedKDTree2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parallel construction of PackedKDTree2D, and concurrent nearest neighbour
+ * queries on a shared tree, for an increasing number of threads. The
+ * speedup for n threads is the ratio of the scores for one and n threads.
+ * The queries are split into one task per thread.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelKDTreeBenchmark {
+
+	@Param({"1", "2", "4", "8", "16"})
+	public int threads;
+
+	private final static int SIZE = 1000000;
+
+	private final static int QUERIES = 200000;
+
+	private double[] xs;
+	private double[] ys;
+	private PackedKDTree2D tree;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(Datasets.SEED);
+		xs = new double[SIZE];
+		ys = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			xs[i] = random.nextDouble() * 1000;
+			ys[i] = random.nextDouble() * 1000;
+		}
+		tree = new PackedKDTree2D(xs, ys);
+		pool = new ForkJoinPool(threads);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public PackedKDTree2D build() {
+		return new PackedKDTree2D(xs, ys, pool);
+	}
+
+	@Benchmark
+	public long queries() throws Exception {
+		ArrayList<Future<Long>> futures = new ArrayList<Future<Long>>(threads);
+		final int chunk = QUERIES / threads;
+		for (int t = 0; t < threads; t++) {
+			final int offset = t * chunk;
+			futures.add(pool.submit(new Callable<Long>() {
+				public Long call() {
+					long sum = 0;
+					for (int q = offset; q < offset + chunk; q++)
+						sum += tree.nearestNeighborIndex(xs[q] + .1, ys[q] + .1);
+					return sum;
+				}
+			}));
+		}
+
+		long sum = 0;
+		for (Future<Long> future : futures)
+			sum += future.get();
+		return sum;
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * File: 	PolygonBooleanBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boolean operations between two overlapping star-shaped polygons.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonBooleanBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	public int size;
+
+	private Polygon2D polygon1;
+	private Polygon2D polygon2;
+
+	@Setup
+	public void setup() {
+		polygon1 = Datasets.starPolygon(size, 0, 0, 100, Datasets.SEED);
+		polygon2 = Datasets.starPolygon(size, 40, 20, 100, Datasets.SEED + 1);
+	}
+
+	@Benchmark
+	public Polygon2D union() {
+		return Polygons2D.union(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D intersection() {
+		return Polygons2D.intersection(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D difference() {
+		return Polygons2D.difference(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D exclusiveOr() {
+		return Polygons2D.exclusiveOr(polygon1, polygon2);
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * File: 	PolygonBooleanScalingBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boolean operations between two large overlapping flower polygons, and
+ * between two flower polygons with holes. The number of intersections grows
+ * linearly with the number of vertices. Results can be compared with
+ * {@link GpcjBooleanBenchmark} for sizes up to 10^5.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PolygonBooleanScalingBenchmark {
+
+	@Param({"1000", "10000", "100000", "1000000"})
+	public int size;
+
+	private Polygon2D polygon1;
+	private Polygon2D polygon2;
+	private Polygon2D ring1;
+	private Polygon2D ring2;
+
+	@Setup
+	public void setup() {
+		polygon1 = Datasets.flowerPolygon(size, 0, 0, 100);
+		polygon2 = Datasets.flowerPolygon(size, 40, 20, 100);
+		ring1 = Datasets.flowerRing(size, 0, 0, 100);
+		ring2 = Datasets.flowerRing(size, 40, 20, 100);
+	}
+
+	@Benchmark
+	public Polygon2D union() {
+		return Polygons2D.union(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D intersection() {
+		return Polygons2D.intersection(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D unionWithHoles() {
+		return Polygons2D.union(ring1, ring2);
+	}
+
+	@Benchmark
+	public Polygon2D differenceWithHoles() {
+		return Polygons2D.difference(ring1, ring2);
+	}
+}
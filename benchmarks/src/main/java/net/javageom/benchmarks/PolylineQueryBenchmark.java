@@ -0,0 +1,112 @@
+/**
+ * File: 	PolylineQueryBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Intersections with 100 straight lines, clipping by 100 boxes, and
+ * distance and projection of 1000 points, computed on a random walk.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolylineQueryBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Polyline2D polyline;
+	private ArrayList<StraightLine2D> lines;
+	private ArrayList<Box2D> boxes;
+	private ArrayList<Point2D> points;
+
+	@Setup
+	public void setup() {
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		Box2D box = polyline.boundingBox();
+		Random random = new Random(Datasets.SEED);
+
+		lines = new ArrayList<StraightLine2D>(100);
+		boxes = new ArrayList<Box2D>(100);
+		for (int i = 0; i < 100; i++) {
+			Point2D point = randomPoint(box, random);
+			lines.add(new StraightLine2D(point, random.nextDouble() * Math.PI));
+			double w = box.getWidth() * random.nextDouble() / 10;
+			double h = box.getHeight() * random.nextDouble() / 10;
+			boxes.add(new Box2D(point.x(), point.x() + w, point.y(), point.y() + h));
+		}
+
+		points = new ArrayList<Point2D>(1000);
+		for (int i = 0; i < 1000; i++)
+			points.add(randomPoint(box, random));
+	}
+
+	@Benchmark
+	public int intersections() {
+		int count = 0;
+		for (StraightLine2D line : lines)
+			count += polyline.intersections(line).size();
+		return count;
+	}
+
+	@Benchmark
+	public int clip() {
+		int count = 0;
+		for (Box2D box : boxes)
+			count += polyline.clip(box).size();
+		return count;
+	}
+
+	@Benchmark
+	public double distance() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += polyline.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double project() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += polyline.project(point);
+		return sum;
+	}
+
+	private static Point2D randomPoint(Box2D box, Random random) {
+		return new Point2D(box.getMinX() + box.getWidth() * random.nextDouble(),
+				box.getMinY() + box.getHeight() * random.nextDouble());
+	}
+}
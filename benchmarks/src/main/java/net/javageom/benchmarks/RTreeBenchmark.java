@@ -0,0 +1,139 @@
+/**
+ * File: 	RTreeBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.RTree2D;
+import net.javageom.geom2d.Shape2D;
+import net.javageom.geom2d.ShapeArray2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Distance, point containment and clipping queries on a tiling of parcels,
+ * answered either by the linear scan of ShapeArray2D or by a RTree2D. Each
+ * benchmark processes 100 points or 100 boxes. The creation of the tree is
+ * measured separately.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RTreeBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private ArrayList<SimplePolygon2D> parcels;
+	private ShapeArray2D<SimplePolygon2D> array;
+	private RTree2D<SimplePolygon2D> tree;
+	private ArrayList<Point2D> points;
+	private ArrayList<Box2D> boxes;
+
+	@Setup
+	public void setup() {
+		parcels = Datasets.parcels(size, Datasets.SEED);
+		array = new ShapeArray2D<SimplePolygon2D>(parcels);
+		tree = new RTree2D<SimplePolygon2D>(parcels);
+
+		// points and boxes within the tiling, and around it
+		double extent = Math.sqrt(size);
+		Random random = new Random(Datasets.SEED);
+		points = new ArrayList<Point2D>(100);
+		boxes = new ArrayList<Box2D>(100);
+		for (int i = 0; i < 100; i++) {
+			double x = (1.2 * random.nextDouble() - .1) * extent;
+			double y = (1.2 * random.nextDouble() - .1) * extent;
+			points.add(new Point2D(x, y));
+			boxes.add(new Box2D(x, x + 3, y, y + 3));
+		}
+	}
+
+	@Benchmark
+	public RTree2D<SimplePolygon2D> build() {
+		return new RTree2D<SimplePolygon2D>(parcels);
+	}
+
+	@Benchmark
+	public double distanceArray() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += array.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public double distanceTree() {
+		double sum = 0;
+		for (Point2D point : points)
+			sum += tree.distance(point);
+		return sum;
+	}
+
+	@Benchmark
+	public int containsArray() {
+		int count = 0;
+		for (Point2D point : points)
+			count += array.contains(point) ? 1 : 0;
+		return count;
+	}
+
+	@Benchmark
+	public int containsTree() {
+		int count = 0;
+		for (Point2D point : points)
+			count += tree.contains(point) ? 1 : 0;
+		return count;
+	}
+
+	@Benchmark
+	public int clipArray() {
+		int count = 0;
+		for (Box2D box : boxes) {
+			for (Shape2D shape : (ShapeArray2D<?>) array.clip(box)) {
+				if (!shape.isEmpty())
+					count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int clipTree() {
+		int count = 0;
+		for (Box2D box : boxes) {
+			for (SimplePolygon2D parcel : tree.search(box)) {
+				if (!parcel.clip(box).isEmpty())
+					count++;
+			}
+		}
+		return count;
+	}
+}
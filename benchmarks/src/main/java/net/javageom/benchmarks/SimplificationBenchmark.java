@@ -0,0 +1,86 @@
+/**
+ * File: 	SimplificationBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.polygon.Polyline2D;
+import net.javageom.geom2d.polygon.Polylines2D;
+import net.javageom.geom2d.polygon.StreamingSimplifier2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simplification of long random walks with the Douglas-Peucker and
+ * Visvalingam-Whyatt algorithms, and with the streaming simplifier that
+ * receives the vertices one at a time.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimplificationBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	public int size;
+
+	private Polyline2D polyline;
+	private double[] xs;
+	private double[] ys;
+
+	@Setup
+	public void setup() {
+		Polyline2D walk = Datasets.randomWalk(size, Datasets.SEED);
+		int n = walk.vertexNumber();
+		xs = new double[n];
+		ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = walk.vertex(i).x();
+			ys[i] = walk.vertex(i).y();
+		}
+		polyline = Polyline2D.createPacked(xs, ys);
+	}
+
+	@Benchmark
+	public Polyline2D douglasPeucker() {
+		return polyline.simplify(1);
+	}
+
+	@Benchmark
+	public Polyline2D visvalingam() {
+		return polyline.simplify(1,
+				Polylines2D.SimplificationMethod.VISVALINGAM);
+	}
+
+	@Benchmark
+	public Polyline2D streaming() {
+		StreamingSimplifier2D.PolylineSink sink =
+				new StreamingSimplifier2D.PolylineSink();
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(1, sink);
+		for (int i = 0; i < xs.length; i++)
+			simplifier.add(xs[i], ys[i]);
+		simplifier.flush();
+		return sink.polyline();
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * File: 	TilingBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.polygon.LinearCurve2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+import net.javageom.geom2d.polygon.TilePyramid2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cutting of a polygon with a hole and of a long polyline into the tiles of
+ * a pyramid with 6 zoom levels, comparing the clipping of the whole layer
+ * by each tile with the recursive clipping of TilePyramid2D, using a single
+ * thread or the common pool. Results are the number of vertices within
+ * tiles.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TilingBenchmark {
+
+	private final static int MAX_ZOOM = 5;
+
+	@Param({"10000", "100000"})
+	public int size;
+
+	private List<Polygon2D> polygons;
+	private List<LinearCurve2D> curves;
+	private TilePyramid2D sequential;
+	private TilePyramid2D parallel;
+
+	@Setup
+	public void setup() {
+		LinearCurve2D walk = Datasets.randomWalk(size, Datasets.SEED);
+		Box2D box = walk.boundingBox();
+		double xc = (box.getMinX() + box.getMaxX()) / 2;
+		double yc = (box.getMinY() + box.getMaxY()) / 2;
+		double r = Math.max(box.getWidth(), box.getHeight()) / 2;
+		polygons = Collections.<Polygon2D> singletonList(
+				Datasets.flowerRing(size, xc, yc, r * .8));
+		curves = Collections.singletonList(walk);
+
+		Box2D extent = new Box2D(xc - r, xc + r, yc - r, yc + r);
+		sequential = new TilePyramid2D(extent, MAX_ZOOM, new ForkJoinPool(1));
+		parallel = new TilePyramid2D(extent, MAX_ZOOM);
+	}
+
+	@Benchmark
+	public long perTile() {
+		long n = 0;
+		for (int z = 0; z <= MAX_ZOOM; z++) {
+			for (int x = 0; x < 1 << z; x++) {
+				for (int y = 0; y < 1 << z; y++) {
+					Box2D tile = sequential.tileBox(z, x, y);
+					for (Polygon2D polygon : polygons)
+						n += Polygons2D.clipPolygon(polygon, tile)
+								.vertexNumber();
+					for (LinearCurve2D curve : curves)
+						for (LinearCurve2D piece : curve.clip(tile))
+							n += piece.vertexNumber();
+				}
+			}
+		}
+		return n;
+	}
+
+	@Benchmark
+	public long pyramid() {
+		return process(sequential);
+	}
+
+	@Benchmark
+	public long pyramidParallel() {
+		return process(parallel);
+	}
+
+	private long process(TilePyramid2D pyramid) {
+		final AtomicLong n = new AtomicLong();
+		pyramid.process(polygons, curves, new TilePyramid2D.Sink() {
+			public void tile(TilePyramid2D.Tile tile) {
+				long count = 0;
+				for (Polygon2D polygon : tile.getPolygons())
+					count += polygon.vertexNumber();
+				for (LinearCurve2D curve : tile.getCurves())
+					count += curve.vertexNumber();
+				n.addAndGet(count);
+			}
+		});
+		return n.get();
+	}
+}
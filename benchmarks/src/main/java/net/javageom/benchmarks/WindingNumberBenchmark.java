@@ -0,0 +1,94 @@
+/**
+ * File: 	WindingNumberBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygons2D;
+import net.javageom.geom2d.polygon.PreparedPolygon2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point in polygon tests, for a batch of 1000 points around a star-shaped
+ * polygon. Compares the winding number computed from the vertices with the
+ * queries on a prepared polygon.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindingNumberBenchmark {
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private SimplePolygon2D polygon;
+	private PreparedPolygon2D prepared;
+	private Collection<Point2D> vertices;
+	private ArrayList<Point2D> queries;
+
+	@Setup
+	public void setup() {
+		polygon = Datasets.starPolygon(size, 100, 100, 100, Datasets.SEED);
+		vertices = polygon.vertices();
+		prepared = new PreparedPolygon2D(polygon);
+		queries = Datasets.randomPoints(1000, 200, Datasets.SEED + 1);
+	}
+
+	@Benchmark
+	public int windingNumber() {
+		int sum = 0;
+		for (Point2D query : queries)
+			sum += Polygons2D.windingNumber(vertices, query);
+		return sum;
+	}
+
+	@Benchmark
+	public int contains() {
+		int count = 0;
+		for (Point2D query : queries)
+			if (polygon.contains(query))
+				count++;
+		return count;
+	}
+
+	@Benchmark
+	public int prepared() {
+		int count = 0;
+		for (Point2D query : queries)
+			if (prepared.contains(query))
+				count++;
+		return count;
+	}
+
+	@Benchmark
+	public PreparedPolygon2D prepare() {
+		return new PreparedPolygon2D(polygon);
+	}
+}
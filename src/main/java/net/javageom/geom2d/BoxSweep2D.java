@@ -0,0 +1,289 @@
+/**
+ * File: 	BoxSweep2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Finds the pairs of overlapping boxes within one or two collections of
+ * bounding boxes, using a sweep along one of the axes. Boxes are sorted by
+ * their minimal coordinate along the sweep axis, and only the boxes whose
+ * interval is still "active" at the current sweep position are compared for
+ * overlap along the other axis. The cost is O(n log n + k), where k is the
+ * number of pairs with overlapping intervals along the sweep axis. The sweep
+ * axis is chosen as the one for which the boxes are the smallest relative to
+ * the extent of the whole set, so that k remains close to the number of
+ * overlapping boxes.
+ *
+ * <p>This class is used as a broad-phase filter for algorithms that would
+ * otherwise test every pair of shapes, like the computation of intersections
+ * between curves: only the pairs of shapes whose bounding boxes overlap need
+ * to be tested exactly.</p>
+ *
+ * <p>Boxes that are not bounded, or that contain NaN values, are considered to
+ * overlap all the other boxes.</p>
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class BoxSweep2D {
+
+	/**
+	 * Computes the pairs of boxes that overlap within a single collection of
+	 * boxes. The result is a N-by-2 array of indices, where each row contains
+	 * two indices i and j such that i&lt;j. Rows are sorted by increasing
+	 * values of i, then by increasing values of j.
+	 *
+	 * @param boxes
+	 *            the collection of boxes
+	 * @param eps
+	 *            the tolerance used for comparing box bounds
+	 * @return the array of index pairs corresponding to overlapping boxes
+	 */
+	public static int[][] overlappingPairs(Collection<Box2D> boxes, double eps) {
+		BoxSweep2D sweep = new BoxSweep2D(boxes, null, eps);
+		sweep.sweep();
+		return sweep.sortedPairs();
+	}
+
+	/**
+	 * Computes the pairs of boxes that overlap between two collections of
+	 * boxes. The result is a N-by-2 array of indices, where each row contains
+	 * the index i of a box in the first collection, and the index j of a box in
+	 * the second collection. Rows are sorted by increasing values of i, then by
+	 * increasing values of j.
+	 *
+	 * @param boxes1
+	 *            the first collection of boxes
+	 * @param boxes2
+	 *            the second collection of boxes
+	 * @param eps
+	 *            the tolerance used for comparing box bounds
+	 * @return the array of index pairs corresponding to overlapping boxes
+	 */
+	public static int[][] overlappingPairs(Collection<Box2D> boxes1,
+			Collection<Box2D> boxes2, double eps) {
+		BoxSweep2D sweep = new BoxSweep2D(boxes1, boxes2, eps);
+		sweep.sweep();
+		return sweep.sortedPairs();
+	}
+
+	// ===================================================================
+	// Class variables
+
+	/** Number of boxes in the first set */
+	private int n1;
+
+	/** Total number of boxes */
+	private int n;
+
+	/** True if boxes must be paired between the two sets only */
+	private boolean bipartite;
+
+	/** The tolerance used for comparing bounds */
+	private double eps;
+
+	private double[] xmin;
+	private double[] xmax;
+	private double[] ymin;
+	private double[] ymax;
+
+	/** The indices of unbounded boxes, that overlap all other boxes */
+	private int[] unbounded;
+	private int unboundedCount = 0;
+
+	/** Pairs of indices, encoded as long values for efficient sorting */
+	private long[] pairs = new long[16];
+	private int pairCount = 0;
+
+	// ===================================================================
+	// Constructor
+
+	private BoxSweep2D(Collection<Box2D> boxes1, Collection<Box2D> boxes2,
+			double eps) {
+		this.bipartite = boxes2 != null;
+		this.n1 = boxes1.size();
+		this.n = this.bipartite ? this.n1 + boxes2.size() : this.n1;
+		this.eps = eps;
+
+		this.xmin = new double[n];
+		this.xmax = new double[n];
+		this.ymin = new double[n];
+		this.ymax = new double[n];
+		this.unbounded = new int[n];
+
+		int i = 0;
+		for (Box2D box : boxes1)
+			setBox(i++, box);
+		if (this.bipartite)
+			for (Box2D box : boxes2)
+				setBox(i++, box);
+	}
+
+	private void setBox(int i, Box2D box) {
+		xmin[i] = box.getMinX();
+		xmax[i] = box.getMaxX();
+		ymin[i] = box.getMinY();
+		ymax[i] = box.getMaxY();
+	}
+
+	// ===================================================================
+	// Sweep algorithm
+
+	private void sweep() {
+		// separate bounded boxes from the others
+		int[] order = new int[n];
+		int nBounded = 0;
+		for (int i = 0; i < n; i++) {
+			if (isBounded(i))
+				order[nBounded++] = i;
+			else
+				unbounded[unboundedCount++] = i;
+		}
+
+		// choose the axis that minimizes the number of active boxes
+		if (!isSweepAlongX(order, nBounded)) {
+			double[] tmp = xmin; xmin = ymin; ymin = tmp;
+			tmp = xmax; xmax = ymax; ymax = tmp;
+		}
+
+		// sort bounded boxes by increasing xmin
+		sortByMinX(order, nBounded);
+
+		// the list of boxes whose x-interval contains the sweep position
+		int[] active = new int[Math.max(nBounded, 1)];
+		int nActive = 0;
+
+		for (int k = 0; k < nBounded; k++) {
+			int current = order[k];
+			double x = xmin[current];
+
+			// remove inactive boxes, and compare current box to active ones
+			int nKept = 0;
+			for (int a = 0; a < nActive; a++) {
+				int other = active[a];
+				if (xmax[other] + eps < x)
+					continue;
+				active[nKept++] = other;
+
+				if (ymin[other] <= ymax[current] + eps
+						&& ymin[current] <= ymax[other] + eps)
+					addPair(other, current);
+			}
+			nActive = nKept;
+			active[nActive++] = current;
+		}
+
+		// unbounded boxes overlap with all other boxes
+		for (int u = 0; u < unboundedCount; u++) {
+			int i = unbounded[u];
+			for (int k = 0; k < nBounded; k++)
+				addPair(i, order[k]);
+			for (int v = u + 1; v < unboundedCount; v++)
+				addPair(i, unbounded[v]);
+		}
+	}
+
+	/**
+	 * Compares the mean size of the boxes along each axis, relative to the
+	 * extent of the set of boxes.
+	 */
+	private boolean isSweepAlongX(int[] indices, int n) {
+		double sumW = 0, sumH = 0;
+		double x0 = Double.POSITIVE_INFINITY, x1 = Double.NEGATIVE_INFINITY;
+		double y0 = Double.POSITIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+		for (int k = 0; k < n; k++) {
+			int i = indices[k];
+			sumW += xmax[i] - xmin[i];
+			sumH += ymax[i] - ymin[i];
+			x0 = Math.min(x0, xmin[i]);
+			x1 = Math.max(x1, xmax[i]);
+			y0 = Math.min(y0, ymin[i]);
+			y1 = Math.max(y1, ymax[i]);
+		}
+		// compare sumW / (x1 - x0) with sumH / (y1 - y0)
+		return sumW * (y1 - y0) <= sumH * (x1 - x0);
+	}
+
+	private boolean isBounded(int i) {
+		double w = xmax[i] - xmin[i];
+		double h = ymax[i] - ymin[i];
+		return !Double.isNaN(w) && !Double.isInfinite(w)
+				&& !Double.isNaN(h) && !Double.isInfinite(h);
+	}
+
+	/**
+	 * Adds the pair of boxes with indices i and j, if they belong to the
+	 * expected sets.
+	 */
+	private void addPair(int i, int j) {
+		if (i > j) {
+			int tmp = i;
+			i = j;
+			j = tmp;
+		}
+
+		if (bipartite) {
+			// keep only pairs between the two sets
+			if (i >= n1 || j < n1)
+				return;
+			j -= n1;
+		}
+
+		if (pairCount == pairs.length)
+			pairs = Arrays.copyOf(pairs, pairCount * 2);
+		pairs[pairCount++] = (((long) i) << 32) | j;
+	}
+
+	private int[][] sortedPairs() {
+		Arrays.sort(pairs, 0, pairCount);
+		int[][] result = new int[pairCount][2];
+		for (int k = 0; k < pairCount; k++) {
+			result[k][0] = (int) (pairs[k] >>> 32);
+			result[k][1] = (int) (pairs[k] & 0xFFFFFFFFL);
+		}
+		return result;
+	}
+
+	/**
+	 * Sorts the first n indices of the array by increasing value of xmin.
+	 */
+	private void sortByMinX(int[] indices, int n) {
+		if (n < 2)
+			return;
+		int[] buffer = new int[n];
+		mergeSort(indices, buffer, 0, n);
+	}
+
+	private void mergeSort(int[] indices, int[] buffer, int from, int to) {
+		if (to - from < 2)
+			return;
+		int mid = (from + to) >>> 1;
+		mergeSort(indices, buffer, from, mid);
+		mergeSort(indices, buffer, mid, to);
+
+		// no merge needed if the two halves are already ordered
+		if (xmin[indices[mid - 1]] <= xmin[indices[mid]])
+			return;
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			if (xmin[buffer[j]] < xmin[buffer[i]])
+				indices[k++] = buffer[j++];
+			else
+				indices[k++] = buffer[i++];
+		}
+		while (i < mid)
+			indices[k++] = buffer[i++];
+		while (j < to)
+			indices[k++] = buffer[j++];
+	}
+}
@@ -0,0 +1,534 @@
+/**
+ * File: 	RTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.PriorityQueue;
+
+/**
+ * A static spatial index of shapes, based on their bounding boxes. The tree is
+ * bulk-loaded using the Sort-Tile-Recursive (STR) algorithm: at each level,
+ * entries are sorted by the x-coordinate of their center, split into vertical
+ * slices, and each slice is sorted by the y-coordinate of the center before
+ * entries are grouped into nodes.<p>
+ *
+ * The tree can not be modified after creation. Shapes with unbounded bounding
+ * boxes (like straight lines) are stored apart, and are always considered as
+ * candidates for the queries.<p>
+ *
+ * Queries by box can either return the collection of candidate shapes, or
+ * call a visitor for each candidate, which can stop the traversal. Queries
+ * by point use the bounding boxes for pruning, and the methods of the shapes
+ * for computing the exact result.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class RTree2D<T extends Shape2D> {
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The default maximal number of children of a node.
+	 */
+	public final static int DEFAULT_NODE_CAPACITY = 16;
+
+	// ===================================================================
+	// Inner interface
+
+	/**
+	 * A callback for the shapes found by a query.
+	 * 
+	 * @see RTree2D#visit(Box2D, Visitor)
+	 */
+	public interface Visitor<T> {
+		/**
+		 * Processes a shape found by the query, and returns false to stop
+		 * the traversal of the tree.
+		 */
+		boolean visit(T shape);
+	}
+
+	// ===================================================================
+	// Class variables
+
+	/** The maximal number of children for each node */
+	private int capacity;
+
+	/** The bounded shapes, sorted such that each node has contiguous leaves */
+	private ArrayList<T> shapes;
+
+	/** The shapes that are not bounded */
+	private ArrayList<T> unboundedShapes = new ArrayList<T>();
+
+	/**
+	 * The bounds of the entries of each level, stored as xmin, xmax, ymin,
+	 * ymax. Level 0 corresponds to the shapes, the last level contains the
+	 * root only.
+	 */
+	private ArrayList<double[]> levelBounds = new ArrayList<double[]>();
+
+	/**
+	 * For each node at levels greater than 0, the index of the first child in
+	 * the previous level.
+	 */
+	private ArrayList<int[]> levelStarts = new ArrayList<int[]>();
+
+	/**
+	 * For each node at levels greater than 0, the index after the last child
+	 * in the previous level.
+	 */
+	private ArrayList<int[]> levelEnds = new ArrayList<int[]>();
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new tree from a collection of shapes, using the default node
+	 * capacity.
+	 */
+	public RTree2D(Collection<? extends T> shapes) {
+		this(shapes, DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Creates a new tree from a collection of shapes and the maximal number of
+	 * children of each node.
+	 */
+	public RTree2D(Collection<? extends T> shapes, int capacity) {
+		if (capacity < 2)
+			throw new IllegalArgumentException(
+					"Node capacity must be at least 2");
+		this.capacity = capacity;
+
+		// separate bounded shapes from unbounded ones
+		ArrayList<T> bounded = new ArrayList<T>(shapes.size());
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>(shapes.size());
+		for (T shape : shapes) {
+			Box2D box = shape.boundingBox();
+			if (isBounded(box)) {
+				bounded.add(shape);
+				boxes.add(box);
+			} else {
+				this.unboundedShapes.add(shape);
+			}
+		}
+
+		// store bounds of shapes
+		int n = bounded.size();
+		double[] bounds = new double[4 * n];
+		for (int i = 0; i < n; i++) {
+			Box2D box = boxes.get(i);
+			bounds[4 * i] = box.getMinX();
+			bounds[4 * i + 1] = box.getMaxX();
+			bounds[4 * i + 2] = box.getMinY();
+			bounds[4 * i + 3] = box.getMaxY();
+		}
+
+		// sort the shapes according to STR order
+		int[] order = strOrder(bounds, n);
+		this.shapes = new ArrayList<T>(n);
+		for (int i = 0; i < n; i++)
+			this.shapes.add(bounded.get(order[i]));
+		this.levelBounds.add(permute(bounds, order));
+		this.levelStarts.add(null);
+		this.levelEnds.add(null);
+
+		// create upper levels until there is only one node
+		int nEntries = n;
+		while (nEntries > 1) {
+			double[] childBounds = levelBounds.get(levelBounds.size() - 1);
+			int nNodes = (nEntries + capacity - 1) / capacity;
+			double[] nodeBounds = new double[4 * nNodes];
+			int[] starts = new int[nNodes];
+			int[] ends = new int[nNodes];
+
+			// group consecutive entries into nodes
+			for (int k = 0; k < nNodes; k++) {
+				int start = k * capacity;
+				int end = Math.min(start + capacity, nEntries);
+				starts[k] = start;
+				ends[k] = end;
+				unionBounds(childBounds, start, end, nodeBounds, k);
+			}
+
+			// sort nodes according to STR order, keeping children ranges
+			order = strOrder(nodeBounds, nNodes);
+			this.levelBounds.add(permute(nodeBounds, order));
+			this.levelStarts.add(permute(starts, order));
+			this.levelEnds.add(permute(ends, order));
+
+			nEntries = nNodes;
+		}
+	}
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the number of shapes stored in this tree.
+	 */
+	public int size() {
+		return shapes.size() + unboundedShapes.size();
+	}
+
+	/**
+	 * Returns the maximal number of children of each node.
+	 */
+	public int nodeCapacity() {
+		return capacity;
+	}
+
+	// ===================================================================
+	// Queries
+
+	/**
+	 * Returns the shapes whose bounding box intersects the given box. The
+	 * result also contains all the shapes with unbounded bounding box.
+	 */
+	public Collection<T> search(Box2D box) {
+		final ArrayList<T> result = new ArrayList<T>();
+		visit(box, new Visitor<T>() {
+			public boolean visit(T shape) {
+				result.add(shape);
+				return true;
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Calls the visitor for each shape whose bounding box intersects the
+	 * given box, starting with the shapes with unbounded bounding box.
+	 * Returns false if the traversal was stopped by the visitor.
+	 */
+	public boolean visit(Box2D box, Visitor<? super T> visitor) {
+		return visit(box.getMinX(), box.getMaxX(), box.getMinY(),
+				box.getMaxY(), visitor);
+	}
+
+	/**
+	 * Returns the shapes that contain the given point, using the contains()
+	 * method of the candidate shapes.
+	 */
+	public Collection<T> searchContaining(Point2D point) {
+		final double x = point.x(), y = point.y();
+		final ArrayList<T> result = new ArrayList<T>();
+		visit(x - Shape2D.ACCURACY, x + Shape2D.ACCURACY, 
+				y - Shape2D.ACCURACY, y + Shape2D.ACCURACY, new Visitor<T>() {
+			public boolean visit(T shape) {
+				if (shape.contains(x, y))
+					result.add(shape);
+				return true;
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Checks if one of the shapes contains the given point.
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Checks if one of the shapes contains the point with coordinates x and
+	 * y. The traversal stops at the first shape containing the point.
+	 */
+	public boolean contains(final double x, final double y) {
+		return !visit(x - Shape2D.ACCURACY, x + Shape2D.ACCURACY, 
+				y - Shape2D.ACCURACY, y + Shape2D.ACCURACY, new Visitor<T>() {
+			public boolean visit(T shape) {
+				return !shape.contains(x, y);
+			}
+		});
+	}
+
+	/**
+	 * Calls the visitor for the shapes whose bounding box intersects the box
+	 * given by its bounds.
+	 */
+	private boolean visit(double xmin, double xmax, double ymin, double ymax,
+			Visitor<? super T> visitor) {
+		for (T shape : unboundedShapes) {
+			if (!visitor.visit(shape))
+				return false;
+		}
+		if (shapes.isEmpty())
+			return true;
+
+		// depth-first traversal using explicit stacks of levels and indices
+		int nLevels = levelBounds.size();
+		int[] stackLevels = new int[64];
+		int[] stackIndices = new int[64];
+		int top = 0;
+		stackLevels[top] = nLevels - 1;
+		stackIndices[top] = 0;
+		top++;
+
+		while (top > 0) {
+			top--;
+			int level = stackLevels[top];
+			int index = stackIndices[top];
+			double[] bounds = levelBounds.get(level);
+			if (!overlaps(bounds, index, xmin, xmax, ymin, ymax))
+				continue;
+
+			if (level == 0) {
+				if (!visitor.visit(shapes.get(index)))
+					return false;
+				continue;
+			}
+
+			// push children
+			int start = levelStarts.get(level)[index];
+			int end = levelEnds.get(level)[index];
+			for (int i = end - 1; i >= start; i--) {
+				if (top == stackLevels.length) {
+					stackLevels = Arrays.copyOf(stackLevels, top * 2);
+					stackIndices = Arrays.copyOf(stackIndices, top * 2);
+				}
+				stackLevels[top] = level - 1;
+				stackIndices[top] = i;
+				top++;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Computes the minimal distance between the given point and the shapes
+	 * stored in the tree. Returns Double.POSITIVE_INFINITY if the tree is
+	 * empty.
+	 */
+	public double distance(Point2D point) {
+		return distance(point.x(), point.y());
+	}
+
+	/**
+	 * Computes the minimal distance between the point with coordinates x and
+	 * y and the shapes stored in the tree, using a best-first search. Returns
+	 * Double.POSITIVE_INFINITY if the tree is empty.
+	 */
+	public double distance(double x, double y) {
+		return nearestEntry(x, y).dist;
+	}
+
+	/**
+	 * Returns the shape closest to the given point, or null if the tree is
+	 * empty.
+	 */
+	public T nearest(Point2D point) {
+		return nearest(point.x(), point.y());
+	}
+
+	/**
+	 * Returns the shape closest to the point with coordinates x and y, using
+	 * a best-first search. In case of ties, the first shape found is
+	 * returned. Returns null if the tree is empty.
+	 */
+	public T nearest(double x, double y) {
+		NodeEntry entry = nearestEntry(x, y);
+		if (entry.level < 0)
+			return null;
+		return entry.level == 0 ? shapes.get(entry.index)
+				: unboundedShapes.get(entry.index);
+	}
+
+	/**
+	 * Finds the shape closest to the given point. The result has level 0 for
+	 * a bounded shape, 1 for an unbounded shape, and -1 if the tree is empty.
+	 */
+	private NodeEntry nearestEntry(double x, double y) {
+		NodeEntry best = new NodeEntry(-1, -1, Double.POSITIVE_INFINITY);
+		for (int i = 0; i < unboundedShapes.size(); i++) {
+			double dist = unboundedShapes.get(i).distance(x, y);
+			if (dist < best.dist)
+				best = new NodeEntry(1, i, dist);
+		}
+		if (shapes.isEmpty())
+			return best;
+
+		// process nodes by increasing distance to their bounding box
+		PriorityQueue<NodeEntry> queue = new PriorityQueue<NodeEntry>();
+		int root = levelBounds.size() - 1;
+		queue.add(new NodeEntry(root, 0, boxDistance(levelBounds.get(root), 0, x, y)));
+
+		while (!queue.isEmpty()) {
+			NodeEntry entry = queue.poll();
+			if (entry.dist >= best.dist)
+				break;
+
+			// case of a shape
+			if (entry.level == 0) {
+				double dist = shapes.get(entry.index).distance(x, y);
+				if (dist < best.dist)
+					best = new NodeEntry(0, entry.index, dist);
+				continue;
+			}
+
+			// add children that may be closer than current distance
+			double[] childBounds = levelBounds.get(entry.level - 1);
+			int start = levelStarts.get(entry.level)[entry.index];
+			int end = levelEnds.get(entry.level)[entry.index];
+			for (int i = start; i < end; i++) {
+				double dist = boxDistance(childBounds, i, x, y);
+				if (dist < best.dist)
+					queue.add(new NodeEntry(entry.level - 1, i, dist));
+			}
+		}
+
+		return best;
+	}
+
+	// ===================================================================
+	// Utility methods
+
+	/**
+	 * An entry of the priority queue used for best-first search.
+	 */
+	private static class NodeEntry implements Comparable<NodeEntry> {
+		int level;
+		int index;
+		double dist;
+
+		NodeEntry(int level, int index, double dist) {
+			this.level = level;
+			this.index = index;
+			this.dist = dist;
+		}
+
+		public int compareTo(NodeEntry that) {
+			return Double.compare(this.dist, that.dist);
+		}
+	}
+
+	private static boolean isBounded(Box2D box) {
+		double w = box.getWidth();
+		double h = box.getHeight();
+		return !Double.isNaN(w) && !Double.isInfinite(w)
+				&& !Double.isNaN(h) && !Double.isInfinite(h);
+	}
+
+	private static boolean overlaps(double[] bounds, int i, double xmin,
+			double xmax, double ymin, double ymax) {
+		return bounds[4 * i] <= xmax && xmin <= bounds[4 * i + 1]
+				&& bounds[4 * i + 2] <= ymax && ymin <= bounds[4 * i + 3];
+	}
+
+	/**
+	 * Computes the distance between a point and the i-th box.
+	 */
+	private static double boxDistance(double[] bounds, int i, double x, double y) {
+		double dx = Math.max(Math.max(bounds[4 * i] - x, x - bounds[4 * i + 1]), 0);
+		double dy = Math.max(Math.max(bounds[4 * i + 2] - y, y - bounds[4 * i + 3]), 0);
+		return Math.hypot(dx, dy);
+	}
+
+	/**
+	 * Computes the union of the bounds of entries between start (inclusive) and
+	 * end (exclusive), and stores it at the given index of the target array.
+	 */
+	private static void unionBounds(double[] bounds, int start, int end,
+			double[] target, int index) {
+		double xmin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = start; i < end; i++) {
+			xmin = Math.min(xmin, bounds[4 * i]);
+			xmax = Math.max(xmax, bounds[4 * i + 1]);
+			ymin = Math.min(ymin, bounds[4 * i + 2]);
+			ymax = Math.max(ymax, bounds[4 * i + 3]);
+		}
+		target[4 * index] = xmin;
+		target[4 * index + 1] = xmax;
+		target[4 * index + 2] = ymin;
+		target[4 * index + 3] = ymax;
+	}
+
+	/**
+	 * Computes the Sort-Tile-Recursive order of n boxes: boxes are sorted by
+	 * x-coordinate of their center, split into slices, and each slice is
+	 * sorted by y-coordinate of the center.
+	 */
+	private int[] strOrder(double[] bounds, int n) {
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		if (n <= capacity)
+			return order;
+
+		double[] xc = new double[n];
+		double[] yc = new double[n];
+		for (int i = 0; i < n; i++) {
+			xc[i] = bounds[4 * i] + bounds[4 * i + 1];
+			yc[i] = bounds[4 * i + 2] + bounds[4 * i + 3];
+		}
+
+		// number of nodes, and number of vertical slices
+		int nNodes = (n + capacity - 1) / capacity;
+		int nSlices = (int) Math.ceil(Math.sqrt(nNodes));
+		int sliceSize = nSlices * capacity;
+
+		int[] buffer = new int[n];
+		sortIndices(order, buffer, 0, n, xc);
+		for (int start = 0; start < n; start += sliceSize)
+			sortIndices(order, buffer, start, Math.min(start + sliceSize, n), yc);
+
+		return order;
+	}
+
+	/**
+	 * Sorts indices between from (inclusive) and to (exclusive) by increasing
+	 * values of keys, using a merge sort.
+	 */
+	private static void sortIndices(int[] indices, int[] buffer, int from,
+			int to, double[] keys) {
+		if (to - from < 2)
+			return;
+		int mid = (from + to) >>> 1;
+		sortIndices(indices, buffer, from, mid, keys);
+		sortIndices(indices, buffer, mid, to, keys);
+		if (keys[indices[mid - 1]] <= keys[indices[mid]])
+			return;
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			if (keys[buffer[j]] < keys[buffer[i]])
+				indices[k++] = buffer[j++];
+			else
+				indices[k++] = buffer[i++];
+		}
+		while (i < mid)
+			indices[k++] = buffer[i++];
+		while (j < to)
+			indices[k++] = buffer[j++];
+	}
+
+	private static double[] permute(double[] bounds, int[] order) {
+		double[] res = new double[bounds.length];
+		for (int i = 0; i < order.length; i++)
+			System.arraycopy(bounds, 4 * order[i], res, 4 * i, 4);
+		return res;
+	}
+
+	private static int[] permute(int[] values, int[] order) {
+		int[] res = new int[values.length];
+		for (int i = 0; i < order.length; i++)
+			res[i] = values[order[i]];
+		return res;
+	}
+}
@@ -89,6 +89,49 @@ public interface Shape2D extends GeometricObject2D {
      */
     public abstract double distance(double x, double y);
 
+    /**
+     * Checks if the shape contains each of the points given by two arrays of
+     * coordinates, and stores the results in the <code>out</code> array. The
+     * default implementation calls {@link #contains(double, double)} for each
+     * point. Implementations may override it to share computations between
+     * the points. For processing large arrays with several threads, see
+     * {@link Shapes2D#contains(Shape2D, double[], double[], boolean[], boolean)}.
+     * 
+     * @param xs the x-coordinates of the points
+     * @param ys the y-coordinates of the points
+     * @param out the array of results, with the same length as xs and ys
+     * @since 0.11.3
+     */
+    public default void contains(double[] xs, double[] ys, boolean[] out) {
+        if (xs.length != ys.length || xs.length != out.length)
+            throw new IllegalArgumentException(
+                    "Coordinate and result arrays must have the same length");
+        for (int i = 0; i < xs.length; i++)
+            out[i] = contains(xs[i], ys[i]);
+    }
+
+    /**
+     * Computes the distance of the shape to each of the points given by two
+     * arrays of coordinates, and stores the results in the <code>out</code>
+     * array. The default implementation calls
+     * {@link #distance(double, double)} for each point. Implementations may
+     * override it to share computations between the points. For processing
+     * large arrays with several threads, see
+     * {@link Shapes2D#distance(Shape2D, double[], double[], double[], boolean)}.
+     * 
+     * @param xs the x-coordinates of the points
+     * @param ys the y-coordinates of the points
+     * @param out the array of results, with the same length as xs and ys
+     * @since 0.11.3
+     */
+    public default void distance(double[] xs, double[] ys, double[] out) {
+        if (xs.length != ys.length || xs.length != out.length)
+            throw new IllegalArgumentException(
+                    "Coordinate and result arrays must have the same length");
+        for (int i = 0; i < xs.length; i++)
+            out[i] = distance(xs[i], ys[i]);
+    }
+
     /**
      * Returns true if the shape is bounded, that is if we can draw a finite
      * rectangle enclosing the shape. For example, a straight line or a parabola
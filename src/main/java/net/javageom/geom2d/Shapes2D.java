@@ -0,0 +1,176 @@
+/**
+ * File: 	Shapes2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Static utility methods for querying shapes with arrays of points.<p>
+ *
+ * The methods of this class call the bulk methods of the
+ * {@link Shape2D} interface, optionally in parallel: in that case, large
+ * arrays are split into chunks of points that are processed as tasks of the
+ * common {@link ForkJoinPool}. Each chunk calls the bulk method of the shape,
+ * such that the computations shared between points are performed once per
+ * chunk. The shape must not be modified during the computation.
+ *
+ * @see Shape2D#contains(double[], double[], boolean[])
+ * @see Shape2D#distance(double[], double[], double[])
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class Shapes2D {
+
+	// ===================================================================
+	// Constants
+
+	/** The minimal number of points processed by a single task */
+	private final static int MIN_TASK_SIZE = 8192;
+
+	// ===================================================================
+	// Static methods
+
+	/**
+	 * Checks if the shape contains each of the points given by two arrays of
+	 * coordinates, and stores the results in the <code>out</code> array.
+	 *
+	 * @param shape the shape to test
+	 * @param xs the x-coordinates of the points
+	 * @param ys the y-coordinates of the points
+	 * @param out the array of results, with the same length as xs and ys
+	 * @param parallel if true, large arrays are processed by several threads
+	 */
+	public static void contains(Shape2D shape, double[] xs, double[] ys,
+			boolean[] out, boolean parallel) {
+		checkLengths(xs, ys, out.length);
+		int taskSize = taskSize(xs.length);
+		if (!parallel || xs.length <= taskSize) {
+			shape.contains(xs, ys, out);
+			return;
+		}
+		ForkJoinPool.commonPool().invoke(
+				new ContainsTask(shape, xs, ys, out, 0, xs.length, taskSize));
+	}
+
+	/**
+	 * Computes the distance of the shape to each of the points given by two
+	 * arrays of coordinates, and stores the results in the <code>out</code>
+	 * array.
+	 *
+	 * @param shape the shape to test
+	 * @param xs the x-coordinates of the points
+	 * @param ys the y-coordinates of the points
+	 * @param out the array of results, with the same length as xs and ys
+	 * @param parallel if true, large arrays are processed by several threads
+	 */
+	public static void distance(Shape2D shape, double[] xs, double[] ys,
+			double[] out, boolean parallel) {
+		checkLengths(xs, ys, out.length);
+		int taskSize = taskSize(xs.length);
+		if (!parallel || xs.length <= taskSize) {
+			shape.distance(xs, ys, out);
+			return;
+		}
+		ForkJoinPool.commonPool().invoke(
+				new DistanceTask(shape, xs, ys, out, 0, xs.length, taskSize));
+	}
+
+	private static void checkLengths(double[] xs, double[] ys, int n) {
+		if (xs.length != ys.length || xs.length != n)
+			throw new IllegalArgumentException(
+					"Coordinate and result arrays must have the same length");
+	}
+
+	/**
+	 * Chooses the task size such that each thread processes several tasks.
+	 */
+	private static int taskSize(int n) {
+		int parallelism = ForkJoinPool.commonPool().getParallelism();
+		return Math.max(MIN_TASK_SIZE, n / (4 * parallelism) + 1);
+	}
+
+	// ===================================================================
+	// Inner classes for processing ranges of points
+
+	private static class ContainsTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Shape2D shape;
+		private final double[] xs;
+		private final double[] ys;
+		private final boolean[] out;
+		private final int from;
+		private final int to;
+		private final int taskSize;
+
+		private ContainsTask(Shape2D shape, double[] xs, double[] ys,
+				boolean[] out, int from, int to, int taskSize) {
+			this.shape = shape;
+			this.xs = xs;
+			this.ys = ys;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+			this.taskSize = taskSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= taskSize) {
+				boolean[] res = new boolean[to - from];
+				shape.contains(Arrays.copyOfRange(xs, from, to),
+						Arrays.copyOfRange(ys, from, to), res);
+				System.arraycopy(res, 0, out, from, res.length);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new ContainsTask(shape, xs, ys, out, from, mid, taskSize),
+					new ContainsTask(shape, xs, ys, out, mid, to, taskSize));
+		}
+	}
+
+	private static class DistanceTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Shape2D shape;
+		private final double[] xs;
+		private final double[] ys;
+		private final double[] out;
+		private final int from;
+		private final int to;
+		private final int taskSize;
+
+		private DistanceTask(Shape2D shape, double[] xs, double[] ys,
+				double[] out, int from, int to, int taskSize) {
+			this.shape = shape;
+			this.xs = xs;
+			this.ys = ys;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+			this.taskSize = taskSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= taskSize) {
+				double[] res = new double[to - from];
+				shape.distance(Arrays.copyOfRange(xs, from, to),
+						Arrays.copyOfRange(ys, from, to), res);
+				System.arraycopy(res, 0, out, from, res.length);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new DistanceTask(shape, xs, ys, out, from, mid, taskSize),
+					new DistanceTask(shape, xs, ys, out, mid, to, taskSize));
+		}
+	}
+}
@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.BoxSweep2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Shape2D;
 import net.javageom.geom2d.Vector2D;
@@ -155,7 +157,8 @@ public class CirculinearCurves2D {
 
 	/**
 	 * Computes intersection point of a single curve, by iterating on pair of
-	 * Circulinear elements composing the curve.
+	 * Circulinear elements composing the curve. Only the pairs of elements
+	 * with overlapping bounding boxes are tested, using a BoxSweep2D.
 	 * 
 	 * @return the set of self-intersection points
 	 */
@@ -172,20 +175,22 @@ public class CirculinearCurves2D {
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
-		// iterate on each couple of elements
+		// pairs of elements whose bounding boxes overlap, sorted by indices
 		int n = elements.size();
+		int[][] pairs = BoxSweep2D.overlappingPairs(boundingBoxes(elements),
+				Shape2D.ACCURACY);
+
+		// iterate on each couple of elements
+		int p = 0;
 		for (int i = 0; i < n - 1; i++) {
 			CirculinearElement2D elem1 = elements.get(i);
-			for (int j = i; j < n; j++) {
-				CirculinearElement2D elem2 = elements.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					result.add(inter);
-				}
+			
+			// also test the element against itself, as it was always done
+			addSelfIntersections(result, elem1, elem1);
+			
+			for (; p < pairs.length && pairs[p][0] == i; p++) {
+				CirculinearElement2D elem2 = elements.get(pairs[p][1]);
+				addSelfIntersections(result, elem1, elem2);
 			}
 		}
 
@@ -193,6 +198,22 @@ public class CirculinearCurves2D {
 		return result;
 	}
 
+	/**
+	 * Adds the intersections of the two elements that are not common
+	 * extremities.
+	 */
+	private static void addSelfIntersections(Collection<Point2D> result,
+			CirculinearElement2D elem1, CirculinearElement2D elem2) {
+		// iterate on intersections between consecutive elements
+		for (Point2D inter : findIntersections(elem1, elem2)) {
+			// do not keep extremities
+			if (isCommonVertex(inter, elem1, elem2))
+				continue;
+
+			result.add(inter);
+		}
+	}
+
 	public static double[][] locateSelfIntersections(
 			CurveSet2D<? extends CirculinearElement2D> curve) {
 
@@ -201,27 +222,33 @@ public class CirculinearCurves2D {
 		ArrayList<Double> list2 = new ArrayList<Double>(0);
 		double dt;
 
+		// pairs of elements whose bounding boxes overlap, sorted by indices
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>(curve.curves());
+		int[][] pairs = BoxSweep2D.overlappingPairs(boundingBoxes(elements),
+				Shape2D.ACCURACY);
+
 		// iterate on each couple of elements
-		int n = curve.size();
-		for (int i = 0; i < n - 1; i++) {
-			CirculinearElement2D elem1 = curve.get(i);
-			for (int j = i + 1; j < n; j++) {
-				CirculinearElement2D elem2 = curve.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					// add the intersection if we keep it
-					dt = Curves2D.toUnitSegment(elem1.position(inter),
-							elem1.t0(), elem1.t1());
-					list1.add(2 * i + dt);
-
-					dt = Curves2D.toUnitSegment(elem2.position(inter),
-							elem2.t0(), elem2.t1());
-					list2.add(2 * j + dt);
-				}
+		for (int[] pair : pairs) {
+			int i = pair[0];
+			int j = pair[1];
+			CirculinearElement2D elem1 = elements.get(i);
+			CirculinearElement2D elem2 = elements.get(j);
+
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// do not keep extremities, nor points that can not be located
+				if (!isFinite(inter) || isCommonVertex(inter, elem1, elem2))
+					continue;
+
+				// add the intersection if we keep it
+				dt = Curves2D.toUnitSegment(elem1.position(inter),
+						elem1.t0(), elem1.t1());
+				list1.add(2 * i + dt);
+
+				dt = Curves2D.toUnitSegment(elem2.position(inter),
+						elem2.t0(), elem2.t1());
+				list2.add(2 * j + dt);
 			}
 		}
 
@@ -239,11 +266,14 @@ public class CirculinearCurves2D {
 
 	/**
 	 * Checks if the point is a common extremity between the two curve elements.
+	 * The tolerance is scaled by the magnitude of the coordinates, as the
+	 * extremities of far away elements differ by more than the accuracy.
 	 */
 	private static boolean isCommonVertex(Point2D inter,
 			CirculinearCurve2D elem1, CirculinearCurve2D elem2) {
 
-		double eps = Shape2D.ACCURACY;
+		double eps = Shape2D.ACCURACY * Math.max(1,
+				Math.max(Math.abs(inter.x()), Math.abs(inter.y())));
 
 		// Test end of elem1 and start of elem2
 		if (!Double.isInfinite(elem1.t1())
@@ -262,6 +292,14 @@ public class CirculinearCurves2D {
 		return false;
 	}
 
+	/**
+	 * Checks if both coordinates of the point are finite.
+	 */
+	private static boolean isFinite(Point2D point) {
+		return !Double.isNaN(point.x()) && !Double.isInfinite(point.x())
+				&& !Double.isNaN(point.y()) && !Double.isInfinite(point.y());
+	}
+
 	/**
 	 * Compute the set of intersection points between the two curves.
 	 * 
@@ -283,18 +321,19 @@ public class CirculinearCurves2D {
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
+		// pairs of elements whose bounding boxes overlap, sorted by indices
+		int[][] pairs = BoxSweep2D.overlappingPairs(boundingBoxes(elements1),
+				boundingBoxes(elements2), Shape2D.ACCURACY);
+
 		// iterate on each couple of elements
-		int n1 = elements1.size();
-		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// add the intersection if we keep it
-					result.add(inter);
-				}
+		for (int[] pair : pairs) {
+			CirculinearElement2D elem1 = elements1.get(pair[0]);
+			CirculinearElement2D elem2 = elements2.get(pair[1]);
+
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// add the intersection if we keep it
+				result.add(inter);
 			}
 		}
 
@@ -325,23 +364,24 @@ public class CirculinearCurves2D {
 		for (CirculinearContinuousCurve2D cont : curve2.continuousCurves())
 			elements2.addAll(cont.smoothPieces());
 
+		// pairs of elements whose bounding boxes overlap, sorted by indices
+		int[][] pairs = BoxSweep2D.overlappingPairs(boundingBoxes(elements1),
+				boundingBoxes(elements2), Shape2D.ACCURACY);
+
 		// iterate on each couple of elements
-		int n1 = elements1.size();
-		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					double pos1 = curve1.position(inter);
-					double pos2 = curve2.position(inter);
-					if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
-						continue;
-					// add the intersection if we keep it
-					list1.add(pos1);
-					list2.add(pos2);
-				}
+		for (int[] pair : pairs) {
+			CirculinearElement2D elem1 = elements1.get(pair[0]);
+			CirculinearElement2D elem2 = elements2.get(pair[1]);
+
+			// iterate on intersections between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				double pos1 = curve1.position(inter);
+				double pos2 = curve2.position(inter);
+				if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
+					continue;
+				// add the intersection if we keep it
+				list1.add(pos1);
+				list2.add(pos2);
 			}
 		}
 
@@ -357,8 +397,21 @@ public class CirculinearCurves2D {
 		return result;
 	}
 
+	/**
+	 * Computes the bounding boxes of a list of circulinear elements.
+	 */
+	private static ArrayList<Box2D> boundingBoxes(
+			Collection<? extends CirculinearElement2D> elements) {
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>(elements.size());
+		for (CirculinearElement2D elem : elements)
+			boxes.add(elem.boundingBox());
+		return boxes;
+	}
+
 	/**
 	 * Computes the intersections, if they exist, of two circulinear elements.
+	 * Linear elements whose length is smaller than the accuracy have no
+	 * intersection, as their position can not be computed.
 	 */
 	public static Collection<Point2D> findIntersections(
 			CirculinearElement2D elem1, CirculinearElement2D elem2) {
@@ -367,6 +420,12 @@ public class CirculinearCurves2D {
 		boolean b1 = elem1 instanceof LinearShape2D;
 		boolean b2 = elem2 instanceof LinearShape2D;
 		
+		// within curves, the extremities of degenerated linear elements are
+		// shared with the neighbour elements
+		if ((b1 && isDegenerated((LinearShape2D) elem1))
+				|| (b2 && isDegenerated((LinearShape2D) elem2)))
+			return new ArrayList<Point2D>(0);
+
 		// if both elements are linear, check parallism to avoid computing
 		// intersection of parallel lines
 		if (b1 && b2) {
@@ -409,6 +468,15 @@ public class CirculinearCurves2D {
 		return pts;
 	}
 
+	/**
+	 * Checks if the squared length of the direction vector of the line is
+	 * smaller than the accuracy.
+	 */
+	private static boolean isDegenerated(LinearShape2D line) {
+		Vector2D v = line.direction();
+		return v.x() * v.x() + v.y() * v.y() < Shape2D.ACCURACY;
+	}
+
 	/**
 	 * Split a continuous curve which self-intersects into a set of continuous
 	 * circulinear curves which do not self-intersect.
@@ -664,33 +732,39 @@ public class CirculinearCurves2D {
 			positions.add(i, new TreeSet<Double>());
 		}
 
+		// identify the couples of curves whose bounding boxes overlap
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>(nCurves);
+		for (CirculinearContour2D curve : curveArray)
+			boxes.add(curve.boundingBox());
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes, Shape2D.ACCURACY);
+
 		// identify couples of intersections on each couple (i,j) of curves
-		for (int i = 0; i < nCurves - 1; i++) {
+		for (int[] pair : pairs) {
+			int i = pair[0];
+			int j = pair[1];
 			CirculinearContour2D curve1 = curveArray[i];
+			CirculinearContour2D curve2 = curveArray[j];
 
-			for (int j = i + 1; j < nCurves; j++) {
-				CirculinearContour2D curve2 = curveArray[j];
-				double[][] couples = locateIntersections(curve1, curve2);
+			double[][] couples = locateIntersections(curve1, curve2);
 
-				// iterate on intersections to populate the data
-				for (int k = 0; k < couples.length; k++) {
-					// position on each curve
-					pos1 = couples[k][0];
-					pos2 = couples[k][1];
+			// iterate on intersections to populate the data
+			for (int k = 0; k < couples.length; k++) {
+				// position on each curve
+				pos1 = couples[k][0];
+				pos2 = couples[k][1];
 
-					// add positions in their tree sets
-					positions.get(i).add(pos1);
-					positions.get(j).add(pos2);
+				// add positions in their tree sets
+				positions.get(i).add(pos1);
+				positions.get(j).add(pos2);
 
-					// store indices of corresponding intersecting curves
-					twinIndices.get(i).put(pos1, j);
-					twinIndices.get(j).put(pos2, i);
+				// store indices of corresponding intersecting curves
+				twinIndices.get(i).put(pos1, j);
+				twinIndices.get(j).put(pos2, i);
 
-					// store positions of intersection point on the
-					// corresponding curve
-					twinPositions.get(i).put(pos1, pos2);
-					twinPositions.get(j).put(pos2, pos1);
-				}
+				// store positions of intersection point on the
+				// corresponding curve
+				twinPositions.get(i).put(pos1, pos2);
+				twinPositions.get(j).put(pos2, pos1);
 			}
 		}
 
@@ -763,25 +837,28 @@ public class CirculinearCurves2D {
 			contours.add(BoundaryPolyCirculinearCurve2D.create(elements.toArray(new CirculinearElement2D[0]), true));
 		}
 
+		// index of the first curve that may have unprocessed intersections.
+		// As intersections are only removed, curves before this index do not
+		// need to be checked again.
+		int first = 0;
+
 		// Process other curves, while there are intersections left
-		while (!isAllEmpty(twinPositions)) {
+		while (true) {
+			// find a curve with unprocessed intersections
+			while (first < nCurves && twinPositions.get(first).isEmpty())
+				first++;
+			if (first == nCurves)
+				break;
+
 			// create new empty array of elements for current contour
 			ArrayList<CirculinearElement2D> elements = new ArrayList<CirculinearElement2D>();
 
 			// indices of the two considered curves.
 			int ind0 = 0, ind;
 
-			// get first intersection
-			for (int i = 0; i < nCurves; i++) {
-				// find a curve with unprocessed intersections
-				if (twinPositions.get(i).isEmpty())
-					continue;
-
-				// find first unprocessed intersection
-				pos0 = twinPositions.get(i).firstEntry().getValue();
-				ind0 = twinIndices.get(i).firstEntry().getValue();
-				break;
-			}
+			// find first unprocessed intersection
+			pos0 = twinPositions.get(first).firstEntry().getValue();
+			ind0 = twinIndices.get(first).firstEntry().getValue();
 
 			if (ind0 == 0) {
 				System.out.println("No more intersections, but was not detected");
@@ -818,14 +895,6 @@ public class CirculinearCurves2D {
 		elements.addAll(curve.smoothPieces());
 	}
 
-	private static boolean isAllEmpty(Collection<TreeMap<Double, Double>> coll) {
-		for (TreeMap<?, ?> map : coll) {
-			if (!map.isEmpty())
-				return false;
-		}
-		return true;
-	}
-
 	/**
 	 * Returns either the next value, or the first value of the tree if the
 	 * given value is the last one of the tree.
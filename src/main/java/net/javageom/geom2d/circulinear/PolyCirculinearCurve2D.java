@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.circulinear.buffer.BufferCalculator;
 import net.javageom.geom2d.curve.*;
 import net.javageom.geom2d.domain.ContinuousOrientedCurve2D;
@@ -21,7 +22,13 @@ import net.javageom.geom2d.transform.CircleInversion2D;
 
 /**
  * A continuous curve which is composed of several continuous circulinear
- * curves.
+ * curves.<p>
+ * 
+ * The cumulative lengths of the curves are computed on the first call to a
+ * method based on curvilinear abscissa, and kept until curves are added or
+ * removed, making <code>length(double)</code> and <code>position(double)</code>
+ * run in logarithmic time with respect to the number of curves. The lengths
+ * are not updated if the inner curves are modified.
  * @author dlegland
  *
  */
@@ -84,6 +91,15 @@ extends PolyOrientedCurve2D<T> implements CirculinearContinuousCurve2D {
     }
 
     
+    // ===================================================================
+    // class variables
+
+	/**
+	 * The lengths of the curve from its origin to the end of each curve, or
+	 * null if they were not computed
+	 */
+	private transient volatile double[] cumulativeLengths = null;
+
     // ===================================================================
     // constructors
 
@@ -118,24 +134,84 @@ extends PolyOrientedCurve2D<T> implements CirculinearContinuousCurve2D {
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
 	 */
 	public double length() {
-		double sum = 0;
-		for(CirculinearCurve2D curve : this.curves())
-			sum += curve.length();
-		return sum;
+		double[] lengths = cumulativeLengths();
+		return lengths[lengths.length - 1];
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
 	 */
 	public double length(double pos) {
-		return CirculinearCurves2D.getLength(this, pos);
+		if (curves.isEmpty())
+			return 0;
+		double[] lengths = cumulativeLengths();
+
+		// add portion of length for the curve containing the position
+		int index = this.curveIndex(pos);
+		T curve = curves.get(index);
+		double pos2 = Curves2D.fromUnitSegment(pos - 2 * index, curve.t0(),
+				curve.t1());
+		return lengths[index] + curve.length(pos2);
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Computes the position of the point located at the given curvilinear
+	 * abscissa, by a binary search on the cumulative lengths of the curves.
+	 * Lengths outside of the curve are clamped.
+	 * 
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
 	 */
 	public double position(double length) {
-		return CirculinearCurves2D.getPosition(this, length);
+		int n = curves.size();
+		if (n == 0)
+			return 0;
+		double[] lengths = cumulativeLengths();
+		length = Math.min(Math.max(length, 0), lengths[n]);
+
+		// find the first curve whose end is after the given length
+		int lo = 0, hi = n - 1;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (lengths[mid + 1] >= length)
+				hi = mid;
+			else
+				lo = mid + 1;
+		}
+
+		// add local position on current curve
+		double pos2 = curves.get(lo).position(length - lengths[lo]);
+		return this.globalPosition(lo, pos2);
+	}
+
+	/**
+	 * Computes the points located at the given curvilinear abscissas. This
+	 * is the batch version of <code>point(position(length))</code>.
+	 * @since 0.11.3
+	 */
+	public Point2D[] pointsAtLengths(double[] lengths) {
+		Point2D[] points = new Point2D[lengths.length];
+		for (int i = 0; i < lengths.length; i++)
+			points[i] = this.point(this.position(lengths[i]));
+		return points;
+	}
+
+	/**
+	 * Returns the lengths of the curve from its origin to the end of each
+	 * inner curve, starting with 0. The lengths are computed on the first
+	 * call, and computed again if the number of curves has changed.
+	 */
+	private double[] cumulativeLengths() {
+		int n = curves.size();
+		double[] lengths = this.cumulativeLengths;
+		if (lengths != null && lengths.length == n + 1)
+			return lengths;
+
+		lengths = new double[n + 1];
+		for (int i = 0; i < n; i++)
+			lengths[i + 1] = lengths[i] + curves.get(i).length();
+
+		this.cumulativeLengths = lengths;
+		return lengths;
 	}
 
 	/* (non-Javadoc)
@@ -170,6 +246,39 @@ extends PolyOrientedCurve2D<T> implements CirculinearContinuousCurve2D {
         return result;
 	}
 
+    // ===================================================================
+    // Management of curves
+
+	@Override
+	public boolean add(T curve) {
+		this.cumulativeLengths = null;
+		return super.add(curve);
+	}
+
+	@Override
+	public void add(int index, T curve) {
+		this.cumulativeLengths = null;
+		super.add(index, curve);
+	}
+
+	@Override
+	public boolean remove(T curve) {
+		this.cumulativeLengths = null;
+		return super.remove(curve);
+	}
+
+	@Override
+	public T remove(int index) {
+		this.cumulativeLengths = null;
+		return super.remove(index);
+	}
+
+	@Override
+	public void clear() {
+		this.cumulativeLengths = null;
+		super.clear();
+	}
+
     // ===================================================================
     // methods implementing the ContinuousCurve2D interface
 
@@ -253,7 +362,7 @@ extends PolyOrientedCurve2D<T> implements CirculinearContinuousCurve2D {
 		// add each curve after class cast
 		for(Curve2D curve : subcurve) {
 			if(curve instanceof CirculinearContinuousCurve2D)
-				result.add((CirculinearContinuousCurve2D) curve);
+				result.curves.add((CirculinearContinuousCurve2D) curve);
 		}
 		
 		// return the result
@@ -10,14 +10,19 @@ package net.javageom.geom2d.circulinear.buffer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 
+import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.RTree2D;
 import net.javageom.geom2d.Shape2D;
 import net.javageom.geom2d.circulinear.*;
 import net.javageom.geom2d.conic.Circle2D;
 import net.javageom.geom2d.curve.Curves2D;
 import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.point.KDTree2D;
 import net.javageom.geom2d.point.PointSet2D;
 
 
@@ -240,6 +245,9 @@ public class BufferCalculator {
 	 * <li> remove contours which are too close from the original curve
 	 * <li> create a new domain with the final set of contours
 	 * </ol>
+	 * The elements of the original curve are indexed within a RTree2D, such
+	 * that intersection and distance computations between the contours and
+	 * the curve only consider the elements close to each contour.
 	 */
 	public CirculinearDomain2D computeBuffer(
 			CirculinearCurve2D curve, double dist) {
@@ -261,29 +269,27 @@ public class BufferCalculator {
 		contours = new ArrayList<CirculinearContour2D>(
 				CirculinearCurves2D.splitIntersectingContours(contours));		
 		
+		// index the elements of the original curve
+		RTree2D<CirculinearElement2D> index = createElementIndex(curve);
+		
+		// intersection points that are vertices of the reference curve
+		Collection<Point2D> vertices = 
+			new HashSet<Point2D>(curve.vertices());
+		
 		// Remove contours that cross or that are too close from base curve
 		ArrayList<CirculinearContour2D> contours2 = 
 			new ArrayList<CirculinearContour2D>(contours.size());
-		Collection<Point2D> intersects;
-		Collection<Point2D> vertices;
 		
 		for (CirculinearContour2D contour : contours) {
 			
 			// do not keep contours which cross original curve
-			intersects = CirculinearCurves2D.findIntersections(curve, contour);
-			
-			// remove intersection points that are vertices of the reference curve
-			vertices = curve.singularPoints();
-			vertices = curve.vertices();
-			intersects.removeAll(vertices);
-			
-			if (intersects.size() > 0)
+			if (crossesCurve(index, contour, vertices))
 				continue;
 			
 			// check that vertices of contour are not too close from original
 			// curve
 			double distCurves = 
-				getDistanceCurveSingularPoints(curve, contour);
+				getDistanceCurveSingularPoints(index, contour);
 			if(distCurves < dist-Shape2D.ACCURACY)
 				continue;
 			
@@ -294,7 +300,7 @@ public class BufferCalculator {
 		// All the rings are created, we can now create a new domain with the
 		// set of rings
 		return new GenericCirculinearDomain2D(
-				CirculinearContourArray2D.create(contours2.toArray(new CirculinearContour2D[0])));
+				new CirculinearContourArray2D<CirculinearContour2D>(contours2));
 	}
 	
 	/**
@@ -306,23 +312,37 @@ public class BufferCalculator {
 		Collection<CirculinearContour2D> contours = 
 			new ArrayList<CirculinearContour2D>(set.size());
 		
-		// for each point, add a new circle
-		for (Point2D point : set) {
+		// for each distinct point, add a new circle
+		for (Point2D point : new LinkedHashSet<Point2D>(set.points())) {
 			contours.add(new Circle2D(point, Math.abs(dist), dist > 0));
 		}
 		
 		// process circles to remove intersections
 		contours = CirculinearCurves2D.splitIntersectingContours(contours);
 		
+		// index the points, to retrieve the ones close to each contour
+		KDTree2D tree = new KDTree2D(new ArrayList<Point2D>(set.points()));
+		
 		// Remove contours that cross or that are too close from base curve
 		ArrayList<CirculinearContour2D> contours2 = 
 			new ArrayList<CirculinearContour2D>(contours.size());
 		for (CirculinearContour2D ring : contours) {
 			
+			// only the points within the bounding box of the contour, enlarged
+			// by the buffer distance, can be closer than the buffer distance
+			Collection<Point2D> points = set.points();
+			Box2D box = ring.boundingBox();
+			if (box.isBounded()) {
+				double d = Math.abs(dist) + Shape2D.ACCURACY;
+				points = tree.rangeSearch(new Box2D(
+						box.getMinX() - d, box.getMaxX() + d, 
+						box.getMinY() - d, box.getMaxY() + d));
+			}
+			
 			// check that vertices of contour are not too close from original
 			// curve
 			double minDist = CirculinearCurves2D.getDistanceCurvePoints(
-					ring, set.points());
+					ring, points);
 			if(minDist < dist-Shape2D.ACCURACY)
 				continue;
 			
@@ -331,7 +351,7 @@ public class BufferCalculator {
 		}
 
 		return new GenericCirculinearDomain2D(
-				CirculinearContourArray2D.create(contours2.toArray(new CirculinearContour2D[0])));
+				new CirculinearContourArray2D<CirculinearContour2D>(contours2));
 	}
 
 	/**
@@ -360,7 +380,7 @@ public class BufferCalculator {
 				
 		// some contours may intersect, so we split them
 		Collection<CirculinearContour2D> contours2 =
-			removeIntersectingContours(contours, curve, d);
+			removeIntersectingContours(contours, createElementIndex(curve), d);
 
 		// return the set of created contours
 		return contours2;
@@ -460,7 +480,7 @@ public class BufferCalculator {
 	
 	private Collection<CirculinearContour2D> removeIntersectingContours (
 			Collection<CirculinearContour2D> contours, 
-			CirculinearCurve2D curve, double d) {
+			RTree2D<CirculinearElement2D> index, double d) {
 		// prepare an array to store the set of rings
 		ArrayList<CirculinearContour2D> contours2 =
 			new ArrayList<CirculinearContour2D>();
@@ -474,8 +494,8 @@ public class BufferCalculator {
 				// compute distance to original curve
 				// (assuming it is sufficient to compute distance to vertices
 				// of the reference curve).
-				double dist = CirculinearCurves2D.getDistanceCurvePoints(
-						curve, splitted.singularPoints());
+				double dist = getDistanceIndexPoints(
+						index, splitted.singularPoints());
 				
 				// check if distance condition is verified
 				if (dist-d < -Shape2D.ACCURACY)
@@ -508,8 +528,44 @@ public class BufferCalculator {
 		return BoundaryPolyCirculinearCurve2D.create(curve.smoothPieces().toArray(new CirculinearContinuousCurve2D[0]));
 	}
 	
+	/**
+	 * Creates a spatial index of the circulinear elements composing the curve.
+	 */
+	private RTree2D<CirculinearElement2D> createElementIndex(
+			CirculinearCurve2D curve) {
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>();
+		for (CirculinearContinuousCurve2D cont : curve.continuousCurves())
+			elements.addAll(cont.smoothPieces());
+		return new RTree2D<CirculinearElement2D>(elements);
+	}
+	
+	/**
+	 * Checks if the contour crosses the curve whose elements are stored in the
+	 * index, ignoring the intersections located on the given vertices.
+	 */
+	private boolean crossesCurve(RTree2D<CirculinearElement2D> index,
+			CirculinearContour2D contour, Collection<Point2D> vertices) {
+		double eps = Shape2D.ACCURACY;
+		for (CirculinearElement2D elem : contour.smoothPieces()) {
+			// find elements of the reference curve close to the current one
+			Box2D box = elem.boundingBox();
+			box = new Box2D(box.getMinX() - eps, box.getMaxX() + eps, 
+					box.getMinY() - eps, box.getMaxY() + eps);
+			
+			for (CirculinearElement2D ref : index.search(box)) {
+				for (Point2D inter : 
+					CirculinearCurves2D.findIntersections(ref, elem)) {
+					if (!vertices.contains(inter))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+	
 	private double getDistanceCurveSingularPoints(
-			CirculinearCurve2D ref, CirculinearCurve2D curve){
+			RTree2D<CirculinearElement2D> index, CirculinearCurve2D curve){
 		// extract singular points
 		Collection<Point2D> points = curve.singularPoints();
 		
@@ -520,10 +576,20 @@ public class BufferCalculator {
 			points.add(curve.point(t));
 		}
 		
+		return getDistanceIndexPoints(index, points);
+	}
+	
+	/**
+	 * Computes the minimal distance between the curve whose elements are
+	 * stored in the index and a collection of points.
+	 */
+	private double getDistanceIndexPoints(
+			RTree2D<CirculinearElement2D> index, 
+			Collection<? extends Point2D> points) {
 		// Iterate on points to get minimal distance
 		double minDist = Double.MAX_VALUE;
 		for (Point2D point : points){
-			minDist = Math.min(minDist, ref.distance(point));
+			minDist = Math.min(minDist, index.distance(point));
 		}
 		return minDist;
 	}
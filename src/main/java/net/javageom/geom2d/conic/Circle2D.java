@@ -912,6 +912,20 @@ Cloneable {
 		return abs(Point2D.distance(xc, yc, x, y) - r);
     }
 
+    /**
+     * Computes the distance of the circle to each of the points given by two
+     * arrays of coordinates.
+     */
+    public void distance(double[] xs, double[] ys, double[] out) {
+		if (xs.length != ys.length || xs.length != out.length)
+			throw new IllegalArgumentException(
+					"Coordinate and result arrays must have the same length");
+		for (int i = 0; i < xs.length; i++) {
+			double dx = xs[i] - xc, dy = ys[i] - yc;
+			out[i] = abs(sqrt(dx * dx + dy * dy) - r);
+		}
+    }
+
     public double sqDistance(Point2D p) {
     	double d =  Point2D.distance(center(), p) - r;
 		return d * d;
@@ -977,6 +991,17 @@ Cloneable {
 		return abs(distance(x, y)) <= Shape2D.ACCURACY;
     }
 
+    /**
+     * Checks if each of the points given by two arrays of coordinates lies on
+     * the circle.
+     */
+    public void contains(double[] xs, double[] ys, boolean[] out) {
+		double[] dists = new double[out.length];
+		distance(xs, ys, dists);
+		for (int i = 0; i < dists.length; i++)
+			out[i] = dists[i] <= Shape2D.ACCURACY;
+    }
+
     public java.awt.geom.GeneralPath appendPath(java.awt.geom.GeneralPath path) {
         double cot = cos(theta);
         double sit = sin(theta);
@@ -773,7 +773,7 @@ implements EllipseShape2D, Cloneable {
      * In the current implementation, the ellipse is converted to a polyline.
      */
     public double signedDistance(Point2D point) {
-    	double dist = this.asPolyline(180).distance(point);
+    	double dist = this.flatten().distance(point);
     	return isInside(point) ? -dist : dist;
     }
 
@@ -1009,18 +1009,27 @@ implements EllipseShape2D, Cloneable {
     public double distance(Point2D point) {
         // PolarVector2D vector = this.getProjectedVector(point, 1e-10);
         // return abs(vector.getRho());
-        return this.asPolyline(180).distance(point);
+        return this.flatten().distance(point);
     }
 
     public double distance(double x, double y) {
         return distance(new Point2D(x, y));
     }
 
+    /**
+     * Computes the distance of the ellipse to each of the points given by two
+     * arrays of coordinates, using a polyline approximation that is computed
+     * only once.
+     */
+    public void distance(double[] xs, double[] ys, double[] out) {
+        this.flatten().distance(xs, ys, out);
+    }
+
     /**
      * Computes squared distance using a polyline approximation.
      */
     public double sqDistance(Point2D point) {
-        return this.asPolyline(180).sqDistance(point);
+        return this.flatten().sqDistance(point);
     }
 
     /**
@@ -1136,6 +1145,17 @@ implements EllipseShape2D, Cloneable {
         return this.distance(x, y)<Shape2D.ACCURACY;
     }
 
+    /**
+     * Checks if each of the points given by two arrays of coordinates lies on
+     * the ellipse, with precision given by Shape2D.ACCURACY.
+     */
+    public void contains(double[] xs, double[] ys, boolean[] out) {
+        double[] dists = new double[out.length];
+        distance(xs, ys, dists);
+        for (int i = 0; i < dists.length; i++)
+            out[i] = dists[i] < Shape2D.ACCURACY;
+    }
+
     public java.awt.geom.GeneralPath getGeneralPath() {
         // precompute cosine and sine of angle
         double cot = cos(theta);
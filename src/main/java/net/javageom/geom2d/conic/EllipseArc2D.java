@@ -526,7 +526,7 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
      * Computes squared distance using a polyline approximation.
      */
     public double sqDistance(Point2D point) {
-        return this.asPolyline(180).sqDistance(point);
+        return this.flatten().sqDistance(point);
     }
 
     /** Always return true: an ellipse arc is bounded by definition */
@@ -103,7 +103,7 @@ implements SmoothOrientedCurve2D, Cloneable {
     // methods inherited from ContinuousCurve2D interface
 
     public java.awt.geom.GeneralPath appendPath(java.awt.geom.GeneralPath path) {
-        return this.asPolyline(60).appendPath(path);
+        return this.flatten().appendPath(path);
     }
 
     /** Returns false. */
@@ -203,7 +203,7 @@ implements SmoothOrientedCurve2D, Cloneable {
     public Box2D boundingBox() {
         if (!this.isBounded())
             throw new UnboundedShape2DException(this);
-        return this.asPolyline(100).boundingBox();
+        return this.flatten().boundingBox();
     }
 
     /**
@@ -292,7 +292,7 @@ implements SmoothOrientedCurve2D, Cloneable {
     public java.awt.geom.GeneralPath getGeneralPath() {
         if (!this.isBounded())
             throw new UnboundedShape2DException(this);
-        return this.asPolyline(100).asGeneralPath();
+        return this.flatten().asGeneralPath();
     }
 
     
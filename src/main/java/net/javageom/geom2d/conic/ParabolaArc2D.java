@@ -294,12 +294,12 @@ implements SmoothOrientedCurve2D, Cloneable {
 
     public double distance(double x, double y) {
         // TODO Auto-generated method stub
-        return this.asPolyline(100).distance(x, y);
+        return this.flatten().distance(x, y);
     }
 
     public double sqDistance(Point2D p) {
         // TODO Auto-generated method stub
-        return this.asPolyline(100).sqDistance(p);
+        return this.flatten().sqDistance(p);
     }
 
     /**
@@ -344,7 +344,7 @@ implements SmoothOrientedCurve2D, Cloneable {
 
     public Box2D boundingBox() {
         // TODO Auto-generated method stub
-        return this.asPolyline(100).boundingBox();
+        return this.flatten().boundingBox();
     }
 
     public ParabolaArc2D transform(AffineTransform2D trans) {
@@ -411,7 +411,7 @@ implements SmoothOrientedCurve2D, Cloneable {
     public java.awt.geom.GeneralPath getGeneralPath() {
         if (!this.isBounded())
             throw new UnboundedShape2DException(this);
-        return this.asPolyline(32).asGeneralPath();
+        return this.flatten().asGeneralPath();
     }
 
 
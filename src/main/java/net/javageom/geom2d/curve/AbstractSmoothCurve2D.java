@@ -9,19 +9,311 @@
 package net.javageom.geom2d.curve;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Shape2D;
+import net.javageom.geom2d.UnboundedShape2DException;
 import net.javageom.geom2d.Vector2D;
+import net.javageom.geom2d.polygon.LinearCurve2D;
+import net.javageom.geom2d.polygon.LinearRing2D;
+import net.javageom.geom2d.polygon.Polyline2D;
 
 
 /**
- * Provides a base implementation for smooth curves.
+ * Provides a base implementation for smooth curves.<p>
+ * 
+ * The methods that approximate the curve by a polyline use the result of
+ * {@link #flatten()}, which is computed once for each instance. Subclasses
+ * that modify the curve must call {@link #clearFlatteningCache()}.
  * @author dlegland
  */
 public abstract class AbstractSmoothCurve2D extends AbstractContinuousCurve2D
 implements SmoothCurve2D, Cloneable {
 
+    // ===================================================================
+    // Constants
+
+	/**
+	 * The tolerance used by the methods that approximate the curve by a
+	 * polyline, relative to the size of the curve.
+	 * @since 0.11.3
+	 */
+	public final static double FLATTENING_ACCURACY = 1e-4;
+
+	/** The maximal number of subdivisions of the initial intervals */
+	private final static int MAX_FLATTENING_DEPTH = 20;
+
+	/** The number of intervals used for estimating the size of the curve */
+	private final static int SIZE_SAMPLES = 16;
+
+    // ===================================================================
+    // Class variables
+
+	/** The flattening computed by the last call to flatten(double) */
+	private transient volatile Flattening flattening = null;
+
+	/** The flattening used by the approximation methods */
+	private transient volatile Flattening defaultFlattening = null;
+
+    // ===================================================================
+    // Methods for the approximation by polylines
+
+	/**
+	 * Returns a polyline approximating this curve, such that the distance
+	 * between the curve and the polyline is smaller than the given tolerance.
+	 * The curve is subdivided recursively, until the deviation of each edge,
+	 * estimated from the curvature and from the middle point of the curve
+	 * portion, is smaller than the tolerance. The result is a LinearRing2D if
+	 * the curve is closed, and a Polyline2D otherwise. The vertices are kept
+	 * until the next call with a different tolerance, and each call returns
+	 * a new polyline with packed storage, that can be modified by the caller.
+	 * @throws UnboundedShape2DException if the curve is not bounded
+	 * @since 0.11.3
+	 */
+	public LinearCurve2D flatten(double tolerance) {
+		if (!(tolerance > 0))
+			throw new IllegalArgumentException("Tolerance must be positive");
+		Flattening cache = this.flattening;
+		if (cache == null || cache.tolerance != tolerance) {
+			cache = computeFlattening(tolerance);
+			this.flattening = cache;
+		}
+		return cache.copyPolyline();
+	}
+
+	/**
+	 * Returns the polyline used by the methods that approximate the curve. It
+	 * is computed by {@link #flatten(double)}, with a tolerance equal to 
+	 * FLATTENING_ACCURACY times the size of the curve. The result is shared
+	 * by all the calls, and must not be modified.
+	 * @since 0.11.3
+	 */
+	protected LinearCurve2D flatten() {
+		return defaultFlattening().polyline;
+	}
+
+	/**
+	 * Converts a position on the polyline returned by {@link #flatten()}
+	 * into a position on this curve.
+	 * @since 0.11.3
+	 */
+	protected double curvePosition(double pos) {
+		if (Double.isNaN(pos))
+			return Double.NaN;
+		double[] params = defaultFlattening().params;
+		int i = Math.min(Math.max((int) Math.floor(pos), 0), 
+				params.length - 2);
+		return params[i] + (pos - i) * (params[i + 1] - params[i]);
+	}
+
+	/**
+	 * Clears the polylines computed for approximating this curve. Must be
+	 * called by subclasses that modify the curve.
+	 * @since 0.11.3
+	 */
+	protected void clearFlatteningCache() {
+		this.flattening = null;
+		this.defaultFlattening = null;
+	}
+
+	private Flattening defaultFlattening() {
+		Flattening cache = this.defaultFlattening;
+		if (cache == null) {
+			cache = computeFlattening(defaultTolerance());
+			this.defaultFlattening = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * Computes the default tolerance from the size of the box containing
+	 * regularly spaced points of the curve.
+	 */
+	private double defaultTolerance() {
+		double t0 = this.t0();
+		double t1 = this.t1();
+		if (Double.isInfinite(t0) || Double.isInfinite(t1))
+			throw new UnboundedShape2DException(this);
+
+		double xmin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i <= SIZE_SAMPLES; i++) {
+			Point2D point = this.point(t0 + (t1 - t0) * i / SIZE_SAMPLES);
+			xmin = Math.min(xmin, point.x());
+			xmax = Math.max(xmax, point.x());
+			ymin = Math.min(ymin, point.y());
+			ymax = Math.max(ymax, point.y());
+		}
+		double size = Math.hypot(xmax - xmin, ymax - ymin);
+		return Math.max(size * FLATTENING_ACCURACY, Shape2D.ACCURACY);
+	}
+
+	private Flattening computeFlattening(double tolerance) {
+		double t0 = this.t0();
+		double t1 = this.t1();
+		if (Double.isInfinite(t0) || Double.isInfinite(t1))
+			throw new UnboundedShape2DException(this);
+
+		// closed curves are split in four parts, to avoid degenerate chords
+		boolean closed = this.isClosed();
+		int n0 = closed ? 4 : 1;
+
+		Flattening result = new Flattening(tolerance);
+		double ta = t0;
+		Point2D pa = this.point(ta);
+		double ka = absCurvature(ta);
+		result.add(ta, pa);
+		for (int i = 1; i <= n0; i++) {
+			double tb = i == n0 ? t1 : t0 + (t1 - t0) * i / n0;
+			Point2D pb = this.point(tb);
+			double kb = absCurvature(tb);
+			subdivide(result, ta, pa, ka, tb, pb, kb, 0);
+			ta = tb;
+			pa = pb;
+			ka = kb;
+		}
+		result.createPolyline(closed);
+		return result;
+	}
+
+	/**
+	 * Returns an upper bound of the distance between the portion of the curve
+	 * between the positions t0 and t1, and the segment joining its
+	 * extremities, or NaN if no bound is known. This is used for computing
+	 * the flattening of the curve. The default implementation returns NaN, and
+	 * the distance is estimated from points and curvatures of the curve
+	 * portion.
+	 * @since 0.11.3
+	 */
+	protected double chordDeviation(double t0, double t1) {
+		return Double.NaN;
+	}
+
+	/**
+	 * Adds the vertices of the curve portion between ta (excluded) and tb
+	 * (included). The curve portion is subdivided until the bound given by
+	 * chordDeviation() is smaller than the tolerance. If no bound is known,
+	 * the deviation is estimated by k*L^2/8, where k is the maximal sampled
+	 * curvature and L is the length of the chord, and by the distance of the
+	 * middle and quarter points to the chord, for curve portions whose
+	 * extremities are close. Portions with an undefined curvature are always
+	 * subdivided, up to the maximal depth.
+	 */
+	private void subdivide(Flattening result, double ta, Point2D pa, 
+			double ka, double tb, Point2D pb, double kb, int depth) {
+		double tm = (ta + tb) / 2;
+		Point2D pm = this.point(tm);
+		double km = absCurvature(tm);
+
+		double dev = chordDeviation(ta, tb);
+		if (Double.isNaN(dev)) {
+			double x1 = pa.x(), y1 = pa.y(), x2 = pb.x(), y2 = pb.y();
+			Point2D p1 = this.point((ta + tm) / 2);
+			Point2D p3 = this.point((tm + tb) / 2);
+			dev = Math.max(segmentDistance(x1, y1, x2, y2, pm.x(), pm.y()),
+					Math.max(segmentDistance(x1, y1, x2, y2, p1.x(), p1.y()),
+							segmentDistance(x1, y1, x2, y2, p3.x(), p3.y())));
+
+			double k = Math.max(ka, Math.max(km, kb));
+			double len2 = (x2 - x1) * (x2 - x1) + (y2 - y1) * (y2 - y1);
+			if (k < Double.POSITIVE_INFINITY)
+				dev = Math.max(dev, k * len2 / 8);
+			else
+				dev = Double.POSITIVE_INFINITY;
+		}
+
+		if (dev > result.tolerance && depth < MAX_FLATTENING_DEPTH) {
+			subdivide(result, ta, pa, ka, tm, pm, km, depth + 1);
+			subdivide(result, tm, pm, km, tb, pb, kb, depth + 1);
+		} else {
+			result.add(tb, pb);
+		}
+	}
+
+	/**
+	 * Returns the absolute value of the curvature, or infinity if the
+	 * curvature is not defined.
+	 */
+	private double absCurvature(double t) {
+		double k = Math.abs(this.curvature(t));
+		return Double.isNaN(k) ? Double.POSITIVE_INFINITY : k;
+	}
+
+	/**
+	 * Computes the distance from the point (x,y) to the line segment between
+	 * (x1,y1) and (x2,y2).
+	 * @since 0.11.3
+	 */
+	protected static double segmentDistance(double x1, double y1, double x2,
+			double y2, double x, double y) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double d2 = dx * dx + dy * dy;
+		double t = d2 == 0 ? 0 : ((x - x1) * dx + (y - y1) * dy) / d2;
+		t = Math.min(Math.max(t, 0), 1);
+		return Math.hypot(x1 + t * dx - x, y1 + t * dy - y);
+	}
+
+	/**
+	 * The polyline approximating a curve, with the positions of its vertices
+	 * on the curve.
+	 */
+	private static class Flattening {
+		final double tolerance;
+		double[] params = new double[16];
+		double[] xs = new double[16];
+		double[] ys = new double[16];
+		int size = 0;
+		boolean closed;
+		LinearCurve2D polyline;
+
+		Flattening(double tolerance) {
+			this.tolerance = tolerance;
+		}
+
+		void add(double t, Point2D point) {
+			if (size == params.length) {
+				params = Arrays.copyOf(params, 2 * size);
+				xs = Arrays.copyOf(xs, 2 * size);
+				ys = Arrays.copyOf(ys, 2 * size);
+			}
+			params[size] = t;
+			xs[size] = point.x();
+			ys[size] = point.y();
+			size++;
+		}
+
+		/**
+		 * Creates the polyline. The last vertex of closed curves is the same
+		 * as the first one, and is not included in the ring.
+		 */
+		void createPolyline(boolean closed) {
+			params = Arrays.copyOf(params, size);
+			int n = closed ? size - 1 : size;
+			xs = Arrays.copyOf(xs, n);
+			ys = Arrays.copyOf(ys, n);
+			this.closed = closed;
+			polyline = copyPolyline();
+		}
+
+		/**
+		 * Creates a new polyline with the vertices of the flattening.
+		 */
+		LinearCurve2D copyPolyline() {
+			if (closed)
+				return LinearRing2D.createPacked(xs, ys);
+			else
+				return Polyline2D.createPacked(xs, ys);
+		}
+	}
+
+    // ===================================================================
+    // Methods from SmoothCurve2D and ContinuousCurve2D interfaces
+
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.curve.ContinuousCurve2D#leftTangent(double)
@@ -27,6 +27,7 @@ import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 
 import net.javageom.geom2d.*;
@@ -425,19 +426,23 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
     	ArrayList<Point2D> points = new ArrayList<Point2D>();
     	double eps = Shape2D.ACCURACY;
     	
+    	// points already added, hashed by cells larger than guard distance
+    	HashMap<Point2D, ArrayList<Point2D>> cells = 
+    		new HashMap<Point2D, ArrayList<Point2D>>();
+    	
     	// iterate on curves composing the array
         for (Curve2D curve : curves){
         	// Add singular points inside curve
             for (Point2D point : curve.singularPoints())
-            	addPointWithGuardDistance(points, point, eps);
+            	addPointWithGuardDistance(points, cells, point, eps);
             
             // add first extremity
             if(!Curves2D.isLeftInfinite(curve))
-            	addPointWithGuardDistance(points, curve.firstPoint(), eps);
+            	addPointWithGuardDistance(points, cells, curve.firstPoint(), eps);
             
             // add last extremity
             if(!Curves2D.isRightInfinite(curve))
-            	addPointWithGuardDistance(points, curve.lastPoint(), eps);
+            	addPointWithGuardDistance(points, cells, curve.lastPoint(), eps);
         }
         // return the set of singular points
         return points;
@@ -446,17 +451,43 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
     /**
      * Add a point to the set only if the distance between the candidate and
      * the closest point in the set is greater than the given threshold.
+     * Points of the set are also stored in a map of cells with size four
+     * times the threshold, such that only the points within the neighbor
+     * cells of the candidate need to be compared.
      * @param set
+     * @param cells
      * @param point
      * @param eps
      */
     private void addPointWithGuardDistance(Collection<Point2D> pointSet, 
+    		HashMap<Point2D, ArrayList<Point2D>> cells, 
     		Point2D point, double eps) {
-    	for (Point2D p0 : pointSet) {
-    		if (p0.almostEquals(point, eps))
-    			return;
+    	double size = 4 * eps;
+    	double cx = Math.floor(point.x() / size);
+    	double cy = Math.floor(point.y() / size);
+    	
+    	// compare with the points in neighbor cells
+    	for (int i = -1; i <= 1; i++) {
+    		for (int j = -1; j <= 1; j++) {
+    			ArrayList<Point2D> cell = cells.get(new Point2D(cx + i, cy + j));
+    			if (cell == null)
+    				continue;
+    			for (Point2D p0 : cell) {
+    				if (p0.almostEquals(point, eps))
+    					return;
+    			}
+    		}
     	}
+    	
+    	// add the point to the set and to its cell
     	pointSet.add(point);
+    	Point2D key = new Point2D(cx, cy);
+    	ArrayList<Point2D> cell = cells.get(key);
+    	if (cell == null) {
+    		cell = new ArrayList<Point2D>(1);
+    		cells.put(key, cell);
+    	}
+    	cell.add(point);
     }
 
     /**
@@ -540,7 +571,8 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
     }
 
     /**
-     * Return an instance of CurveArray2D.
+     * Return an instance of CurveArray2D. The portions of curves are added
+     * without checking for duplicates, as they are distinct.
      */
     public CurveSet2D<? extends Curve2D> subCurve(double t0, double t1) {
         // number of curves in the set
@@ -579,33 +611,33 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
             curve = curves.get(ind0);
             pos0 = Curves2D.fromUnitSegment(t0-t0f, curve.t0(), curve.t1());
             pos1 = Curves2D.fromUnitSegment(t1-t1f, curve.t0(), curve.t1());
-            res.add(curve.subCurve(pos0, pos1));
+            res.curves.add(curve.subCurve(pos0, pos1));
             return res;
         }
 
         // add the end of the curve containing first cut
         curve = curves.get(ind0);
 		pos0 = Curves2D.fromUnitSegment(t0 - t0f, curve.t0(), curve.t1());
-        res.add(curve.subCurve(pos0, curve.t1()));
+        res.curves.add(curve.subCurve(pos0, curve.t1()));
 
         if (ind1>ind0) {
             // add all the whole curves between the 2 cuts
             for (int n = ind0+1; n<ind1; n++)
-                res.add(curves.get(n));
+                res.curves.add(curves.get(n));
         } else {
             // add all curves until the end of the set
             for (int n = ind0+1; n<nc; n++)
-                res.add(curves.get(n));
+                res.curves.add(curves.get(n));
 
             // add all curves from the beginning of the set
             for (int n = 0; n<ind1; n++)
-                res.add(curves.get(n));
+                res.curves.add(curves.get(n));
         }
 
         // add the beginning of the last cut curve
         curve = curves.get(ind1);
         pos1 = Curves2D.fromUnitSegment(t1-t1f, curve.t0(), curve.t1());
-        res.add(curve.subCurve(curve.t0(), pos1));
+        res.curves.add(curve.subCurve(curve.t0(), pos1));
 
         // return the curve set
         return res;
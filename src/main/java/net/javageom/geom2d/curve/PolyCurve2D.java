@@ -334,7 +334,7 @@ public class PolyCurve2D<T extends ContinuousCurve2D> extends CurveArray2D<T>
 
         // convert to PolySmoothCurve by adding curves, after class cast
         for (Curve2D curve : set.curves())
-            subCurve.add((ContinuousCurve2D) curve);
+            subCurve.curves.add((ContinuousCurve2D) curve);
 
         // return the resulting portion of curve
         return subCurve;
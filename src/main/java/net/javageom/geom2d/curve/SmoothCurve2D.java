@@ -27,7 +27,10 @@ package net.javageom.geom2d.curve;
 
 import net.javageom.geom2d.AffineTransform2D;
 import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.UnboundedShape2DException;
 import net.javageom.geom2d.Vector2D;
+import net.javageom.geom2d.polygon.LinearCurve2D;
 
 /**
  * Interface for smooth and continuous curves. Such curves accept first and
@@ -53,6 +56,54 @@ public interface SmoothCurve2D extends ContinuousCurve2D {
 	 */
     public abstract Vector2D normal(double t);
 
+	/**
+	 * Returns a polyline approximating this curve, such that the distance
+	 * between the curve and the polyline is smaller than the given tolerance.
+	 * The default implementation calls {@link #asPolyline(int)} with a
+	 * number of edges doubled until the middle and quarter points of the
+	 * curve portion of each edge are within the tolerance of the edge, up to
+	 * 65536 edges. AbstractSmoothCurve2D overrides it with a number of
+	 * vertices that adapts to the curvature.
+	 * @param tolerance the maximal distance between curve and polyline
+	 * @return a LinearRing2D for closed curves, a Polyline2D otherwise
+	 * @throws UnboundedShape2DException if the curve is not bounded
+	 * @since 0.11.3
+	 */
+    public default LinearCurve2D flatten(double tolerance) {
+        if (!(tolerance > 0))
+            throw new IllegalArgumentException("Tolerance must be positive");
+        if (!this.isBounded())
+            throw new UnboundedShape2DException(this);
+
+        double t0 = this.t0();
+        double t1 = this.t1();
+        int n = 8;
+        for (; n < 1 << 16; n *= 2) {
+            double dt = (t1 - t0) / n;
+            boolean accurate = true;
+            Point2D p1 = this.point(t0);
+            for (int i = 0; i < n && accurate; i++) {
+                Point2D p2 = this.point(t0 + (i + 1) * dt);
+                double vx = p2.x() - p1.x(), vy = p2.y() - p1.y();
+                double sqLen = vx * vx + vy * vy;
+
+                // distance of the middle and quarter points to the edge
+                for (int j = 1; j < 4 && accurate; j++) {
+                    Point2D pm = this.point(t0 + (i + j * .25) * dt);
+                    double dx = pm.x() - p1.x(), dy = pm.y() - p1.y();
+                    double pos = sqLen > 0 ? (dx * vx + dy * vy) / sqLen : 0;
+                    pos = Math.min(Math.max(pos, 0), 1);
+                    accurate = Math.hypot(dx - pos * vx, dy - pos * vy) 
+                            <= tolerance;
+                }
+                p1 = p2;
+            }
+            if (accurate)
+                break;
+        }
+        return asPolyline(n);
+    }
+
 	/* (non-Javadoc)
 	 * @see math.geom2d.curve.Curve2D#reverse()
 	 */
@@ -298,7 +298,7 @@ public class PolyOrientedCurve2D<T extends ContinuousOrientedCurve2D> extends
 
         // convert to PolySmoothCurve by adding curves.
         for (Curve2D curve : set.curves())
-            subCurve.add((ContinuousOrientedCurve2D) curve);
+            subCurve.curves.add((ContinuousOrientedCurve2D) curve);
 
         return subCurve;
     }
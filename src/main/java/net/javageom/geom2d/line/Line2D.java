@@ -194,10 +194,12 @@ implements LinearElement2D, Cloneable {
 
     public void setPoint1(Point2D point) {
         p1 = point;
+        clearFlatteningCache();
     }
 
     public void setPoint2(Point2D point) {
         p2 = point;
+        clearFlatteningCache();
     }
 
     // ===================================================================
@@ -0,0 +1,526 @@
+/**
+ * File: 	DynamicKDTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+
+/**
+ * A KD-tree that supports insertion and removal of points, while keeping a
+ * logarithmic depth.<p>
+ *
+ * Balance is maintained with the scapegoat strategy: when an insertion
+ * creates a node deeper than log(n)/log(1/alpha), the deepest ancestor whose
+ * sub-tree is unbalanced is rebuilt by median selection. Removed points are
+ * only marked as deleted, and the whole tree is rebuilt when deleted points
+ * become more numerous than the remaining ones. Insertion and removal have an
+ * amortized cost of O(log^2 n), and the depth of the tree, that drives the
+ * cost of queries, is bounded by O(log n) at any time.<p>
+ *
+ * As for {@link KDTree2D}, splitting coordinate alternates between x and y,
+ * ties are broken using the other coordinate, and the tree can not contain
+ * two points with the same coordinates.<p>
+ *
+ * This class is not thread-safe. Threads that only need to query a fixed
+ * state of the tree can use the tree returned by {@link #snapshot()}.
+ *
+ * @see KDTree2D
+ * @see PackedKDTree2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class DynamicKDTree2D {
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The balance factor: each child of a node must contain at most this
+	 * fraction of the nodes of the sub-tree. Sub-trees are rebuilt only when
+	 * the depth of the tree exceeds the corresponding bound.
+	 */
+	private final static double ALPHA = .7;
+
+	// ===================================================================
+	// Inner classes
+
+	private static class Node {
+		private Point2D point;
+		private Node left;
+		private Node right;
+
+		/** The number of nodes in the sub-tree, including deleted ones */
+		private int size = 1;
+
+		private boolean deleted = false;
+
+		private Node(Point2D point) {
+			this.point = point;
+		}
+	}
+
+	private static class NodeComparator implements Comparator<Node> {
+		private int dim;
+
+		private NodeComparator(int dim) {
+			this.dim = dim;
+		}
+
+		public int compare(Node n1, Node n2) {
+			return DynamicKDTree2D.compare(n1.point.x(), n1.point.y(),
+					n2.point, dim);
+		}
+	}
+
+	// ===================================================================
+	// Class variables
+
+	private Node root = null;
+
+	/** The number of nodes in the tree, including deleted ones */
+	private int nodeCount = 0;
+
+	/** The number of nodes marked as deleted */
+	private int deletedCount = 0;
+
+	/** Buffer for storing the path from root to current node */
+	private Node[] path = new Node[16];
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new empty tree.
+	 */
+	public DynamicKDTree2D() {
+	}
+
+	/**
+	 * Creates a new balanced tree containing the given points. Duplicate
+	 * points are stored only once.
+	 */
+	public DynamicKDTree2D(Collection<? extends Point2D> points) {
+		Node[] nodes = new Node[points.size()];
+		int n = 0;
+		for (Point2D point : points)
+			nodes[n++] = new Node(point);
+
+		// remove duplicate points
+		Arrays.sort(nodes, new NodeComparator(0));
+		int n2 = 0;
+		for (int i = 0; i < n; i++) {
+			if (n2 == 0 || compare(nodes[i].point.x(), nodes[i].point.y(),
+					nodes[n2 - 1].point, 0) != 0)
+				nodes[n2++] = nodes[i];
+		}
+
+		this.root = build(nodes, 0, n2, 0);
+		this.nodeCount = n2;
+	}
+
+	// ===================================================================
+	// General methods
+
+	/**
+	 * Returns the number of points stored in the tree.
+	 */
+	public int size() {
+		return nodeCount - deletedCount;
+	}
+
+	/**
+	 * Returns the points stored in the tree.
+	 */
+	public Collection<Point2D> points() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>(size());
+		collectPoints(root, points);
+		return points;
+	}
+
+	private static void collectPoints(Node node, Collection<Point2D> points) {
+		while (node != null) {
+			if (!node.deleted)
+				points.add(node.point);
+			collectPoints(node.left, points);
+			node = node.right;
+		}
+	}
+
+	/**
+	 * Returns an immutable tree containing the current points of this tree,
+	 * that can be queried concurrently by several threads. Indices returned
+	 * by the queries on the snapshot correspond to the order of the
+	 * collection returned by {@link #points()}.
+	 */
+	public PackedKDTree2D snapshot() {
+		return new PackedKDTree2D(points());
+	}
+
+	/**
+	 * Returns the height of the tree, for testing purpose.
+	 */
+	int height() {
+		return height(root);
+	}
+
+	private static int height(Node node) {
+		if (node == null)
+			return 0;
+		return 1 + Math.max(height(node.left), height(node.right));
+	}
+
+	// ===================================================================
+	// Modification methods
+
+	/**
+	 * Adds a point to the tree.
+	 *
+	 * @return true if the point was added, false if the tree already
+	 *         contained a point with the same coordinates
+	 */
+	public boolean add(Point2D point) {
+		double x = point.x();
+		double y = point.y();
+
+		// find either the node with the same point, or the insertion place
+		Node node = root;
+		int depth = 0;
+		int res = 0;
+		while (node != null) {
+			res = compare(x, y, node.point, depth % 2);
+			if (res == 0) {
+				if (!node.deleted)
+					return false;
+				// reuse the node of the deleted point
+				node.deleted = false;
+				deletedCount--;
+				return true;
+			}
+			pushPath(node, depth++);
+			node = res < 0 ? node.left : node.right;
+		}
+
+		// insert the new node
+		node = new Node(point);
+		nodeCount++;
+		if (depth == 0) {
+			root = node;
+			return true;
+		}
+		Node parent = path[depth - 1];
+		if (res < 0)
+			parent.left = node;
+		else
+			parent.right = node;
+		for (int i = 0; i < depth; i++)
+			path[i].size++;
+
+		// rebuild an unbalanced sub-tree if the new node is too deep
+		if (depth > maxDepth(nodeCount))
+			rebalance(depth);
+		return true;
+	}
+
+	/**
+	 * Removes a point from the tree.
+	 *
+	 * @return true if the tree contained the point
+	 */
+	public boolean remove(Point2D point) {
+		Node node = findNode(point.x(), point.y());
+		if (node == null || node.deleted)
+			return false;
+
+		node.deleted = true;
+		deletedCount++;
+
+		// rebuild the whole tree when it contains too many deleted nodes
+		if (deletedCount * 2 > nodeCount)
+			rebuildAll();
+		return true;
+	}
+
+	/**
+	 * Moves a point of the tree to a new position. The tree is left
+	 * unchanged if it does not contain the point to move, or if it already
+	 * contains another point at the new position.
+	 *
+	 * @return true if the point was moved
+	 */
+	public boolean move(Point2D oldPoint, Point2D newPoint) {
+		if (!contains(oldPoint))
+			return false;
+		if (oldPoint.x() == newPoint.x() && oldPoint.y() == newPoint.y())
+			return true;
+		if (contains(newPoint))
+			return false;
+		remove(oldPoint);
+		add(newPoint);
+		return true;
+	}
+
+	/**
+	 * Removes all the points of the tree.
+	 */
+	public void clear() {
+		root = null;
+		nodeCount = 0;
+		deletedCount = 0;
+	}
+
+	private void pushPath(Node node, int depth) {
+		if (depth == path.length)
+			path = Arrays.copyOf(path, depth * 2);
+		path[depth] = node;
+	}
+
+	private static int maxDepth(int n) {
+		return (int) Math.floor(Math.log(n) / Math.log(1 / ALPHA));
+	}
+
+	/**
+	 * Finds the scapegoat along the path to the node inserted at the given
+	 * depth, and rebuilds its sub-tree.
+	 */
+	private void rebalance(int depth) {
+		// find the deepest ancestor with an unbalanced child
+		int childSize = 1;
+		int i = depth - 1;
+		for (; i > 0; i--) {
+			if (childSize > ALPHA * path[i].size)
+				break;
+			childSize = path[i].size;
+		}
+
+		Node scapegoat = path[i];
+		int oldSize = scapegoat.size;
+		Node subTree = rebuild(scapegoat, i);
+
+		// update parent link and sizes of ancestors
+		int removed = oldSize - (subTree == null ? 0 : subTree.size);
+		if (i == 0) {
+			root = subTree;
+		} else {
+			Node parent = path[i - 1];
+			if (parent.left == scapegoat)
+				parent.left = subTree;
+			else
+				parent.right = subTree;
+			for (int j = 0; j < i; j++)
+				path[j].size -= removed;
+		}
+		nodeCount -= removed;
+		deletedCount -= removed;
+	}
+
+	private void rebuildAll() {
+		root = rebuild(root, 0);
+		nodeCount = root == null ? 0 : root.size;
+		deletedCount = 0;
+	}
+
+	/**
+	 * Rebuilds a balanced sub-tree from the non deleted nodes of the sub-tree
+	 * with the given root.
+	 */
+	private static Node rebuild(Node node, int depth) {
+		Node[] nodes = new Node[node == null ? 0 : node.size];
+		int n = collectNodes(node, nodes, 0);
+		return build(nodes, 0, n, depth);
+	}
+
+	private static int collectNodes(Node node, Node[] nodes, int n) {
+		while (node != null) {
+			if (!node.deleted)
+				nodes[n++] = node;
+			n = collectNodes(node.left, nodes, n);
+			node = node.right;
+		}
+		return n;
+	}
+
+	/**
+	 * Builds a balanced sub-tree from the nodes in the range [lo, hi), using
+	 * median selection along the splitting dimension.
+	 */
+	private static Node build(Node[] nodes, int lo, int hi, int depth) {
+		if (lo >= hi)
+			return null;
+		int mid = (lo + hi) >>> 1;
+		select(nodes, lo, hi - 1, mid, depth % 2);
+
+		Node node = nodes[mid];
+		node.left = build(nodes, lo, mid, depth + 1);
+		node.right = build(nodes, mid + 1, hi, depth + 1);
+		node.size = hi - lo;
+		return node;
+	}
+
+	/**
+	 * Reorders the nodes between left and right (inclusive) such that the
+	 * node at index k is the one that would be at this position if the range
+	 * was sorted along dimension dim. Nodes are assumed to be distinct.
+	 */
+	private static void select(Node[] nodes, int left, int right, int k,
+			int dim) {
+		while (right > left) {
+			// use the middle node as pivot, and move it to the end
+			swap(nodes, (left + right) >>> 1, right);
+			Point2D pivot = nodes[right].point;
+
+			int store = left;
+			for (int i = left; i < right; i++) {
+				Point2D p = nodes[i].point;
+				if (compare(p.x(), p.y(), pivot, dim) < 0)
+					swap(nodes, store++, i);
+			}
+			swap(nodes, store, right);
+
+			if (k < store)
+				right = store - 1;
+			else if (k > store)
+				left = store + 1;
+			else
+				return;
+		}
+	}
+
+	private static void swap(Node[] nodes, int i, int j) {
+		Node tmp = nodes[i];
+		nodes[i] = nodes[j];
+		nodes[j] = tmp;
+	}
+
+	// ===================================================================
+	// Queries
+
+	/**
+	 * Checks if the tree contains a point with the same coordinates as the
+	 * given point.
+	 */
+	public boolean contains(Point2D point) {
+		Node node = findNode(point.x(), point.y());
+		return node != null && !node.deleted;
+	}
+
+	/**
+	 * Returns the node with the given coordinates, that may be deleted, or
+	 * null if there is no such node.
+	 */
+	private Node findNode(double x, double y) {
+		Node node = root;
+		int depth = 0;
+		while (node != null) {
+			int res = compare(x, y, node.point, depth++ % 2);
+			if (res == 0)
+				return node;
+			node = res < 0 ? node.left : node.right;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the points located within the given range. As for
+	 * {@link KDTree2D#rangeSearch(Box2D)}, points on the lower bounds of the
+	 * box are not included.
+	 */
+	public Collection<Point2D> rangeSearch(Box2D range) {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		rangeSearch(range.getMinX(), range.getMaxX(), range.getMinY(),
+				range.getMaxY(), points, root, 0);
+		return points;
+	}
+
+	private static void rangeSearch(double xmin, double xmax, double ymin,
+			double ymax, Collection<Point2D> points, Node node, int depth) {
+		while (node != null) {
+			double x = node.point.x();
+			double y = node.point.y();
+			if (!node.deleted && xmin < x && x <= xmax && ymin < y
+					&& y <= ymax)
+				points.add(node.point);
+
+			boolean even = depth % 2 == 0;
+			double min = even ? xmin : ymin;
+			double max = even ? xmax : ymax;
+			double value = even ? x : y;
+
+			// points on the left have a lower or equal coordinate
+			if (min <= value)
+				rangeSearch(xmin, xmax, ymin, ymax, points, node.left,
+						depth + 1);
+
+			// points on the right have a greater or equal coordinate
+			if (max < value)
+				return;
+			node = node.right;
+			depth++;
+		}
+	}
+
+	/**
+	 * Returns the point of the tree closest to the given point, or null if
+	 * the tree is empty.
+	 */
+	public Point2D nearestNeighbor(Point2D point) {
+		Node node = nearest(point.x(), point.y(), root, 0, null);
+		return node == null ? null : node.point;
+	}
+
+	/**
+	 * Returns either the same node as the candidate, or a non deleted node of
+	 * the sub-tree that is closer to the query point.
+	 */
+	private static Node nearest(double x, double y, Node node, int depth,
+			Node candidate) {
+		if (node == null)
+			return candidate;
+
+		if (!node.deleted && (candidate == null
+				|| sqDist(node, x, y) < sqDist(candidate, x, y)))
+			candidate = node;
+
+		// signed distance to the splitting line
+		double diff = depth % 2 == 0 ? x - node.point.x() : y - node.point.y();
+		Node first = diff < 0 ? node.left : node.right;
+		Node second = diff < 0 ? node.right : node.left;
+
+		// first search the side of the point, then the other side if the
+		// splitting line is close enough
+		candidate = nearest(x, y, first, depth + 1, candidate);
+		if (candidate == null || diff * diff < sqDist(candidate, x, y))
+			candidate = nearest(x, y, second, depth + 1, candidate);
+		return candidate;
+	}
+
+	private static double sqDist(Node node, double x, double y) {
+		double dx = node.point.x() - x;
+		double dy = node.point.y() - y;
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Compares the point (x, y) with the given point along the given
+	 * dimension, using the other coordinate to break ties.
+	 */
+	private static int compare(double x, double y, Point2D point, int dim) {
+		if (dim == 0) {
+			int res = Double.compare(x, point.x());
+			return res != 0 ? res : Double.compare(y, point.y());
+		} else {
+			int res = Double.compare(y, point.y());
+			return res != 0 ? res : Double.compare(x, point.x());
+		}
+	}
+}
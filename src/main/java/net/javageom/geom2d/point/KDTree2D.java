@@ -25,7 +25,10 @@ import net.javageom.geom2d.line.StraightLine2D;
  * The cost for building the tree is O(n log^2 n), that can take some time for
  * large points sets.<br>
  * This implementation is semi-dynamic: points can be added, but can not be
- * removed.
+ * removed. See {@link DynamicKDTree2D} for a fully dynamic tree.<br>
+ * Queries do not modify the tree, and can be called concurrently as long as
+ * no point is added. {@link PackedKDTree2D} provides an immutable tree that
+ * can be shared between threads.
  * @author dlegland
  *
  */
@@ -0,0 +1,697 @@
+/**
+ * File: 	PackedKDTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+
+/**
+ * A static KD-tree that stores point coordinates within primitive arrays,
+ * without creating any node object.<p>
+ *
+ * The tree is implicit: the sub-tree corresponding to the range of indices
+ * [lo, hi) has its root at the median index (lo+hi)/2, the left sub-tree in
+ * [lo, mid), and the right sub-tree in [mid+1, hi). Splitting coordinate
+ * alternates between x (even depth) and y (odd depth), and ties are broken
+ * using the other coordinate, as in {@link KDTree2D}.<p>
+ *
+ * The tree is built by median selection on each range, resulting in an
+ * expected cost of O(n log n). The memory footprint is two doubles and one
+ * int per point. Queries can return either points, or the indices of the
+ * points within the collection used for creating the tree.<p>
+ *
+ * Queries that may return many points can also send their results to a
+ * {@link Visitor}, or into arrays provided by the caller, so that repeated
+ * queries do not allocate memory.<p>
+ *
+ * Trees are immutable once created, and queries do not modify any state.
+ * Therefore a tree can be shared by several threads without
+ * synchronization. Construction can be parallelized by providing a
+ * {@link ForkJoinPool}: the sub-trees on each side of a median are built as
+ * separate tasks.
+ *
+ * @see KDTree2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PackedKDTree2D {
+
+	// ===================================================================
+	// Inner interface
+
+	/**
+	 * Receives the points found by a query on the tree, without the need to
+	 * allocate a collection for storing the result.
+	 */
+	public interface Visitor {
+		/**
+		 * Called for each point found by the query.
+		 *
+		 * @param index
+		 *            the index of the point within the collection used for
+		 *            creating the tree
+		 * @param x
+		 *            the x-coordinate of the point
+		 * @param y
+		 *            the y-coordinate of the point
+		 */
+		public void visit(int index, double x, double y);
+	}
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The size of the ranges below which sub-trees are built sequentially
+	 * during a parallel construction.
+	 */
+	private final static int PARALLEL_THRESHOLD = 8192;
+
+	// ===================================================================
+	// Class variables
+
+	/** The x-coordinates of the points, in tree order */
+	private final double[] xs;
+
+	/** The y-coordinates of the points, in tree order */
+	private final double[] ys;
+
+	/** The index of each point within the original collection */
+	private final int[] indices;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new tree from a collection of points.
+	 */
+	public PackedKDTree2D(Collection<? extends Point2D> points) {
+		this(points, null);
+	}
+
+	/**
+	 * Creates a new tree from a collection of points, using the given pool
+	 * for building sub-trees in parallel. If the pool is null, the tree is
+	 * built sequentially.
+	 */
+	public PackedKDTree2D(Collection<? extends Point2D> points,
+			ForkJoinPool pool) {
+		int n = points.size();
+		this.xs = new double[n];
+		this.ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			this.xs[i] = point.x();
+			this.ys[i] = point.y();
+			i++;
+		}
+		this.indices = createIndices(n);
+		build(pool);
+	}
+
+	/**
+	 * Creates a new tree from two arrays of coordinates. The arrays are
+	 * copied, and are not modified.
+	 */
+	public PackedKDTree2D(double[] xs, double[] ys) {
+		this(xs, ys, null);
+	}
+
+	/**
+	 * Creates a new tree from two arrays of coordinates, using the given pool
+	 * for building sub-trees in parallel. If the pool is null, the tree is
+	 * built sequentially. The arrays are copied, and are not modified.
+	 */
+	public PackedKDTree2D(double[] xs, double[] ys, ForkJoinPool pool) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.xs = xs.clone();
+		this.ys = ys.clone();
+		this.indices = createIndices(xs.length);
+		build(pool);
+	}
+
+	private static int[] createIndices(int n) {
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++)
+			indices[i] = i;
+		return indices;
+	}
+
+	// ===================================================================
+	// Construction of the tree
+
+	private void build(ForkJoinPool pool) {
+		int n = xs.length;
+		if (pool == null || n <= PARALLEL_THRESHOLD)
+			build(0, n, 0);
+		else
+			pool.invoke(new BuildTask(0, n, 0));
+	}
+
+	/**
+	 * Builds the sub-tree corresponding to a range of indices, by splitting
+	 * it into two tasks after the selection of the median.
+	 */
+	private class BuildTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int lo;
+		private final int hi;
+		private final int depth;
+
+		private BuildTask(int lo, int hi, int depth) {
+			this.lo = lo;
+			this.hi = hi;
+			this.depth = depth;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo <= PARALLEL_THRESHOLD) {
+				build(lo, hi, depth);
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			select(lo, hi - 1, mid, depth % 2);
+			invokeAll(new BuildTask(lo, mid, depth + 1),
+					new BuildTask(mid + 1, hi, depth + 1));
+		}
+	}
+
+	/**
+	 * Recursively reorders the points in the range [lo, hi), such that the
+	 * median point is located at the middle of the range.
+	 */
+	private void build(int lo, int hi, int depth) {
+		while (hi - lo > 1) {
+			int mid = (lo + hi) >>> 1;
+			int dim = depth % 2;
+			select(lo, hi - 1, mid, dim);
+			build(lo, mid, depth + 1);
+
+			// iterate on right sub-tree, to limit recursion depth
+			lo = mid + 1;
+			depth++;
+		}
+	}
+
+	/**
+	 * Reorders the points between left and right (inclusive) such that the
+	 * point at index k is the one that would be at this position if the
+	 * range was sorted along dimension dim (nth_element algorithm). A
+	 * three-way partition is used to keep the linear cost when many points
+	 * are duplicated.
+	 */
+	private void select(int left, int right, int k, int dim) {
+		while (right > left) {
+			// choose pivot as median of three
+			int mid = (left + right) >>> 1;
+			if (compare(mid, left, dim) < 0)
+				swap(mid, left);
+			if (compare(right, left, dim) < 0)
+				swap(right, left);
+			if (compare(right, mid, dim) < 0)
+				swap(right, mid);
+			double px = xs[mid];
+			double py = ys[mid];
+
+			// partition into points lower than, equal to, and greater than
+			// the pivot
+			int lt = left, i = left, gt = right;
+			while (i <= gt) {
+				int res = compare(xs[i], ys[i], px, py, dim);
+				if (res < 0)
+					swap(lt++, i++);
+				else if (res > 0)
+					swap(i, gt--);
+				else
+					i++;
+			}
+
+			// continue with the part that contains the k-th element
+			if (k < lt)
+				right = lt - 1;
+			else if (k > gt)
+				left = gt + 1;
+			else
+				return;
+		}
+	}
+
+	/**
+	 * Compares two points stored in the arrays along the given dimension,
+	 * using the other coordinate to break ties.
+	 */
+	private int compare(int i, int j, int dim) {
+		return compare(xs[i], ys[i], xs[j], ys[j], dim);
+	}
+
+	/**
+	 * Compares the point (x, y) with the point stored at index i, along the
+	 * given dimension.
+	 */
+	private int compare(double x, double y, int i, int dim) {
+		return compare(x, y, xs[i], ys[i], dim);
+	}
+
+	/**
+	 * Compares the points (x1, y1) and (x2, y2) along the given dimension,
+	 * using the other coordinate to break ties.
+	 */
+	private static int compare(double x1, double y1, double x2, double y2,
+			int dim) {
+		if (dim == 0) {
+			int res = Double.compare(x1, x2);
+			return res != 0 ? res : Double.compare(y1, y2);
+		} else {
+			int res = Double.compare(y1, y2);
+			return res != 0 ? res : Double.compare(x1, x2);
+		}
+	}
+
+	private void swap(int i, int j) {
+		double tmp = xs[i];
+		xs[i] = xs[j];
+		xs[j] = tmp;
+		tmp = ys[i];
+		ys[i] = ys[j];
+		ys[j] = tmp;
+		int ind = indices[i];
+		indices[i] = indices[j];
+		indices[j] = ind;
+	}
+
+	// ===================================================================
+	// General methods
+
+	/**
+	 * Returns the number of points stored in the tree.
+	 */
+	public int size() {
+		return xs.length;
+	}
+
+	// ===================================================================
+	// Queries
+
+	/**
+	 * Checks if the tree contains a point with the same coordinates as the
+	 * given point.
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Checks if the tree contains a point with the given coordinates.
+	 */
+	public boolean contains(double x, double y) {
+		int lo = 0, hi = xs.length, depth = 0;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int res = compare(x, y, mid, depth % 2);
+			if (res == 0)
+				return true;
+			if (res < 0)
+				hi = mid;
+			else
+				lo = mid + 1;
+			depth++;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the points located within the given range. As for
+	 * {@link KDTree2D#rangeSearch(Box2D)}, points on the lower bounds of the
+	 * box are not included.
+	 */
+	public Collection<Point2D> rangeSearch(Box2D range) {
+		final ArrayList<Point2D> points = new ArrayList<Point2D>();
+		rangeSearch(range, new Visitor() {
+			public void visit(int index, double x, double y) {
+				points.add(new Point2D(x, y));
+			}
+		});
+		return points;
+	}
+
+	/**
+	 * Sends the points located within the given range to the visitor. Points
+	 * on the lower bounds of the box are not included.
+	 */
+	public void rangeSearch(Box2D range, Visitor visitor) {
+		rangeSearch(range.getMinX(), range.getMaxX(), range.getMinY(),
+				range.getMaxY(), visitor, 0, xs.length, 0);
+	}
+
+	private void rangeSearch(double xmin, double xmax, double ymin,
+			double ymax, Visitor visitor, int lo, int hi, int depth) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double x = xs[mid];
+			double y = ys[mid];
+			if (xmin < x && x <= xmax && ymin < y && y <= ymax)
+				visitor.visit(indices[mid], x, y);
+
+			// the coordinate of the median along the splitting direction
+			boolean even = depth % 2 == 0;
+			double min = even ? xmin : ymin;
+			double max = even ? xmax : ymax;
+			double value = even ? x : y;
+
+			// points on the left have a lower or equal coordinate
+			if (min <= value)
+				rangeSearch(xmin, xmax, ymin, ymax, visitor, lo, mid, depth + 1);
+
+			// points on the right have a greater or equal coordinate
+			if (max < value)
+				return;
+			lo = mid + 1;
+			depth++;
+		}
+	}
+
+	/**
+	 * Returns the point of the tree closest to the given point, or null if
+	 * the tree is empty.
+	 */
+	public Point2D nearestNeighbor(Point2D point) {
+		int pos = nearestPosition(point.x(), point.y());
+		if (pos < 0)
+			return null;
+		return new Point2D(xs[pos], ys[pos]);
+	}
+
+	/**
+	 * Returns the index, within the collection used to create the tree, of
+	 * the point closest to the given coordinates. Returns -1 if the tree is
+	 * empty.
+	 */
+	public int nearestNeighborIndex(double x, double y) {
+		int pos = nearestPosition(x, y);
+		return pos < 0 ? -1 : indices[pos];
+	}
+
+	/**
+	 * Returns the position within the arrays of the closest point.
+	 */
+	private int nearestPosition(double x, double y) {
+		if (xs.length == 0)
+			return -1;
+		return nearest(x, y, 0, xs.length, 0, -1);
+	}
+
+	/**
+	 * Returns either the same position as the candidate, or the position of a
+	 * closer point within the range [lo, hi).
+	 */
+	private int nearest(double x, double y, int lo, int hi, int depth,
+			int candidate) {
+		if (lo >= hi)
+			return candidate;
+
+		int mid = (lo + hi) >>> 1;
+		if (candidate < 0 || sqDist(mid, x, y) < sqDist(candidate, x, y))
+			candidate = mid;
+
+		// signed distance to the splitting line
+		double diff = depth % 2 == 0 ? x - xs[mid] : y - ys[mid];
+
+		// first search the side of the point, then the other side if the
+		// splitting line is close enough
+		if (diff < 0) {
+			candidate = nearest(x, y, lo, mid, depth + 1, candidate);
+			if (diff * diff < sqDist(candidate, x, y))
+				candidate = nearest(x, y, mid + 1, hi, depth + 1, candidate);
+		} else {
+			candidate = nearest(x, y, mid + 1, hi, depth + 1, candidate);
+			if (diff * diff < sqDist(candidate, x, y))
+				candidate = nearest(x, y, lo, mid, depth + 1, candidate);
+		}
+		return candidate;
+	}
+
+	/**
+	 * Returns the k points of the tree closest to the given point, ordered by
+	 * increasing distance. If the tree contains less than k points, all the
+	 * points are returned.
+	 */
+	public Collection<Point2D> kNearest(Point2D point, int k) {
+		int[] positions = new int[k];
+		int n = nearestPositions(point.x(), point.y(), k,
+				Double.POSITIVE_INFINITY, positions, new double[k]);
+
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			points.add(new Point2D(xs[positions[i]], ys[positions[i]]));
+		return points;
+	}
+
+	/**
+	 * Computes the k points of the tree closest to the given coordinates. The
+	 * indices of the points, and their distances to the query point, are
+	 * stored in the arrays given as argument, ordered by increasing distance.
+	 * The arrays are used as a bounded priority queue during the search, so
+	 * that no memory is allocated.
+	 *
+	 * @param x
+	 *            the x-coordinate of the query point
+	 * @param y
+	 *            the y-coordinate of the query point
+	 * @param k
+	 *            the maximum number of points to find
+	 * @param indices
+	 *            the array that will contain the indices of the closest points
+	 *            within the collection used for creating the tree
+	 * @param distances
+	 *            the array that will contain the distances of the closest
+	 *            points to the query point
+	 * @return the number of points found, which is the minimum of k and the
+	 *         number of points in the tree
+	 * @throws IllegalArgumentException
+	 *             if one of the arrays has less than k elements
+	 */
+	public int kNearest(double x, double y, int k, int[] indices,
+			double[] distances) {
+		return kNearest(x, y, k, Double.POSITIVE_INFINITY, indices, distances);
+	}
+
+	/**
+	 * Computes at most k points of the tree closest to the given coordinates,
+	 * and whose distance to the query point is lower than or equal to
+	 * maxDist. Results are stored in the arrays given as argument, ordered by
+	 * increasing distance, as for {@link #kNearest(double, double, int, int[],
+	 * double[])}.
+	 *
+	 * @return the number of points found
+	 * @throws IllegalArgumentException
+	 *             if one of the arrays has less than k elements
+	 */
+	public int kNearest(double x, double y, int k, double maxDist,
+			int[] indices, double[] distances) {
+		if (indices.length < k || distances.length < k)
+			throw new IllegalArgumentException(
+					"Result arrays must contain at least k elements");
+		int n = nearestPositions(x, y, k, maxDist, indices, distances);
+
+		// convert positions into indices, and keys into distances
+		for (int i = 0; i < n; i++) {
+			indices[i] = this.indices[indices[i]];
+			distances[i] = Math.sqrt(distances[i]);
+		}
+		return n;
+	}
+
+	/**
+	 * Stores the positions within the tree of the k closest points in the
+	 * heap array, and their squared distances in the keys array, ordered by
+	 * increasing distance.
+	 */
+	private int nearestPositions(double x, double y, int k, double maxDist,
+			int[] heap, double[] keys) {
+		if (k <= 0)
+			return 0;
+		int n = kNearest(x, y, k, maxDist * maxDist, heap, keys,
+				0, xs.length, 0, 0);
+
+		// sort the heap by increasing distance
+		for (int end = n - 1; end > 0; end--) {
+			swapHeap(heap, keys, 0, end);
+			siftDown(heap, keys, 0, end);
+		}
+		return n;
+	}
+
+	/**
+	 * Searches the k closest points within the range [lo, hi). The heap is a
+	 * max-heap on squared distances, containing the tree positions of the
+	 * current candidates. Returns the new number of elements in the heap.
+	 */
+	private int kNearest(double x, double y, int k, double maxSqDist,
+			int[] heap, double[] keys, int lo, int hi, int depth, int count) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double d2 = sqDist(mid, x, y);
+			if (count < k) {
+				if (d2 <= maxSqDist) {
+					// add the position at the end of the heap
+					heap[count] = mid;
+					keys[count] = d2;
+					siftUp(heap, keys, count);
+					count++;
+				}
+			} else if (d2 < keys[0]) {
+				// replace the farthest candidate
+				heap[0] = mid;
+				keys[0] = d2;
+				siftDown(heap, keys, 0, count);
+			}
+
+			// signed distance to the splitting line
+			double diff = depth % 2 == 0 ? x - xs[mid] : y - ys[mid];
+			int lo1 = diff < 0 ? lo : mid + 1;
+			int hi1 = diff < 0 ? mid : hi;
+			int lo2 = diff < 0 ? mid + 1 : lo;
+			int hi2 = diff < 0 ? hi : mid;
+
+			// search the side of the point first
+			count = kNearest(x, y, k, maxSqDist, heap, keys, lo1, hi1,
+					depth + 1, count);
+
+			// then the other side, if the splitting line is close enough
+			double bound = count < k ? maxSqDist : keys[0];
+			if (diff * diff > bound)
+				return count;
+			lo = lo2;
+			hi = hi2;
+			depth++;
+		}
+		return count;
+	}
+
+	private static void siftUp(int[] heap, double[] keys, int i) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (keys[parent] >= keys[i])
+				return;
+			swapHeap(heap, keys, parent, i);
+			i = parent;
+		}
+	}
+
+	private static void siftDown(int[] heap, double[] keys, int i, int n) {
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n)
+				return;
+			if (child + 1 < n && keys[child + 1] > keys[child])
+				child++;
+			if (keys[i] >= keys[child])
+				return;
+			swapHeap(heap, keys, i, child);
+			i = child;
+		}
+	}
+
+	private static void swapHeap(int[] heap, double[] keys, int i, int j) {
+		int tmp = heap[i];
+		heap[i] = heap[j];
+		heap[j] = tmp;
+		double key = keys[i];
+		keys[i] = keys[j];
+		keys[j] = key;
+	}
+
+	/**
+	 * Returns the points of the tree whose distance to the given point is
+	 * lower than or equal to the given radius.
+	 */
+	public Collection<Point2D> withinRadius(Point2D point, double radius) {
+		final ArrayList<Point2D> points = new ArrayList<Point2D>();
+		withinRadius(point.x(), point.y(), radius, new Visitor() {
+			public void visit(int index, double x, double y) {
+				points.add(new Point2D(x, y));
+			}
+		});
+		return points;
+	}
+
+	/**
+	 * Sends the points of the tree whose distance to the given coordinates is
+	 * lower than or equal to the given radius to the visitor.
+	 */
+	public void withinRadius(double x, double y, double radius,
+			Visitor visitor) {
+		withinRadius(x, y, radius * radius, visitor, null, 0,
+				0, xs.length, 0);
+	}
+
+	/**
+	 * Stores the indices of the points of the tree whose distance to the
+	 * given coordinates is lower than or equal to the given radius into the
+	 * buffer. The total number of points is returned, and can be greater
+	 * than the size of the buffer: in that case, only the first points are
+	 * stored, and the query can be repeated with a larger buffer.
+	 *
+	 * @return the number of points within the radius
+	 */
+	public int withinRadius(double x, double y, double radius, int[] buffer) {
+		return withinRadius(x, y, radius * radius, null, buffer, 0,
+				0, xs.length, 0);
+	}
+
+	/**
+	 * Sends the points within the range [lo, hi) to the visitor if it is not
+	 * null, or to the buffer otherwise. Returns the updated number of points.
+	 */
+	private int withinRadius(double x, double y, double sqRadius,
+			Visitor visitor, int[] buffer, int count, int lo, int hi,
+			int depth) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (sqDist(mid, x, y) <= sqRadius) {
+				if (visitor != null)
+					visitor.visit(indices[mid], xs[mid], ys[mid]);
+				else if (count < buffer.length)
+					buffer[count] = indices[mid];
+				count++;
+			}
+
+			// signed distance to the splitting line
+			double diff = depth % 2 == 0 ? x - xs[mid] : y - ys[mid];
+			boolean closeEnough = diff * diff <= sqRadius;
+
+			// points on the left have a lower or equal coordinate
+			if (diff <= 0 || closeEnough)
+				count = withinRadius(x, y, sqRadius, visitor, buffer, count,
+						lo, mid, depth + 1);
+
+			// points on the right have a greater or equal coordinate
+			if (diff < 0 && !closeEnough)
+				return count;
+			lo = mid + 1;
+			depth++;
+		}
+		return count;
+	}
+
+	private double sqDist(int i, double x, double y) {
+		double dx = xs[i] - x;
+		double dy = ys[i] - y;
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,998 @@
+/**
+ * File: 	BooleanSweep2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Computes boolean operations on polygons, using the sweep line algorithm of
+ * Martinez, Rueda and Feito ("A simple algorithm for Boolean operations on
+ * polygons", Advances in Engineering Software, 2013).<p>
+ *
+ * The edges of the two polygons are processed from left to right. A sweep
+ * line keeps the edges crossing the current abscissa, sorted from bottom to
+ * top. When an edge is inserted, it is tested for intersection with its
+ * neighbours in the sweep line, and edges are subdivided at intersection
+ * points. The position of each edge with respect to both polygons is deduced
+ * from the edge just below it, which allows to select the edges of the
+ * result without any point in polygon test. Selected edges are oriented such
+ * that the result is on their left, and are connected into rings. The cost is
+ * O((n+k) log n), where n is the number of edges and k the number of
+ * intersections.<p>
+ *
+ * Polygons are processed using the even-odd rule on their rings, so holes of
+ * instances of MultiPolygon2D are handled whatever their orientation.
+ * Overlapping edges are subdivided such that they share their endpoints, and
+ * are kept in the result only if they separate the inside from the outside
+ * of the result. Intersection points closer to an endpoint than a small
+ * tolerance relative to the coordinates are snapped to this endpoint, and
+ * vertices closer to an edge than this tolerance are snapped onto the edge. In the
+ * result, outer rings are counter-clockwise and holes are clockwise, and
+ * collinear consecutive vertices are removed. A result with a single ring is
+ * returned as a SimplePolygon2D, other results as a MultiPolygon2D. Rings of
+ * the result use packed coordinate storage.
+ *
+ * @see Polygons2D#union(Polygon2D, Polygon2D)
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class BooleanSweep2D {
+
+	// ===================================================================
+	// Constants
+
+	private final static int UNION = 0;
+	private final static int INTERSECTION = 1;
+	private final static int DIFFERENCE = 2;
+	private final static int EXCLUSIVE_OR = 3;
+
+	/**
+	 * Relative tolerance for snapping intersection points to the endpoints
+	 * of edges
+	 */
+	private final static double SNAP_TOLERANCE = 1e-10;
+
+	/**
+	 * Tolerance on the squared sine of the angle between edges, below which
+	 * edges are considered as parallel
+	 */
+	private final static double PARALLEL_TOLERANCE = 1e-20;
+
+	// ===================================================================
+	// Static methods
+
+	/**
+	 * Computes the union of the two polygons.
+	 */
+	public static Polygon2D union(Polygon2D polygon1, Polygon2D polygon2) {
+		return new BooleanSweep2D(polygon1, polygon2, UNION).compute();
+	}
+
+	/**
+	 * Computes the intersection of the two polygons.
+	 */
+	public static Polygon2D intersection(Polygon2D polygon1,
+			Polygon2D polygon2) {
+		return new BooleanSweep2D(polygon1, polygon2, INTERSECTION).compute();
+	}
+
+	/**
+	 * Computes the difference of the two polygons, that is the part of the
+	 * first polygon which is not within the second one.
+	 */
+	public static Polygon2D difference(Polygon2D polygon1,
+			Polygon2D polygon2) {
+		return new BooleanSweep2D(polygon1, polygon2, DIFFERENCE).compute();
+	}
+
+	/**
+	 * Computes the exclusive or of the two polygons, that is the part of the
+	 * plane which is within exactly one of the polygons.
+	 */
+	public static Polygon2D exclusiveOr(Polygon2D polygon1,
+			Polygon2D polygon2) {
+		return new BooleanSweep2D(polygon1, polygon2, EXCLUSIVE_OR).compute();
+	}
+
+	// ===================================================================
+	// Class variables
+
+	/** The type of boolean operation */
+	private final int operation;
+
+	/** The queue of events, sorted from left to right */
+	private final PriorityQueue<Event> queue =
+			new PriorityQueue<Event>(11, new EventComparator());
+
+	/** The left events processed by the sweep */
+	private final ArrayList<Event> processed = new ArrayList<Event>();
+
+	/** The bounds of the subject and the clipping polygons */
+	private double[] subjectBounds;
+	private double[] clippingBounds;
+
+	/** The number of created events, used for sorting identical events */
+	private int eventNumber = 0;
+
+	/** The number of contours, used for identifying contours */
+	private int contourNumber = 0;
+
+	/** Buffer for the coordinates of intersection points */
+	private final double[] intersection = new double[2];
+
+	// ===================================================================
+	// Constructor
+
+	private BooleanSweep2D(Polygon2D subject, Polygon2D clipping,
+			int operation) {
+		this.operation = operation;
+		this.subjectBounds = addEdges(subject, true);
+		this.clippingBounds = addEdges(clipping, false);
+	}
+
+	/**
+	 * Creates the events of the edges of each contour of the polygon, and
+	 * returns the bounds of the polygon as (xmin, xmax, ymin, ymax).
+	 */
+	private double[] addEdges(Polygon2D polygon, boolean subject) {
+		double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+				Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+				Double.NEGATIVE_INFINITY};
+		for (LinearRing2D ring : polygon.contours()) {
+			double[][] coords = Polylines2D.coordinates(ring.vertices);
+			double[] xs = coords[0], ys = coords[1];
+			int n = ring.vertices.size();
+			int contour = contourNumber++;
+			for (int i = 0; i < n; i++) {
+				int i2 = i + 1 == n ? 0 : i + 1;
+				bounds[0] = Math.min(bounds[0], xs[i]);
+				bounds[1] = Math.max(bounds[1], xs[i]);
+				bounds[2] = Math.min(bounds[2], ys[i]);
+				bounds[3] = Math.max(bounds[3], ys[i]);
+
+				// skip degenerate edges
+				if (xs[i] == xs[i2] && ys[i] == ys[i2])
+					continue;
+
+				Event e1 = new Event(xs[i], ys[i], subject, contour);
+				Event e2 = new Event(xs[i2], ys[i2], subject, contour);
+				e1.other = e2;
+				e2.other = e1;
+				if (compareEvents(e1, e2) < 0)
+					e2.left = false;
+				else
+					e1.left = false;
+				queue.add(e1);
+				queue.add(e2);
+			}
+		}
+		return bounds;
+	}
+
+	// ===================================================================
+	// Computation of the result
+
+	private Polygon2D compute() {
+		// the intersection of polygons with disjoint bounds is empty
+		if (operation == INTERSECTION && (subjectBounds[0] > clippingBounds[1]
+				|| clippingBounds[0] > subjectBounds[1]
+				|| subjectBounds[2] > clippingBounds[3]
+				|| clippingBounds[2] > subjectBounds[3]))
+			return new MultiPolygon2D();
+
+		sweep();
+		return connectEdges();
+	}
+
+	/**
+	 * Processes the events from left to right, subdividing the edges at
+	 * their intersections, and computing the position of each edge with
+	 * respect to the two polygons.
+	 */
+	private void sweep() {
+		TreeSet<Event> sweepLine = new TreeSet<Event>(new SegmentComparator());
+
+		// edges on the right of this bound do not contribute to the result
+		double rightBound = Double.POSITIVE_INFINITY;
+		if (operation == INTERSECTION)
+			rightBound = Math.min(subjectBounds[1], clippingBounds[1]);
+		else if (operation == DIFFERENCE)
+			rightBound = subjectBounds[1];
+
+		while (!queue.isEmpty()) {
+			Event event = queue.poll();
+			if (event.x > rightBound)
+				break;
+
+			if (event.left) {
+				sweepLine.add(event);
+				Event prev = sweepLine.lower(event);
+				Event next = sweepLine.higher(event);
+
+				// if the event lies within a neighbour edge, split the edge,
+				// and process the event again after the new events
+				if (splitAt(prev, event) | splitAt(next, event)) {
+					sweepLine.remove(event);
+					queue.add(event);
+					continue;
+				}
+
+				processed.add(event);
+				computeFields(event, prev);
+				if (next != null && possibleIntersection(event, next) == 2) {
+					computeFields(event, prev);
+					computeFields(next, event);
+				}
+				if (prev != null && possibleIntersection(prev, event) == 2) {
+					computeFields(prev, sweepLine.lower(prev));
+					computeFields(event, prev);
+				}
+			} else {
+				Event left = event.other;
+				Event prev = sweepLine.lower(left);
+				Event next = sweepLine.higher(left);
+				if (!sweepLine.remove(left)) {
+					// edge not found because of rounding errors
+					Event[] neighbours = removeEdge(sweepLine, left);
+					if (neighbours == null)
+						continue;
+					prev = neighbours[0];
+					next = neighbours[1];
+				}
+				if (prev != null && next != null)
+					possibleIntersection(prev, next);
+			}
+		}
+	}
+
+	/**
+	 * Subdivides the edge of the left event <code>se</code> if the point of
+	 * the event lies in its interior, up to the snapping tolerance, and
+	 * returns true if it was subdivided. This snaps the vertices that lie
+	 * very close to an edge onto this edge.
+	 */
+	private boolean splitAt(Event se, Event event) {
+		if (se == null || isEndpoint(se, event.x, event.y)
+				|| !isOnEdge(se, event.x, event.y))
+			return false;
+		divideSegment(se, event.x, event.y);
+		return true;
+	}
+
+	/**
+	 * Removes the edge from the sweep line by scanning all the edges, and
+	 * returns the edges below and above it, or null if the edge was not
+	 * found.
+	 */
+	private static Event[] removeEdge(TreeSet<Event> sweepLine, Event edge) {
+		Event prev = null;
+		Iterator<Event> iter = sweepLine.iterator();
+		while (iter.hasNext()) {
+			Event current = iter.next();
+			if (current == edge) {
+				iter.remove();
+				Event next = iter.hasNext() ? iter.next() : null;
+				return new Event[] {prev, next};
+			}
+			prev = current;
+		}
+		return null;
+	}
+
+	/**
+	 * Computes the transitions of the edge with respect to its polygon and to
+	 * the other polygon, from the edge just below it in the sweep line.
+	 */
+	private static void computeFields(Event event, Event prev) {
+		if (prev == null) {
+			event.inOut = false;
+			event.otherInOut = true;
+		} else if (event.subject == prev.subject) {
+			event.inOut = !prev.inOut;
+			event.otherInOut = prev.otherInOut;
+		} else {
+			event.inOut = !prev.otherInOut;
+			event.otherInOut = prev.isVertical() ? !prev.inOut : prev.inOut;
+		}
+	}
+
+	/**
+	 * Checks if the edges of two events intersect, and subdivides them if
+	 * necessary. Returns 0 if edges do not intersect, 1 if they intersect at
+	 * a single point, 2 if they overlap and share their left point, and 3 if
+	 * they overlap otherwise.
+	 */
+	private int possibleIntersection(Event se1, Event se2) {
+		int n = intersect(se1, se2);
+		if (n == 0)
+			return 0;
+
+		if (n == 1) {
+			// nothing to do if edges intersect at an endpoint of both edges
+			double x = intersection[0], y = intersection[1];
+			if (isEndpoint(se1, x, y) && isEndpoint(se2, x, y))
+				return 0;
+			if (!isEndpoint(se1, x, y))
+				divideSegment(se1, x, y);
+			if (!isEndpoint(se2, x, y))
+				divideSegment(se2, x, y);
+			return 1;
+		}
+
+		// the edges overlap: sort the four events
+		Event[] events = new Event[4];
+		int k = 0;
+		boolean leftCoincide = samePoint(se1, se2);
+		boolean rightCoincide = samePoint(se1.other, se2.other);
+		if (!leftCoincide) {
+			if (compareEvents(se1, se2) > 0) {
+				events[k++] = se2;
+				events[k++] = se1;
+			} else {
+				events[k++] = se1;
+				events[k++] = se2;
+			}
+		}
+		if (!rightCoincide) {
+			if (compareEvents(se1.other, se2.other) > 0) {
+				events[k++] = se2.other;
+				events[k++] = se1.other;
+			} else {
+				events[k++] = se1.other;
+				events[k++] = se2.other;
+			}
+		}
+
+		if (leftCoincide) {
+			// the edges are equal or share the left point
+			if (!rightCoincide)
+				divideSegment(events[1].other, events[0].x, events[0].y);
+			return 2;
+		}
+
+		if (rightCoincide) {
+			// the edges share the right point
+			divideSegment(events[0], events[1].x, events[1].y);
+			return 3;
+		}
+
+		if (events[0] != events[3].other) {
+			// no edge contains the other one
+			divideSegment(events[0], events[1].x, events[1].y);
+			divideSegment(events[1], events[2].x, events[2].y);
+			return 3;
+		}
+
+		// one edge contains the other one
+		divideSegment(events[0], events[1].x, events[1].y);
+		divideSegment(events[3].other, events[2].x, events[2].y);
+		return 3;
+	}
+
+	/**
+	 * Subdivides the edge of the given left event at the point (x, y).
+	 */
+	private void divideSegment(Event se, double x, double y) {
+		if (isEndpoint(se, x, y))
+			return;
+
+		Event right = new Event(x, y, se.subject, se.contour);
+		right.left = false;
+		right.other = se;
+		Event left = new Event(x, y, se.subject, se.contour);
+		left.other = se.other;
+
+		// avoid that the left event is processed after the right event
+		if (compareEvents(left, se.other) > 0) {
+			queue.remove(se.other);
+			se.other.left = true;
+			queue.add(se.other);
+			left.left = false;
+		}
+
+		se.other.other = left;
+		se.other = right;
+		queue.add(left);
+		queue.add(right);
+	}
+
+	/**
+	 * Computes the intersection of the edges of two left events. Returns 0 if
+	 * the edges do not intersect, 1 if they intersect at a single point, whose
+	 * coordinates are stored in the intersection array, and 2 if they
+	 * overlap.
+	 */
+	private int intersect(Event se1, Event se2) {
+		double ax1 = se1.x, ay1 = se1.y;
+		double ax2 = se1.other.x, ay2 = se1.other.y;
+		double bx1 = se2.x, by1 = se2.y;
+		double bx2 = se2.other.x, by2 = se2.other.y;
+		double vax = ax2 - ax1, vay = ay2 - ay1;
+		double vbx = bx2 - bx1, vby = by2 - by1;
+		double ex = bx1 - ax1, ey = by1 - ay1;
+
+		double sqLenA = vax * vax + vay * vay;
+		double sqLenB = vbx * vbx + vby * vby;
+		double cross = vax * vby - vay * vbx;
+		if (cross * cross > PARALLEL_TOLERANCE * sqLenA * sqLenB) {
+			// non parallel edges
+			double s = (ex * vby - ey * vbx) / cross;
+			if (s < 0 || s > 1)
+				return 0;
+			double t = (ex * vay - ey * vax) / cross;
+			if (t < 0 || t > 1)
+				return 0;
+			if (s == 0)
+				setIntersection(ax1, ay1);
+			else if (s == 1)
+				setIntersection(ax2, ay2);
+			else if (t == 0)
+				setIntersection(bx1, by1);
+			else if (t == 1)
+				setIntersection(bx2, by2);
+			else if (isBefore(se1, se2))
+				// compute the point on the last edge, such that it is not
+				// before the left point of both edges
+				snapIntersection(bx1 + t * vbx, by1 + t * vby, se1, se2);
+			else
+				snapIntersection(ax1 + s * vax, ay1 + s * vay, se1, se2);
+
+			// check the point is within both edges, despite rounding errors
+			double x = intersection[0], y = intersection[1];
+			return isInBounds(se1, x, y) && isInBounds(se2, x, y) ? 1 : 0;
+		}
+
+		// parallel edges that are not on the same line
+		double crossE = ex * vay - ey * vax;
+		if (crossE * crossE > PARALLEL_TOLERANCE * sqLenA * (ex * ex + ey * ey))
+			return 0;
+
+		// collinear edges
+		double sa = (vax * ex + vay * ey) / sqLenA;
+		double sb = sa + (vax * vbx + vay * vby) / sqLenA;
+		double smin = Math.min(sa, sb);
+		double smax = Math.max(sa, sb);
+		if (smin > 1 || smax < 0)
+			return 0;
+		if (smin == 1) {
+			setIntersection(ax2, ay2);
+			return 1;
+		}
+		if (smax == 0) {
+			setIntersection(ax1, ay1);
+			return 1;
+		}
+		return 2;
+	}
+
+	private void setIntersection(double x, double y) {
+		intersection[0] = x;
+		intersection[1] = y;
+	}
+
+	/**
+	 * Stores the intersection point, replaced by the closest endpoint of the
+	 * edges if it is within the snapping tolerance. This avoids creating very
+	 * small edges because of rounding errors, that would intersect other
+	 * edges again. Endpoints located before the left point of one of the
+	 * edges have already been processed by the sweep, and are not used.
+	 */
+	private void snapIntersection(double x, double y, Event se1, Event se2) {
+		Event last = isBefore(se1, se2) ? se2 : se1;
+		double minDist = Double.POSITIVE_INFINITY;
+		setIntersection(x, y);
+		for (int i = 0; i < 4; i++) {
+			Event e = i < 2 ? se1 : se2;
+			if (i % 2 == 1)
+				e = e.other;
+			if (isBefore(e, last) || !isClose(e.x, e.y, x, y))
+				continue;
+			double dx = e.x - x, dy = e.y - y;
+			double dist = dx * dx + dy * dy;
+			if (dist < minDist) {
+				minDist = dist;
+				setIntersection(e.x, e.y);
+			}
+		}
+	}
+
+	/**
+	 * Returns the snapping tolerance for points around (x, y), relative to
+	 * the magnitude of the coordinates.
+	 */
+	private static double tolerance(double x, double y) {
+		return SNAP_TOLERANCE * Math.max(Math.abs(x), Math.abs(y));
+	}
+
+	/**
+	 * Checks if two points are within the snapping tolerance.
+	 */
+	private static boolean isClose(double x1, double y1, double x2,
+			double y2) {
+		double tol = tolerance(x2, y2);
+		return Math.abs(x1 - x2) <= tol && Math.abs(y1 - y2) <= tol;
+	}
+
+	/**
+	 * Checks if the point is within the bounding box of the edge of the
+	 * event, up to the snapping tolerance.
+	 */
+	private static boolean isInBounds(Event e, double x, double y) {
+		double tol = tolerance(x, y);
+		return x >= Math.min(e.x, e.other.x) - tol
+				&& x <= Math.max(e.x, e.other.x) + tol
+				&& y >= Math.min(e.y, e.other.y) - tol
+				&& y <= Math.max(e.y, e.other.y) + tol;
+	}
+
+	/**
+	 * Checks if the point is within the snapping tolerance of the edge of the
+	 * event.
+	 */
+	private static boolean isOnEdge(Event e, double x, double y) {
+		if (!isInBounds(e, x, y))
+			return false;
+		double vx = e.other.x - e.x, vy = e.other.y - e.y;
+		double cross = (x - e.x) * vy - (y - e.y) * vx;
+		double tol = tolerance(x, y);
+		return cross * cross <= tol * tol * (vx * vx + vy * vy);
+	}
+
+	/**
+	 * Checks if the point of the first event is before the point of the
+	 * second one, in the order of the sweep.
+	 */
+	private static boolean isBefore(Event e1, Event e2) {
+		return e1.x < e2.x || (e1.x == e2.x && e1.y < e2.y);
+	}
+
+	// The following tests compare points exactly: points within the
+	// snapping tolerance have been given the same coordinates by splitAt()
+	// and snapIntersection(), except the points already passed by the sweep,
+	// which must not be considered as identical.
+
+	private static boolean isCoincident(Event e1, Event e2) {
+		return samePoint(e1, e2) && samePoint(e1.other, e2.other);
+	}
+
+	private static boolean samePoint(Event e1, Event e2) {
+		return e1.x == e2.x && e1.y == e2.y;
+	}
+
+	private static boolean isEndpoint(Event e, double x, double y) {
+		return (e.x == x && e.y == y) || (e.other.x == x && e.other.y == y);
+	}
+
+	// ===================================================================
+	// Selection and connection of the edges of the result
+
+	/**
+	 * Checks if a point belongs to the result, from its position with respect
+	 * to the subject and the clipping polygons.
+	 */
+	private boolean inResult(boolean inSubject, boolean inClipping) {
+		switch (operation) {
+		case UNION:
+			return inSubject || inClipping;
+		case INTERSECTION:
+			return inSubject && inClipping;
+		case DIFFERENCE:
+			return inSubject && !inClipping;
+		default:
+			return inSubject != inClipping;
+		}
+	}
+
+	/**
+	 * Orients the edges of the result such that the result is on their left,
+	 * and connects them into rings.
+	 */
+	private Polygon2D connectEdges() {
+		// sort edges such that coincident edges are consecutive
+		Collections.sort(processed, new EdgeComparator());
+
+		// collect the oriented edges of the result. Edges are processed by
+		// groups of coincident edges, and are kept if the regions on each
+		// side of the group are not both within or outside the result.
+		int n = processed.size();
+		double[] sx = new double[n], sy = new double[n];
+		double[] ex = new double[n], ey = new double[n];
+		int m = 0;
+		for (int i = 0; i < n; ) {
+			Event e = processed.get(i);
+			Event firstSubject = null, firstClipping = null;
+			int nSubject = 0, nClipping = 0;
+			int j = i;
+			for (; j < n && isCoincident(e, processed.get(j)); j++) {
+				Event e2 = processed.get(j);
+				if (e2.subject) {
+					if (nSubject++ == 0)
+						firstSubject = e2;
+				} else {
+					if (nClipping++ == 0)
+						firstClipping = e2;
+				}
+			}
+			i = j;
+
+			// position with respect to each polygon, below and above edges.
+			// For vertical edges, above means on the left of the edges.
+			boolean subjectBelow, subjectAbove, clippingBelow, clippingAbove;
+			if (firstSubject != null) {
+				subjectBelow = firstSubject.inOut;
+				subjectAbove = subjectBelow ^ (nSubject % 2 == 1);
+			} else {
+				subjectBelow = subjectAbove = !firstClipping.otherInOut;
+			}
+			if (firstClipping != null) {
+				clippingBelow = firstClipping.inOut;
+				clippingAbove = clippingBelow ^ (nClipping % 2 == 1);
+			} else {
+				clippingBelow = clippingAbove = !firstSubject.otherInOut;
+			}
+
+			boolean below = inResult(subjectBelow, clippingBelow);
+			boolean above = inResult(subjectAbove, clippingAbove);
+			if (below == above)
+				continue;
+
+			if (above) {
+				sx[m] = e.x;
+				sy[m] = e.y;
+				ex[m] = e.other.x;
+				ey[m] = e.other.y;
+			} else {
+				sx[m] = e.other.x;
+				sy[m] = e.other.y;
+				ex[m] = e.x;
+				ey[m] = e.y;
+			}
+			m++;
+		}
+
+		// sort edges by their first point
+		int[] order = new int[m];
+		for (int i = 0; i < m; i++)
+			order[i] = i;
+		sortIndices(order, new int[m], 0, m, sx, sy);
+		double[] ox = new double[m], oy = new double[m];
+		for (int i = 0; i < m; i++) {
+			ox[i] = sx[order[i]];
+			oy[i] = sy[order[i]];
+		}
+
+		// follow edges, turning left at vertices with several edges
+		boolean[] used = new boolean[m];
+		ArrayList<double[][]> rings = new ArrayList<double[][]>();
+		CoordinateList ring = new CoordinateList();
+		for (int start = 0; start < m; start++) {
+			if (used[start])
+				continue;
+			used[start] = true;
+			ring.clear();
+			int edge = order[start];
+			double x0 = sx[edge], y0 = sy[edge];
+			ring.add(x0, y0);
+			while (true) {
+				double x = ex[edge], y = ey[edge];
+				if (x == x0 && y == y0)
+					break;
+				ring.add(x, y);
+				int next = nextEdge(order, ox, oy, used, sx, sy, ex, ey, edge);
+				if (next < 0)
+					break;
+				used[next] = true;
+				edge = order[next];
+			}
+
+			ring.removeCollinearVertices();
+			if (ring.size >= 3)
+				rings.add(new double[][] {ring.xs(), ring.ys()});
+		}
+
+		if (rings.size() == 1)
+			return SimplePolygon2D.createPacked(rings.get(0)[0],
+					rings.get(0)[1]);
+		MultiPolygon2D result = new MultiPolygon2D(rings.size());
+		for (double[][] coords : rings)
+			result.addRing(LinearRing2D.createPacked(coords[0], coords[1]));
+		return result;
+	}
+
+	/**
+	 * Finds the position in sorted order of the unused edge starting at the
+	 * end of the given edge, that turns the most to the left. Returns -1 if
+	 * there is no such edge.
+	 */
+	private static int nextEdge(int[] order, double[] ox, double[] oy,
+			boolean[] used, double[] sx, double[] sy, double[] ex, double[] ey,
+			int edge) {
+		double x = ex[edge], y = ey[edge];
+
+		// binary search of the first edge starting at (x, y)
+		int lo = 0, hi = order.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (ox[mid] < x || (ox[mid] == x && oy[mid] < y))
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+
+		double dx = x - sx[edge], dy = y - sy[edge];
+		int best = -1;
+		double bestAngle = Double.NEGATIVE_INFINITY;
+		for (int i = lo; i < order.length && ox[i] == x && oy[i] == y; i++) {
+			if (used[i])
+				continue;
+			int e = order[i];
+			double dx2 = ex[e] - x, dy2 = ey[e] - y;
+			double angle = Math.atan2(dx * dy2 - dy * dx2, dx * dx2 + dy * dy2);
+			if (angle > bestAngle) {
+				best = i;
+				bestAngle = angle;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Sorts the indices in the range [from, to) by increasing x, then by
+	 * increasing y.
+	 */
+	private static void sortIndices(int[] indices, int[] buffer, int from,
+			int to, double[] xs, double[] ys) {
+		if (to - from < 2)
+			return;
+		int mid = (from + to) >>> 1;
+		sortIndices(indices, buffer, from, mid, xs, ys);
+		sortIndices(indices, buffer, mid, to, xs, ys);
+		if (!isLower(indices[mid], indices[mid - 1], xs, ys))
+			return;
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			if (isLower(buffer[j], buffer[i], xs, ys))
+				indices[k++] = buffer[j++];
+			else
+				indices[k++] = buffer[i++];
+		}
+		while (i < mid)
+			indices[k++] = buffer[i++];
+		while (j < to)
+			indices[k++] = buffer[j++];
+	}
+
+	private static boolean isLower(int i, int j, double[] xs, double[] ys) {
+		return xs[i] < xs[j] || (xs[i] == xs[j] && ys[i] < ys[j]);
+	}
+
+	// ===================================================================
+	// Comparison of events
+
+	/**
+	 * Returns twice the signed area of the triangle (p0, p1, p2), which is
+	 * positive if the points are in counter-clockwise order.
+	 */
+	private static double signedArea(double x0, double y0, double x1,
+			double y1, double x2, double y2) {
+		return (x0 - x2) * (y1 - y2) - (x1 - x2) * (y0 - y2);
+	}
+
+	/**
+	 * Compares events in the order they are processed: from left to right,
+	 * then from bottom to top. At the same point, right events come first,
+	 * then events of edges from bottom to top.
+	 */
+	private static int compareEvents(Event e1, Event e2) {
+		if (e1.x != e2.x)
+			return e1.x < e2.x ? -1 : 1;
+		if (e1.y != e2.y)
+			return e1.y < e2.y ? -1 : 1;
+		if (e1.left != e2.left)
+			return e1.left ? 1 : -1;
+
+		// edges are not collinear
+		if (signedArea(e1.x, e1.y, e1.other.x, e1.other.y, e2.other.x,
+				e2.other.y) != 0)
+			return e1.isBelow(e2.other.x, e2.other.y) ? -1 : 1;
+
+		// collinear edges: subject first
+		if (e1.subject != e2.subject)
+			return e1.subject ? -1 : 1;
+		return e1.id < e2.id ? -1 : (e1.id == e2.id ? 0 : 1);
+	}
+
+	private static class EventComparator implements Comparator<Event> {
+		public int compare(Event e1, Event e2) {
+			return compareEvents(e1, e2);
+		}
+	}
+
+	/**
+	 * Compares the edges of two left events within the sweep line, from
+	 * bottom to top.
+	 */
+	private static class SegmentComparator implements Comparator<Event> {
+		public int compare(Event le1, Event le2) {
+			if (le1 == le2)
+				return 0;
+
+			if (signedArea(le1.x, le1.y, le1.other.x, le1.other.y, le2.x,
+					le2.y) != 0
+					|| signedArea(le1.x, le1.y, le1.other.x, le1.other.y,
+							le2.other.x, le2.other.y) != 0) {
+				// edges are not collinear
+				if (samePoint(le1, le2))
+					return le1.isBelow(le2.other.x, le2.other.y) ? -1 : 1;
+				if (le1.x == le2.x)
+					return le1.y < le2.y ? -1 : 1;
+
+				// compare with the edge inserted first
+				if (compareEvents(le1, le2) > 0)
+					return le2.isBelow(le1.x, le1.y) ? 1 : -1;
+				return le1.isBelow(le2.x, le2.y) ? -1 : 1;
+			}
+
+			// collinear edges
+			if (le1.subject != le2.subject)
+				return le1.subject ? -1 : 1;
+			if (samePoint(le1, le2)) {
+				if (le1.contour != le2.contour)
+					return le1.contour < le2.contour ? -1 : 1;
+				return le1.id < le2.id ? -1 : 1;
+			}
+			return compareEvents(le1, le2) > 0 ? 1 : -1;
+		}
+	}
+
+	/**
+	 * Compares edges by their left point, then by their right point. Edges
+	 * with the same points are sorted from bottom to top.
+	 */
+	private static class EdgeComparator implements Comparator<Event> {
+		private final SegmentComparator segmentComparator =
+				new SegmentComparator();
+
+		public int compare(Event e1, Event e2) {
+			if (e1.x != e2.x)
+				return e1.x < e2.x ? -1 : 1;
+			if (e1.y != e2.y)
+				return e1.y < e2.y ? -1 : 1;
+			if (e1.other.x != e2.other.x)
+				return e1.other.x < e2.other.x ? -1 : 1;
+			if (e1.other.y != e2.other.y)
+				return e1.other.y < e2.other.y ? -1 : 1;
+			return segmentComparator.compare(e1, e2);
+		}
+	}
+
+	// ===================================================================
+	// Inner classes
+
+	/**
+	 * An endpoint of an edge. Each edge is represented by a left and a right
+	 * event, that reference each other.
+	 */
+	private final class Event {
+		final double x;
+		final double y;
+		final boolean subject;
+		final int contour;
+		final int id;
+
+		boolean left = true;
+		Event other;
+
+		/** True if the edge is an inside-outside transition of its polygon */
+		boolean inOut;
+
+		/** True if the closest edge of the other polygon below is an
+		 * inside-outside transition, that is if the edge is outside the
+		 * other polygon */
+		boolean otherInOut;
+
+		Event(double x, double y, boolean subject, int contour) {
+			this.x = x;
+			this.y = y;
+			this.subject = subject;
+			this.contour = contour;
+			this.id = eventNumber++;
+		}
+
+		/**
+		 * Checks if the edge is below the point (x, y).
+		 */
+		boolean isBelow(double px, double py) {
+			if (left)
+				return signedArea(x, y, other.x, other.y, px, py) > 0;
+			else
+				return signedArea(other.x, other.y, x, y, px, py) > 0;
+		}
+
+		boolean isVertical() {
+			return x == other.x;
+		}
+	}
+
+	/**
+	 * A growable list of vertex coordinates.
+	 */
+	private static class CoordinateList {
+		double[] xs = new double[16];
+		double[] ys = new double[16];
+		int size = 0;
+
+		void add(double x, double y) {
+			if (size == xs.length) {
+				xs = Arrays.copyOf(xs, 2 * size);
+				ys = Arrays.copyOf(ys, 2 * size);
+			}
+			xs[size] = x;
+			ys[size] = y;
+			size++;
+		}
+
+		void clear() {
+			size = 0;
+		}
+
+		double[] xs() {
+			return Arrays.copyOf(xs, size);
+		}
+
+		double[] ys() {
+			return Arrays.copyOf(ys, size);
+		}
+
+		/**
+		 * Removes the vertices aligned with their neighbours, including the
+		 * vertices at the end of spikes.
+		 */
+		void removeCollinearVertices() {
+			int n = 0;
+			for (int i = 0; i < size; i++) {
+				while (n >= 2 && isCollinear(n - 2, n - 1, xs[i], ys[i]))
+					n--;
+				xs[n] = xs[i];
+				ys[n] = ys[i];
+				n++;
+			}
+
+			// process the junction of last and first vertices
+			int first = 0;
+			boolean changed = true;
+			while (changed && n - first >= 3) {
+				changed = false;
+				if (isCollinear(n - 2, n - 1, xs[first], ys[first])) {
+					n--;
+					changed = true;
+				} else if (isCollinear(n - 1, first, xs[first + 1],
+						ys[first + 1])) {
+					first++;
+					changed = true;
+				}
+			}
+			System.arraycopy(xs, first, xs, 0, n - first);
+			System.arraycopy(ys, first, ys, 0, n - first);
+			size = n - first;
+		}
+
+		private boolean isCollinear(int i, int j, double x, double y) {
+			return signedArea(xs[i], ys[i], xs[j], ys[j], x, y) == 0;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/**
+ * File: 	CascadedUnion2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import net.javageom.geom2d.Box2D;
+
+/**
+ * Computation of the union of large collections of polygons using several
+ * threads.<p>
+ *
+ * Polygons are sorted along a Hilbert curve, using the center of their
+ * bounding boxes, such that consecutive polygons are close to each other.
+ * The sorted polygons are then merged as a balanced binary tree: each range
+ * of polygons is split in two halves, whose unions are computed
+ * recursively and merged with {@link BooleanSweep2D}. The size of the
+ * polygons merged at each level stays proportional to the boundary of the
+ * merged regions, instead of growing with each polygon as in a sequential
+ * fold. Halves whose bounding boxes are disjoint are merged by collecting
+ * their rings. Independent ranges are processed as tasks of a
+ * {@link ForkJoinPool}.<p>
+ *
+ * The result covers the same region as the result of successive calls to
+ * {@link Polygons2D#union(Polygon2D, Polygon2D)}. Input polygons must not
+ * be modified during the computation.
+ *
+ * @see Polygons2D#union(Collection)
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class CascadedUnion2D {
+
+	// ===================================================================
+	// Constants
+
+	/** The minimal number of polygons processed by a single task */
+	private final static int MIN_TASK_SIZE = 16;
+
+	/**
+	 * The number of bits of grid coordinates along the Hilbert curve. The
+	 * Hilbert index has twice this number of bits, and must fit in the 31
+	 * high bits of the positive sort keys.
+	 */
+	private final static int HILBERT_ORDER = 15;
+
+	// ===================================================================
+	// Class variables
+
+	private final ForkJoinPool pool;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new union calculator, that uses the common pool.
+	 */
+	public CascadedUnion2D() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a new union calculator, that uses the given pool.
+	 */
+	public CascadedUnion2D(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	// ===================================================================
+	// Methods
+
+	/**
+	 * Computes the union of a collection of polygons. Returns an empty
+	 * MultiPolygon2D if the collection contains no polygon with rings, and
+	 * the polygon itself if it contains a single one.
+	 */
+	public Polygon2D union(Collection<? extends Polygon2D> polygons) {
+		// keep polygons with at least one ring
+		ArrayList<Polygon2D> list = new ArrayList<Polygon2D>(polygons.size());
+		for (Polygon2D polygon : polygons)
+			if (!polygon.contours().isEmpty())
+				list.add(polygon);
+
+		int n = list.size();
+		if (n == 0)
+			return new MultiPolygon2D();
+		if (n == 1)
+			return list.get(0);
+
+		Polygon2D[] sorted = hilbertSort(list);
+		return pool.invoke(new UnionTask(sorted, 0, n));
+	}
+
+	// ===================================================================
+	// Inner class for computing partial unions
+
+	/**
+	 * Computes the union of the polygons within a range of indices.
+	 */
+	private static class UnionTask extends RecursiveTask<Polygon2D> {
+		private static final long serialVersionUID = 1L;
+
+		private final Polygon2D[] polygons;
+		private final int from;
+		private final int to;
+
+		private UnionTask(Polygon2D[] polygons, int from, int to) {
+			this.polygons = polygons;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Polygon2D compute() {
+			if (to - from <= MIN_TASK_SIZE)
+				return union(polygons, from, to);
+
+			int mid = (from + to) >>> 1;
+			UnionTask left = new UnionTask(polygons, from, mid);
+			UnionTask right = new UnionTask(polygons, mid, to);
+			right.fork();
+			Polygon2D union1 = left.compute();
+			Polygon2D union2 = right.join();
+			return merge(union1, union2);
+		}
+	}
+
+	/**
+	 * Computes the union of the polygons within a range of indices, within
+	 * the current thread.
+	 */
+	private static Polygon2D union(Polygon2D[] polygons, int from, int to) {
+		if (to - from == 1)
+			return polygons[from];
+		if (to - from == 2)
+			return BooleanSweep2D.union(polygons[from], polygons[from + 1]);
+		if (to - from == 3)
+			return BooleanSweep2D.union(polygons[from],
+					union(polygons, from + 1, to));
+
+		int mid = (from + to) >>> 1;
+		return merge(union(polygons, from, mid), union(polygons, mid, to));
+	}
+
+	/**
+	 * Merges the unions of two ranges with at least two polygons each. Such
+	 * unions are results of the sweep, with normalized rings, and can be
+	 * merged by collecting rings when their bounding boxes are disjoint.
+	 */
+	private static Polygon2D merge(Polygon2D union1, Polygon2D union2) {
+		Box2D box1 = union1.boundingBox();
+		Box2D box2 = union2.boundingBox();
+		if (box1.getMaxX() < box2.getMinX() || box2.getMaxX() < box1.getMinX()
+				|| box1.getMaxY() < box2.getMinY()
+				|| box2.getMaxY() < box1.getMinY()) {
+			Collection<? extends LinearRing2D> rings1 = union1.contours();
+			Collection<? extends LinearRing2D> rings2 = union2.contours();
+			MultiPolygon2D result = new MultiPolygon2D(
+					rings1.size() + rings2.size());
+			for (LinearRing2D ring : rings1)
+				result.addRing(ring);
+			for (LinearRing2D ring : rings2)
+				result.addRing(ring);
+			return result;
+		}
+		return BooleanSweep2D.union(union1, union2);
+	}
+
+	// ===================================================================
+	// Ordering of polygons
+
+	/**
+	 * Sorts the polygons according to the position of the center of their
+	 * bounding box along a Hilbert curve covering the global bounding box.
+	 */
+	private static Polygon2D[] hilbertSort(ArrayList<Polygon2D> polygons) {
+		int n = polygons.size();
+		double[] xc = new double[n];
+		double[] yc = new double[n];
+		double xmin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			Box2D box = polygons.get(i).boundingBox();
+			xc[i] = (box.getMinX() + box.getMaxX()) / 2;
+			yc[i] = (box.getMinY() + box.getMaxY()) / 2;
+			xmin = Math.min(xmin, xc[i]);
+			xmax = Math.max(xmax, xc[i]);
+			ymin = Math.min(ymin, yc[i]);
+			ymax = Math.max(ymax, yc[i]);
+		}
+
+		// keys contain the Hilbert index in high bits and the polygon index
+		// in low bits, such that sorting keys sorts indices
+		int side = 1 << HILBERT_ORDER;
+		double sx = xmax > xmin ? (side - 1) / (xmax - xmin) : 0;
+		double sy = ymax > ymin ? (side - 1) / (ymax - ymin) : 0;
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			int x = (int) ((xc[i] - xmin) * sx);
+			int y = (int) ((yc[i] - ymin) * sy);
+			keys[i] = hilbertIndex(x, y, side) << 32 | i;
+		}
+		Arrays.sort(keys);
+
+		Polygon2D[] res = new Polygon2D[n];
+		for (int i = 0; i < n; i++)
+			res[i] = polygons.get((int) keys[i]);
+		return res;
+	}
+
+	/**
+	 * Computes the position of the cell (x, y) along the Hilbert curve that
+	 * covers a grid with the given side, which must be a power of two.
+	 */
+	private static long hilbertIndex(int x, int y, int side) {
+		long d = 0;
+		for (int s = side >>> 1; s > 0; s >>>= 1) {
+			int rx = (x & s) > 0 ? 1 : 0;
+			int ry = (y & s) > 0 ? 1 : 0;
+			d += (long) s * s * ((3 * rx) ^ ry);
+
+			// rotate the quadrant
+			if (ry == 0) {
+				if (rx == 1) {
+					x = side - 1 - x;
+					y = side - 1 - y;
+				}
+				int t = x;
+				x = y;
+				y = t;
+			}
+		}
+		return d;
+	}
+}
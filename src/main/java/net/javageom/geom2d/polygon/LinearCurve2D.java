@@ -4,9 +4,12 @@
 package net.javageom.geom2d.polygon;
 
 import java.awt.Graphics2D;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
 import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
@@ -22,7 +25,27 @@ import net.javageom.geom2d.point.PointSets2D;
 
 /**
  * Abstract class that is the base implementation of Polyline2D and
- * LinearRing2D.
+ * LinearRing2D.<p>
+ *
+ * Vertices are stored either as a list of Point2D, or in packed mode as two
+ * arrays of coordinates, which requires less memory for large curves. Packed
+ * curves are created with the <code>createPacked</code> static factories of
+ * subclasses. In both cases, the computation of length, distance, projection
+ * and intersections is performed on the coordinates of the vertices, without
+ * creating the edges.<p>
+ *
+ * The cumulative lengths of the edges are computed on the first call to a
+ * method based on curvilinear abscissa, and kept until the vertices are
+ * modified, making <code>length(double)</code> and
+ * <code>position(double)</code> run in logarithmic time.<p>
+ *
+ * For curves with many vertices, the edges are grouped into monotone
+ * chains on the first call to <code>intersections</code>, <code>clip</code>,
+ * <code>distance</code> or <code>project</code>. The boxes of the chains
+ * make it possible to reject most edges without processing them. The
+ * lengths and the chains are cleared when the vertices are modified, either
+ * with the methods of this class or through the collection returned by
+ * <code>vertices()</code>.
  *
  * @see net.javageom.geom2d.polygon.Polyline2D
  * @see net.javageom.geom2d.polygon.LinearRing2D
@@ -36,7 +59,23 @@ implements CirculinearContinuousCurve2D {
     // ===================================================================
     // class variables
     
-    protected ArrayList<Point2D> vertices;
+    /**
+     * The ordered list of vertices. Declared as a List since version 0.11.3,
+     * as it can be either an ArrayList or a packed list of coordinates.
+     */
+    protected List<Point2D> vertices;
+
+	/**
+	 * The lengths of the curve from the first vertex to each vertex, or null
+	 * if they were not computed
+	 */
+	private transient volatile double[] cumulativeLengths = null;
+
+	/**
+	 * The decomposition of the edges into monotone chains, or null if it was
+	 * not computed
+	 */
+	private transient volatile MonotoneChains2D chains = null;
 
 
     // ===================================================================
@@ -67,9 +106,8 @@ implements CirculinearContinuousCurve2D {
     }
 
     protected LinearCurve2D(double[] xcoords, double[] ycoords) {
-    	this.vertices = new ArrayList<Point2D>(xcoords.length);
 		int n = xcoords.length;
-    	this.vertices.ensureCapacity(n);
+    	this.vertices = new ArrayList<Point2D>(n);
         for (int i = 0; i < n; i++)
             vertices.add(new Point2D(xcoords[i], ycoords[i]));
     }
@@ -83,6 +121,17 @@ implements CirculinearContinuousCurve2D {
 	 * override this method to return a more specialized type.
 	 */
 	public abstract LinearCurve2D simplify(double distMax);
+
+	/**
+	 * Returns a simplified version of this linear curve, by using the
+	 * specified algorithm. The tolerance is the maximal distance between
+	 * removed vertices and the simplified curve for the Douglas-Peucker
+	 * algorithm, and the minimal area of the triangles formed by consecutive
+	 * vertices for the Visvalingam-Whyatt algorithm.
+	 * @since 0.11.3
+	 */
+	public abstract LinearCurve2D simplify(double tolerance, 
+			Polylines2D.SimplificationMethod method);
     
     /**
      * Returns an iterator on the collection of points.
@@ -106,7 +155,8 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean addVertex(Point2D vertex) {
-    	 return vertices.add(vertex);
+    	clearCaches();
+    	return vertices.add(vertex);
     }
     
     /**
@@ -114,6 +164,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public void insertVertex(int index, Point2D vertex) {
+    	clearCaches();
     	vertices.add(index, vertex);
     }
     
@@ -124,6 +175,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean removeVertex(Point2D vertex) {
+    	clearCaches();
         return vertices.remove(vertex);
     }
     
@@ -134,6 +186,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public Point2D removeVertex(int index) {
+    	clearCaches();
     	return this.vertices.remove(index);
     }
 
@@ -142,18 +195,21 @@ implements CirculinearContinuousCurve2D {
      *  @since 0.9.3
      */
     public void setVertex(int index, Point2D position) {
+    	clearCaches();
         this.vertices.set(index, position);
     }
 
     public void clearVertices() {
+    	clearCaches();
         vertices.clear();
     }
 
     /**
-     * Returns the vertices of the polyline.
+     * Returns the vertices of the polyline. The result is a view on the
+     * inner list of vertices: modifying it modifies this curve.
      */
     public Collection<Point2D> vertices() {
-        return vertices;
+        return new VertexList();
     }
 
     /**
@@ -178,18 +234,18 @@ implements CirculinearContinuousCurve2D {
      * Computes the index of the closest vertex to the input point.
      */
     public int closestVertexIndex(Point2D point) {
-    	double minDist = Double.POSITIVE_INFINITY;
-    	int index = -1;
-    	
-    	for (int i = 0; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(point);
-    		if (dist < minDist) {
-    			index = i;
-    			minDist = dist;
-    		}
-    	}
-    	
-    	return index;
+    	double[][] coords = Polylines2D.coordinates(vertices);
+    	return Polylines2D.closestVertexIndex(coords[0], coords[1],
+    			vertices.size(), point.x(), point.y());
+    }
+    
+    /**
+     * Returns true if the vertices of this linear curve are stored as arrays
+     * of coordinates.
+     * @since 0.11.3
+     */
+    public boolean isPacked() {
+    	return vertices instanceof PackedPointList2D;
     }
     
     // ===================================================================
@@ -229,67 +285,130 @@ implements CirculinearContinuousCurve2D {
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
 	 */
 	public double length() {
-		double sum = 0;
-		for(LineSegment2D edge : this.edges())
-			sum += edge.length();
-		return sum;
+		double[] lengths = cumulativeLengths();
+		return lengths[lengths.length - 1];
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
 	 */
 	public double length(double pos) {
-		//init
-		double length = 0;
-		
-		// add length of each curve before current curve
-		int index = (int) Math.floor(pos);
-		for(int i=0; i<index; i++)
-			length += this.edge(i).length();
-		
-		// add portion of length for last curve
-		if(index < vertices.size()-1) {
-			double pos2 = pos-index;
-			length += this.edge(index).length(pos2);
-		}
-		
-		// return computed length
-		return length;
+		double[] lengths = cumulativeLengths();
+		int ne = lengths.length - 1;
+		if (ne < 1)
+			return 0;
+
+		// add portion of length of the edge containing the position
+		int index = Math.min(Math.max((int) Math.floor(pos), 0), ne - 1);
+		return lengths[index] 
+				+ (pos - index) * (lengths[index + 1] - lengths[index]);
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Computes the position of the point located at the given curvilinear
+	 * abscissa, by a binary search on the cumulative lengths of the edges.
+	 * Lengths outside of the curve are clamped.
+	 * 
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
 	 */
 	public double position(double length) {
-		
-		// position to compute
-		double pos = 0;
-		
-		// index of current curve
-		int index = 0;
-		
-		// cumulative length
-		double cumLength = this.length(this.t0());
-		
-		// iterate on all curves
-		for(LineSegment2D edge : edges()) {
-			// length of current curve
-			double edgeLength = edge.length();
-			
-			// add either 2, or fraction of length
-			if(cumLength + edgeLength < length) {
-				cumLength += edgeLength;
-				index ++;
-			} else {
-				// add local position on current curve
-				double pos2 = edge.position(length - cumLength);
-				pos = index + pos2;
-				break;
-			}			
+		double[] lengths = cumulativeLengths();
+		int ne = lengths.length - 1;
+		if (ne < 1)
+			return 0;
+		length = Math.min(Math.max(length, 0), lengths[ne]);
+
+		// find the first edge whose end is after the given length
+		int lo = 0, hi = ne - 1;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (lengths[mid + 1] >= length)
+				hi = mid;
+			else
+				lo = mid + 1;
 		}
-		
-		// return the result
-		return pos;
+
+		// add local position on current edge
+		double edgeLength = lengths[lo + 1] - lengths[lo];
+		double pos2 = 0;
+		if (edgeLength >= Shape2D.ACCURACY)
+			pos2 = (length - lengths[lo]) / edgeLength;
+		return lo + pos2;
+	}
+
+	/**
+	 * Computes the points located at the given curvilinear abscissas. This
+	 * is the batch version of <code>point(position(length))</code>.
+	 * @since 0.11.3
+	 */
+	public Point2D[] pointsAtLengths(double[] lengths) {
+		Point2D[] points = new Point2D[lengths.length];
+		for (int i = 0; i < lengths.length; i++)
+			points[i] = this.point(this.position(lengths[i]));
+		return points;
+	}
+
+	/**
+	 * Clears the data computed from the vertices, such as the cumulative
+	 * lengths of the edges. Must be called by subclasses that modify the
+	 * vertices.
+	 * @since 0.11.3
+	 */
+	protected void clearCaches() {
+		this.cumulativeLengths = null;
+		this.chains = null;
+	}
+
+	/**
+	 * Returns the lengths of the curve from the first vertex to each vertex.
+	 * For closed curves, the last element is the length of the whole curve.
+	 * The lengths are computed on the first call, and computed again after
+	 * the vertices are modified, or if the number of vertices has changed.
+	 */
+	private double[] cumulativeLengths() {
+		int n = vertices.size();
+		int size = this.isClosed() ? n + 1 : n;
+		double[] lengths = this.cumulativeLengths;
+		if (lengths != null && lengths.length == Math.max(size, 1))
+			return lengths;
+
+		lengths = new double[Math.max(size, 1)];
+		double[][] coords = Polylines2D.coordinates(vertices);
+		double[] xs = coords[0], ys = coords[1];
+		int ne = Polylines2D.edgeNumber(xs, ys, n, this.isClosed());
+		for (int i = 0; i < size - 1; i++) {
+			// the closing edge is ignored if the ring ends with first vertex
+			double edgeLength = 0;
+			if (i < ne) {
+				int i2 = i + 1 == n ? 0 : i + 1;
+				double dx = xs[i2] - xs[i], dy = ys[i2] - ys[i];
+				edgeLength = Math.sqrt(dx * dx + dy * dy);
+			}
+			lengths[i + 1] = lengths[i] + edgeLength;
+		}
+
+		this.cumulativeLengths = lengths;
+		return lengths;
+	}
+
+	/**
+	 * Returns the monotone chains of the edges, or null if the curve has
+	 * too few vertices for the chains to be useful. The chains are computed
+	 * on the first call, and computed again after the vertices are modified,
+	 * or if the number of vertices has changed.
+	 */
+	private MonotoneChains2D chains() {
+		int n = vertices.size();
+		if (n < MonotoneChains2D.MIN_VERTEX_NUMBER)
+			return null;
+		MonotoneChains2D chains = this.chains;
+		if (chains != null && chains.n == n)
+			return chains;
+
+		double[][] coords = Polylines2D.coordinates(vertices);
+		chains = new MonotoneChains2D(coords[0], coords[1], n, this.isClosed());
+		this.chains = chains;
+		return chains;
 	}
 
 	/* (non-Javadoc)
@@ -432,24 +551,9 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#position(math.geom2d.Point2D)
      */
     public double position(Point2D point) {
-        int ind = 0;
-        double dist, minDist = Double.POSITIVE_INFINITY;
-        double x = point.x();
-        double y = point.y();
-
-        int i = 0;
-        LineSegment2D closest = null;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
-            if (dist < minDist) {
-                minDist = dist;
-                ind = i;
-                closest = edge;
-            }
-            i++;
-        }
-
-        return closest.position(point) + ind;
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.position(coords[0], coords[1], vertices.size(),
+				this.isClosed(), point.x(), point.y());
     }
 
     /*
@@ -458,23 +562,13 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#intersections(math.geom2d.LinearShape2D)
      */
     public Collection<Point2D> intersections(LinearShape2D line) {
-        ArrayList<Point2D> list = new ArrayList<Point2D>();
-
-        // extract intersections with each edge, and add to a list
-        Point2D point;
-        for (LineSegment2D edge : this.edges()) {
-        	// do not process edges parallel to intersection line
-        	if (edge.isParallel(line))
-        		continue;
-        	
-			point = edge.intersection(line);
-			if (point != null)
-				if (!list.contains(point))
-					list.add(point);
-		}
-
-        // return result
-        return list;
+		MonotoneChains2D chains = chains();
+		if (chains != null)
+			return Polylines2D.intersections(chains.xs, chains.ys, chains.n,
+					this.isClosed(), line, chains.edgeRanges(line));
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.intersections(coords[0], coords[1],
+				vertices.size(), this.isClosed(), line);
     }
 
     public Collection<? extends LinearCurve2D> continuousCurves() {
@@ -487,22 +581,12 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#position(math.geom2d.Point2D)
      */
     public double project(Point2D point) {
-        double dist, minDist = Double.POSITIVE_INFINITY;
-        double x = point.x();
-        double y = point.y();
-        double pos = Double.NaN;
-
-        int i = 0;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
-            if (dist < minDist) {
-                minDist = dist;
-                pos = edge.project(point)+i;
-            }
-            i++;
-        }
-
-        return pos;
+		MonotoneChains2D chains = chains();
+		if (chains != null)
+			return chains.project(point.x(), point.y());
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.project(coords[0], coords[1], vertices.size(),
+				this.isClosed(), point.x(), point.y());
     }
 
     
@@ -515,13 +599,14 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        double dist = Double.MAX_VALUE;
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
-        		continue;
-            dist = Math.min(dist, edge.distance(x, y));
-        }
-        return dist;
+		MonotoneChains2D chains = chains();
+		if (chains != null) {
+			double dist = chains.sqDistance(x, y);
+			return dist == Double.MAX_VALUE ? dist : Math.sqrt(dist);
+		}
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.distance(coords[0], coords[1], vertices.size(),
+				this.isClosed(), x, y);
     }
 
     /*
@@ -533,19 +618,38 @@ implements CirculinearContinuousCurve2D {
         return distance(point.x(), point.y());
     }
 
+    /**
+     * Computes the distance of the linear curve to each of the points given
+     * by two arrays of coordinates. The coordinates of the vertices are
+     * extracted only once.
+     */
+    public void distance(double[] xs, double[] ys, double[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		if (chains() != null) {
+			for (int i = 0; i < xs.length; i++)
+				out[i] = distance(xs[i], ys[i]);
+			return;
+		}
+		double[][] coords = Polylines2D.coordinates(vertices);
+		int n = vertices.size();
+		boolean closed = this.isClosed();
+		for (int i = 0; i < xs.length; i++)
+			out[i] = Polylines2D.distance(coords[0], coords[1], n, closed,
+					xs[i], ys[i]);
+    }
+
     /*
      * (non-Javadoc)
      * 
      * @see math.geom2d.Shape2D#sqDistance(math.geom2d.Point2D)
      */
     public double sqDistance(Point2D p) {
-        double dist = Double.MAX_VALUE;
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
-        		continue;
-            dist = Math.min(dist, edge.sqDistance(p));
-        }
-        return dist;
+		MonotoneChains2D chains = chains();
+		if (chains != null)
+			return chains.sqDistance(p.x(), p.y());
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.sqDistance(coords[0], coords[1], vertices.size(),
+				this.isClosed(), p.x(), p.y());
     }
 
     /**
@@ -564,25 +668,8 @@ implements CirculinearContinuousCurve2D {
      * Returns the bounding box of this linear curve.
      */
     public Box2D boundingBox() {
-        double xmin = Double.MAX_VALUE;
-        double ymin = Double.MAX_VALUE;
-        double xmax = Double.MIN_VALUE;
-        double ymax = Double.MIN_VALUE;
-
-        Iterator<Point2D> iter = vertices.iterator();
-        Point2D point;
-        double x, y;
-        while (iter.hasNext()) {
-            point = iter.next();
-            x = point.x();
-            y = point.y();
-            xmin = Math.min(xmin, x);
-            xmax = Math.max(xmax, x);
-            ymin = Math.min(ymin, y);
-            ymax = Math.max(ymax, y);
-        }
-
-        return new Box2D(xmin, xmax, ymin, ymax);
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.boundingBox(coords[0], coords[1], vertices.size());
     }
 
     /*
@@ -591,13 +678,9 @@ implements CirculinearContinuousCurve2D {
      * @see java.awt.Shape#contains(double, double)
      */
     public boolean contains(double x, double y) {
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
-        		continue;
-            if (edge.contains(x, y))
-                return true;
-        }
-        return false;
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.edgesContain(coords[0], coords[1], vertices.size(),
+				this.isClosed(), x, y);
     }
 
     /*
@@ -609,14 +692,72 @@ implements CirculinearContinuousCurve2D {
         return this.contains(point.x(), point.y());
     }
 
+    /**
+     * Checks if the linear curve contains each of the points given by two
+     * arrays of coordinates. The coordinates of the vertices are extracted
+     * only once.
+     */
+    public void contains(double[] xs, double[] ys, boolean[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		double[][] coords = Polylines2D.coordinates(vertices);
+		int n = vertices.size();
+		boolean closed = this.isClosed();
+		for (int i = 0; i < xs.length; i++)
+			out[i] = Polylines2D.edgesContain(coords[0], coords[1], n, closed,
+					xs[i], ys[i]);
+    }
+
     /**
      * Clips the polyline by a box. The result is an instance of CurveSet2D,
      * which contains only instances of Polyline2D. If the polyline is not
      * clipped, the result is an instance of CurveSet2D which
-     * contains 0 curves.
+     * contains 0 curves. For bounded boxes, the clipping is computed in a 
+     * single pass on the vertex coordinates, skipping the monotone chains
+     * outside of the box.
      */
     public CurveSet2D<? extends LinearCurve2D> clip(Box2D box) {
-        // Clip the curve
+    	if (box.isBounded()) {
+    		MonotoneChains2D chains = chains();
+    		ArrayList<PackedPointList2D> pieces;
+    		if (chains != null) {
+    			int[] ranges = chains.edgeRanges(box.getMinX(), box.getMaxX(),
+    					box.getMinY(), box.getMaxY());
+    			
+    			// the closing edge of rings ending with the first vertex is
+    			// not indexed, but is processed by the clipping
+    			int ne = this.isClosed() ? chains.n : chains.n - 1;
+    			if (ranges.length > 0 && ranges[ranges.length - 1] == chains.ne)
+    				ranges[ranges.length - 1] = ne;
+    			pieces = Polylines2D.clip(chains.xs, chains.ys, chains.n,
+    					this.isClosed(), box.getMinX(), box.getMaxX(),
+    					box.getMinY(), box.getMaxY(), ranges);
+    		} else {
+    			double[][] coords = Polylines2D.coordinates(vertices);
+    			pieces = Polylines2D.clip(coords[0], coords[1],
+    					vertices.size(), this.isClosed(), box.getMinX(),
+    					box.getMaxX(), box.getMinY(), box.getMaxY());
+    		}
+    		if (pieces == null) {
+    			CurveArray2D<LinearCurve2D> result = 
+    					new CurveArray2D<LinearCurve2D>(1);
+    			result.add(this);
+    			return result;
+    		}
+    		
+    		CurveArray2D<Polyline2D> result = 
+    				new CurveArray2D<Polyline2D>(pieces.size());
+    		for (PackedPointList2D piece : pieces) {
+    			Polyline2D polyline = new Polyline2D(0);
+    			if (this.isPacked())
+    				polyline.vertices = piece;
+    			else
+    				polyline.vertices = new ArrayList<Point2D>(piece);
+    			result.add(polyline);
+    		}
+    		return result;
+    	}
+    	
+        // Clip the curve using generic method
         CurveSet2D<? extends Curve2D> set = Curves2D.clipCurve(this, box);
 
         // Stores the result in appropriate structure
@@ -645,4 +786,44 @@ implements CirculinearContinuousCurve2D {
     	g2.draw(this.asGeneralPath());
     }
 
+    // ===================================================================
+    // Inner classes
+
+	/**
+	 * A view on the list of vertices, that clears the data computed from the
+	 * vertices when it is modified. Other modification methods of the list,
+	 * including those of its iterators, are based on set, add and remove.
+	 */
+	private class VertexList extends AbstractList<Point2D>
+	implements RandomAccess {
+		@Override
+		public Point2D get(int index) {
+			return vertices.get(index);
+		}
+
+		@Override
+		public int size() {
+			return vertices.size();
+		}
+
+		@Override
+		public Point2D set(int index, Point2D vertex) {
+			clearCaches();
+			return vertices.set(index, vertex);
+		}
+
+		@Override
+		public void add(int index, Point2D vertex) {
+			clearCaches();
+			vertices.add(index, vertex);
+			modCount++;
+		}
+
+		@Override
+		public Point2D remove(int index) {
+			clearCaches();
+			modCount++;
+			return vertices.remove(index);
+		}
+	}
 }
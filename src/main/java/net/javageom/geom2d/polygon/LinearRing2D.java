@@ -72,6 +72,18 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     public static LinearRing2D create(Point2D... vertices) {
     	return new LinearRing2D(vertices);
     }
+
+    /**
+     * Static factory for creating a new LinearRing2D whose vertices are
+     * stored as arrays of coordinates instead of Point2D instances. The input
+     * arrays are copied.
+     * @since 0.11.3
+     */
+    public static LinearRing2D createPacked(double[] xcoords, double[] ycoords) {
+    	LinearRing2D ring = new LinearRing2D(0);
+    	ring.vertices = new PackedPointList2D(xcoords, ycoords);
+    	return ring;
+    }
     
 
     // ===================================================================
@@ -114,19 +126,8 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * @return the signed area of the polyline.
      */
 	public double area() {
-		// start from edge joining last and first vertices
-		Point2D prev = this.vertices.get(this.vertices.size() - 1);
-
-		// Iterate over all couples of adjacent vertices
-		double area = 0;
-		for (Point2D point : this.vertices) {
-			// add area of elementary parallelogram
-			area += prev.x() * point.y() - prev.y() * point.x();
-			prev = point;
-		}
-		
-		// divides by 2 to consider only elementary triangles
-		return area /= 2;
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.area(coords[0], coords[1], vertices.size());
 	}
 
     // ===================================================================
@@ -137,7 +138,21 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 	 * Douglas-Peucker algorithm.
 	 */
 	public LinearRing2D simplify(double distMax) {
-		return new LinearRing2D(Polylines2D.simplifyClosedPolyline(this.vertices, distMax));
+		return simplify(distMax, 
+				Polylines2D.SimplificationMethod.DOUGLAS_PEUCKER);
+	}
+
+	/**
+	 * Returns a simplified version of this linear ring, by using the
+	 * specified algorithm. The first vertex of the ring is kept.
+	 * @since 0.11.3
+	 */
+	public LinearRing2D simplify(double tolerance, 
+			Polylines2D.SimplificationMethod method) {
+		LinearRing2D ring = new LinearRing2D(0);
+		ring.vertices = Polylines2D.simplify(this.vertices, true, tolerance, 
+				method);
+		return ring;
 	}
 
 	/**
@@ -243,7 +258,9 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * @see math.geom2d.OrientedCurve2D#windingAngle(Point2D)
      */
     public double windingAngle(Point2D point) {
-        int wn = Polygons2D.windingNumber(this.vertices, point);
+		double[][] coords = Polylines2D.coordinates(vertices);
+        int wn = Polylines2D.windingNumber(coords[0], coords[1], 
+        		vertices.size(), point.x(), point.y());
         return wn * 2 * Math.PI;
     }
 
@@ -258,17 +275,9 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      */
     public boolean isInside(Point2D point) {
         // TODO: choose convention for points on the boundary
-    	if (this.contains(point))
-    		return true;
-    	
-    	double area = this.area();
-    	int winding = Polygons2D.windingNumber(this.vertices, point);
-    	if (area > 0) {
-    		return winding == 1;
-    	} else {
-    		return winding == 0;
-    	}
-
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.isInside(coords[0], coords[1], vertices.size(),
+				point.x(), point.y());
     }
 
     // ===================================================================
@@ -430,6 +439,13 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * Returns the transformed shape, as a LinerRing2D.
      */
     public LinearRing2D transform(AffineTransform2D trans) {
+    	// keep packed storage
+    	if (vertices instanceof PackedPointList2D) {
+    		LinearRing2D res = new LinearRing2D(0);
+    		res.vertices = ((PackedPointList2D) vertices).transform(trans);
+    		return res;
+    	}
+    	
 		Point2D[] pts = new Point2D[vertices.size()];
 		for (int i = 0; i < vertices.size(); i++)
 			pts[i] = trans.transform(vertices.get(i));
@@ -0,0 +1,484 @@
+/**
+ * File: 	MonotoneChains2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Shape2D;
+import net.javageom.geom2d.Vector2D;
+import net.javageom.geom2d.line.LinearShape2D;
+
+/**
+ * Decomposition of the edges of a linear curve into monotone chains, used
+ * for speeding up queries on curves with many vertices. A chain is a
+ * sequence of consecutive edges along which both coordinates are monotone.
+ * Its bounding box is given by its extremities, and the edges of a chain
+ * overlapping a slab can be found by binary search. The boxes of
+ * consecutive chains are grouped into a tree, making it possible to reject
+ * large portions of the curve at once.<p>
+ *
+ * The index keeps references to the coordinate arrays, and must be built
+ * again when the vertices are modified.
+ *
+ * @see LinearCurve2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+final class MonotoneChains2D {
+
+	// ===================================================================
+	// Constants
+
+	/** The number of vertices below which the index is not used */
+	static final int MIN_VERTEX_NUMBER = 32;
+
+	/** The maximal number of children of each node of the tree */
+	private static final int NODE_CAPACITY = 8;
+
+	// ===================================================================
+	// Class variables
+
+	/** The x-coordinates of the vertices */
+	final double[] xs;
+
+	/** The y-coordinates of the vertices */
+	final double[] ys;
+
+	/** The number of vertices */
+	final int n;
+
+	/** The number of edges, including the closing edge of rings */
+	final int ne;
+
+	/** The index of the first edge of each chain, followed by ne */
+	private final int[] starts;
+
+	/** The direction of each chain along the x axis, as -1, 0 or 1 */
+	private final byte[] signsX;
+
+	/** The direction of each chain along the y axis, as -1, 0 or 1 */
+	private final byte[] signsY;
+
+	/**
+	 * The bounds of the nodes of each level of the tree, stored as xmin,
+	 * xmax, ymin and ymax. The first level contains the boxes of the
+	 * chains, and the last level contains a single node.
+	 */
+	private final double[][] bounds;
+
+	// ===================================================================
+	// Constructor
+
+	/**
+	 * Builds the monotone chains of the linear curve with n vertices. The
+	 * closing edge of rings is ignored if the last vertex is the same as the
+	 * first one, as in Polylines2D.edgeNumber().
+	 */
+	MonotoneChains2D(double[] xs, double[] ys, int n, boolean closed) {
+		this.xs = xs;
+		this.ys = ys;
+		this.n = n;
+		this.ne = Polylines2D.edgeNumber(xs, ys, n, closed);
+
+		// split the edges where one of the coordinates changes direction
+		int[] starts = new int[ne + 1];
+		byte[] signsX = new byte[ne];
+		byte[] signsY = new byte[ne];
+		int nc = 0;
+		int sx = 0, sy = 0;
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			int ex = (int) Math.signum(xs[i2] - xs[i]);
+			int ey = (int) Math.signum(ys[i2] - ys[i]);
+			if (i == 0 || ex * sx < 0 || ey * sy < 0) {
+				if (nc > 0) {
+					signsX[nc - 1] = (byte) sx;
+					signsY[nc - 1] = (byte) sy;
+				}
+				starts[nc++] = i;
+				sx = 0;
+				sy = 0;
+			}
+			if (ex != 0)
+				sx = ex;
+			if (ey != 0)
+				sy = ey;
+		}
+		if (nc > 0) {
+			signsX[nc - 1] = (byte) sx;
+			signsY[nc - 1] = (byte) sy;
+		}
+		starts[nc] = ne;
+		this.starts = Arrays.copyOf(starts, nc + 1);
+		this.signsX = Arrays.copyOf(signsX, nc);
+		this.signsY = Arrays.copyOf(signsY, nc);
+
+		// the box of each chain is given by its extremities
+		double[] level = new double[4 * nc];
+		for (int k = 0; k < nc; k++) {
+			int i0 = starts[k];
+			int i1 = starts[k + 1] == n ? 0 : starts[k + 1];
+			level[4 * k] = Math.min(xs[i0], xs[i1]);
+			level[4 * k + 1] = Math.max(xs[i0], xs[i1]);
+			level[4 * k + 2] = Math.min(ys[i0], ys[i1]);
+			level[4 * k + 3] = Math.max(ys[i0], ys[i1]);
+		}
+
+		// group the boxes of consecutive nodes until a single one remains
+		ArrayList<double[]> levels = new ArrayList<double[]>();
+		levels.add(level);
+		while (level.length > 4) {
+			int count = level.length / 4;
+			int count2 = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+			double[] level2 = new double[4 * count2];
+			for (int k = 0; k < count2; k++) {
+				int first = k * NODE_CAPACITY;
+				int last = Math.min(first + NODE_CAPACITY, count);
+				double xmin = Double.POSITIVE_INFINITY;
+				double xmax = Double.NEGATIVE_INFINITY;
+				double ymin = Double.POSITIVE_INFINITY;
+				double ymax = Double.NEGATIVE_INFINITY;
+				for (int c = first; c < last; c++) {
+					xmin = Math.min(xmin, level[4 * c]);
+					xmax = Math.max(xmax, level[4 * c + 1]);
+					ymin = Math.min(ymin, level[4 * c + 2]);
+					ymax = Math.max(ymax, level[4 * c + 3]);
+				}
+				level2[4 * k] = xmin;
+				level2[4 * k + 1] = xmax;
+				level2[4 * k + 2] = ymin;
+				level2[4 * k + 3] = ymax;
+			}
+			levels.add(level2);
+			level = level2;
+		}
+		this.bounds = levels.toArray(new double[levels.size()][]);
+	}
+
+	/**
+	 * Returns the number of monotone chains.
+	 */
+	int chainNumber() {
+		return starts.length - 1;
+	}
+
+	// ===================================================================
+	// Selection of edges
+
+	/**
+	 * Returns the ranges of edges that may overlap the box given by its
+	 * bounds, as pairs of first and last+1 edge indices in increasing
+	 * order. Edges outside of the ranges have a bounding box disjoint from
+	 * the box.
+	 */
+	int[] edgeRanges(final double xmin, final double xmax, final double ymin,
+			final double ymax) {
+		NodeFilter filter = new NodeFilter() {
+			public boolean accept(double[] b, int i) {
+				return b[i] <= xmax && b[i + 1] >= xmin
+						&& b[i + 2] <= ymax && b[i + 3] >= ymin;
+			}
+
+			public void addEdges(int k, RangeList ranges) {
+				addChainEdges(k, xmin, xmax, ymin, ymax, ranges);
+			}
+		};
+		return collect(filter);
+	}
+
+	/**
+	 * Returns the ranges of edges that may intersect the linear shape, as
+	 * pairs of first and last+1 edge indices in increasing order. The boxes
+	 * of the nodes are tested with a tolerance proportional to their size,
+	 * such that edges whose intersection is accepted by
+	 * Polylines2D.intersections() are never rejected.
+	 */
+	int[] edgeRanges(LinearShape2D line) {
+		Vector2D vect = line.direction();
+		double norm = Math.hypot(vect.x(), vect.y());
+		if (norm < Shape2D.ACCURACY) {
+			// degenerate lines are processed by the linear scan
+			return new int[] {0, ne};
+		}
+		final double dx = vect.x() / norm;
+		final double dy = vect.y() / norm;
+		Point2D origin = line.origin();
+		final double x0 = origin.x();
+		final double y0 = origin.y();
+		final Box2D box = line.isBounded() ? line.boundingBox() : null;
+
+		NodeFilter filter = new NodeFilter() {
+			public boolean accept(double[] b, int i) {
+				double w = b[i + 1] - b[i], h = b[i + 3] - b[i + 2];
+				double eps = Shape2D.ACCURACY * (1 + w + h);
+
+				// the box must not be on one side of the supporting line
+				double xc = (b[i] + b[i + 1]) / 2, yc = (b[i + 2] + b[i + 3]) / 2;
+				double dist = (xc - x0) * dy - (yc - y0) * dx;
+				double radius = (Math.abs(dy) * w + Math.abs(dx) * h) / 2;
+				if (Math.abs(dist) > radius + eps)
+					return false;
+
+				// the box must overlap the box of bounded shapes
+				return box == null || (b[i] <= box.getMaxX() + eps
+						&& b[i + 1] >= box.getMinX() - eps
+						&& b[i + 2] <= box.getMaxY() + eps
+						&& b[i + 3] >= box.getMinY() - eps);
+			}
+
+			public void addEdges(int k, RangeList ranges) {
+				if (box == null) {
+					ranges.add(starts[k], starts[k + 1]);
+					return;
+				}
+				double[] b = bounds[0];
+				double eps = Shape2D.ACCURACY
+						* (1 + b[4 * k + 1] - b[4 * k] + b[4 * k + 3] - b[4 * k + 2]);
+				addChainEdges(k, box.getMinX() - eps, box.getMaxX() + eps,
+						box.getMinY() - eps, box.getMaxY() + eps, ranges);
+			}
+		};
+		return collect(filter);
+	}
+
+	/**
+	 * Collects the ranges of edges of the chains whose ancestors are
+	 * accepted by the filter.
+	 */
+	private int[] collect(NodeFilter filter) {
+		RangeList ranges = new RangeList();
+		if (ne > 0)
+			collect(bounds.length - 1, 0, filter, ranges);
+		return ranges.toArray();
+	}
+
+	private void collect(int level, int node, NodeFilter filter,
+			RangeList ranges) {
+		if (!filter.accept(bounds[level], 4 * node))
+			return;
+		if (level == 0) {
+			filter.addEdges(node, ranges);
+			return;
+		}
+
+		int first = node * NODE_CAPACITY;
+		int last = Math.min(first + NODE_CAPACITY, bounds[level - 1].length / 4);
+		for (int c = first; c < last; c++)
+			collect(level - 1, c, filter, ranges);
+	}
+
+	/**
+	 * Adds the range of edges of the k-th chain that overlap the box, found
+	 * by binary searches along each monotone direction.
+	 */
+	private void addChainEdges(int k, double xmin, double xmax, double ymin,
+			double ymax, RangeList ranges) {
+		int a = starts[k], b = starts[k + 1];
+		int sx = signsX[k], sy = signsY[k];
+		if (sx != 0) {
+			a = search(xs, sx, a, b, 1, sx > 0 ? xmin : -xmax, false);
+			b = search(xs, sx, a, b, 0, sx > 0 ? xmax : -xmin, true);
+		}
+		if (sy != 0) {
+			a = search(ys, sy, a, b, 1, sy > 0 ? ymin : -ymax, false);
+			b = search(ys, sy, a, b, 0, sy > 0 ? ymax : -ymin, true);
+		}
+		if (a < b)
+			ranges.add(a, b);
+	}
+
+	/**
+	 * Returns the first edge in the range [a, b) whose source vertex (for
+	 * offset 0) or target vertex (for offset 1) has a coordinate, multiplied
+	 * by the sign of the chain, greater than or equal to the value, or
+	 * strictly greater for strict comparisons. Returns b if there is no
+	 * such edge.
+	 */
+	private int search(double[] coords, int sign, int a, int b, int offset,
+			double value, boolean strict) {
+		int lo = a, hi = b;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int i = mid + offset == n ? 0 : mid + offset;
+			double v = sign * coords[i];
+			if (strict ? v > value : v >= value)
+				hi = mid;
+			else
+				lo = mid + 1;
+		}
+		return lo;
+	}
+
+	// ===================================================================
+	// Distance queries
+
+	/**
+	 * Computes the squared distance between the point (x, y) and the edges
+	 * of the curve, with the same conventions as Polylines2D.sqDistance().
+	 */
+	double sqDistance(double x, double y) {
+		return nearest(x, y, false).minDist;
+	}
+
+	/**
+	 * Computes the position of the projection of the point (x, y) on the
+	 * curve, with the same conventions as Polylines2D.project().
+	 */
+	double project(double x, double y) {
+		return nearest(x, y, true).pos;
+	}
+
+	/**
+	 * Finds the edge closest to the point by a depth-first search in the
+	 * tree, visiting children by increasing distance to their box, and
+	 * skipping the nodes farther than the closest edge found so far. In
+	 * case of ties, the edge with the smallest index is kept.
+	 */
+	private Nearest nearest(double x, double y, boolean project) {
+		Nearest state = new Nearest(x, y, project, bounds.length);
+		if (ne > 0)
+			nearest(bounds.length - 1, 0, state);
+		return state;
+	}
+
+	private void nearest(int level, int node, Nearest state) {
+		if (level == 0) {
+			nearestEdge(node, state);
+			return;
+		}
+
+		// sort the children by increasing distance to their box
+		double[] level2 = bounds[level - 1];
+		int first = node * NODE_CAPACITY;
+		int count = Math.min(NODE_CAPACITY, level2.length / 4 - first);
+		int[] order = state.orders[level];
+		double[] dists = state.dists[level];
+		for (int c = 0; c < count; c++) {
+			double dist = boxDistance(level2, 4 * (first + c), state.x, state.y);
+			int j = c;
+			while (j > 0 && dists[j - 1] > dist) {
+				dists[j] = dists[j - 1];
+				order[j] = order[j - 1];
+				j--;
+			}
+			dists[j] = dist;
+			order[j] = first + c;
+		}
+
+		for (int c = 0; c < count; c++) {
+			if (dists[c] > state.minDist)
+				break;
+			nearest(level - 1, order[c], state);
+		}
+	}
+
+	private void nearestEdge(int k, Nearest state) {
+		double x = state.x, y = state.y;
+		for (int i = starts[k]; i < starts[k + 1]; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double x0 = xs[i], y0 = ys[i];
+			double dx = xs[i2] - x0, dy = ys[i2] - y0;
+			double len2 = dx * dx + dy * dy;
+
+			// position of projection, clamped to the edge
+			double t = 0;
+			if (state.project) {
+				if (len2 >= Shape2D.ACCURACY)
+					t = Math.max(Math.min(((x - x0) * dx + (y - y0) * dy) / len2, 1), 0);
+			} else {
+				if (len2 == 0)
+					continue;
+				t = Math.max(Math.min(((x - x0) * dx + (y - y0) * dy) / len2, 1), 0);
+			}
+			double ex = x0 + t * dx - x;
+			double ey = y0 + t * dy - y;
+			double dist = ex * ex + ey * ey;
+			if (dist < state.minDist || (dist == state.minDist && i < state.edge)) {
+				state.minDist = dist;
+				state.pos = t + i;
+				state.edge = i;
+			}
+		}
+	}
+
+	/**
+	 * Computes the squared distance between a point and a box.
+	 */
+	private static double boxDistance(double[] b, int i, double x, double y) {
+		double dx = Math.max(Math.max(b[i] - x, x - b[i + 1]), 0);
+		double dy = Math.max(Math.max(b[i + 2] - y, y - b[i + 3]), 0);
+		return dx * dx + dy * dy;
+	}
+
+	// ===================================================================
+	// Inner classes
+
+	/**
+	 * Selects the nodes and the edges of the chains during a traversal.
+	 */
+	private interface NodeFilter {
+		/**
+		 * Checks the box of a node, stored from index i of the array.
+		 */
+		boolean accept(double[] bounds, int i);
+
+		/**
+		 * Adds the edges of an accepted chain.
+		 */
+		void addEdges(int chain, RangeList ranges);
+	}
+
+	/**
+	 * A growable list of edge ranges, merging contiguous ranges.
+	 */
+	private static class RangeList {
+		int[] data = new int[16];
+		int size = 0;
+
+		void add(int a, int b) {
+			if (size > 0 && data[size - 1] == a) {
+				data[size - 1] = b;
+				return;
+			}
+			if (size + 2 > data.length)
+				data = Arrays.copyOf(data, 2 * data.length);
+			data[size++] = a;
+			data[size++] = b;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(data, size);
+		}
+	}
+
+	/**
+	 * The state of a nearest edge search.
+	 */
+	private static class Nearest {
+		final double x, y;
+		final boolean project;
+		final int[][] orders;
+		final double[][] dists;
+		double minDist;
+		double pos = Double.NaN;
+		int edge = Integer.MAX_VALUE;
+
+		Nearest(double x, double y, boolean project, int nLevels) {
+			this.x = x;
+			this.y = y;
+			this.project = project;
+			this.minDist = project ? Double.POSITIVE_INFINITY : Double.MAX_VALUE;
+			this.orders = new int[nLevels][NODE_CAPACITY];
+			this.dists = new double[nLevels][NODE_CAPACITY];
+		}
+	}
+}
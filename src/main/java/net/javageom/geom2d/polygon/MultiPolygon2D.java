@@ -5,6 +5,7 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import net.javageom.geom2d.AffineTransform2D;
 import net.javageom.geom2d.Box2D;
@@ -393,6 +394,45 @@ public class MultiPolygon2D implements Domain2D, Polygon2D {
         return Math.max(this.boundary().signedDistance(x, y), 0);
     }
 
+    /**
+     * Computes the distance of the polygon to each of the points given by two
+     * arrays of coordinates. The result is the same as for the distance(double,
+     * double) method, but the coordinates and the orientation of the rings are
+     * computed only once.
+     */
+    public void distance(double[] xs, double[] ys, double[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		int nRings = rings.size();
+		double[][][] coords = new double[nRings][][];
+		int[] sizes = new int[nRings];
+		boolean[] directs = new boolean[nRings];
+		for (int r = 0; r < nRings; r++) {
+			List<Point2D> vertices = rings.get(r).vertices;
+			coords[r] = Polylines2D.coordinates(vertices);
+			sizes[r] = vertices.size();
+			directs[r] = Polylines2D.area(coords[r][0], coords[r][1],
+					sizes[r]) > 0;
+		}
+
+		for (int i = 0; i < xs.length; i++) {
+			double x = xs[i], y = ys[i];
+
+			// same computation as the signed distance of the boundary
+			double minDist = Double.POSITIVE_INFINITY;
+			double dist = Double.POSITIVE_INFINITY;
+			for (int r = 0; r < nRings; r++) {
+				double[] rx = coords[r][0], ry = coords[r][1];
+				double d = Polylines2D.distance(rx, ry, sizes[r], true, x, y);
+				if (Polylines2D.isInside(rx, ry, sizes[r], directs[r], x, y))
+					d = -d;
+				dist = Math.min(dist, d);
+				if (Math.abs(dist) < Math.abs(minDist))
+					minDist = dist;
+			}
+			out[i] = Math.max(minDist, 0);
+		}
+    }
+
     public double sqDistance(Point2D p) {
     	if(contains(p))
     		return 0.0;
@@ -457,6 +497,41 @@ public class MultiPolygon2D implements Domain2D, Polygon2D {
         return this.contains(new net.javageom.geom2d.Point2D(x, y));
     }
 
+    /**
+     * Checks if the polygon contains each of the points given by two arrays of
+     * coordinates. The result is the same as for contains(double, double),
+     * which uses the winding number of the rings around each point: points
+     * on the boundary may be considered on either side. For large arrays,
+     * the edges of the polygon are first indexed using a PreparedPolygon2D.
+     */
+    public void contains(double[] xs, double[] ys, boolean[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		int minWinding = this.area() > 0 ? 1 : 0;
+		if (xs.length >= PreparedPolygon2D.MIN_QUERY_NUMBER) {
+			PreparedPolygon2D prepared = new PreparedPolygon2D(this);
+			for (int i = 0; i < xs.length; i++)
+				out[i] = prepared.windingNumber(xs[i], ys[i]) >= minWinding;
+			return;
+		}
+
+		int nRings = rings.size();
+		double[][][] coords = new double[nRings][][];
+		int[] sizes = new int[nRings];
+		for (int r = 0; r < nRings; r++) {
+			List<Point2D> vertices = rings.get(r).vertices;
+			coords[r] = Polylines2D.coordinates(vertices);
+			sizes[r] = vertices.size();
+		}
+
+		for (int i = 0; i < xs.length; i++) {
+			int wn = 0;
+			for (int r = 0; r < nRings; r++)
+				wn += Polylines2D.windingNumber(coords[r][0], coords[r][1],
+						sizes[r], xs[i], ys[i]);
+			out[i] = wn >= minWinding;
+		}
+    }
+
     public void draw(Graphics2D g2) {
         g2.draw(this.boundary().getGeneralPath());
     }
@@ -0,0 +1,183 @@
+/**
+ * File: 	PackedPointList2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import net.javageom.geom2d.AffineTransform2D;
+import net.javageom.geom2d.Point2D;
+
+/**
+ * A list of points that stores the coordinates in two arrays of doubles,
+ * instead of keeping references to Point2D instances. This is used as vertex
+ * storage by linear curves and polygons created in packed mode. The points
+ * returned by the list are created on demand, and are equal but not
+ * identical to the points that were added.<p>
+ *
+ * Arrays may be longer than the number of points. They are accessed directly
+ * by the computations performed on the coordinates of the vertices.
+ *
+ * @see Polylines2D#coordinates(java.util.List)
+ * @author dlegland
+ * @since 0.11.3
+ */
+final class PackedPointList2D extends AbstractList<Point2D>
+implements RandomAccess {
+
+	// ===================================================================
+	// Class variables
+
+	/** The x-coordinates of the points */
+	double[] xs;
+
+	/** The y-coordinates of the points */
+	double[] ys;
+
+	/** The number of points */
+	int size;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new empty list, with room for the given number of points.
+	 */
+	PackedPointList2D(int capacity) {
+		this.xs = new double[capacity];
+		this.ys = new double[capacity];
+		this.size = 0;
+	}
+
+	/**
+	 * Creates a new list containing a copy of the given coordinates.
+	 */
+	PackedPointList2D(double[] xcoords, double[] ycoords) {
+		if (xcoords.length != ycoords.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.xs = Arrays.copyOf(xcoords, xcoords.length);
+		this.ys = Arrays.copyOf(ycoords, ycoords.length);
+		this.size = xcoords.length;
+	}
+
+	/**
+	 * Copy constructor.
+	 */
+	PackedPointList2D(PackedPointList2D list) {
+		this.xs = Arrays.copyOf(list.xs, list.size);
+		this.ys = Arrays.copyOf(list.ys, list.size);
+		this.size = list.size;
+	}
+
+	// ===================================================================
+	// Specific methods
+
+	/**
+	 * Adds a point given by its coordinates at the end of the list.
+	 */
+	void add(double x, double y) {
+		ensureCapacity(size + 1);
+		xs[size] = x;
+		ys[size] = y;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Returns a new packed list containing the points transformed by the
+	 * given affine transform.
+	 */
+	PackedPointList2D transform(AffineTransform2D trans) {
+		double[] coefs = trans.coefficients();
+		PackedPointList2D res = new PackedPointList2D(size);
+		for (int i = 0; i < size; i++) {
+			double x = xs[i], y = ys[i];
+			res.xs[i] = x * coefs[0] + y * coefs[1] + coefs[2];
+			res.ys[i] = x * coefs[3] + y * coefs[4] + coefs[5];
+		}
+		res.size = size;
+		return res;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= xs.length)
+			return;
+		int newCapacity = Math.max(capacity, xs.length + (xs.length >> 1) + 1);
+		xs = Arrays.copyOf(xs, newCapacity);
+		ys = Arrays.copyOf(ys, newCapacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size);
+	}
+
+	// ===================================================================
+	// Methods implementing the List interface
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Point2D get(int index) {
+		checkIndex(index);
+		return new Point2D(xs[index], ys[index]);
+	}
+
+	@Override
+	public Point2D set(int index, Point2D point) {
+		checkIndex(index);
+		Point2D old = new Point2D(xs[index], ys[index]);
+		xs[index] = point.x();
+		ys[index] = point.y();
+		return old;
+	}
+
+	@Override
+	public boolean add(Point2D point) {
+		add(point.x(), point.y());
+		return true;
+	}
+
+	@Override
+	public void add(int index, Point2D point) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size);
+		ensureCapacity(size + 1);
+		System.arraycopy(xs, index, xs, index + 1, size - index);
+		System.arraycopy(ys, index, ys, index + 1, size - index);
+		xs[index] = point.x();
+		ys[index] = point.y();
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Point2D remove(int index) {
+		checkIndex(index);
+		Point2D old = new Point2D(xs[index], ys[index]);
+		System.arraycopy(xs, index + 1, xs, index, size - index - 1);
+		System.arraycopy(ys, index + 1, ys, index, size - index - 1);
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+}
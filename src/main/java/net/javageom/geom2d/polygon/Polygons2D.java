@@ -7,23 +7,19 @@ package net.javageom.geom2d.polygon;
 import static java.lang.Math.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
-import com.seisw.util.geom.Poly;
-import com.seisw.util.geom.PolyDefault;
-import com.seisw.util.geom.PolySimple;
-
 import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Shape2D;
+import net.javageom.geom2d.UnboundedBox2DException;
 import net.javageom.geom2d.circulinear.CirculinearDomain2D;
 import net.javageom.geom2d.circulinear.buffer.BufferCalculator;
-import net.javageom.geom2d.domain.Boundaries2D;
-import net.javageom.geom2d.domain.Boundary2D;
-import net.javageom.geom2d.domain.Contour2D;
-import net.javageom.geom2d.domain.ContourArray2D;
-import net.javageom.geom2d.point.PointSets2D;
-import net.javageom.geom2d.polygon.convhull.JarvisMarch2D;
+import net.javageom.geom2d.polygon.convhull.ConvexHulls2D;
+import net.javageom.geom2d.polygon.convhull.MonotoneChain2D;
 
 /**
  * Several utility functions for working on polygons, including polygon
@@ -250,12 +246,24 @@ public final class Polygons2D {
      */
     public final static int windingNumber(Collection<Point2D> vertices,
             Point2D point) {
+        // use coordinates of packed vertices directly
+        if (vertices instanceof PackedPointList2D) {
+        	PackedPointList2D list = (PackedPointList2D) vertices;
+        	return Polylines2D.windingNumber(list.xs, list.ys, list.size,
+        			point.x(), point.y());
+        }
+        
         int wn = 0; // the winding number counter
 
         // Extract the last point of the collection
         Point2D previous = null;
-        for (Point2D vertex : vertices)
-            previous = vertex;
+        if (vertices instanceof List<?> && !vertices.isEmpty()) {
+        	List<Point2D> list = (List<Point2D>) vertices;
+        	previous = list.get(list.size() - 1);
+        } else {
+        	for (Point2D vertex : vertices)
+        		previous = vertex;
+        }
         double y1 = previous.y();
         double y2;
 
@@ -293,23 +301,45 @@ public final class Polygons2D {
      *         <0 for P2 right of the line
      * See: the January 2001 Algorithm "Area of 2D and 3D Triangles and Polygons"
      */
-    private final static int isLeft(Point2D p1, Point2D p2, Point2D pt) {
+    private final static double isLeft(Point2D p1, Point2D p2, Point2D pt) {
     	double x = p1.x();
     	double y = p1.y();
-    	return (int) Math.signum(
-    			(p2.x() - x) * (pt.y() - y) - (pt.x() - x) * (p2.y() - y));
+    	return (p2.x() - x) * (pt.y() - y) - (pt.x() - x) * (p2.y() - y);
     }
     
 	/**
-	 * Returns the convex hull of the given set of points. Uses the Jarvis March
-	 * algorithm.
+	 * Returns the convex hull of the given set of points. For large point
+	 * sets, points located inside the octagon formed by extreme points are
+	 * discarded first (Akl-Toussaint heuristic). The hull of the remaining
+	 * points is computed with the monotone chain algorithm, that was found to
+	 * be faster than Chan's algorithm once interior points are discarded.
 	 * 
 	 * @param points
 	 *            a collection of points
 	 * @return the convex hull of the set of points
+	 * @see MonotoneChain2D
+	 * @see net.javageom.geom2d.polygon.convhull.Chan2D
 	 */
     public final static Polygon2D convexHull(Collection<? extends Point2D> points) {
-    	return new JarvisMarch2D().convexHull(points);
+    	// extract coordinates
+    	int n = points.size();
+    	double[] xs = new double[n];
+    	double[] ys = new double[n];
+    	int i = 0;
+    	for (Point2D point : points) {
+    		xs[i] = point.x();
+    		ys[i] = point.y();
+    		i++;
+    	}
+
+    	// discard interior points of large point sets
+    	if (n >= 1000) {
+    		int n2 = ConvexHulls2D.filterInteriorPoints(xs, ys, n);
+    		xs = Arrays.copyOf(xs, n2);
+    		ys = Arrays.copyOf(ys, n2);
+    	}
+
+    	return new MonotoneChain2D().convexHull(xs, ys);
     }
 
     /**
@@ -328,159 +358,268 @@ public final class Polygons2D {
     
     /**
      * Clips a polygon by a box. The result is a new polygon, that can be
-     * multiple.
+     * multiple.<p>
+     * 
+     * Each ring is clipped in a single pass on its coordinates. The portions
+     * of rings within the box are then connected by following the boundary
+     * of the box in counter-clockwise order. Rings totally within the box
+     * are kept. If no ring crosses the box boundary, the box is added to the
+     * result when it is contained in the polygon.
      * @see Polygon2D#clip(Box2D)
      */
     public final static Polygon2D clipPolygon(Polygon2D polygon, Box2D box) {
-    	// Clip the boundary using generic method
-    	Boundary2D boundary = polygon.boundary();
-        ContourArray2D<Contour2D> contours = 
-            Boundaries2D.clipBoundary(boundary, box);
-
-        // convert boundaries to linear rings
-        ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
-        for(Contour2D contour : contours)
-        	rings.add(convertContourToLinearRing(contour));
-        
+    	if (!box.isBounded())
+    		throw new UnboundedBox2DException(box);
+    	double[] bounds = new double[] {
+    			box.getMinX(), box.getMaxX(), box.getMinY(), box.getMaxY()};
+
+    	// clip each ring, and keep rings totally within the box
+    	ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
+    	ArrayList<PackedPointList2D> pieces = new ArrayList<PackedPointList2D>();
+    	for (LinearRing2D ring : polygon.contours()) {
+    		int n = ring.vertices.size();
+    		double[][] coords = Polylines2D.coordinates(ring.vertices);
+    		ArrayList<PackedPointList2D> clipped = Polylines2D.clip(coords[0], 
+    				coords[1], n, true, bounds[0], bounds[1], bounds[2], 
+    				bounds[3]);
+    		if (clipped == null) {
+    			rings.add(ring);
+    			continue;
+    		}
+    		
+    		// portions running backward along the box boundary come from
+    		// regions outside of the box
+    		for (PackedPointList2D piece : clipped)
+    			if (!isBackwardOnBoundary(piece, bounds))
+    				pieces.add(piece);
+    	}
+
+    	if (pieces.isEmpty()) {
+    		if (containsBoxBoundary(polygon, bounds))
+    			rings.add(LinearRing2D.createPacked(
+    					new double[] {bounds[0], bounds[1], bounds[1], bounds[0]}, 
+    					new double[] {bounds[2], bounds[2], bounds[3], bounds[3]}));
+    	} else {
+    		connectPieces(pieces, bounds, rings);
+    	}
+
         // Create a polygon, either simple or multiple, depending on the ring
         // number
-        if (rings.size() == 1)
-        	return SimplePolygon2D.create(rings.get(0).vertices());
-        else
-        	return MultiPolygon2D.create(rings);
+    	if (rings.size() != 1)
+    		return MultiPolygon2D.create(rings);
+    	LinearRing2D ring = rings.get(0);
+    	if (!ring.isPacked())
+    		return SimplePolygon2D.create(ring.vertices());
+    	SimplePolygon2D result = new SimplePolygon2D(0);
+    	result.vertices = new PackedPointList2D(
+    			(PackedPointList2D) ring.vertices);
+    	return result;
     }
-    
-    private final static LinearRing2D convertContourToLinearRing(
-    		Contour2D contour) {
-    	// process the basic case of simple class cast
-    	if (contour instanceof LinearRing2D)
-    		return (LinearRing2D) contour;
-    	
-    	// extract all vertices of the contour
-    	List<Point2D> vertices = new ArrayList<Point2D>();
-    	for(Point2D v : contour.singularPoints())
-    		vertices.add(v);
-
-    	// remove adjacent multiple vertices
-    	vertices = PointSets2D.filterMultipleVertices(vertices, true);
- 	
-    	// Create new ring with vertices
-    	return LinearRing2D.create(vertices);
+
+    /**
+     * Connects the portions of rings within a box to form new rings, by
+     * adding the portions of box boundary between the last point of each
+     * portion and the first point of the next one.
+     */
+    private final static void connectPieces(
+    		ArrayList<PackedPointList2D> pieces, double[] bounds, 
+    		ArrayList<LinearRing2D> rings) {
+    	// sort portions by position of their first point on the box boundary
+    	int np = pieces.size();
+    	double[] startPos = new double[np];
+    	double[] endPos = new double[np];
+    	Integer[] order = new Integer[np];
+    	for (int i = 0; i < np; i++) {
+    		PackedPointList2D piece = pieces.get(i);
+    		startPos[i] = boundaryPosition(piece.xs[0], piece.ys[0], bounds);
+    		endPos[i] = boundaryPosition(piece.xs[piece.size - 1], 
+    				piece.ys[piece.size - 1], bounds);
+    		order[i] = i;
+    	}
+    	final double[] keys = startPos;
+    	Arrays.sort(order, new Comparator<Integer>() {
+    		public int compare(Integer i1, Integer i2) {
+    			return Double.compare(keys[i1], keys[i2]);
+    		}
+    	});
+    	double[] sortedPos = new double[np];
+    	for (int i = 0; i < np; i++)
+    		sortedPos[i] = startPos[order[i]];
+
+    	boolean[] used = new boolean[np];
+    	for (int i0 = 0; i0 < np; i0++) {
+    		if (used[i0])
+    			continue;
+    		PackedPointList2D ring = new PackedPointList2D(16);
+    		int i = i0;
+    		while (true) {
+    			used[i] = true;
+    			PackedPointList2D piece = pieces.get(i);
+    			for (int k = 0; k < piece.size; k++)
+    				addVertex(ring, piece.xs[k], piece.ys[k]);
+
+    			// find the first portion starting after the end of this one
+    			int k = Arrays.binarySearch(sortedPos, endPos[i]);
+    			if (k < 0)
+    				k = -k - 1;
+    			else
+    				while (k > 0 && sortedPos[k - 1] == endPos[i])
+    					k--;
+    			int next = order[k == np ? 0 : k];
+
+    			// add the box corners between the two portions
+    			double d = startPos[next] - endPos[i];
+    			if (d < 0)
+    				d += 4;
+    			for (int c = (int) Math.floor(endPos[i]) + 1; 
+    					c < endPos[i] + d; c++) {
+    				int corner = c % 4;
+    				addVertex(ring, bounds[corner == 1 || corner == 2 ? 1 : 0], 
+    						bounds[corner < 2 ? 2 : 3]);
+    			}
+
+    			if (next == i0 || used[next])
+    				break;
+    			i = next;
+    		}
+
+    		// remove the last vertex if it is the same as the first one
+    		int n = ring.size;
+    		if (n > 1 && ring.xs[0] == ring.xs[n - 1] 
+    				&& ring.ys[0] == ring.ys[n - 1])
+    			n--;
+    		if (n >= 3)
+    			rings.add(LinearRing2D.createPacked(Arrays.copyOf(ring.xs, n), 
+    					Arrays.copyOf(ring.ys, n)));
+    	}
+    }
+
+    private final static void addVertex(PackedPointList2D list, double x, 
+    		double y) {
+    	int n = list.size;
+    	if (n > 0 && list.xs[n - 1] == x && list.ys[n - 1] == y)
+    		return;
+    	list.add(x, y);
+    }
+
+    /**
+     * Computes the position of a point on the boundary of the box, between 0
+     * and 4. The boundary starts at the lower left corner, and is oriented
+     * counter-clockwise. Each side corresponds to an interval of length 1.
+     */
+    private final static double boundaryPosition(double x, double y, 
+    		double[] bounds) {
+    	double xmin = bounds[0], xmax = bounds[1];
+    	double ymin = bounds[2], ymax = bounds[3];
+    	if (y == ymin && x < xmax)
+    		return (x - xmin) / (xmax - xmin);
+    	if (x == xmax && y < ymax)
+    		return 1 + (y - ymin) / (ymax - ymin);
+    	if (y == ymax && x > xmin)
+    		return 2 + (xmax - x) / (xmax - xmin);
+    	return 3 + (ymax - y) / (ymax - ymin);
+    }
+
+    /**
+     * Checks if a portion of ring runs along the box boundary in clockwise
+     * order, meaning that the region on its left is outside of the box.
+     */
+    private final static boolean isBackwardOnBoundary(PackedPointList2D piece,
+    		double[] bounds) {
+    	double d = 0;
+    	for (int i = 0; i < piece.size - 1; i++) {
+    		double x0 = piece.xs[i], y0 = piece.ys[i];
+    		double x1 = piece.xs[i + 1], y1 = piece.ys[i + 1];
+    		boolean along = (x0 == bounds[0] && x1 == bounds[0])
+    				|| (x0 == bounds[1] && x1 == bounds[1])
+    				|| (y0 == bounds[2] && y1 == bounds[2])
+    				|| (y0 == bounds[3] && y1 == bounds[3]);
+    		if (!along)
+    			return false;
+    		double di = boundaryPosition(x1, y1, bounds) 
+    				- boundaryPosition(x0, y0, bounds);
+    		if (di > 2)
+    			di -= 4;
+    		else if (di < -2)
+    			di += 4;
+    		d += di;
+    	}
+    	return d < 0;
+    }
+
+    /**
+     * Checks if the polygon contains the boundary of the box, assuming that
+     * no ring crosses it. The test is performed on a corner or the middle of
+     * a side of the box, that does not touch the polygon boundary.
+     */
+    private final static boolean containsBoxBoundary(Polygon2D polygon, 
+    		double[] bounds) {
+    	double xc = (bounds[0] + bounds[1]) / 2;
+    	double yc = (bounds[2] + bounds[3]) / 2;
+    	double[] px = new double[] {bounds[0], bounds[1], bounds[1], bounds[0], 
+    			xc, bounds[1], xc, bounds[0]};
+    	double[] py = new double[] {bounds[2], bounds[2], bounds[3], bounds[3], 
+    			bounds[2], yc, bounds[3], yc};
+    	for (int i = 0; i < px.length; i++) {
+    		boolean touch = false;
+    		for (LinearRing2D ring : polygon.contours()) {
+    			if (ring.distance(px[i], py[i]) <= Shape2D.ACCURACY) {
+    				touch = true;
+    				break;
+    			}
+    		}
+    		if (!touch)
+    			return polygon.contains(px[i], py[i]);
+    	}
+    	return polygon.contains(px[0], py[0]);
     }
     
     /**
-     * Computes the union of the two polygons. Uses the GPCJ library, developed by
-     * Solution Engineering, Inc.
+     * Computes the union of the two polygons.
+     * @see BooleanSweep2D
      */
     public final static Polygon2D union(Polygon2D polygon1, 
             Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.union(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return BooleanSweep2D.union(polygon1, polygon2);
+    }
+    
+    /**
+     * Computes the union of a collection of polygons. Polygons are merged
+     * by spatial proximity as a balanced tree, using the common fork-join
+     * pool. The result covers the same region as successive unions of the
+     * polygons.
+     * @see CascadedUnion2D
+     */
+    public final static Polygon2D union(
+    		Collection<? extends Polygon2D> polygons) {
+    	return new CascadedUnion2D().union(polygons);
     }
     
     /**
-     * Computes the intersection of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the intersection of the two polygons.
+     * @see BooleanSweep2D
      */
     public final static Polygon2D intersection(Polygon2D polygon1, 
             Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.intersection(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return BooleanSweep2D.intersection(polygon1, polygon2);
     }
     
     /**
-     * Computes the exclusive XOR of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the exclusive XOR of the two polygons.
+     * @see BooleanSweep2D
      */
     public final static Polygon2D exclusiveOr(Polygon2D polygon1, 
     		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.xor(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return BooleanSweep2D.exclusiveOr(polygon1, polygon2);
     }
     
     /**
-     * Computes the Difference of the two polygons. Uses the modified GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the Difference of the two polygons.
+     * @see BooleanSweep2D
      * @since 0.9.1
      */
     public final static Polygon2D difference(Polygon2D polygon1, 
     		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.difference(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
-    }
-    
-    private final static Poly convertToGpcjPolygon(Polygon2D polygon) {
-    	PolyDefault result = new PolyDefault();
-    	for (LinearRing2D ring : polygon.contours())
-    		result.add(convertToGpcjSimplePolygon(ring));
-    	return result;
-    }
-    
-    private final static PolySimple convertToGpcjSimplePolygon(
-    		LinearRing2D ring) {
-    	PolySimple poly = new PolySimple();
-    	for (Point2D point : ring.vertices())
-    		poly.add(new com.seisw.util.geom.Point2D(point.x(), point.y()));
-    	return poly;
-    }
-    
-    
-    private final static Polygon2D convertFromGpcjPolygon(Poly poly) {
-    	int n = poly.getNumInnerPoly();
-    	
-    	// if the result is single, create a SimplePolygon
-    	if (n == 1) {
-    		Point2D[] points = extractPolyVertices(poly.getInnerPoly(0));
-    		return SimplePolygon2D.create(points);
-    	}
-    	
-    	// extract the different rings of the resulting polygon
-    	LinearRing2D[] rings = new LinearRing2D[n];
-    	for (int i = 0; i < n; i++) 
-    		rings[i] = convertFromGpcjSimplePolygon(poly.getInnerPoly(i));
-    	
-    	// create a multiple polygon
-    	return MultiPolygon2D.create(rings);
-    }
-    
-    private final static LinearRing2D convertFromGpcjSimplePolygon(
-    		Poly poly) {
-    	return LinearRing2D.create(extractPolyVertices(poly));
-    }
-    
-    private final static Point2D[] extractPolyVertices(Poly poly) {
-    	int n = poly.getNumPoints();
-    	Point2D[] points = new Point2D[n];
-    	for (int i = 0; i < n; i++)
-    		points[i] = new Point2D(poly.getX(i), poly.getY(i));
-    	return points;
+    	return BooleanSweep2D.difference(polygon1, polygon2);
     }
 }
@@ -70,6 +70,18 @@ implements CirculinearContinuousCurve2D, Cloneable {
     	return new Polyline2D(points);
     }
 
+    /**
+     * Static factory for creating a new Polyline2D whose vertices are stored
+     * as arrays of coordinates instead of Point2D instances. The input
+     * arrays are copied.
+     * @since 0.11.3
+     */
+    public static Polyline2D createPacked(double[] xcoords, double[] ycoords) {
+    	Polyline2D polyline = new Polyline2D(0);
+    	polyline.vertices = new PackedPointList2D(xcoords, ycoords);
+    	return polyline;
+    }
+
     
     // ===================================================================
     // Contructors
@@ -117,7 +129,21 @@ implements CirculinearContinuousCurve2D, Cloneable {
      * algorithm.
      */
     public Polyline2D simplify(double distMax) {
-    	return new Polyline2D(Polylines2D.simplifyPolyline(this.vertices, distMax));
+    	return simplify(distMax, 
+    			Polylines2D.SimplificationMethod.DOUGLAS_PEUCKER);
+    }
+
+    /**
+     * Returns a simplified version of this polyline, by using the specified
+     * algorithm. The extremities of the polyline are kept.
+     * @since 0.11.3
+     */
+    public Polyline2D simplify(double tolerance, 
+    		Polylines2D.SimplificationMethod method) {
+    	Polyline2D polyline = new Polyline2D(0);
+    	polyline.vertices = Polylines2D.simplify(this.vertices, false, 
+    			tolerance, method);
+    	return polyline;
     }
 
     /**
@@ -376,6 +402,13 @@ implements CirculinearContinuousCurve2D, Cloneable {
      * @see math.geom2d.Shape2D#transform(math.geom2d.AffineTransform2D)
      */
     public Polyline2D transform(AffineTransform2D trans) {
+    	// keep packed storage
+    	if (vertices instanceof PackedPointList2D) {
+    		Polyline2D res = new Polyline2D(0);
+    		res.vertices = ((PackedPointList2D) vertices).transform(trans);
+    		return res;
+    	}
+    	
         Point2D[] pts = new Point2D[vertices.size()];
 		for (int i = 0; i < vertices.size(); i++)
             pts[i] = trans.transform(vertices.get(i));
@@ -5,11 +5,17 @@
 package net.javageom.geom2d.polygon;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 
+import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Shape2D;
+import net.javageom.geom2d.Vector2D;
 import net.javageom.geom2d.line.LineSegment2D;
+import net.javageom.geom2d.line.LinearShape2D;
 import net.javageom.geom2d.point.PointSets2D;
 
 /**
@@ -20,105 +26,467 @@ import net.javageom.geom2d.point.PointSets2D;
  */
 public abstract class Polylines2D {
 
-	static ArrayList<Point2D> simplifyPolyline(ArrayList<Point2D> vertices,
-			double distMax) {
-		// index of last vertex
-    	int last = vertices.size() - 1;
-		int[] inds = recurseSimplify(vertices, 0, last, distMax);
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		newVerts.add(vertices.get(last));
-		
-		return newVerts;
-    }
-    
-	static ArrayList<Point2D> simplifyClosedPolyline(ArrayList<Point2D> vertices,
-			double distMax) {
-		
-		
-		// index of last vertex
-    	int nv = vertices.size();
-    	
-    	// first find index of farthest vertex from origin
-    	int indMax = 0;
-    	double maxDist = 0;
-    	Point2D p0 = vertices.get(0);
-    	for (int i = 1; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(p0);
-    		if (dist > maxDist) {
-    			maxDist = dist;
-    			indMax = i;
-    		}
-    	}
-    	
-    	int[] inds1 = recurseSimplify(vertices, 0, indMax, distMax);
-    	int[] inds2 = recurseSimplify(vertices, indMax, nv, distMax);
-    	
-    	int[] inds = concatInds(inds1, indMax, inds2);
-    	
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		
-		return newVerts;
-    }
-    
+	// ===================================================================
+	// Simplification of polylines
+
 	/**
-	 * Used for constructing simplified polylines.
-	 */
-	private static int[] recurseSimplify(ArrayList<Point2D> vertices, int first,
-			int last, double distMax) {
-		if (last - first < 2) {
-			return new int[0];
-		}
-		
-		int nv = vertices.size();
-		Point2D p0 = vertices.get(first);
-		Point2D p1 = vertices.get(last % nv);
-		LineSegment2D line = new LineSegment2D(p0, p1);
-
-		double dist;
-		double midDist = 0;
-		int indMid = 0;
-		for (int ind = first; ind < last; ind++) {
-			dist = line.distance(vertices.get(ind));
-			if (dist > midDist) {
-				midDist = dist;
-				indMid = ind;
-			}
+	 * The algorithms available for simplifying linear curves.
+	 * 
+	 * @see LinearCurve2D#simplify(double, SimplificationMethod)
+	 * @since 0.11.3
+	 */
+	public enum SimplificationMethod {
+		/**
+		 * The Douglas-Peucker algorithm: vertices farther than the tolerance
+		 * from the simplified curve are kept.
+		 */
+		DOUGLAS_PEUCKER,
+
+		/**
+		 * The Visvalingam-Whyatt algorithm: vertices are removed by
+		 * increasing area of the triangle they form with their neighbours,
+		 * until all triangles have an area larger than the tolerance.
+		 */
+		VISVALINGAM
+	}
+
+	/**
+	 * Returns the vertices kept by the simplification of a linear curve. The
+	 * first vertex is always kept, as well as the last one for open curves.
+	 * The result uses packed storage if the input does.
+	 */
+	static List<Point2D> simplify(List<Point2D> vertices, boolean closed,
+			double tolerance, SimplificationMethod method) {
+		int n = vertices.size();
+		double[][] coords = coordinates(vertices);
+		boolean[] keep;
+		if (method == SimplificationMethod.VISVALINGAM)
+			keep = visvalingamMask(coords[0], coords[1], n, closed, tolerance);
+		else
+			keep = douglasPeuckerMask(coords[0], coords[1], n, closed,
+					tolerance);
+
+		int nk = 0;
+		for (int i = 0; i < n; i++)
+			if (keep[i])
+				nk++;
+
+		if (vertices instanceof PackedPointList2D) {
+			PackedPointList2D res = new PackedPointList2D(nk);
+			for (int i = 0; i < n; i++)
+				if (keep[i])
+					res.add(coords[0][i], coords[1][i]);
+			return res;
 		}
-		
-		if (midDist < distMax) {
-			return new int[]{};
-		}
-		
-		// Recursively subdivide each of the resulting pieces
-		int[] inds1 = recurseSimplify(vertices, first, indMid, distMax);
-		int[] inds2 = recurseSimplify(vertices, indMid, last, distMax);
-		
-		int[] res = concatInds(inds1, indMid, inds2);
-		
-		// return concatenated indices
+		ArrayList<Point2D> res = new ArrayList<Point2D>(nk);
+		for (int i = 0; i < n; i++)
+			if (keep[i])
+				res.add(vertices.get(i));
 		return res;
 	}
-	
-	private static int[] concatInds(int[] inds1, int indMid, int[] inds2) {
-		int n = inds1.length + inds2.length + 1;
-		
-		int[] res = new int[n];
-
-		for (int i = 0; i < inds1.length; i++)
-			res[i] = inds1[i];
-		res[inds1.length] = indMid;
-		for (int i = inds1.length + 1; i < n; i++)
-			res[i] = inds2[i - (inds1.length + 1)];
-		
-		return res;
+
+	/**
+	 * Computes the vertices kept by the Douglas-Peucker algorithm. Ranges of
+	 * vertices are processed using an explicit stack. For closed curves, the
+	 * curve is first split at the vertex farthest from the first one.
+	 */
+	static boolean[] douglasPeuckerMask(double[] xs, double[] ys, int n,
+			boolean closed, double distMax) {
+		boolean[] keep = new boolean[n];
+		if (n < 3) {
+			Arrays.fill(keep, true);
+			return keep;
+		}
+
+		// ranges of vertices to process, the end index n denotes vertex 0
+		int[] stack = new int[64];
+		int top = 0;
+		keep[0] = true;
+		if (closed) {
+			int indMax = 0;
+			double maxDist = 0;
+			for (int i = 1; i < n; i++) {
+				double dx = xs[i] - xs[0], dy = ys[i] - ys[0];
+				double dist = dx * dx + dy * dy;
+				if (dist > maxDist) {
+					maxDist = dist;
+					indMax = i;
+				}
+			}
+			if (indMax == 0)
+				return keep;
+			keep[indMax] = true;
+			stack[top++] = indMax;
+			stack[top++] = n;
+			stack[top++] = 0;
+			stack[top++] = indMax;
+		} else {
+			keep[n - 1] = true;
+			stack[top++] = 0;
+			stack[top++] = n - 1;
+		}
+
+		double distMax2 = distMax * distMax;
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+			if (last - first < 2)
+				continue;
+
+			// find the vertex farthest from the segment joining extremities
+			double x0 = xs[first], y0 = ys[first];
+			int il = last == n ? 0 : last;
+			double dx = xs[il] - x0, dy = ys[il] - y0;
+			double len2 = dx * dx + dy * dy;
+			double maxDist = 0;
+			int indMid = first;
+			for (int i = first + 1; i < last; i++) {
+				double t = len2 == 0 ? 0
+						: ((xs[i] - x0) * dx + (ys[i] - y0) * dy) / len2;
+				t = Math.max(Math.min(t, 1), 0);
+				double ex = x0 + t * dx - xs[i];
+				double ey = y0 + t * dy - ys[i];
+				double dist = ex * ex + ey * ey;
+				if (dist > maxDist) {
+					maxDist = dist;
+					indMid = i;
+				}
+			}
+
+			if (indMid == first || maxDist < distMax2)
+				continue;
+
+			// keep the vertex, and subdivide the range
+			keep[indMid] = true;
+			if (top + 4 > stack.length)
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			stack[top++] = indMid;
+			stack[top++] = last;
+			stack[top++] = first;
+			stack[top++] = indMid;
+		}
+		return keep;
+	}
+
+	/**
+	 * Computes the vertices kept by the Visvalingam-Whyatt algorithm. The
+	 * effective areas of the vertices are stored in an indexed min-heap, and
+	 * updated for the neighbours of each removed vertex, resulting in
+	 * O(n log n) complexity. The first vertex is always kept, and closed
+	 * curves keep at least three vertices.
+	 */
+	static boolean[] visvalingamMask(double[] xs, double[] ys, int n,
+			boolean closed, double minArea) {
+		boolean[] keep = new boolean[n];
+		Arrays.fill(keep, true);
+		if (n < 3)
+			return keep;
+
+		// doubly linked list of remaining vertices
+		int[] prev = new int[n];
+		int[] next = new int[n];
+		for (int i = 0; i < n; i++) {
+			prev[i] = i - 1;
+			next[i] = i + 1;
+		}
+		if (closed) {
+			prev[0] = n - 1;
+			next[n - 1] = 0;
+		} else {
+			next[n - 1] = -1;
+		}
+
+		// heap of vertex indices, ordered by effective area
+		double[] areas = new double[n];
+		int[] heap = new int[n];
+		int[] pos = new int[n];
+		Arrays.fill(pos, -1);
+		int size = 0;
+		for (int i = 1; i < n; i++) {
+			if (next[i] < 0)
+				continue;
+			areas[i] = triangleArea(xs, ys, prev[i], i, next[i]);
+			heap[size] = i;
+			pos[i] = size;
+			size++;
+		}
+		for (int k = size / 2 - 1; k >= 0; k--)
+			siftDown(heap, pos, areas, size, k);
+
+		int remaining = n;
+		double lastArea = 0;
+		while (size > 0 && areas[heap[0]] < minArea
+				&& (!closed || remaining > 3)) {
+			// remove the vertex with smallest area
+			int i = heap[0];
+			size--;
+			pos[i] = -1;
+			if (size > 0) {
+				heap[0] = heap[size];
+				pos[heap[0]] = 0;
+				siftDown(heap, pos, areas, size, 0);
+			}
+			keep[i] = false;
+			remaining--;
+			lastArea = Math.max(lastArea, areas[i]);
+
+			int p = prev[i], q = next[i];
+			next[p] = q;
+			prev[q] = p;
+
+			// update the areas of neighbours, such that vertices are removed
+			// by increasing effective areas
+			for (int k = 0; k < 2; k++) {
+				int j = k == 0 ? p : q;
+				if (pos[j] < 0)
+					continue;
+				double area = Math.max(lastArea,
+						triangleArea(xs, ys, prev[j], j, next[j]));
+				double old = areas[j];
+				areas[j] = area;
+				if (area < old)
+					siftUp(heap, pos, areas, pos[j]);
+				else
+					siftDown(heap, pos, areas, size, pos[j]);
+			}
+		}
+		return keep;
+	}
+
+	private static double triangleArea(double[] xs, double[] ys, int i0,
+			int i1, int i2) {
+		return Math.abs((xs[i1] - xs[i0]) * (ys[i2] - ys[i0])
+				- (xs[i2] - xs[i0]) * (ys[i1] - ys[i0])) / 2;
+	}
+
+	private static void siftUp(int[] heap, int[] pos, double[] keys, int k) {
+		int i = heap[k];
+		while (k > 0) {
+			int parent = (k - 1) >>> 1;
+			int ip = heap[parent];
+			if (keys[ip] <= keys[i])
+				break;
+			heap[k] = ip;
+			pos[ip] = k;
+			k = parent;
+		}
+		heap[k] = i;
+		pos[i] = k;
+	}
+
+	private static void siftDown(int[] heap, int[] pos, double[] keys,
+			int size, int k) {
+		int i = heap[k];
+		while (true) {
+			int child = 2 * k + 1;
+			if (child >= size)
+				break;
+			if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]])
+				child++;
+			int ic = heap[child];
+			if (keys[i] <= keys[ic])
+				break;
+			heap[k] = ic;
+			pos[ic] = k;
+			k = child;
+		}
+		heap[k] = i;
+		pos[i] = k;
+	}
+
+	// ===================================================================
+	// Clipping by boxes
+
+	/**
+	 * Clips the linear curve with n vertices by the box given by its bounds,
+	 * by computing the portion of each edge within the box with the
+	 * Liang-Barsky algorithm. Returns the portions of the curve within the
+	 * box, or null if the whole curve is within the box. Portions reduced to
+	 * a single point are ignored. For closed curves, the portions before and
+	 * after the first vertex are merged. Extremities of the portions that
+	 * are not vertices of the curve lie exactly on the box boundary.
+	 */
+	static ArrayList<PackedPointList2D> clip(double[] xs, double[] ys, int n,
+			boolean closed, double xmin, double xmax, double ymin,
+			double ymax) {
+		return clip(xs, ys, n, closed, xmin, xmax, ymin, ymax, null);
+	}
+
+	/**
+	 * Clips the linear curve with n vertices by the box given by its bounds,
+	 * processing only the edges within the given ranges, stored as pairs of
+	 * first and last+1 edge indices in increasing order. The other edges
+	 * must be outside of the box. If ranges is null, all edges are
+	 * processed.
+	 * 
+	 * @see MonotoneChains2D#edgeRanges(double, double, double, double)
+	 */
+	static ArrayList<PackedPointList2D> clip(double[] xs, double[] ys, int n,
+			boolean closed, double xmin, double xmax, double ymin,
+			double ymax, int[] ranges) {
+		ArrayList<PackedPointList2D> pieces = new ArrayList<PackedPointList2D>();
+		if (n == 0)
+			return pieces;
+		if (n == 1) {
+			if (xs[0] < xmin || xs[0] > xmax || ys[0] < ymin || ys[0] > ymax)
+				return pieces;
+			return null;
+		}
+
+		double[] bounds = new double[] {xmin, xmax, ymin, ymax};
+		double[] point = new double[2];
+		double[] ps = new double[4];
+		double[] qs = new double[4];
+		PackedPointList2D current = null;
+		PackedPointList2D first = null;
+		boolean exited = false;
+
+		int ne = closed ? n : n - 1;
+		if (ranges == null)
+			ranges = new int[] {0, ne};
+		int next = 0;
+		for (int range = 0; range < ranges.length; range += 2) {
+			// the edges between two ranges are outside of the box
+			if (ranges[range] > next && current != null) {
+				addPiece(pieces, current);
+				current = null;
+				exited = true;
+			}
+			next = ranges[range + 1];
+
+			for (int i = ranges[range]; i < next; i++) {
+				int j = i + 1 == n ? 0 : i + 1;
+				double x0 = xs[i], y0 = ys[i];
+				double dx = xs[j] - x0, dy = ys[j] - y0;
+
+				// Liang-Barsky: parametric bounds of the edge within the box,
+				// and the sides of the box that define them
+				double t0 = 0, t1 = 1;
+				int side0 = -1, side1 = -1;
+				boolean reject = false;
+				ps[0] = -dx;
+				ps[1] = dx;
+				ps[2] = -dy;
+				ps[3] = dy;
+				qs[0] = x0 - xmin;
+				qs[1] = xmax - x0;
+				qs[2] = y0 - ymin;
+				qs[3] = ymax - y0;
+				for (int k = 0; k < 4 && !reject; k++) {
+					double p = ps[k], q = qs[k];
+					if (p == 0) {
+						reject = q < 0;
+						continue;
+					}
+					double r = q / p;
+					if (p < 0) {
+						if (r > t1)
+							reject = true;
+						else if (r > t0) {
+							t0 = r;
+							side0 = k;
+						}
+					} else {
+						if (r < t0)
+							reject = true;
+						else if (r < t1) {
+							t1 = r;
+							side1 = k;
+						}
+					}
+				}
+
+				if (reject) {
+					if (current != null) {
+						addPiece(pieces, current);
+						current = null;
+						exited = true;
+					}
+					continue;
+				}
+
+				// start a new portion, either at the vertex or at the entry point
+				if (current == null) {
+					current = new PackedPointList2D(8);
+					if (side0 < 0) {
+						current.add(x0, y0);
+						if (i == 0)
+							first = current;
+					} else {
+						edgePoint(x0, y0, dx, dy, t0, side0, bounds, point);
+						current.add(point[0], point[1]);
+					}
+				} else if (side0 >= 0) {
+					// the vertex is outside only because of rounding errors
+					edgePoint(x0, y0, dx, dy, t0, side0, bounds, point);
+					addPoint(current, point[0], point[1]);
+				}
+
+				// either end the portion at the exit point, or add the vertex
+				if (side1 < 0) {
+					addPoint(current, xs[j], ys[j]);
+				} else {
+					edgePoint(x0, y0, dx, dy, t1, side1, bounds, point);
+					addPoint(current, point[0], point[1]);
+					addPiece(pieces, current);
+					current = null;
+					exited = true;
+				}
+			}
+		}
+
+		// the edges after the last range are outside of the box
+		if (next < ne && current != null) {
+			addPiece(pieces, current);
+			current = null;
+			exited = true;
+		}
+
+		if (current != null) {
+			// check if the whole curve is within the box
+			if (!exited && first == current)
+				return null;
+
+			// merge the last portion with the portion starting at vertex 0
+			if (closed && first != null && !pieces.isEmpty()
+					&& pieces.get(0) == first) {
+				for (int i = 1; i < first.size; i++)
+					addPoint(current, first.xs[i], first.ys[i]);
+				pieces.set(0, current);
+			} else {
+				addPiece(pieces, current);
+			}
+		}
+		return pieces;
+	}
+
+	/**
+	 * Computes the point at position t on the edge, such that the coordinate
+	 * corresponding to the given side is exactly on the box boundary.
+	 */
+	private static void edgePoint(double x0, double y0, double dx, double dy,
+			double t, int side, double[] bounds, double[] point) {
+		double x = x0 + t * dx;
+		double y = y0 + t * dy;
+		if (side < 2)
+			x = bounds[side];
+		else
+			y = bounds[side];
+		point[0] = Math.max(Math.min(x, bounds[1]), bounds[0]);
+		point[1] = Math.max(Math.min(y, bounds[3]), bounds[2]);
+	}
+
+	private static void addPoint(PackedPointList2D list, double x, double y) {
+		int n = list.size;
+		if (n > 0 && list.xs[n - 1] == x && list.ys[n - 1] == y)
+			return;
+		list.add(x, y);
+	}
+
+	private static void addPiece(ArrayList<PackedPointList2D> pieces,
+			PackedPointList2D piece) {
+		if (piece.size > 1)
+			pieces.add(piece);
 	}
 
  	/**
@@ -180,4 +548,364 @@ public abstract class Polylines2D {
 
         return points;
     }
+
+	// ===================================================================
+	// Computations on vertex coordinates
+
+	/**
+	 * Returns the coordinates of the vertices as two arrays. The inner arrays
+	 * are returned for packed storage, and may be longer than the number of
+	 * vertices. Otherwise, new arrays are created.
+	 */
+	static double[][] coordinates(List<Point2D> vertices) {
+		if (vertices instanceof PackedPointList2D) {
+			PackedPointList2D list = (PackedPointList2D) vertices;
+			return new double[][]{list.xs, list.ys};
+		}
+
+		int n = vertices.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			Point2D vertex = vertices.get(i);
+			xs[i] = vertex.x();
+			ys[i] = vertex.y();
+		}
+		return new double[][]{xs, ys};
+	}
+
+	/**
+	 * Checks that the arrays given to bulk queries have the same length.
+	 */
+	static void checkLengths(double[] xs, double[] ys, int n) {
+		if (xs.length != ys.length || xs.length != n)
+			throw new IllegalArgumentException(
+					"Coordinate and result arrays must have the same length");
+	}
+
+	/**
+	 * Returns the number of edges of the linear curve with n vertices. For
+	 * closed curves, the edge joining the last vertex to the first one is
+	 * counted only if the two vertices differ, as in LinearRing2D.edges().
+	 */
+	static int edgeNumber(double[] xs, double[] ys, int n, boolean closed) {
+		if (n < 2)
+			return 0;
+		if (closed && Math.hypot(xs[0] - xs[n - 1], ys[0] - ys[n - 1])
+				> Shape2D.ACCURACY)
+			return n;
+		return n - 1;
+	}
+
+	/**
+	 * Computes the length of the linear curve with n vertices.
+	 */
+	static double length(double[] xs, double[] ys, int n, boolean closed) {
+		int ne = edgeNumber(xs, ys, n, closed);
+		double sum = 0;
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double dx = xs[i2] - xs[i], dy = ys[i2] - ys[i];
+			sum += Math.sqrt(dx * dx + dy * dy);
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes the squared distance between the point (x, y) and the edges
+	 * of the linear curve. Edges with zero length are ignored. Returns
+	 * Double.MAX_VALUE if the curve has no edge.
+	 */
+	static double sqDistance(double[] xs, double[] ys, int n, boolean closed,
+			double x, double y) {
+		int ne = edgeNumber(xs, ys, n, closed);
+		double minDist = Double.MAX_VALUE;
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double x0 = xs[i], y0 = ys[i];
+			double dx = xs[i2] - x0, dy = ys[i2] - y0;
+			double len2 = dx * dx + dy * dy;
+			if (len2 == 0)
+				continue;
+
+			// position of projection, clamped to the edge
+			double t = ((x - x0) * dx + (y - y0) * dy) / len2;
+			t = Math.max(Math.min(t, 1), 0);
+			double ex = x0 + t * dx - x;
+			double ey = y0 + t * dy - y;
+			minDist = Math.min(minDist, ex * ex + ey * ey);
+		}
+		return minDist;
+	}
+
+	/**
+	 * Computes the distance between the point (x, y) and the edges of the
+	 * linear curve. Edges with zero length are ignored. Returns
+	 * Double.MAX_VALUE if the curve has no edge.
+	 */
+	static double distance(double[] xs, double[] ys, int n, boolean closed,
+			double x, double y) {
+		double dist = sqDistance(xs, ys, n, closed, x, y);
+		return dist == Double.MAX_VALUE ? dist : Math.sqrt(dist);
+	}
+
+	/**
+	 * Computes the position of the projection of the point (x, y) on the
+	 * linear curve. The integer part of the result is the index of the
+	 * closest edge. Returns NaN if the curve has no edge.
+	 */
+	static double project(double[] xs, double[] ys, int n, boolean closed,
+			double x, double y) {
+		int ne = edgeNumber(xs, ys, n, closed);
+		double minDist = Double.POSITIVE_INFINITY;
+		double pos = Double.NaN;
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double x0 = xs[i], y0 = ys[i];
+			double dx = xs[i2] - x0, dy = ys[i2] - y0;
+			double len2 = dx * dx + dy * dy;
+
+			// position of projection, clamped to the edge
+			double t = 0;
+			if (len2 >= Shape2D.ACCURACY)
+				t = Math.max(Math.min(((x - x0) * dx + (y - y0) * dy) / len2, 1), 0);
+			double ex = x0 + t * dx - x;
+			double ey = y0 + t * dy - y;
+			double dist = ex * ex + ey * ey;
+			if (dist < minDist) {
+				minDist = dist;
+				pos = t + i;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * Computes the position of a point located on the linear curve. Returns
+	 * NaN if the point does not belong to the closest edge, with a tolerance
+	 * proportional to the edge length.
+	 */
+	static double position(double[] xs, double[] ys, int n, boolean closed,
+			double x, double y) {
+		int ne = edgeNumber(xs, ys, n, closed);
+		double minDist = Double.POSITIVE_INFINITY;
+		double pos = Double.NaN;
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double x0 = xs[i], y0 = ys[i];
+			double dx = xs[i2] - x0, dy = ys[i2] - y0;
+			double len2 = dx * dx + dy * dy;
+
+			// unclamped position on the supporting line
+			double t = 0;
+			if (len2 >= Shape2D.ACCURACY)
+				t = ((x - x0) * dx + (y - y0) * dy) / len2;
+			double tc = Math.max(Math.min(t, 1), 0);
+			double ex = x0 + tc * dx - x;
+			double ey = y0 + tc * dy - y;
+			double dist = ex * ex + ey * ey;
+			if (dist < minDist) {
+				minDist = dist;
+				double eps = Math.sqrt(len2) * Shape2D.ACCURACY;
+				pos = t < -eps || t > 1 + eps ? Double.NaN : t + i;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * Checks if the point (x, y) lies on one of the edges of the linear
+	 * curve, with precision given by Shape2D.ACCURACY.
+	 */
+	static boolean edgesContain(double[] xs, double[] ys, int n,
+			boolean closed, double x, double y) {
+		int ne = edgeNumber(xs, ys, n, closed);
+		for (int i = 0; i < ne; i++) {
+			int i2 = i + 1 == n ? 0 : i + 1;
+			double x0 = xs[i], y0 = ys[i];
+			double dx = xs[i2] - x0, dy = ys[i2] - y0;
+			double len2 = dx * dx + dy * dy;
+			if (len2 < Shape2D.ACCURACY)
+				continue;
+
+			// check the point is on the supporting line
+			if (Math.abs((x - x0) * dy - (y - y0) * dx) / len2
+					>= Shape2D.ACCURACY)
+				continue;
+
+			// check the point is within the bounds of the edge
+			double t = ((x - x0) * dx + (y - y0) * dy) / len2;
+			if (t >= -Shape2D.ACCURACY && t - 1 <= Shape2D.ACCURACY)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the intersections of the edges of the linear curve with a
+	 * linear shape. Edges parallel to the linear shape are ignored, and each
+	 * intersection point is returned only once.
+	 */
+	static Collection<Point2D> intersections(double[] xs, double[] ys, int n,
+			boolean closed, LinearShape2D line) {
+		return intersections(xs, ys, n, closed, line, null);
+	}
+
+	/**
+	 * Computes the intersections of the linear shape with the edges of the
+	 * linear curve within the given ranges, stored as pairs of first and
+	 * last+1 edge indices in increasing order. If ranges is null, all edges
+	 * are processed.
+	 * 
+	 * @see MonotoneChains2D#edgeRanges(LinearShape2D)
+	 */
+	static Collection<Point2D> intersections(double[] xs, double[] ys, int n,
+			boolean closed, LinearShape2D line, int[] ranges) {
+		// use a set for removing duplicate points in linear time
+		LinkedHashSet<Point2D> points = new LinkedHashSet<Point2D>();
+
+		Vector2D vect = line.direction();
+		double dx2 = vect.x();
+		double dy2 = vect.y();
+		double norm2 = Math.sqrt(dx2 * dx2 + dy2 * dy2);
+		Point2D origin = line.origin();
+		double x2 = origin.x();
+		double y2 = origin.y();
+
+		if (ranges == null)
+			ranges = new int[] {0, edgeNumber(xs, ys, n, closed)};
+		for (int r = 0; r < ranges.length; r += 2) {
+			for (int i = ranges[r]; i < ranges[r + 1]; i++) {
+				int i1 = i + 1 == n ? 0 : i + 1;
+				double x0 = xs[i], y0 = ys[i];
+				double dx = xs[i1] - x0, dy = ys[i1] - y0;
+
+				// do not process edges parallel to intersection line
+				double denom = dx * dy2 - dy * dx2;
+				if (Math.abs(denom) < Shape2D.ACCURACY
+						|| Math.abs(denom) < Shape2D.ACCURACY * norm2
+								* Math.sqrt(dx * dx + dy * dy))
+					continue;
+
+				// position of intersection on the edge
+				double t = ((y0 - y2) * dx2 - (x0 - x2) * dy2) / denom;
+				if (t <= -Shape2D.ACCURACY || t >= 1 + Shape2D.ACCURACY)
+					continue;
+
+				Point2D point = new Point2D(x0 + t * dx, y0 + t * dy);
+				if (line.containsProjection(point))
+					points.add(point);
+			}
+		}
+
+		return new ArrayList<Point2D>(points);
+	}
+
+	/**
+	 * Computes the bounding box of the n vertices.
+	 */
+	static Box2D boundingBox(double[] xs, double[] ys, int n) {
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			double x = xs[i], y = ys[i];
+			if (x < xmin) xmin = x;
+			if (x > xmax) xmax = x;
+			if (y < ymin) ymin = y;
+			if (y > ymax) ymax = y;
+		}
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+	/**
+	 * Computes the signed area of the closed polyline with n vertices.
+	 */
+	static double area(double[] xs, double[] ys, int n) {
+		if (n == 0)
+			return 0;
+		double area = 0;
+		double xp = xs[n - 1], yp = ys[n - 1];
+		for (int i = 0; i < n; i++) {
+			area += xp * ys[i] - yp * xs[i];
+			xp = xs[i];
+			yp = ys[i];
+		}
+		return area / 2;
+	}
+
+	/**
+	 * Computes the winding number of the closed polyline with n vertices
+	 * around the point (x, y).
+	 * 
+	 * @see Polygons2D#windingNumber(Collection, Point2D)
+	 */
+	static int windingNumber(double[] xs, double[] ys, int n, double x,
+			double y) {
+		int wn = 0;
+		if (n == 0)
+			return 0;
+
+		// iterate on couple of vertices, starting from couple (last,first)
+		double x1 = xs[n - 1], y1 = ys[n - 1];
+		for (int i = 0; i < n; i++) {
+			double x2 = xs[i], y2 = ys[i];
+			if (y1 <= y) {
+				// an upward crossing, with point on the left
+				if (y2 > y && (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1) > 0)
+					wn++;
+			} else {
+				// a downward crossing, with point on the right
+				if (y2 <= y && (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1) < 0)
+					wn--;
+			}
+			x1 = x2;
+			y1 = y2;
+		}
+		return wn;
+	}
+
+	/**
+	 * Checks if the point (x, y) is inside the domain bounded by the closed
+	 * polyline with n vertices. Points on the boundary are considered inside.
+	 * For clockwise oriented polylines, the complement of the enclosed region
+	 * is considered.
+	 */
+	static boolean isInside(double[] xs, double[] ys, int n, double x,
+			double y) {
+		return isInside(xs, ys, n, area(xs, ys, n) > 0, x, y);
+	}
+
+	/**
+	 * Checks if the point (x, y) is inside the domain bounded by the closed
+	 * polyline with n vertices, whose orientation is already known.
+	 */
+	static boolean isInside(double[] xs, double[] ys, int n, boolean direct,
+			double x, double y) {
+		if (edgesContain(xs, ys, n, true, x, y))
+			return true;
+
+		int winding = windingNumber(xs, ys, n, x, y);
+		return winding == (direct ? 1 : 0);
+	}
+
+	/**
+	 * Computes the closest vertex to the point (x, y), or -1 if there is no
+	 * vertex.
+	 */
+	static int closestVertexIndex(double[] xs, double[] ys, int n, double x,
+			double y) {
+		double minDist = Double.POSITIVE_INFINITY;
+		int index = -1;
+		for (int i = 0; i < n; i++) {
+			double dx = xs[i] - x, dy = ys[i] - y;
+			double dist = dx * dx + dy * dy;
+			if (dist < minDist) {
+				index = i;
+				minDist = dist;
+			}
+		}
+		return index;
+	}
 }
@@ -0,0 +1,573 @@
+/**
+ * File: 	PreparedPolygon2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Shape2D;
+
+/**
+ * A read-only index of the edges of a polygon, designed for testing a large
+ * number of points against the same polygon.<p>
+ *
+ * The bounding box of the polygon is divided into horizontal bands of equal
+ * height, and each band stores the edges that cross it. Edges that cross the
+ * whole band are sorted by abscissa, and the contribution to the winding
+ * number of the edges on the right of each of them is precomputed. A query
+ * finds the band of the point, locates the point among the sorted edges by
+ * binary search, and tests individually only the edges whose extent contains
+ * the abscissa of the point, and the edges having a vertex within the band.
+ * For usual polygons, this results in a logarithmic number of operations.
+ * Queries do not allocate memory.<p>
+ *
+ * The index is built from the contours of the polygon at creation time, and
+ * is not updated if the polygon is modified later. As it is immutable, it
+ * can be queried concurrently by several threads.<p>
+ *
+ * Points located on the boundary are considered as inside, as for
+ * SimplePolygon2D. Other points are inside if the total winding number of the
+ * contours around the point is at least one for polygons with positive area,
+ * or at least zero for polygons with negative area, as for MultiPolygon2D.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PreparedPolygon2D {
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The maximal average number of bands crossed by an edge. The number of
+	 * bands is reduced until this ratio is reached, to bound the memory used
+	 * by polygons with long edges.
+	 */
+	private final static int MAX_BANDS_PER_EDGE = 4;
+
+	/**
+	 * The minimal number of points for which bulk queries on polygons use a
+	 * prepared polygon. Building the index costs about as much as testing a
+	 * hundred points against all the edges.
+	 */
+	final static int MIN_QUERY_NUMBER = 256;
+
+	/** The value returned by the locate method for points on the boundary */
+	final static int ON_BOUNDARY = Integer.MAX_VALUE;
+
+	// ===================================================================
+	// Class variables
+
+	/** The number of edges of the polygon */
+	private final int edgeNumber;
+
+	/** The signed area of the polygon */
+	private final double area;
+
+	/** The bounds of the vertices, enlarged by the boundary tolerance */
+	private final double xmin, xmax, ymin, ymax;
+
+	/** The number of horizontal bands */
+	private final int bandNumber;
+
+	/** The inverse of the height of each band */
+	private final double bandScale;
+
+	/**
+	 * The index of the first entry of each band, followed by the total number
+	 * of entries. The edges crossing only a part of the band come first.
+	 */
+	private final int[] bandStarts;
+
+	/** The index of the first entry of each band crossing the whole band */
+	private final int[] crossingStarts;
+
+	/**
+	 * The coordinates of the edge of each entry, as consecutive (x1, y1, x2,
+	 * y2) quadruplets. Edges crossing several bands have several entries.
+	 */
+	private final double[] edges;
+
+	/**
+	 * For edges crossing the whole band, the minimal abscissa of the edge
+	 * within the band, minus the boundary tolerance. Used as sorting key.
+	 */
+	private final double[] minX;
+
+	/**
+	 * For edges crossing the whole band, the maximal abscissa within the band
+	 * of this edge and of the previous edges of the band, plus the boundary
+	 * tolerance.
+	 */
+	private final double[] maxX;
+
+	/**
+	 * For edges crossing the whole band, the contribution to the winding
+	 * number of this edge and of the following edges of the band, for a
+	 * point on their left.
+	 */
+	private final int[] windings;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new prepared polygon from the contours of the given polygon.
+	 */
+	public PreparedPolygon2D(Polygon2D polygon) {
+		this(contourVertices(polygon));
+	}
+
+	/**
+	 * Creates a new prepared polygon from the vertices of each contour.
+	 */
+	PreparedPolygon2D(List<List<Point2D>> contours) {
+		// extract coordinates of each contour
+		int nRings = contours.size();
+		double[][] xs = new double[nRings][];
+		double[][] ys = new double[nRings][];
+		int[] sizes = new int[nRings];
+		int r = 0;
+		int nEdges = 0;
+		double area = 0;
+		for (List<Point2D> vertices : contours) {
+			double[][] coords = Polylines2D.coordinates(vertices);
+			xs[r] = coords[0];
+			ys[r] = coords[1];
+			sizes[r] = vertices.size();
+			area += Polylines2D.area(xs[r], ys[r], sizes[r]);
+			nEdges += sizes[r];
+			r++;
+		}
+		this.edgeNumber = nEdges;
+		this.area = area;
+
+		// compute the bounds of the polygon, and the tolerance of each edge
+		double[] coords = new double[4 * nEdges];
+		double[] tols = new double[nEdges];
+		double x0 = Double.POSITIVE_INFINITY, x1 = Double.NEGATIVE_INFINITY;
+		double y0 = Double.POSITIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+		double maxTol = 0;
+		int e = 0;
+		for (r = 0; r < nRings; r++) {
+			int n = sizes[r];
+			for (int i = 0; i < n; i++) {
+				int i2 = i + 1 == n ? 0 : i + 1;
+				double xa = xs[r][i], ya = ys[r][i];
+				double xb = xs[r][i2], yb = ys[r][i2];
+				coords[4 * e] = xa;
+				coords[4 * e + 1] = ya;
+				coords[4 * e + 2] = xb;
+				coords[4 * e + 3] = yb;
+
+				// points within this distance may be on the edge
+				double len = Math.hypot(xb - xa, yb - ya);
+				tols[e] = Shape2D.ACCURACY * (1 + 2 * len);
+				maxTol = Math.max(maxTol, tols[e]);
+
+				x0 = Math.min(x0, xa);
+				x1 = Math.max(x1, xa);
+				y0 = Math.min(y0, ya);
+				y1 = Math.max(y1, ya);
+				e++;
+			}
+		}
+		this.xmin = x0 - maxTol;
+		this.xmax = x1 + maxTol;
+		this.ymin = y0 - maxTol;
+		this.ymax = y1 + maxTol;
+
+		// choose the number of bands such that edges do not cross too many
+		// bands on average
+		int nBands = Math.max(nEdges, 1);
+		int[] counts;
+		double scale;
+		while (true) {
+			scale = nBands / (this.ymax - this.ymin);
+			if (Double.isInfinite(scale) || Double.isNaN(scale)) {
+				nBands = 1;
+				scale = 0;
+			}
+			counts = countEntries(coords, tols, nEdges, nBands, scale);
+			if (counts[nBands] <= MAX_BANDS_PER_EDGE * nEdges || nBands == 1)
+				break;
+			nBands = Math.max(1, nBands / 2);
+		}
+		this.bandNumber = nBands;
+		this.bandScale = scale;
+
+		// compute the index of the first entry of each band
+		int[] starts = new int[nBands + 1];
+		for (int b = 0; b < nBands; b++)
+			starts[b + 1] = starts[b] + counts[b];
+		int nEntries = starts[nBands];
+		this.bandStarts = starts;
+		this.crossingStarts = new int[nBands];
+		this.edges = new double[4 * nEntries];
+		this.minX = new double[nEntries];
+		this.maxX = new double[nEntries];
+		this.windings = new int[nEntries];
+
+		// count the edges crossing only a part of each band
+		double margin = scale == 0 ? 0 : 1e-6 / scale;
+		for (e = 0; e < nEdges; e++) {
+			int b0 = bandIndex(edgeMinY(coords, e) - tols[e]);
+			int b1 = bandIndex(edgeMaxY(coords, e) + tols[e]);
+			for (int b = b0; b <= b1; b++) {
+				if (!crossesBand(coords, e, b, margin))
+					crossingStarts[b]++;
+			}
+		}
+		for (int b = 0; b < nBands; b++)
+			crossingStarts[b] += starts[b];
+
+		// dispatch edges into bands, computing extent of crossing edges
+		int[] partialPos = new int[nBands];
+		int[] crossingPos = new int[nBands];
+		System.arraycopy(starts, 0, partialPos, 0, nBands);
+		System.arraycopy(crossingStarts, 0, crossingPos, 0, nBands);
+		for (e = 0; e < nEdges; e++) {
+			int b0 = bandIndex(edgeMinY(coords, e) - tols[e]);
+			int b1 = bandIndex(edgeMaxY(coords, e) + tols[e]);
+			for (int b = b0; b <= b1; b++) {
+				int k;
+				if (crossesBand(coords, e, b, margin)) {
+					k = crossingPos[b]++;
+					double xa = edgeX(coords, e, bandLimit(b));
+					double xb = edgeX(coords, e, bandLimit(b + 1));
+					minX[k] = Math.min(xa, xb) - tols[e];
+					maxX[k] = Math.max(xa, xb) + tols[e];
+					windings[k] = coords[4 * e + 3] > coords[4 * e + 1] ? 1 : -1;
+				} else {
+					k = partialPos[b]++;
+				}
+				System.arraycopy(coords, 4 * e, edges, 4 * k, 4);
+			}
+		}
+
+		// sort crossing edges, and compute cumulated values
+		int[] indices = new int[nEntries];
+		int[] buffer = new int[nEntries];
+		for (int b = 0; b < nBands; b++) {
+			int from = crossingStarts[b], to = starts[b + 1];
+			if (to == from)
+				continue;
+			sortEntries(indices, buffer, from, to);
+
+			for (int k = to - 2; k >= from; k--)
+				windings[k] += windings[k + 1];
+			for (int k = from + 1; k < to; k++)
+				maxX[k] = Math.max(maxX[k], maxX[k - 1]);
+		}
+	}
+
+	private static List<List<Point2D>> contourVertices(Polygon2D polygon) {
+		ArrayList<List<Point2D>> contours = new ArrayList<List<Point2D>>();
+		for (LinearRing2D ring : polygon.contours())
+			contours.add(ring.vertices);
+		return contours;
+	}
+
+	/**
+	 * Counts the entries within each band. The total number of entries is
+	 * stored at the end of the array.
+	 */
+	private int[] countEntries(double[] coords, double[] tols, int nEdges,
+			int nBands, double scale) {
+		int[] counts = new int[nBands + 1];
+		for (int e = 0; e < nEdges; e++) {
+			int b0 = bandIndex(edgeMinY(coords, e) - tols[e], nBands, scale);
+			int b1 = bandIndex(edgeMaxY(coords, e) + tols[e], nBands, scale);
+			for (int b = b0; b <= b1; b++)
+				counts[b]++;
+			counts[nBands] += b1 - b0 + 1;
+		}
+		return counts;
+	}
+
+	/**
+	 * Checks if the edge crosses the whole band, such that any point of the
+	 * band can be projected horizontally onto the edge.
+	 */
+	private boolean crossesBand(double[] coords, int e, int b, double margin) {
+		return edgeMinY(coords, e) < bandLimit(b) - margin
+				&& edgeMaxY(coords, e) > bandLimit(b + 1) + margin;
+	}
+
+	/**
+	 * Sorts the crossing entries of a band by increasing minimal abscissa.
+	 * The arrays of entries are reordered accordingly.
+	 */
+	private void sortEntries(int[] indices, int[] buffer, int from, int to) {
+		for (int k = from; k < to; k++)
+			indices[k] = k;
+		mergeSort(indices, buffer, from, to);
+
+		// permute entries using buffer arrays
+		int n = to - from;
+		double[] edges2 = new double[4 * n];
+		double[] minX2 = new double[n];
+		double[] maxX2 = new double[n];
+		int[] windings2 = new int[n];
+		for (int k = 0; k < n; k++) {
+			int i = indices[from + k];
+			System.arraycopy(edges, 4 * i, edges2, 4 * k, 4);
+			minX2[k] = minX[i];
+			maxX2[k] = maxX[i];
+			windings2[k] = windings[i];
+		}
+		System.arraycopy(edges2, 0, edges, 4 * from, 4 * n);
+		System.arraycopy(minX2, 0, minX, from, n);
+		System.arraycopy(maxX2, 0, maxX, from, n);
+		System.arraycopy(windings2, 0, windings, from, n);
+	}
+
+	private void mergeSort(int[] indices, int[] buffer, int from, int to) {
+		if (to - from < 2)
+			return;
+		int mid = (from + to) >>> 1;
+		mergeSort(indices, buffer, from, mid);
+		mergeSort(indices, buffer, mid, to);
+		if (minX[indices[mid - 1]] <= minX[indices[mid]])
+			return;
+
+		System.arraycopy(indices, from, buffer, from, to - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			if (minX[buffer[j]] < minX[buffer[i]])
+				indices[k++] = buffer[j++];
+			else
+				indices[k++] = buffer[i++];
+		}
+		while (i < mid)
+			indices[k++] = buffer[i++];
+		while (j < to)
+			indices[k++] = buffer[j++];
+	}
+
+	private static double edgeMinY(double[] coords, int e) {
+		return Math.min(coords[4 * e + 1], coords[4 * e + 3]);
+	}
+
+	private static double edgeMaxY(double[] coords, int e) {
+		return Math.max(coords[4 * e + 1], coords[4 * e + 3]);
+	}
+
+	/**
+	 * Computes the abscissa of the edge at the given ordinate, assuming the
+	 * edge is not horizontal.
+	 */
+	private static double edgeX(double[] coords, int e, double y) {
+		double xa = coords[4 * e], ya = coords[4 * e + 1];
+		double xb = coords[4 * e + 2], yb = coords[4 * e + 3];
+		return xa + (y - ya) * (xb - xa) / (yb - ya);
+	}
+
+	/**
+	 * Returns the ordinate of the lower limit of the given band.
+	 */
+	private double bandLimit(int b) {
+		return ymin + b / bandScale;
+	}
+
+	private int bandIndex(double y) {
+		return bandIndex(y, bandNumber, bandScale);
+	}
+
+	private int bandIndex(double y, int nBands, double scale) {
+		int b = (int) ((y - ymin) * scale);
+		return Math.max(0, Math.min(b, nBands - 1));
+	}
+
+	// ===================================================================
+	// Queries
+
+	/**
+	 * Returns true if the point is inside the polygon or on its boundary.
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Returns true if the point (x, y) is inside the polygon or on its
+	 * boundary.
+	 */
+	public boolean contains(double x, double y) {
+		if (edgeNumber == 0)
+			return false;
+		int wn = locate(x, y);
+		if (wn == ON_BOUNDARY)
+			return true;
+		return area > 0 ? wn >= 1 : wn >= 0;
+	}
+
+	/**
+	 * Checks if the polygon contains each of the points given by two arrays
+	 * of coordinates, and stores the results in the <code>out</code> array.
+	 */
+	public void contains(double[] xs, double[] ys, boolean[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		for (int i = 0; i < xs.length; i++)
+			out[i] = contains(xs[i], ys[i]);
+	}
+
+	/**
+	 * Returns the total winding number of the contours around the point
+	 * (x, y), or ON_BOUNDARY if the point lies on the boundary.
+	 */
+	int locate(double x, double y) {
+		// points outside the bounds have a winding number equal to zero
+		if (edgeNumber == 0 || x < xmin || x > xmax || y < ymin || y > ymax)
+			return 0;
+
+		int b = bandIndex(y);
+		int wn = 0;
+
+		// test edges crossing only a part of the band
+		int from = crossingStarts[b];
+		for (int k = bandStarts[b]; k < from; k++) {
+			int w = testEdge(k, x, y);
+			if (w == ON_BOUNDARY)
+				return ON_BOUNDARY;
+			wn += w;
+		}
+
+		// contribution of crossing edges on the right of the point
+		int to = bandStarts[b + 1];
+		int j = firstEdgeOnRight(from, to, x);
+		if (j < to)
+			wn += windings[j];
+
+		// test crossing edges that may contain the abscissa of the point
+		for (int k = j - 1; k >= from && maxX[k] >= x; k--) {
+			int w = testEdge(k, x, y);
+			if (w == ON_BOUNDARY)
+				return ON_BOUNDARY;
+			wn += w;
+		}
+		return wn;
+	}
+
+	/**
+	 * Computes the total winding number of the contours of the polygon around
+	 * the point (x, y). Points on the boundary may be counted on either side.
+	 */
+	public int windingNumber(double x, double y) {
+		if (edgeNumber == 0 || x < xmin || x > xmax || y < ymin || y > ymax)
+			return 0;
+
+		int b = bandIndex(y);
+		int wn = 0;
+		int from = crossingStarts[b];
+		for (int k = bandStarts[b]; k < from; k++)
+			wn += windingIncrement(k, x, y);
+
+		int to = bandStarts[b + 1];
+		int j = firstEdgeOnRight(from, to, x);
+		if (j < to)
+			wn += windings[j];
+		for (int k = j - 1; k >= from && maxX[k] >= x; k--)
+			wn += windingIncrement(k, x, y);
+		return wn;
+	}
+
+	/**
+	 * Returns the index of the first crossing edge within the range whose
+	 * minimal abscissa is greater than x.
+	 */
+	private int firstEdgeOnRight(int from, int to, double x) {
+		int lo = from, hi = to;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (minX[mid] > x)
+				hi = mid;
+			else
+				lo = mid + 1;
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the increment of winding number of the given edge entry, or
+	 * ON_BOUNDARY if the point lies on the edge.
+	 */
+	private int testEdge(int k, double x, double y) {
+		double x1 = edges[4 * k], y1 = edges[4 * k + 1];
+		double x2 = edges[4 * k + 2], y2 = edges[4 * k + 3];
+		double dx = x2 - x1, dy = y2 - y1;
+
+		// check if the point lies on the edge
+		double cross = dx * (y - y1) - (x - x1) * dy;
+		double len2 = dx * dx + dy * dy;
+		if (len2 >= Shape2D.ACCURACY
+				&& Math.abs(cross) / len2 < Shape2D.ACCURACY) {
+			double t = ((x - x1) * dx + (y - y1) * dy) / len2;
+			if (t >= -Shape2D.ACCURACY && t - 1 <= Shape2D.ACCURACY)
+				return ON_BOUNDARY;
+		}
+
+		return windingIncrement(y1, y2, cross, y);
+	}
+
+	private int windingIncrement(int k, double x, double y) {
+		double x1 = edges[4 * k], y1 = edges[4 * k + 1];
+		double x2 = edges[4 * k + 2], y2 = edges[4 * k + 3];
+		double cross = (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1);
+		return windingIncrement(y1, y2, cross, y);
+	}
+
+	/**
+	 * Computes the increment of winding number for an upward crossing with
+	 * the point on the left, or a downward crossing with the point on the
+	 * right.
+	 */
+	private static int windingIncrement(double y1, double y2, double cross,
+			double y) {
+		if (y1 <= y) {
+			if (y2 > y && cross > 0)
+				return 1;
+		} else {
+			if (y2 <= y && cross < 0)
+				return -1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the signed area of the polygon.
+	 */
+	public double area() {
+		return area;
+	}
+
+	/**
+	 * Returns the number of edges of the polygon.
+	 */
+	public int edgeNumber() {
+		return edgeNumber;
+	}
+
+	/**
+	 * Returns the number of horizontal bands used by the index.
+	 */
+	public int bandNumber() {
+		return bandNumber;
+	}
+
+	/**
+	 * Returns the bounding box of the polygon, enlarged by the tolerance used
+	 * for detecting points on the boundary.
+	 */
+	public Box2D boundingBox() {
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+}
@@ -29,6 +29,7 @@ package net.javageom.geom2d.polygon;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import net.javageom.geom2d.AffineTransform2D;
@@ -42,6 +43,8 @@ import net.javageom.geom2d.transform.CircleInversion2D;
 
 /**
  * Represent a polygonal domain whose boundary is a single closed polyline.
+ * Vertices can be stored in packed mode as arrays of coordinates, by using
+ * the {@link #createPacked(double[], double[])} static factory.
  */
 public class SimplePolygon2D implements Polygon2D {
 
@@ -66,15 +69,29 @@ public class SimplePolygon2D implements Polygon2D {
     	return new SimplePolygon2D(points);
     }
     
+    /**
+     * Static factory for creating a new SimplePolygon2D whose vertices are
+     * stored as arrays of coordinates instead of Point2D instances. The input
+     * arrays are copied.
+     * @since 0.11.3
+     */
+    public static SimplePolygon2D createPacked(double[] xcoords, 
+    		double[] ycoords) {
+    	SimplePolygon2D poly = new SimplePolygon2D(0);
+    	poly.vertices = new PackedPointList2D(xcoords, ycoords);
+    	return poly;
+    }
+    
 
     // ===================================================================
     // class variables
 
     /**
      * The inner ordered list of vertices. The last point is connected to the
-     * first one.
+     * first one. Declared as a List since version 0.11.3, as it can be either
+     * an ArrayList or a packed list of coordinates.
      */
-    protected ArrayList<Point2D> vertices;
+    protected List<Point2D> vertices;
 
     // ===================================================================
     // constructors
@@ -135,6 +152,11 @@ public class SimplePolygon2D implements Polygon2D {
     }
 
     public SimplePolygon2D(SimplePolygon2D poly) {
+    	if (poly.vertices instanceof PackedPointList2D) {
+    		this.vertices = new PackedPointList2D(
+    				(PackedPointList2D) poly.vertices);
+    		return;
+    	}
     	this.vertices = new ArrayList<Point2D>(poly.vertexNumber());
     	this.vertices.addAll(poly.vertices);
     }
@@ -151,7 +173,9 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the number of windings of the curve around the point
      */
     public int getWindingNumber(double x, double y) {
-        return Polygons2D.windingNumber(vertices, new Point2D(x, y));
+		double[][] coords = Polylines2D.coordinates(vertices);
+        return Polylines2D.windingNumber(coords[0], coords[1], 
+        		vertices.size(), x, y);
     }
         
     /**
@@ -159,7 +183,10 @@ public class SimplePolygon2D implements Polygon2D {
      * algorithm.
      */
 	public SimplePolygon2D simplify(double distMax) {
-		return new SimplePolygon2D(Polylines2D.simplifyClosedPolyline(this.vertices, distMax));
+		SimplePolygon2D poly = new SimplePolygon2D(0);
+		poly.vertices = Polylines2D.simplify(this.vertices, true, distMax, 
+				Polylines2D.SimplificationMethod.DOUGLAS_PEUCKER);
+		return poly;
 	}
 	
 	/**
@@ -167,9 +194,25 @@ public class SimplePolygon2D implements Polygon2D {
      * @since 0.9.3
      */
     public LinearRing2D getRing() {
+    	// keep packed storage
+    	if (vertices instanceof PackedPointList2D) {
+    		LinearRing2D ring = new LinearRing2D(0);
+    		ring.vertices = new PackedPointList2D(
+    				(PackedPointList2D) vertices);
+    		return ring;
+    	}
     	return new LinearRing2D(this.vertices);
     }
     
+    /**
+     * Returns true if the vertices of this polygon are stored as arrays of
+     * coordinates.
+     * @since 0.11.3
+     */
+    public boolean isPacked() {
+    	return vertices instanceof PackedPointList2D;
+    }
+    
     // ===================================================================
     // management of vertex list
 
@@ -223,18 +266,9 @@ public class SimplePolygon2D implements Polygon2D {
      * Computes the index of the closest vertex to the input point.
      */
     public int closestVertexIndex(Point2D point) {
-    	double minDist = Double.POSITIVE_INFINITY;
-    	int index = -1;
-    	
-    	for (int i = 0; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(point);
-    		if (dist < minDist) {
-    			index = i;
-    			minDist = dist;
-    		}
-    	}
-    	
-    	return index;
+    	double[][] coords = Polylines2D.coordinates(vertices);
+    	return Polylines2D.closestVertexIndex(coords[0], coords[1],
+    			vertices.size(), point.x(), point.y());
     }
     
     /**
@@ -247,7 +281,8 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the signed area of the polygon.
      */
     public double area() {
-    	return Polygons2D.computeArea(this);
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.area(coords[0], coords[1], vertices.size());
     }
 
     /**
@@ -358,12 +393,7 @@ public class SimplePolygon2D implements Polygon2D {
      * Returns a set of one LinearRing2D, which encloses the polygon.
      */
     public CirculinearContourArray2D<LinearRing2D> boundary() {
-        Point2D[] array = new Point2D[this.vertices.size()];
-        for (int i = 0; i<this.vertices.size(); i++)
-            array[i] = this.vertices.get(i);
-
-        return new CirculinearContourArray2D<LinearRing2D>(
-        		new LinearRing2D(array));
+        return new CirculinearContourArray2D<LinearRing2D>(this.getRing());
     }
 
 	/* (non-Javadoc)
@@ -371,7 +401,7 @@ public class SimplePolygon2D implements Polygon2D {
 	 */
 	public Collection<LinearRing2D> contours() {
         ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>(1);
-        rings.add(new LinearRing2D(vertices));
+        rings.add(this.getRing());
         return rings;
 	}
 
@@ -381,6 +411,19 @@ public class SimplePolygon2D implements Polygon2D {
     public SimplePolygon2D complement() {
         int nPoints = this.vertices.size();
 
+    	// keep packed storage
+    	if (vertices instanceof PackedPointList2D) {
+    		PackedPointList2D list = (PackedPointList2D) vertices;
+    		PackedPointList2D res = new PackedPointList2D(nPoints);
+    		for (int i = 0; i < nPoints; i++) {
+    			int i2 = i == 0 ? 0 : nPoints - i;
+    			res.add(list.xs[i2], list.ys[i2]);
+    		}
+    		SimplePolygon2D poly = new SimplePolygon2D(0);
+    		poly.vertices = res;
+    		return poly;
+    	}
+
         Point2D[] res = new Point2D[nPoints];
 
         if (nPoints>0)
@@ -411,15 +454,38 @@ public class SimplePolygon2D implements Polygon2D {
      * point lies inside the polygon.
      */
     public double distance(double x, double y) {
-        double dist = boundary().signedDistance(x, y);
-        return Math.max(dist, 0);
+		double[][] coords = Polylines2D.coordinates(vertices);
+		double[] xs = coords[0], ys = coords[1];
+		int n = vertices.size();
+		if (Polylines2D.isInside(xs, ys, n, x, y))
+			return 0;
+		return Polylines2D.distance(xs, ys, n, true, x, y);
+    }
+
+    /**
+     * Computes the distance of the polygon to each of the points given by two
+     * arrays of coordinates. The result is zero for points inside the polygon.
+     */
+    public void distance(double[] xs, double[] ys, double[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		boolean[] inside = new boolean[xs.length];
+		contains(xs, ys, inside);
+
+		double[][] coords = Polylines2D.coordinates(vertices);
+		int n = vertices.size();
+		for (int i = 0; i < xs.length; i++) {
+			out[i] = inside[i] ? 0 : Polylines2D.distance(coords[0], coords[1],
+					n, true, xs[i], ys[i]);
+		}
     }
 
     public double sqDistance(Point2D p) {
-    	if(contains(p))
+		double[][] coords = Polylines2D.coordinates(vertices);
+		double[] xs = coords[0], ys = coords[1];
+		int n = vertices.size();
+		if (Polylines2D.isInside(xs, ys, n, p.x(), p.y()))
     		return 0.0;
-    	else
-    		return boundary().sqDistance(p);
+		return Polylines2D.sqDistance(xs, ys, n, true, p.x(), p.y());
     }
 
     /**
@@ -433,7 +499,8 @@ public class SimplePolygon2D implements Polygon2D {
      * Returns the bounding box of the polygon.
      */
     public Box2D boundingBox() {
-        return boundary().boundingBox();
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.boundingBox(coords[0], coords[1], vertices.size());
     }
 
     /**
@@ -452,6 +519,13 @@ public class SimplePolygon2D implements Polygon2D {
      * If the transform is not direct, the order of vertices is reversed.
      */
     public SimplePolygon2D transform(AffineTransform2D trans) {
+    	// keep packed storage
+    	if (vertices instanceof PackedPointList2D) {
+    		SimplePolygon2D poly = new SimplePolygon2D(0);
+    		poly.vertices = ((PackedPointList2D) vertices).transform(trans);
+    		return trans.isDirect() ? poly : poly.complement();
+    	}
+    	
         int nPoints = this.vertices.size();
 
         Point2D[] array = new Point2D[nPoints];
@@ -486,16 +560,35 @@ public class SimplePolygon2D implements Polygon2D {
      * given by Shape2D.ACCURACY.
      */
     public boolean contains(double x, double y) {
-    	if (this.boundary().contains(x, y))
-    		return true;
-    	
-    	double area = this.area();
-    	int winding = this.getWindingNumber(x, y);
-    	if (area > 0) {
-    		return winding == 1;
-    	} else {
-    		return winding == 0;
-    	}
+		double[][] coords = Polylines2D.coordinates(vertices);
+		return Polylines2D.isInside(coords[0], coords[1], vertices.size(),
+				x, y);
+    }
+
+    /**
+     * Checks if the polygon contains each of the points given by two arrays of
+     * coordinates. For large arrays, the edges of the polygon are first
+     * indexed using a PreparedPolygon2D.
+     */
+    public void contains(double[] xs, double[] ys, boolean[] out) {
+		Polylines2D.checkLengths(xs, ys, out.length);
+		if (xs.length >= PreparedPolygon2D.MIN_QUERY_NUMBER) {
+			PreparedPolygon2D prepared = new PreparedPolygon2D(
+					Collections.singletonList(vertices));
+			int winding = prepared.area() > 0 ? 1 : 0;
+			for (int i = 0; i < xs.length; i++) {
+				int wn = prepared.locate(xs[i], ys[i]);
+				out[i] = wn == PreparedPolygon2D.ON_BOUNDARY || wn == winding;
+			}
+			return;
+		}
+
+		double[][] coords = Polylines2D.coordinates(vertices);
+		int n = vertices.size();
+		boolean direct = Polylines2D.area(coords[0], coords[1], n) > 0;
+		for (int i = 0; i < xs.length; i++)
+			out[i] = Polylines2D.isInside(coords[0], coords[1], n, direct,
+					xs[i], ys[i]);
     }
 
     /**
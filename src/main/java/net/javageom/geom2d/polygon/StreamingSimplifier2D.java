@@ -0,0 +1,229 @@
+/**
+ * File: 	StreamingSimplifier2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.Arrays;
+
+import net.javageom.geom2d.Point2D;
+
+/**
+ * Simplification of polylines whose vertices are received one at a time,
+ * such as tracks of moving objects.<p>
+ *
+ * The simplifier uses the opening window algorithm: the last retained
+ * vertex is the anchor of a window that contains the points received
+ * since. When a new point arrives, the window is extended if all the points
+ * of the window are within the tolerance distance of the segment joining
+ * the anchor to the new point. Otherwise, the last point of the window is
+ * retained and becomes the new anchor. Each discarded point is therefore
+ * within the tolerance distance of the simplified polyline.<p>
+ *
+ * Retained vertices are sent to a {@link Sink} as soon as they are known.
+ * The window is limited to a maximal number of points: when it is full, its
+ * last point is retained, which bounds both the memory and the number of
+ * points received before a vertex is emitted.
+ *
+ * <pre><code>
+ * StreamingSimplifier2D.PolylineSink sink =
+ *         new StreamingSimplifier2D.PolylineSink();
+ * StreamingSimplifier2D simplifier = new StreamingSimplifier2D(1.5, sink);
+ * for (Point2D point : track)
+ *     simplifier.add(point);
+ * simplifier.flush();
+ * Polyline2D polyline = sink.polyline();
+ * </code></pre>
+ *
+ * @see Polyline2D#simplify(double)
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class StreamingSimplifier2D {
+
+	// ===================================================================
+	// Inner interface and classes
+
+	/**
+	 * Receives the vertices retained by the simplifier.
+	 */
+	public interface Sink {
+		/**
+		 * Called for each retained vertex, in the order of the input points.
+		 *
+		 * @param x
+		 *            the x-coordinate of the vertex
+		 * @param y
+		 *            the y-coordinate of the vertex
+		 */
+		public void vertex(double x, double y);
+	}
+
+	/**
+	 * A sink that stores the retained vertices, and creates polylines with
+	 * packed coordinates.
+	 */
+	public static class PolylineSink implements Sink {
+		private double[] xs = new double[16];
+		private double[] ys = new double[16];
+		private int size = 0;
+
+		public void vertex(double x, double y) {
+			if (size == xs.length) {
+				xs = Arrays.copyOf(xs, 2 * size);
+				ys = Arrays.copyOf(ys, 2 * size);
+			}
+			xs[size] = x;
+			ys[size] = y;
+			size++;
+		}
+
+		/**
+		 * Returns the number of vertices received by this sink.
+		 */
+		public int vertexNumber() {
+			return size;
+		}
+
+		/**
+		 * Creates a polyline from the vertices received by this sink.
+		 */
+		public Polyline2D polyline() {
+			return Polyline2D.createPacked(Arrays.copyOf(xs, size),
+					Arrays.copyOf(ys, size));
+		}
+
+		/**
+		 * Removes all the vertices received by this sink.
+		 */
+		public void clear() {
+			size = 0;
+		}
+	}
+
+	// ===================================================================
+	// Constants
+
+	/** The default maximal number of points within the window */
+	public final static int DEFAULT_WINDOW_SIZE = 256;
+
+	// ===================================================================
+	// Class variables
+
+	private final double distMax;
+	private final Sink sink;
+
+	/** Coordinates of the last retained vertex */
+	private double anchorX;
+	private double anchorY;
+	private boolean hasAnchor = false;
+
+	/** The points received after the anchor */
+	private final double[] windowX;
+	private final double[] windowY;
+	private int windowSize = 0;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new simplifier with the given tolerance distance and the
+	 * default window size.
+	 */
+	public StreamingSimplifier2D(double distMax, Sink sink) {
+		this(distMax, DEFAULT_WINDOW_SIZE, sink);
+	}
+
+	/**
+	 * Creates a new simplifier with the given tolerance distance and maximal
+	 * number of points within the window.
+	 */
+	public StreamingSimplifier2D(double distMax, int windowSize, Sink sink) {
+		if (windowSize < 2)
+			throw new IllegalArgumentException(
+					"Window size must be at least 2");
+		this.distMax = distMax;
+		this.sink = sink;
+		this.windowX = new double[windowSize];
+		this.windowY = new double[windowSize];
+	}
+
+	// ===================================================================
+	// Methods
+
+	/**
+	 * Adds a new point to the polyline.
+	 */
+	public void add(Point2D point) {
+		add(point.x(), point.y());
+	}
+
+	/**
+	 * Adds a new point to the polyline, given by its coordinates.
+	 */
+	public void add(double x, double y) {
+		// the first point is always retained
+		if (!hasAnchor) {
+			anchorX = x;
+			anchorY = y;
+			hasAnchor = true;
+			sink.vertex(x, y);
+			return;
+		}
+
+		if (windowSize == windowX.length || !fitsWindow(x, y)) {
+			// retain the last point of the window, and start a new window
+			anchorX = windowX[windowSize - 1];
+			anchorY = windowY[windowSize - 1];
+			sink.vertex(anchorX, anchorY);
+			windowSize = 0;
+		}
+		windowX[windowSize] = x;
+		windowY[windowSize] = y;
+		windowSize++;
+	}
+
+	/**
+	 * Emits the last received point, and ends the current polyline. Points
+	 * added afterwards start a new polyline.
+	 */
+	public void flush() {
+		if (windowSize > 0)
+			sink.vertex(windowX[windowSize - 1], windowY[windowSize - 1]);
+		windowSize = 0;
+		hasAnchor = false;
+	}
+
+	/**
+	 * Returns the number of points received since the last retained vertex.
+	 */
+	public int pendingPointNumber() {
+		return windowSize;
+	}
+
+	/**
+	 * Checks if the points of the window are close enough to the segment
+	 * joining the anchor to the point (x, y).
+	 */
+	private boolean fitsWindow(double x, double y) {
+		double dx = x - anchorX;
+		double dy = y - anchorY;
+		double len2 = dx * dx + dy * dy;
+		double distMax2 = distMax * distMax;
+		for (int i = 0; i < windowSize; i++) {
+			double px = windowX[i] - anchorX;
+			double py = windowY[i] - anchorY;
+			double t = len2 == 0 ? 0 : (px * dx + py * dy) / len2;
+			t = Math.max(Math.min(t, 1), 0);
+			double ex = t * dx - px;
+			double ey = t * dy - py;
+			if (ex * ex + ey * ey > distMax2)
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,453 @@
+/**
+ * File: 	TilePyramid2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.UnboundedBox2DException;
+
+/**
+ * Cuts layers of polygons and linear curves into the tiles of a z/x/y
+ * pyramid.<p>
+ *
+ * The tile at zoom level z covers 1/2<sup>z</sup> of the width and of the
+ * height of the extent. Tiles are indexed by their column x, counted from
+ * the left of the extent, and their row y, counted from the top of the
+ * extent, as for web map tiles. The four tiles at zoom z+1 that subdivide
+ * the tile (z, x, y) are (z+1, 2x+dx, 2y+dy), with dx and dy in {0, 1}.<p>
+ *
+ * Geometries are cut recursively: the geometry of each tile is obtained by
+ * clipping the geometry of its parent tile, which is much smaller than the
+ * whole layer at high zoom levels. Sub-trees of the pyramid are independent,
+ * and are processed as tasks of a {@link ForkJoinPool}. Tiles are sent to a
+ * {@link Sink} as soon as they are computed, such that the whole pyramid is
+ * never kept in memory. Tiles that contain no geometry are not sent, and
+ * are not subdivided.<p>
+ *
+ * For each zoom level, a simplification tolerance can be specified. The
+ * geometries sent to the sink are then simplified, but the geometries
+ * passed to the next zoom level are not.
+ *
+ * <pre><code>
+ * TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 4096, 0, 4096), 6);
+ * for (int z = 0; z < 6; z++)
+ *     pyramid.setTolerance(z, 4.0 / (1 << z));
+ * pyramid.process(polygons, curves, new TilePyramid2D.Sink() {
+ *     public void tile(TilePyramid2D.Tile tile) {
+ *         writeTile(tile);
+ *     }
+ * });
+ * </code></pre>
+ *
+ * @see Polygons2D#clipPolygon(Polygon2D, Box2D)
+ * @see LinearCurve2D#clip(Box2D)
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class TilePyramid2D {
+
+	// ===================================================================
+	// Inner interface and classes
+
+	/**
+	 * Receives the tiles computed by the pyramid. When the pool uses several
+	 * threads, tiles are sent concurrently and in no particular order, and
+	 * implementations must be thread-safe.
+	 */
+	public interface Sink {
+		/**
+		 * Called for each tile that contains at least one geometry.
+		 */
+		public void tile(Tile tile);
+	}
+
+	/**
+	 * The geometries of a layer within a tile.
+	 */
+	public static class Tile {
+		private final int zoom;
+		private final int x;
+		private final int y;
+		private final Box2D box;
+		private final List<Polygon2D> polygons;
+		private final List<LinearCurve2D> curves;
+
+		private Tile(int zoom, int x, int y, Box2D box,
+				List<Polygon2D> polygons, List<LinearCurve2D> curves) {
+			this.zoom = zoom;
+			this.x = x;
+			this.y = y;
+			this.box = box;
+			this.polygons = polygons;
+			this.curves = curves;
+		}
+
+		/**
+		 * Returns the zoom level of the tile.
+		 */
+		public int getZoom() {
+			return zoom;
+		}
+
+		/**
+		 * Returns the column of the tile, counted from the left of the
+		 * extent.
+		 */
+		public int getX() {
+			return x;
+		}
+
+		/**
+		 * Returns the row of the tile, counted from the top of the extent.
+		 */
+		public int getY() {
+			return y;
+		}
+
+		/**
+		 * Returns the box covered by the tile, without buffer.
+		 */
+		public Box2D getBox() {
+			return box;
+		}
+
+		/**
+		 * Returns the polygons clipped by the tile. The list must not be
+		 * modified.
+		 */
+		public List<Polygon2D> getPolygons() {
+			return polygons;
+		}
+
+		/**
+		 * Returns the linear curves clipped by the tile. The list must not be
+		 * modified.
+		 */
+		public List<LinearCurve2D> getCurves() {
+			return curves;
+		}
+	}
+
+	// ===================================================================
+	// Constants
+
+	/** The maximal zoom level, such that tile indices fit into integers */
+	public final static int MAX_ZOOM = 30;
+
+	/**
+	 * The minimal number of vertices within a tile for processing its
+	 * sub-tiles as separate tasks
+	 */
+	private final static int MIN_TASK_VERTICES = 2000;
+
+	// ===================================================================
+	// Class variables
+
+	private final Box2D extent;
+	private final int maxZoom;
+	private final ForkJoinPool pool;
+
+	/** The simplification tolerance for each zoom level, or 0 */
+	private final double[] tolerances;
+
+	/** The size of the buffer around each tile, relative to the tile size */
+	private double buffer = 0;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new pyramid covering the given extent, with zoom levels
+	 * between 0 and maxZoom, that uses the common pool.
+	 */
+	public TilePyramid2D(Box2D extent, int maxZoom) {
+		this(extent, maxZoom, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a new pyramid covering the given extent, with zoom levels
+	 * between 0 and maxZoom, that uses the given pool.
+	 */
+	public TilePyramid2D(Box2D extent, int maxZoom, ForkJoinPool pool) {
+		if (!extent.isBounded())
+			throw new UnboundedBox2DException(extent);
+		if (maxZoom < 0 || maxZoom > MAX_ZOOM)
+			throw new IllegalArgumentException(
+					"Maximal zoom must be between 0 and " + MAX_ZOOM);
+		this.extent = extent;
+		this.maxZoom = maxZoom;
+		this.pool = pool;
+		this.tolerances = new double[maxZoom + 1];
+	}
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the extent covered by the tile at zoom level 0.
+	 */
+	public Box2D getExtent() {
+		return extent;
+	}
+
+	/**
+	 * Returns the highest zoom level of the pyramid.
+	 */
+	public int getMaxZoom() {
+		return maxZoom;
+	}
+
+	/**
+	 * Returns the simplification tolerance used for the given zoom level.
+	 */
+	public double getTolerance(int zoom) {
+		return tolerances[zoom];
+	}
+
+	/**
+	 * Changes the tolerance used for simplifying the geometries of tiles at
+	 * the given zoom level, using Douglas-Peucker algorithm. A tolerance
+	 * equal to 0 disables simplification.
+	 */
+	public void setTolerance(int zoom, double tolerance) {
+		if (tolerance < 0)
+			throw new IllegalArgumentException(
+					"Tolerance must be positive or zero");
+		tolerances[zoom] = tolerance;
+	}
+
+	/**
+	 * Returns the size of the buffer around each tile, relative to the size
+	 * of the tile.
+	 */
+	public double getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Changes the size of the buffer around each tile, relative to the size
+	 * of the tile. Geometries are clipped by the tile box enlarged by the
+	 * buffer, which avoids artifacts at tile borders when rendering thick
+	 * lines. Default is 0.
+	 */
+	public void setBuffer(double buffer) {
+		if (buffer < 0)
+			throw new IllegalArgumentException(
+					"Buffer must be positive or zero");
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Returns the box of the tile with the given zoom level, column and row,
+	 * without buffer.
+	 */
+	public Box2D tileBox(int zoom, int x, int y) {
+		return tileBox(zoom, x, y, 0);
+	}
+
+	// ===================================================================
+	// Methods
+
+	/**
+	 * Cuts the given polygons and linear curves into the tiles of the
+	 * pyramid, and sends each tile to the sink. The method returns when all
+	 * the tiles have been sent. Input geometries must not be modified during
+	 * the computation.
+	 */
+	public void process(Collection<? extends Polygon2D> polygons,
+			Collection<? extends LinearCurve2D> curves, Sink sink) {
+		pool.invoke(new TileTask(0, 0, 0, new ArrayList<Polygon2D>(polygons),
+				new ArrayList<LinearCurve2D>(curves), sink));
+	}
+
+	// ===================================================================
+	// Inner class for processing sub-trees
+
+	/**
+	 * Clips the geometries of the parent tile by the box of a tile, sends
+	 * the tile to the sink, and processes its sub-tiles.
+	 */
+	private class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int zoom;
+		private final int x;
+		private final int y;
+		private final List<Polygon2D> parentPolygons;
+		private final List<LinearCurve2D> parentCurves;
+		private final Sink sink;
+
+		private TileTask(int zoom, int x, int y, List<Polygon2D> polygons,
+				List<LinearCurve2D> curves, Sink sink) {
+			this.zoom = zoom;
+			this.x = x;
+			this.y = y;
+			this.parentPolygons = polygons;
+			this.parentCurves = curves;
+			this.sink = sink;
+		}
+
+		@Override
+		protected void compute() {
+			Box2D box = tileBox(zoom, x, y, buffer);
+			ArrayList<Polygon2D> polygons = clipPolygons(parentPolygons, box);
+			ArrayList<LinearCurve2D> curves = clipCurves(parentCurves, box);
+			if (polygons.isEmpty() && curves.isEmpty())
+				return;
+
+			sendTile(polygons, curves);
+			if (zoom == maxZoom)
+				return;
+
+			TileTask[] children = new TileTask[4];
+			for (int k = 0; k < 4; k++)
+				children[k] = new TileTask(zoom + 1, 2 * x + (k & 1),
+						2 * y + (k >> 1), polygons, curves, sink);
+
+			if (vertexNumber(polygons, curves) < MIN_TASK_VERTICES) {
+				for (TileTask child : children)
+					child.compute();
+			} else {
+				invokeAll(children);
+			}
+		}
+
+		private void sendTile(List<Polygon2D> polygons,
+				List<LinearCurve2D> curves) {
+			double tolerance = tolerances[zoom];
+			if (tolerance > 0) {
+				polygons = simplifyPolygons(polygons, tolerance);
+				curves = simplifyCurves(curves, tolerance);
+			}
+			sink.tile(new Tile(zoom, x, y, tileBox(zoom, x, y, 0), polygons,
+					curves));
+		}
+	}
+
+	// ===================================================================
+	// Private methods
+
+	/**
+	 * Computes the box of a tile, enlarged by a buffer relative to the tile
+	 * size. Coordinates are computed from the extent, to avoid accumulation
+	 * of rounding errors along zoom levels.
+	 */
+	private Box2D tileBox(int zoom, int x, int y, double buffer) {
+		double n = 1 << zoom;
+		double x0 = extent.getMinX();
+		double y1 = extent.getMaxY();
+		double width = extent.getWidth();
+		double height = extent.getHeight();
+		double dx = buffer * width / n;
+		double dy = buffer * height / n;
+		return new Box2D(
+				x0 + width * x / n - dx, x0 + width * (x + 1) / n + dx,
+				y1 - height * (y + 1) / n - dy, y1 - height * y / n + dy);
+	}
+
+	private static ArrayList<Polygon2D> clipPolygons(List<Polygon2D> polygons,
+			Box2D box) {
+		ArrayList<Polygon2D> result = new ArrayList<Polygon2D>();
+		for (Polygon2D polygon : polygons) {
+			Box2D bounds = polygon.boundingBox();
+			if (isDisjoint(bounds, box))
+				continue;
+			if (isInside(bounds, box)) {
+				result.add(polygon);
+				continue;
+			}
+			Polygon2D clipped = Polygons2D.clipPolygon(polygon, box);
+			if (!clipped.contours().isEmpty())
+				result.add(clipped);
+		}
+		return result;
+	}
+
+	private static ArrayList<LinearCurve2D> clipCurves(
+			List<LinearCurve2D> curves, Box2D box) {
+		ArrayList<LinearCurve2D> result = new ArrayList<LinearCurve2D>();
+		for (LinearCurve2D curve : curves) {
+			Box2D bounds = curve.boundingBox();
+			if (isDisjoint(bounds, box))
+				continue;
+			if (isInside(bounds, box)) {
+				result.add(curve);
+				continue;
+			}
+			for (LinearCurve2D piece : curve.clip(box))
+				result.add(piece);
+		}
+		return result;
+	}
+
+	private static boolean isDisjoint(Box2D box1, Box2D box2) {
+		return box1.getMaxX() < box2.getMinX()
+				|| box2.getMaxX() < box1.getMinX()
+				|| box1.getMaxY() < box2.getMinY()
+				|| box2.getMaxY() < box1.getMinY();
+	}
+
+	private static boolean isInside(Box2D box1, Box2D box2) {
+		return box1.getMinX() >= box2.getMinX()
+				&& box1.getMaxX() <= box2.getMaxX()
+				&& box1.getMinY() >= box2.getMinY()
+				&& box1.getMaxY() <= box2.getMaxY();
+	}
+
+	private static int vertexNumber(List<Polygon2D> polygons,
+			List<LinearCurve2D> curves) {
+		int n = 0;
+		for (Polygon2D polygon : polygons)
+			n += polygon.vertexNumber();
+		for (LinearCurve2D curve : curves)
+			n += curve.vertexNumber();
+		return n;
+	}
+
+	/**
+	 * Simplifies each ring of the polygons, and removes the rings that
+	 * collapse to less than three vertices.
+	 */
+	private static List<Polygon2D> simplifyPolygons(List<Polygon2D> polygons,
+			double tolerance) {
+		ArrayList<Polygon2D> result = new ArrayList<Polygon2D>(
+				polygons.size());
+		for (Polygon2D polygon : polygons) {
+			ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
+			for (LinearRing2D ring : polygon.contours()) {
+				LinearRing2D ring2 = ring.simplify(tolerance);
+				if (ring2.vertexNumber() > 2)
+					rings.add(ring2);
+			}
+
+			if (rings.size() == 1) {
+				SimplePolygon2D simple = new SimplePolygon2D(0);
+				simple.vertices = rings.get(0).vertices;
+				result.add(simple);
+			} else if (!rings.isEmpty()) {
+				result.add(MultiPolygon2D.create(rings));
+			}
+		}
+		return result;
+	}
+
+	private static List<LinearCurve2D> simplifyCurves(
+			List<LinearCurve2D> curves, double tolerance) {
+		ArrayList<LinearCurve2D> result = new ArrayList<LinearCurve2D>(
+				curves.size());
+		for (LinearCurve2D curve : curves)
+			result.add(curve.simplify(tolerance));
+		return result;
+	}
+}
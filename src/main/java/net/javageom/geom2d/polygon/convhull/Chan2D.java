@@ -0,0 +1,204 @@
+/**
+ * File: 	Chan2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.Collection;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+/**
+ * Computation of the convex hull using Chan's algorithm, with a complexity of
+ * O(n log h), where h is the number of vertices of the hull.<p>
+ *
+ * Points are partitioned into groups of m points, whose convex hulls are
+ * computed with the monotone chain algorithm. Then the hull is built by gift
+ * wrapping, considering only the vertices of the group hulls. On each group
+ * hull, the tangent from the current hull vertex is searched from the
+ * tangent found at the previous step, as it moves counter-clockwise. If the
+ * hull is not closed after m wrapping steps, m is squared and the process is
+ * repeated. The first iteration uses groups of 256 points, as smaller groups
+ * increase the cost without being faster in practice.<p>
+ *
+ * Computations are performed on primitive arrays of coordinates. Duplicate
+ * points and points located on the edges of the hull are not included in the
+ * result.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class Chan2D implements ConvexHull2D {
+
+	/**
+	 * Creates a new Convex hull calculator.
+	 */
+	public Chan2D() {
+	}
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are in counter-clockwise order.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			xs[i] = point.x();
+			ys[i] = point.y();
+			i++;
+		}
+		return convexHull(xs, ys);
+	}
+
+	/**
+	 * Computes the convex hull of a set of points given by their coordinates.
+	 * The arrays are not modified.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		int n = xs.length;
+		if (n < 3)
+			return new MonotoneChain2D().convexHull(xs, ys);
+
+		// the lowest point, that belongs to the hull
+		int p0 = 0;
+		for (int i = 1; i < n; i++) {
+			if (ys[i] < ys[p0] || (ys[i] == ys[p0] && xs[i] < xs[p0]))
+				p0 = i;
+		}
+
+		int[] indices = new int[n];
+		int[] groupHulls = new int[2 * n + 1];
+		for (int t = 3; ; t++) {
+			// group size is 2^(2^t), bounded by the number of points
+			int m = t < 5 ? Math.min(n, 1 << (1 << t)) : n;
+
+			int[] hull = new int[m + 1];
+			int nh = wrap(xs, ys, p0, m, indices, groupHulls, hull);
+			if (nh > 0)
+				return ConvexHulls2D.createPolygon(xs, ys, hull, 0, nh);
+
+			// with a single group, the hull is the hull of the group
+			if (m == n)
+				return new MonotoneChain2D().convexHull(xs, ys);
+		}
+	}
+
+	/**
+	 * Computes the hulls of groups of m points, and tries to compute the
+	 * convex hull in at most m wrapping steps. Returns the number of hull
+	 * vertices, or 0 if the hull has more than m vertices.
+	 */
+	private static int wrap(double[] xs, double[] ys, int p0, int m,
+			int[] indices, int[] groupHulls, int[] hull) {
+		int n = xs.length;
+		for (int i = 0; i < n; i++)
+			indices[i] = i;
+
+		// compute the hull of each group
+		int nGroups = (n + m - 1) / m;
+		int[] starts = new int[nGroups];
+		int[] sizes = new int[nGroups];
+		for (int g = 0; g < nGroups; g++) {
+			int from = g * m;
+			int to = Math.min(n, from + m);
+			starts[g] = 2 * from;
+			sizes[g] = MonotoneChain2D.computeHull(xs, ys, indices, from, to,
+					groupHulls, starts[g]);
+		}
+
+		// initialize the tangent of each group hull from the first vertex
+		int[] tangents = new int[nGroups];
+		for (int g = 0; g < nGroups; g++) {
+			int best = 0;
+			for (int k = 1; k < sizes[g]; k++) {
+				if (isBetter(xs, ys, p0, groupHulls[starts[g] + best],
+						groupHulls[starts[g] + k]))
+					best = k;
+			}
+			tangents[g] = best;
+		}
+
+		// gift wrapping on the group hulls
+		int p = p0;
+		int nh = 0;
+		for (int step = 0; step < m; step++) {
+			hull[nh++] = p;
+
+			int next = -1;
+			for (int g = 0; g < nGroups; g++) {
+				int q = advanceTangent(xs, ys, p, groupHulls, starts[g],
+						sizes[g], tangents, g);
+				if (isSamePoint(xs, ys, p, q))
+					continue;
+				if (next < 0 || isBetter(xs, ys, p, next, q))
+					next = q;
+			}
+
+			// the hull is closed when the wrapping comes back to first point
+			if (next < 0 || isSamePoint(xs, ys, next, p0))
+				return nh;
+			p = next;
+		}
+		return 0;
+	}
+
+	/**
+	 * Moves the tangent point of a group hull counter-clockwise, until the
+	 * next vertex is not better than the current one as seen from point p.
+	 * Returns the index of the tangent point.
+	 */
+	private static int advanceTangent(double[] xs, double[] ys, int p,
+			int[] groupHulls, int start, int size, int[] tangents, int g) {
+		int k = tangents[g];
+		for (int c = 0; c < size; c++) {
+			int k2 = k + 1 == size ? 0 : k + 1;
+			int current = groupHulls[start + k];
+			int next = groupHulls[start + k2];
+			if (isSamePoint(xs, ys, p, current)
+					|| (!isSamePoint(xs, ys, p, next)
+							&& isBetter(xs, ys, p, current, next)))
+				k = k2;
+			else
+				break;
+		}
+		tangents[g] = k;
+		return groupHulls[start + k];
+	}
+
+	/**
+	 * Checks if the point with index b is a better candidate than the point
+	 * with index a for being the hull vertex following p, that is, if b is on
+	 * the right of the line (p,a), or farther than a on this line.
+	 */
+	private static boolean isBetter(double[] xs, double[] ys, int p, int a,
+			int b) {
+		if (isSamePoint(xs, ys, p, a))
+			return true;
+		double orient = ConvexHulls2D.orient(xs[p], ys[p], xs[a], ys[a],
+				xs[b], ys[b]);
+		if (orient != 0)
+			return orient < 0;
+		return sqDist(xs, ys, p, b) > sqDist(xs, ys, p, a);
+	}
+
+	private static boolean isSamePoint(double[] xs, double[] ys, int i, int j) {
+		return xs[i] == xs[j] && ys[i] == ys[j];
+	}
+
+	private static double sqDist(double[] xs, double[] ys, int i, int j) {
+		double dx = xs[j] - xs[i];
+		double dy = ys[j] - ys[i];
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,179 @@
+/**
+ * File: 	ConvexHulls2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Utility functions shared by the convex hull algorithms working on arrays of
+ * coordinates.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public final class ConvexHulls2D {
+
+	private ConvexHulls2D() {
+	}
+
+	/**
+	 * Discards the points located strictly inside the octagon formed by the
+	 * extreme points of the set along the main directions and the diagonals
+	 * (Akl-Toussaint heuristic). The remaining points, that contain all the
+	 * vertices of the convex hull, are moved to the beginning of the arrays.
+	 *
+	 * @param xs
+	 *            the x-coordinates of the points, modified by this method
+	 * @param ys
+	 *            the y-coordinates of the points, modified by this method
+	 * @param n
+	 *            the number of points to consider within the arrays
+	 * @return the number of remaining points
+	 */
+	public static int filterInteriorPoints(double[] xs, double[] ys, int n) {
+		if (n < 9)
+			return n;
+
+		// indices of extreme points, in counter-clockwise order of the
+		// directions (0,-1), (1,-1), (1,0), (1,1), (0,1), (-1,1), (-1,0),
+		// (-1,-1)
+		int[] ext = new int[8];
+		for (int i = 1; i < n; i++) {
+			double x = xs[i], y = ys[i];
+			if (y < ys[ext[0]]) ext[0] = i;
+			if (x - y > xs[ext[1]] - ys[ext[1]]) ext[1] = i;
+			if (x > xs[ext[2]]) ext[2] = i;
+			if (x + y > xs[ext[3]] + ys[ext[3]]) ext[3] = i;
+			if (y > ys[ext[4]]) ext[4] = i;
+			if (y - x > ys[ext[5]] - xs[ext[5]]) ext[5] = i;
+			if (x < xs[ext[6]]) ext[6] = i;
+			if (x + y < xs[ext[7]] + ys[ext[7]]) ext[7] = i;
+		}
+
+		// keep distinct vertices of the octagon
+		double[] px = new double[8];
+		double[] py = new double[8];
+		int nv = 0;
+		for (int k = 0; k < 8; k++) {
+			double x = xs[ext[k]], y = ys[ext[k]];
+			if (nv > 0 && x == px[nv - 1] && y == py[nv - 1])
+				continue;
+			px[nv] = x;
+			py[nv] = y;
+			nv++;
+		}
+		if (nv > 1 && px[nv - 1] == px[0] && py[nv - 1] == py[0])
+			nv--;
+		if (nv < 3)
+			return n;
+
+		// keep the points that are not strictly inside the octagon
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			double x = xs[i], y = ys[i];
+			boolean inside = true;
+			for (int k = 0; k < nv; k++) {
+				int k2 = k + 1 == nv ? 0 : k + 1;
+				if (orient(px[k], py[k], px[k2], py[k2], x, y) <= 0) {
+					inside = false;
+					break;
+				}
+			}
+			if (!inside) {
+				xs[count] = x;
+				ys[count] = y;
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Computes twice the signed area of the triangle (a, b, c). The result is
+	 * positive if the triangle is oriented counter-clockwise.
+	 */
+	static double orient(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+	}
+
+	/**
+	 * Sorts the indices in the range [from, to) by increasing x-coordinate of
+	 * the corresponding points, then by increasing y-coordinate.
+	 */
+	static void sortIndices(double[] xs, double[] ys, int[] indices,
+			int from, int to) {
+		if (to - from < 2)
+			return;
+		int[] buffer = new int[to - from];
+		mergeSort(xs, ys, indices, buffer, from, to);
+	}
+
+	private static void mergeSort(double[] xs, double[] ys, int[] indices,
+			int[] buffer, int from, int to) {
+		if (to - from < 2)
+			return;
+		int mid = (from + to) >>> 1;
+		mergeSort(xs, ys, indices, buffer, from, mid);
+		mergeSort(xs, ys, indices, buffer, mid, to);
+
+		// no merge needed if the two halves are already ordered
+		if (compare(xs, ys, indices[mid - 1], indices[mid]) <= 0)
+			return;
+
+		// buffer is indexed relatively to the beginning of the range
+		int offset = from;
+		System.arraycopy(indices, from, buffer, 0, to - from);
+		int i = 0, iEnd = mid - offset, j = iEnd, jEnd = to - offset;
+		int k = from;
+		while (i < iEnd && j < jEnd) {
+			if (compare(xs, ys, buffer[j], buffer[i]) < 0)
+				indices[k++] = buffer[j++];
+			else
+				indices[k++] = buffer[i++];
+		}
+		while (i < iEnd)
+			indices[k++] = buffer[i++];
+		while (j < jEnd)
+			indices[k++] = buffer[j++];
+	}
+
+	private static int compare(double[] xs, double[] ys, int i, int j) {
+		if (xs[i] < xs[j])
+			return -1;
+		if (xs[i] > xs[j])
+			return +1;
+		return Double.compare(ys[i], ys[j]);
+	}
+
+	/**
+	 * Creates the polygon corresponding to the hull vertices with the given
+	 * indices, in counter-clockwise order. The vertices are rotated such that
+	 * the polygon starts at the vertex with the lowest y-coordinate (and the
+	 * lowest x-coordinate in case of ties), as for {@link JarvisMarch2D}.
+	 */
+	static SimplePolygon2D createPolygon(double[] xs, double[] ys,
+			int[] hull, int from, int n) {
+		int start = 0;
+		for (int k = 1; k < n; k++) {
+			int i = hull[from + k], i0 = hull[from + start];
+			if (ys[i] < ys[i0] || (ys[i] == ys[i0] && xs[i] < xs[i0]))
+				start = k;
+		}
+
+		double[] px = new double[n];
+		double[] py = new double[n];
+		for (int k = 0; k < n; k++) {
+			int i = hull[from + (start + k) % n];
+			px[k] = xs[i];
+			py[k] = ys[i];
+		}
+		return new SimplePolygon2D(px, py);
+	}
+}
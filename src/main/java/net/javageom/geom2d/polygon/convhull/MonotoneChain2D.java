@@ -0,0 +1,123 @@
+/**
+ * File: 	MonotoneChain2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.Collection;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+/**
+ * Computation of the convex hull using Andrew's monotone chain algorithm.
+ * Points are sorted by x-coordinate, then the lower and the upper hulls are
+ * computed in a single pass each. The complexity is O(n log n), dominated by
+ * the sorting step.<p>
+ *
+ * Computations are performed on primitive arrays of coordinates. Duplicate
+ * points and points located on the edges of the hull are not included in the
+ * result.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class MonotoneChain2D implements ConvexHull2D {
+
+	/**
+	 * Creates a new Convex hull calculator.
+	 */
+	public MonotoneChain2D() {
+	}
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are in counter-clockwise order.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			xs[i] = point.x();
+			ys[i] = point.y();
+			i++;
+		}
+		return convexHull(xs, ys);
+	}
+
+	/**
+	 * Computes the convex hull of a set of points given by their coordinates.
+	 * The arrays are not modified.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		int n = xs.length;
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++)
+			indices[i] = i;
+
+		int[] hull = new int[2 * n + 1];
+		int nh = computeHull(xs, ys, indices, 0, n, hull, 0);
+		return ConvexHulls2D.createPolygon(xs, ys, hull, 0, nh);
+	}
+
+	/**
+	 * Computes the convex hull of the points whose indices are in the range
+	 * [from, to) of the indices array. This range is sorted by the method.
+	 * The indices of the hull vertices are stored in counter-clockwise order
+	 * in the hull array, starting at the given offset. The hull array must
+	 * have room for 2*(to-from)+1 values after the offset.
+	 *
+	 * @return the number of vertices of the hull
+	 */
+	static int computeHull(double[] xs, double[] ys, int[] indices,
+			int from, int to, int[] hull, int offset) {
+		int n = to - from;
+		if (n == 0)
+			return 0;
+		ConvexHulls2D.sortIndices(xs, ys, indices, from, to);
+
+		// lower hull, from left to right
+		int k = offset;
+		for (int i = from; i < to; i++) {
+			int p = indices[i];
+			while (k >= offset + 2 && isNotLeftTurn(xs, ys, hull[k - 2],
+					hull[k - 1], p))
+				k--;
+			hull[k++] = p;
+		}
+
+		// upper hull, from right to left
+		int lower = k + 1;
+		for (int i = to - 2; i >= from; i--) {
+			int p = indices[i];
+			while (k >= lower && isNotLeftTurn(xs, ys, hull[k - 2],
+					hull[k - 1], p))
+				k--;
+			hull[k++] = p;
+		}
+
+		// the last point is the same as the first one
+		int nh = k - offset - 1;
+
+		// case of identical points
+		if (nh == 0 || (nh == 2 && xs[hull[offset]] == xs[hull[offset + 1]]
+				&& ys[hull[offset]] == ys[hull[offset + 1]]))
+			return 1;
+		return nh;
+	}
+
+	private static boolean isNotLeftTurn(double[] xs, double[] ys, int i,
+			int j, int k) {
+		return ConvexHulls2D.orient(xs[i], ys[i], xs[j], ys[j], xs[k],
+				ys[k]) <= 0;
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * File: 	ParallelConvexHull2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+/**
+ * Computation of the convex hull of large point sets using several threads.<p>
+ *
+ * The input is recursively split into ranges of points, that are processed
+ * as tasks of a {@link ForkJoinPool}. For each range below a threshold size,
+ * interior points are discarded using the Akl-Toussaint heuristic, and the
+ * hull of the remaining points is computed with the monotone chain
+ * algorithm. Partial hulls are merged by computing the hull of the union of
+ * their vertices, which is cheap as hulls have usually few vertices.
+ *
+ * @see MonotoneChain2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class ParallelConvexHull2D implements ConvexHull2D {
+
+	// ===================================================================
+	// Constants
+
+	/** The minimal number of points processed by a single task */
+	private final static int MIN_TASK_SIZE = 10000;
+
+	// ===================================================================
+	// Class variables
+
+	private final ForkJoinPool pool;
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new Convex hull calculator, that uses the common pool.
+	 */
+	public ParallelConvexHull2D() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a new Convex hull calculator, that uses the given pool.
+	 */
+	public ParallelConvexHull2D(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	// ===================================================================
+	// Methods implementing the ConvexHull2D interface
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are in counter-clockwise order.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			xs[i] = point.x();
+			ys[i] = point.y();
+			i++;
+		}
+		return convexHull(xs, ys);
+	}
+
+	/**
+	 * Computes the convex hull of a set of points given by their coordinates.
+	 * The arrays are not modified.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		int n = xs.length;
+
+		// choose task size such that each thread processes several tasks
+		int taskSize = Math.max(MIN_TASK_SIZE,
+				n / (4 * pool.getParallelism()) + 1);
+		double[][] hull = pool.invoke(new HullTask(xs, ys, 0, n, taskSize));
+
+		int nh = hull[0].length;
+		int[] indices = new int[nh];
+		for (int i = 0; i < nh; i++)
+			indices[i] = i;
+		return ConvexHulls2D.createPolygon(hull[0], hull[1], indices, 0, nh);
+	}
+
+	// ===================================================================
+	// Inner class for computing partial hulls
+
+	/**
+	 * Computes the vertices of the hull of the points within a range of
+	 * indices, as an array containing x- and y-coordinates.
+	 */
+	private static class HullTask extends RecursiveTask<double[][]> {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] xs;
+		private final double[] ys;
+		private final int from;
+		private final int to;
+		private final int taskSize;
+
+		private HullTask(double[] xs, double[] ys, int from, int to,
+				int taskSize) {
+			this.xs = xs;
+			this.ys = ys;
+			this.from = from;
+			this.to = to;
+			this.taskSize = taskSize;
+		}
+
+		@Override
+		protected double[][] compute() {
+			if (to - from <= taskSize) {
+				double[] px = Arrays.copyOfRange(xs, from, to);
+				double[] py = Arrays.copyOfRange(ys, from, to);
+				int n = ConvexHulls2D.filterInteriorPoints(px, py, px.length);
+				return hullVertices(px, py, n);
+			}
+
+			int mid = (from + to) >>> 1;
+			HullTask left = new HullTask(xs, ys, from, mid, taskSize);
+			HullTask right = new HullTask(xs, ys, mid, to, taskSize);
+			right.fork();
+			double[][] hull1 = left.compute();
+			double[][] hull2 = right.join();
+
+			// merge by computing the hull of the vertices of the two hulls
+			int n1 = hull1[0].length;
+			int n2 = hull2[0].length;
+			double[] px = Arrays.copyOf(hull1[0], n1 + n2);
+			double[] py = Arrays.copyOf(hull1[1], n1 + n2);
+			System.arraycopy(hull2[0], 0, px, n1, n2);
+			System.arraycopy(hull2[1], 0, py, n1, n2);
+			return hullVertices(px, py, n1 + n2);
+		}
+	}
+
+	/**
+	 * Computes the coordinates of the hull vertices of the first n points
+	 * of the arrays.
+	 */
+	private static double[][] hullVertices(double[] xs, double[] ys, int n) {
+		int[] indices = new int[n];
+		for (int i = 0; i < n; i++)
+			indices[i] = i;
+		int[] hull = new int[2 * n + 1];
+		int nh = MonotoneChain2D.computeHull(xs, ys, indices, 0, n, hull, 0);
+
+		double[][] res = new double[2][nh];
+		for (int i = 0; i < nh; i++) {
+			res[0][i] = xs[hull[i]];
+			res[1][i] = ys[hull[i]];
+		}
+		return res;
+	}
+}
@@ -0,0 +1,665 @@
+/**
+ * File: 	BezierCurves2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.spline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.BoxSweep2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.Vector2D;
+import net.javageom.geom2d.curve.Curve2D;
+import net.javageom.geom2d.curve.CurveArray2D;
+import net.javageom.geom2d.line.LinearShape2D;
+
+/**
+ * Computation of intersections between Bezier curves, and between Bezier
+ * curves and straight lines, without approximating the curves by polylines.
+ * <p>
+ *
+ * The curves may be quadratic or cubic Bezier curves, bounded linear shapes
+ * such as line segments, or curve arrays of such curves like
+ * PolyCubicBezierCurve2D. Quadratic curves and line segments are converted
+ * exactly to cubic curves.<p>
+ *
+ * Intersections with a line are computed from the signed distances of the
+ * control points to the line, that are the Bernstein coefficients of the
+ * distance of the curve to the line. The curve is subdivided until each
+ * sub-curve has coefficients of the same sign, or a single sign change,
+ * whose root is then computed by bisection.<p>
+ *
+ * Intersections between two curves are isolated by recursive subdivision of
+ * the curve pieces whose control polygons have overlapping bounding boxes,
+ * until both pieces are flat. The intersection of the chords is then refined
+ * by Newton iterations on the original curves. Pairs of pieces are pruned
+ * using a BoxSweep2D on the bounding boxes of their control points.<p>
+ *
+ * Only isolated intersections are returned: overlapping portions of curves
+ * are ignored, and tangential contacts may be missed.
+ *
+ * @see net.javageom.geom2d.circulinear.CirculinearCurves2D#locateIntersections
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class BezierCurves2D {
+
+	// ===================================================================
+	// Constants
+
+	/** The maximal number of subdivisions when isolating intersections */
+	private final static int MAX_DEPTH = 50;
+
+	/** The flatness of sub-curves, relative to the size of the curves */
+	private final static double FLATNESS = 1e-7;
+
+	/**
+	 * The maximal distance between points considered as the same
+	 * intersection, relative to the size of the curves
+	 */
+	private final static double TOLERANCE = 1e-9;
+
+	private final static int MAX_NEWTON_ITERATIONS = 20;
+
+	private final static int MAX_BISECTION_ITERATIONS = 60;
+
+	// ===================================================================
+	// Public methods
+
+	/**
+	 * Locates the intersection points of two curves. The result is a N-by-2
+	 * array of double, where N is the number of intersections. For each row,
+	 * the first element is the position on the first curve, and the second
+	 * element is the position on the second curve. Rows are sorted by
+	 * increasing position on the first curve.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if one of the curves is not composed of Bezier curves and
+	 *             bounded linear shapes
+	 */
+	public static double[][] locateIntersections(Curve2D curve1,
+			Curve2D curve2) {
+		ArrayList<Piece> pieces1 = pieces(curve1);
+		ArrayList<Piece> pieces2 = pieces(curve2);
+		if (pieces1.isEmpty() || pieces2.isEmpty())
+			return new double[0][2];
+
+		// tolerances are relative to the size of the curves
+		double scale = scale(pieces1, pieces2);
+		double flatness = FLATNESS * scale;
+		double tol = TOLERANCE * scale;
+
+		// pairs of pieces whose bounding boxes overlap
+		int[][] pairs = BoxSweep2D.overlappingPairs(boundingBoxes(pieces1),
+				boundingBoxes(pieces2), tol);
+
+		ArrayList<double[]> found = new ArrayList<double[]>();
+		ArrayList<double[]> candidates = new ArrayList<double[]>();
+		for (int[] pair : pairs) {
+			Piece piece1 = pieces1.get(pair[0]);
+			Piece piece2 = pieces2.get(pair[1]);
+
+			candidates.clear();
+			subdivide(piece1.ctrl, 0, 1, piece2.ctrl, 0, 1, 0, flatness, tol,
+					candidates);
+
+			for (double[] candidate : candidates) {
+				double[] params = refine(piece1.ctrl, piece2.ctrl,
+						candidate[0], candidate[1], tol);
+				if (params == null)
+					continue;
+				found.add(new double[] {
+						piece1.globalPosition(curve1, params[0]),
+						piece2.globalPosition(curve2, params[1]),
+						bezierX(piece1.ctrl, params[0]),
+						bezierY(piece1.ctrl, params[0]) });
+			}
+		}
+
+		return toPositionArray(mergeDuplicates(found, tol));
+	}
+
+	/**
+	 * Locates the intersection points of a curve and a linear shape. The
+	 * result is a N-by-2 array of double, where N is the number of
+	 * intersections. For each row, the first element is the position on the
+	 * curve, and the second element is the position on the linear shape.
+	 * Rows are sorted by increasing position on the curve.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the curve is not composed of Bezier curves and bounded
+	 *             linear shapes
+	 */
+	public static double[][] locateIntersections(Curve2D curve,
+			LinearShape2D line) {
+		ArrayList<Piece> pieces = pieces(curve);
+		if (pieces.isEmpty())
+			return new double[0][2];
+		double tol = TOLERANCE * scale(pieces, pieces);
+
+		Point2D origin = line.origin();
+		Vector2D direction = line.direction();
+		double ox = origin.x();
+		double oy = origin.y();
+		double dx = direction.x();
+		double dy = direction.y();
+		double dd = dx * dx + dy * dy;
+		double norm = Math.sqrt(dd);
+		double t0 = line.t0();
+		double t1 = line.t1();
+		double eps = tol / norm;
+
+		ArrayList<double[]> found = new ArrayList<double[]>();
+		ArrayList<Double> roots = new ArrayList<Double>();
+		for (Piece piece : pieces) {
+			// signed distances of control points, times norm of direction
+			double[] c = piece.ctrl;
+			double d0 = (c[0] - ox) * dy - (c[1] - oy) * dx;
+			double d1 = (c[2] - ox) * dy - (c[3] - oy) * dx;
+			double d2 = (c[4] - ox) * dy - (c[5] - oy) * dx;
+			double d3 = (c[6] - ox) * dy - (c[7] - oy) * dx;
+
+			roots.clear();
+			lineRoots(d0, d1, d2, d3, 0, 1, 0, roots);
+
+			for (double s : roots) {
+				double x = bezierX(c, s);
+				double y = bezierY(c, s);
+				double u = ((x - ox) * dx + (y - oy) * dy) / dd;
+				if (u < t0 - eps || u > t1 + eps)
+					continue;
+				u = Math.min(Math.max(u, t0), t1);
+				found.add(new double[] { piece.globalPosition(curve, s), u,
+						x, y });
+			}
+		}
+
+		return toPositionArray(mergeDuplicates(found, tol));
+	}
+
+	/**
+	 * Computes the intersection points of two curves.
+	 *
+	 * @see #locateIntersections(Curve2D, Curve2D)
+	 */
+	public static Collection<Point2D> findIntersections(Curve2D curve1,
+			Curve2D curve2) {
+		double[][] positions = locateIntersections(curve1, curve2);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(positions.length);
+		for (double[] pos : positions)
+			points.add(curve1.point(pos[0]));
+		return points;
+	}
+
+	/**
+	 * Computes the intersection points of a curve and a linear shape.
+	 *
+	 * @see #locateIntersections(Curve2D, LinearShape2D)
+	 */
+	public static Collection<Point2D> findIntersections(Curve2D curve,
+			LinearShape2D line) {
+		double[][] positions = locateIntersections(curve, line);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(positions.length);
+		for (double[] pos : positions)
+			points.add(curve.point(pos[0]));
+		return points;
+	}
+
+	// ===================================================================
+	// Decomposition of curves into cubic pieces
+
+	/**
+	 * A piece of curve, represented by the 8 coordinates of the control
+	 * points of a cubic Bezier curve. The position on the curve corresponds
+	 * to the linear mapping of [0, 1] onto [t0, t1].
+	 */
+	private static class Piece {
+		final double[] ctrl;
+		final int index;
+		final double t0, t1;
+
+		Piece(double[] ctrl, int index, double t0, double t1) {
+			this.ctrl = ctrl;
+			this.index = index;
+			this.t0 = t0;
+			this.t1 = t1;
+		}
+
+		double globalPosition(Curve2D curve, double s) {
+			double t = t0 + s * (t1 - t0);
+			if (index < 0)
+				return t;
+			return ((CurveArray2D<?>) curve).globalPosition(index, t);
+		}
+
+		Box2D boundingBox() {
+			double xmin = Math.min(Math.min(ctrl[0], ctrl[2]),
+					Math.min(ctrl[4], ctrl[6]));
+			double xmax = Math.max(Math.max(ctrl[0], ctrl[2]),
+					Math.max(ctrl[4], ctrl[6]));
+			double ymin = Math.min(Math.min(ctrl[1], ctrl[3]),
+					Math.min(ctrl[5], ctrl[7]));
+			double ymax = Math.max(Math.max(ctrl[1], ctrl[3]),
+					Math.max(ctrl[5], ctrl[7]));
+			return new Box2D(xmin, xmax, ymin, ymax);
+		}
+	}
+
+	private static ArrayList<Piece> pieces(Curve2D curve) {
+		ArrayList<Piece> pieces = new ArrayList<Piece>();
+		if (curve instanceof CurveArray2D<?>) {
+			int i = 0;
+			for (Curve2D element : ((CurveArray2D<?>) curve).curves())
+				pieces.add(piece(element, i++));
+		} else {
+			pieces.add(piece(curve, -1));
+		}
+		return pieces;
+	}
+
+	private static Piece piece(Curve2D curve, int index) {
+		if (curve instanceof CubicBezierCurve2D) {
+			CubicBezierCurve2D cubic = (CubicBezierCurve2D) curve;
+			return new Piece(new double[] { cubic.x1, cubic.y1,
+					cubic.ctrlx1, cubic.ctrly1, cubic.ctrlx2, cubic.ctrly2,
+					cubic.x2, cubic.y2 }, index, 0, 1);
+		}
+
+		if (curve instanceof QuadBezierCurve2D) {
+			// degree elevation
+			QuadBezierCurve2D quad = (QuadBezierCurve2D) curve;
+			return new Piece(new double[] { quad.x1, quad.y1,
+					(quad.x1 + 2 * quad.ctrlx) / 3,
+					(quad.y1 + 2 * quad.ctrly) / 3,
+					(quad.x2 + 2 * quad.ctrlx) / 3,
+					(quad.y2 + 2 * quad.ctrly) / 3,
+					quad.x2, quad.y2 }, index, 0, 1);
+		}
+
+		if (curve instanceof LinearShape2D && curve.isBounded()) {
+			LinearShape2D line = (LinearShape2D) curve;
+			double t0 = line.t0();
+			double t1 = line.t1();
+			Point2D p1 = line.point(t0);
+			Point2D p2 = line.point(t1);
+			double x1 = p1.x(), y1 = p1.y();
+			double x2 = p2.x(), y2 = p2.y();
+			return new Piece(new double[] { x1, y1,
+					(2 * x1 + x2) / 3, (2 * y1 + y2) / 3,
+					(x1 + 2 * x2) / 3, (y1 + 2 * y2) / 3,
+					x2, y2 }, index, t0, t1);
+		}
+
+		throw new IllegalArgumentException(
+				"Can not compute Bezier intersections with curve of class "
+						+ curve.getClass().getName());
+	}
+
+	private static Collection<Box2D> boundingBoxes(ArrayList<Piece> pieces) {
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>(pieces.size());
+		for (Piece piece : pieces)
+			boxes.add(piece.boundingBox());
+		return boxes;
+	}
+
+	/**
+	 * Returns the largest extent of the control points of the pieces, used
+	 * for computing relative tolerances.
+	 */
+	private static double scale(ArrayList<Piece> pieces1,
+			ArrayList<Piece> pieces2) {
+		Box2D box = union(pieces1).union(union(pieces2));
+		double scale = Math.max(box.getWidth(), box.getHeight());
+		return scale > 0 ? scale : 1;
+	}
+
+	private static Box2D union(ArrayList<Piece> pieces) {
+		Box2D box = pieces.get(0).boundingBox();
+		for (Piece piece : pieces)
+			box = box.union(piece.boundingBox());
+		return box;
+	}
+
+	// ===================================================================
+	// Intersections with lines
+
+	/**
+	 * Isolates the roots of the cubic polynomial given by its Bernstein
+	 * coefficients on the interval [t0, t1], and adds them to the list.
+	 */
+	private static void lineRoots(double d0, double d1, double d2, double d3,
+			double t0, double t1, int depth, ArrayList<Double> roots) {
+		// no root if all coefficients have the same sign
+		if (d0 > 0 && d1 > 0 && d2 > 0 && d3 > 0)
+			return;
+		if (d0 < 0 && d1 < 0 && d2 < 0 && d3 < 0)
+			return;
+		// the curve is contained in the line
+		if (d0 == 0 && d1 == 0 && d2 == 0 && d3 == 0)
+			return;
+
+		// a single sign change between non zero extremities: a single root
+		if (d0 != 0 && d3 != 0 && signChanges(d0, d1, d2, d3) == 1) {
+			roots.add(t0 + (t1 - t0) * bisect(d0, d1, d2, d3));
+			return;
+		}
+
+		if (depth == MAX_DEPTH) {
+			if (d0 == 0)
+				roots.add(t0);
+			else if (d3 == 0)
+				roots.add(t1);
+			else
+				roots.add((t0 + t1) / 2);
+			return;
+		}
+
+		// subdivide at the middle with de Casteljau algorithm
+		double a = (d0 + d1) / 2, b = (d1 + d2) / 2, c = (d2 + d3) / 2;
+		double ab = (a + b) / 2, bc = (b + c) / 2;
+		double m = (ab + bc) / 2;
+		double tm = (t0 + t1) / 2;
+		lineRoots(d0, a, ab, m, t0, tm, depth + 1, roots);
+		lineRoots(m, bc, c, d3, tm, t1, depth + 1, roots);
+	}
+
+	private static int signChanges(double d0, double d1, double d2,
+			double d3) {
+		int count = 0;
+		double last = d0;
+		for (double d : new double[] { d1, d2, d3 }) {
+			if (d == 0)
+				continue;
+			if ((d > 0) != (last > 0))
+				count++;
+			last = d;
+		}
+		return count;
+	}
+
+	/**
+	 * Computes by bisection the root in [0, 1] of the cubic polynomial with
+	 * the given Bernstein coefficients, whose extremities have opposite
+	 * signs.
+	 */
+	private static double bisect(double d0, double d1, double d2, double d3) {
+		double lo = 0, hi = 1;
+		boolean positive = d0 > 0;
+		for (int i = 0; i < MAX_BISECTION_ITERATIONS; i++) {
+			double t = (lo + hi) / 2;
+			if (t == lo || t == hi)
+				break;
+			double t1 = 1 - t;
+			double value = t1 * t1 * t1 * d0 + 3 * t * t1 * t1 * d1
+					+ 3 * t * t * t1 * d2 + t * t * t * d3;
+			if (value == 0)
+				return t;
+			if ((value > 0) == positive)
+				lo = t;
+			else
+				hi = t;
+		}
+		return (lo + hi) / 2;
+	}
+
+	// ===================================================================
+	// Intersections between curves
+
+	/**
+	 * Recursively subdivides the two cubic curves until they are flat, and
+	 * adds the intersections of their chords to the list of candidates.
+	 */
+	private static void subdivide(double[] c1, double s0, double s1,
+			double[] c2, double u0, double u1, int depth, double flatness,
+			double tol, ArrayList<double[]> candidates) {
+		if (!boxesOverlap(c1, c2, tol))
+			return;
+
+		boolean flat1 = isFlat(c1, flatness);
+		boolean flat2 = isFlat(c2, flatness);
+		if ((flat1 && flat2) || depth == MAX_DEPTH) {
+			double[] params = chordIntersection(c1, c2);
+			if (params != null)
+				candidates.add(new double[] {
+						s0 + params[0] * (s1 - s0),
+						u0 + params[1] * (u1 - u0) });
+			return;
+		}
+
+		// subdivide the largest of the curves that are not flat
+		if (!flat1 && (flat2 || extent(c1) >= extent(c2))) {
+			double[] left = new double[8];
+			double[] right = new double[8];
+			split(c1, left, right);
+			double sm = (s0 + s1) / 2;
+			subdivide(left, s0, sm, c2, u0, u1, depth + 1, flatness, tol,
+					candidates);
+			subdivide(right, sm, s1, c2, u0, u1, depth + 1, flatness, tol,
+					candidates);
+		} else {
+			double[] left = new double[8];
+			double[] right = new double[8];
+			split(c2, left, right);
+			double um = (u0 + u1) / 2;
+			subdivide(c1, s0, s1, left, u0, um, depth + 1, flatness, tol,
+					candidates);
+			subdivide(c1, s0, s1, right, um, u1, depth + 1, flatness, tol,
+					candidates);
+		}
+	}
+
+	private static boolean boxesOverlap(double[] c1, double[] c2, double tol) {
+		for (int k = 0; k < 2; k++) {
+			double min1 = Math.min(Math.min(c1[k], c1[k + 2]),
+					Math.min(c1[k + 4], c1[k + 6]));
+			double max1 = Math.max(Math.max(c1[k], c1[k + 2]),
+					Math.max(c1[k + 4], c1[k + 6]));
+			double min2 = Math.min(Math.min(c2[k], c2[k + 2]),
+					Math.min(c2[k + 4], c2[k + 6]));
+			double max2 = Math.max(Math.max(c2[k], c2[k + 2]),
+					Math.max(c2[k + 4], c2[k + 6]));
+			if (min1 > max2 + tol || min2 > max1 + tol)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the control points are within the given distance of the
+	 * chord of the curve.
+	 */
+	private static boolean isFlat(double[] c, double flatness) {
+		double ux = 3 * c[2] - 2 * c[0] - c[6];
+		double uy = 3 * c[3] - 2 * c[1] - c[7];
+		double vx = 3 * c[4] - c[0] - 2 * c[6];
+		double vy = 3 * c[5] - c[1] - 2 * c[7];
+		return Math.max(ux * ux, vx * vx) + Math.max(uy * uy, vy * vy)
+				<= 16 * flatness * flatness;
+	}
+
+	private static double extent(double[] c) {
+		double dx = Math.max(Math.max(c[0], c[2]), Math.max(c[4], c[6]))
+				- Math.min(Math.min(c[0], c[2]), Math.min(c[4], c[6]));
+		double dy = Math.max(Math.max(c[1], c[3]), Math.max(c[5], c[7]))
+				- Math.min(Math.min(c[1], c[3]), Math.min(c[5], c[7]));
+		return Math.max(dx, dy);
+	}
+
+	/**
+	 * Splits a cubic curve at its middle with de Casteljau algorithm.
+	 */
+	private static void split(double[] c, double[] left, double[] right) {
+		for (int k = 0; k < 2; k++) {
+			double a = (c[k] + c[k + 2]) / 2;
+			double b = (c[k + 2] + c[k + 4]) / 2;
+			double d = (c[k + 4] + c[k + 6]) / 2;
+			double ab = (a + b) / 2;
+			double bd = (b + d) / 2;
+			double m = (ab + bd) / 2;
+			left[k] = c[k];
+			left[k + 2] = a;
+			left[k + 4] = ab;
+			left[k + 6] = m;
+			right[k] = m;
+			right[k + 2] = bd;
+			right[k + 4] = d;
+			right[k + 6] = c[k + 6];
+		}
+	}
+
+	/**
+	 * Computes the positions of the intersection of the chords of two
+	 * curves, or returns null if the chords are parallel or do not
+	 * intersect.
+	 */
+	private static double[] chordIntersection(double[] c1, double[] c2) {
+		double dx1 = c1[6] - c1[0];
+		double dy1 = c1[7] - c1[1];
+		double dx2 = c2[6] - c2[0];
+		double dy2 = c2[7] - c2[1];
+		double denom = dx1 * dy2 - dy1 * dx2;
+		if (denom == 0)
+			return null;
+
+		double ex = c2[0] - c1[0];
+		double ey = c2[1] - c1[1];
+		double s = (ex * dy2 - ey * dx2) / denom;
+		double u = (ex * dy1 - ey * dx1) / denom;
+
+		// accept a small margin, as intersections are refined afterwards
+		double eps = 1e-6;
+		if (s < -eps || s > 1 + eps || u < -eps || u > 1 + eps)
+			return null;
+		return new double[] { Math.min(Math.max(s, 0), 1),
+				Math.min(Math.max(u, 0), 1) };
+	}
+
+	/**
+	 * Refines the positions of an intersection using Newton iterations.
+	 * Returns null if the refined points are not within the tolerance.
+	 */
+	private static double[] refine(double[] c1, double[] c2, double s,
+			double u, double tol) {
+		for (int i = 0; i < MAX_NEWTON_ITERATIONS; i++) {
+			double fx = bezierX(c1, s) - bezierX(c2, u);
+			double fy = bezierY(c1, s) - bezierY(c2, u);
+			if (fx == 0 && fy == 0)
+				break;
+
+			// jacobian of the difference of the two curves
+			double a = derivative(c1, 0, s);
+			double b = derivative(c1, 1, s);
+			double c = derivative(c2, 0, u);
+			double d = derivative(c2, 1, u);
+			double det = c * b - a * d;
+			if (det == 0)
+				break;
+
+			double ds = (fx * d - c * fy) / det;
+			double du = (b * fx - a * fy) / det;
+			double s2 = Math.min(Math.max(s + ds, 0), 1);
+			double u2 = Math.min(Math.max(u + du, 0), 1);
+			if (s2 == s && u2 == u)
+				break;
+			s = s2;
+			u = u2;
+		}
+
+		double fx = bezierX(c1, s) - bezierX(c2, u);
+		double fy = bezierY(c1, s) - bezierY(c2, u);
+		if (fx * fx + fy * fy > tol * tol)
+			return null;
+		return new double[] { s, u };
+	}
+
+	// ===================================================================
+	// Utility methods
+
+	private static double bezierX(double[] c, double t) {
+		double t1 = 1 - t;
+		return t1 * t1 * t1 * c[0] + 3 * t * t1 * t1 * c[2]
+				+ 3 * t * t * t1 * c[4] + t * t * t * c[6];
+	}
+
+	private static double bezierY(double[] c, double t) {
+		double t1 = 1 - t;
+		return t1 * t1 * t1 * c[1] + 3 * t * t1 * t1 * c[3]
+				+ 3 * t * t * t1 * c[5] + t * t * t * c[7];
+	}
+
+	/**
+	 * Computes the derivative of the x-coordinate (k=0) or of the
+	 * y-coordinate (k=1) of a cubic curve.
+	 */
+	private static double derivative(double[] c, int k, double t) {
+		double t1 = 1 - t;
+		return 3 * (t1 * t1 * (c[k + 2] - c[k])
+				+ 2 * t * t1 * (c[k + 4] - c[k + 2])
+				+ t * t * (c[k + 6] - c[k + 4]));
+	}
+
+	/**
+	 * Removes the intersections whose points (given by elements 2 and 3)
+	 * are within the tolerance of a previous intersection, and sorts the
+	 * remaining ones by position on the first curve.
+	 */
+	private static ArrayList<double[]> mergeDuplicates(
+			ArrayList<double[]> found, double tol) {
+		// sort by position, to keep the first position of duplicates
+		Collections.sort(found, new Comparator<double[]>() {
+			public int compare(double[] a, double[] b) {
+				int res = Double.compare(a[0], b[0]);
+				return res != 0 ? res : Double.compare(a[1], b[1]);
+			}
+		});
+
+		// sweep the intersections sorted by x-coordinate
+		int n = found.size();
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		final ArrayList<double[]> list = found;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer i, Integer j) {
+				return Double.compare(list.get(i)[2], list.get(j)[2]);
+			}
+		});
+
+		boolean[] removed = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			double[] inter = found.get(order[i]);
+			for (int j = i + 1; j < n; j++) {
+				double[] other = found.get(order[j]);
+				if (other[2] - inter[2] > tol)
+					break;
+				if (Math.abs(other[3] - inter[3]) <= tol)
+					removed[Math.max(order[i], order[j])] = true;
+			}
+		}
+
+		ArrayList<double[]> result = new ArrayList<double[]>(n);
+		for (int i = 0; i < n; i++) {
+			if (!removed[i])
+				result.add(found.get(i));
+		}
+		return result;
+	}
+
+	private static double[][] toPositionArray(ArrayList<double[]> list) {
+		double[][] result = new double[list.size()][2];
+		for (int i = 0; i < list.size(); i++) {
+			result[i][0] = list.get(i)[0];
+			result[i][1] = list.get(i)[1];
+		}
+		return result;
+	}
+}
@@ -67,6 +67,18 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
     
      
+    // ===================================================================
+    // constants
+
+	/**
+	 * The maximal number of subdivisions of the parameter interval for
+	 * isolating the local minima of the distance to a point.
+	 */
+	private final static int MAX_SUBDIVISION_DEPTH = 32;
+
+	/** The maximal number of iterations for refining a local minimum */
+	private final static int MAX_NEWTON_ITERATIONS = 50;
+
     // ===================================================================
     // class variables
 
@@ -211,7 +223,7 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * @see net.javageom.geom2d.domain.OrientedCurve2D#windingAngle(Point2D)
      */
     public double windingAngle(Point2D point) {
-        return this.asPolyline(100).windingAngle(point);
+        return this.flatten().windingAngle(point);
     }
 
     /**
@@ -222,7 +234,7 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * @return true if the point is on the left side of the curve.
      */
     public boolean isInside(Point2D pt) {
-        return this.asPolyline(100).isInside(pt);
+        return this.flatten().isInside(pt);
     }
 
     public double signedDistance(Point2D point) {
@@ -265,6 +277,27 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 		return (xp * ys - yp * xs) / Math.pow(Math.hypot(xp, yp), 3);
     }
 
+    /**
+     * Returns the largest distance between the inner control points of the
+     * curve portion between t0 and t1 and its chord. As the curve portion
+     * lies within the convex hull of its control points, this bounds the
+     * distance between the curve portion and its chord.
+     */
+    @Override
+    protected double chordDeviation(double t0, double t1) {
+		Point2D p0 = this.point(t0);
+		Point2D p3 = this.point(t1);
+		Vector2D v0 = this.tangent(t0);
+		Vector2D v3 = this.tangent(t1);
+		double h = (t1 - t0) / 3;
+		double x0 = p0.x(), y0 = p0.y(), x3 = p3.x(), y3 = p3.y();
+		return Math.max(
+				segmentDistance(x0, y0, x3, y3, 
+						x0 + h * v0.x(), y0 + h * v0.y()),
+				segmentDistance(x0, y0, x3, y3, 
+						x3 - h * v3.x(), y3 - h * v3.y()));
+    }
+
     // ===================================================================
     // methods from ContinousCurve2D interface
 
@@ -327,12 +360,14 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
     
     /**
-     * Use approximation, by replacing Bezier curve with a polyline.
+     * Computes the intersections with the line without polyline
+     * approximation.
      * 
+     * @see BezierCurves2D#findIntersections(Curve2D, LinearShape2D)
      * @see net.javageom.geom2d.curve.Curve2D#intersections(net.javageom.geom2d.line.LinearShape2D)
      */
     public Collection<Point2D> intersections(LinearShape2D line) {
-        return this.asPolyline(100).intersections(line);
+        return BezierCurves2D.findIntersections(this, line);
     }
 
     /**
@@ -370,16 +405,216 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * Computes position by approximating cubic spline with a polyline.
      */
     public double position(Point2D point) {
-        int N = 100;
-        return this.asPolyline(N).position(point)/(N);
+        return curvePosition(this.flatten().position(point));
     }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Computes the position of the point of the curve closest to the given
+     * point. The derivative of the squared distance is a polynomial of
+     * degree 5, whose coefficients are computed in the Bernstein basis. The
+     * parameter interval is subdivided until the number of sign variations
+     * of the coefficients, that bounds the number of roots, is zero or one.
+     * Each interval where the sign changes from negative to positive brackets
+     * a local minimum, that is refined by Newton iterations safeguarded by
+     * bisection. The result is the best of these minima and of the curve
+     * extremities.
      */
     public double project(Point2D point) {
-        int N = 100;
-		return this.asPolyline(N).project(point) / (N);
+        return project(point.x(), point.y());
+    }
+
+    private double project(double x, double y) {
+    	// Bernstein coefficients of the vector from the point to the curve,
+    	// and of the derivative of the curve
+    	double[] px = new double[] {x1 - x, ctrlx1 - x, ctrlx2 - x, x2 - x};
+    	double[] py = new double[] {y1 - y, ctrly1 - y, ctrly2 - y, y2 - y};
+    	double[] vx = new double[] {
+    			3 * (ctrlx1 - x1), 3 * (ctrlx2 - ctrlx1), 3 * (x2 - ctrlx2)};
+    	double[] vy = new double[] {
+    			3 * (ctrly1 - y1), 3 * (ctrly2 - ctrly1), 3 * (y2 - ctrly2)};
+
+    	// Bernstein coefficients of their dot product
+    	double[] binom3 = new double[] {1, 3, 3, 1};
+    	double[] binom2 = new double[] {1, 2, 1};
+    	double[] binom5 = new double[] {1, 5, 10, 10, 5, 1};
+    	double[] coefs = new double[6];
+    	for (int i = 0; i < 4; i++)
+    		for (int j = 0; j < 3; j++)
+    			coefs[i + j] += binom3[i] * binom2[j]
+    					* (px[i] * vx[j] + py[i] * vy[j]);
+    	for (int k = 0; k < 6; k++)
+    		coefs[k] /= binom5[k];
+
+    	// extremities are candidates
+    	double[] best = new double[] {0, squaredDistance(0, x, y)};
+    	updateProjection(x, y, 1, best);
+    	isolateMinima(x, y, coefs, 0, 1, 0, best);
+    	return best[0];
+    }
+
+    /**
+     * Searches the local minima of the distance to the point (x, y) within
+     * the interval [t0, t1], given the Bernstein coefficients of the
+     * derivative of the squared distance over this interval. The array
+     * <code>best</code> contains the best position and squared distance
+     * found so far, and is updated.
+     */
+    private void isolateMinima(double x, double y, double[] coefs, 
+    		double t0, double t1, int depth, double[] best) {
+    	int n = signVariations(coefs);
+    	if (n == 0)
+    		return;
+
+    	if (n == 1) {
+    		// a single root, that is a local minimum if the derivative is
+    		// increasing. The search starts from the root of the linear
+    		// interpolation of the derivative. Roots located on the bounds
+    		// are isolated by further subdivisions.
+    		double f0 = distanceDerivative(t0, x, y);
+    		double f1 = distanceDerivative(t1, x, y);
+    		if (f0 > 0 || f1 < 0)
+    			return;
+    		if (f0 < 0 && f1 > 0) {
+    			double t = t0 + (t1 - t0) * f0 / (f0 - f1);
+    			updateProjection(x, y, refineProjection(x, y, t0, t1, t), 
+    					best);
+    			return;
+    		}
+    	}
+
+    	if (depth == MAX_SUBDIVISION_DEPTH) {
+    		// the roots are too close to be separated
+    		updateProjection(x, y, (t0 + t1) / 2, best);
+    	} else {
+    		// split the interval in two halves, using de Casteljau algorithm
+    		double[] left = new double[6];
+    		double[] right = coefs.clone();
+    		for (int i = 0; i < 6; i++) {
+    			left[i] = right[0];
+    			for (int k = 0; k < 5 - i; k++)
+    				right[k] = (right[k] + right[k + 1]) / 2;
+    		}
+    		double tm = (t0 + t1) / 2;
+    		isolateMinima(x, y, left, t0, tm, depth + 1, best);
+    		isolateMinima(x, y, right, tm, t1, depth + 1, best);
+
+    		// a root at the middle is not counted by the halves
+    		if (left[5] == 0)
+    			updateProjection(x, y, tm, best);
+    	}
+    }
+
+    /**
+     * Replaces the best position and squared distance if the point at
+     * position t is closer to the point (x, y).
+     */
+    private void updateProjection(double x, double y, double t, 
+    		double[] best) {
+    	double d = squaredDistance(t, x, y);
+    	if (d < best[1]) {
+    		best[0] = t;
+    		best[1] = d;
+    	}
+    }
+
+    /**
+     * Returns the number of sign changes in the sequence of coefficients,
+     * ignoring the null coefficients.
+     */
+    private static int signVariations(double[] coefs) {
+    	int n = 0;
+    	double prev = 0;
+    	for (double c : coefs) {
+    		if (c == 0)
+    			continue;
+    		if (prev != 0 && (c > 0) != (prev > 0))
+    			n++;
+    		prev = c;
+    	}
+    	return n;
+    }
+
+    /**
+     * Finds the local minimum of the distance to the point (x, y) within the
+     * interval [t0, t1], starting from position t. The derivative of the
+     * squared distance must be negative at t0 and positive at t1.
+     */
+    private double refineProjection(double x, double y, double t0, double t1,
+    		double t) {
+    	for (int i = 0; i < MAX_NEWTON_ITERATIONS; i++) {
+    		double f = distanceDerivative(t, x, y);
+    		if (f == 0)
+    			return t;
+    		if (f < 0)
+    			t0 = t;
+    		else
+    			t1 = t;
+    		
+    		double t2 = t - f / distanceSecondDerivative(t, x, y);
+    		if (!(t2 > t0 && t2 < t1))
+    			t2 = (t0 + t1) / 2;
+    		if (Math.abs(t2 - t) <= 1e-15)
+    			return t2;
+    		t = t2;
+    	}
+    	return t;
+    }
+
+    /**
+     * Computes the squared distance between the point at position t and the
+     * point (x, y).
+     */
+    private double squaredDistance(double t, double x, double y) {
+    	double t1 = 1 - t;
+    	double b0 = t1 * t1 * t1;
+    	double b1 = 3 * t * t1 * t1;
+    	double b2 = 3 * t * t * t1;
+    	double b3 = t * t * t;
+    	double dx = b0 * x1 + b1 * ctrlx1 + b2 * ctrlx2 + b3 * x2 - x;
+    	double dy = b0 * y1 + b1 * ctrly1 + b2 * ctrly2 + b3 * y2 - y;
+    	return dx * dx + dy * dy;
+    }
+
+    /**
+     * Computes the half of the derivative of the squared distance to the
+     * point (x, y), that is the dot product of the vector from the point to
+     * the curve with the tangent of the curve.
+     */
+    private double distanceDerivative(double t, double x, double y) {
+    	double t1 = 1 - t;
+    	double b0 = t1 * t1 * t1;
+    	double b1 = 3 * t * t1 * t1;
+    	double b2 = 3 * t * t * t1;
+    	double b3 = t * t * t;
+    	double dx = b0 * x1 + b1 * ctrlx1 + b2 * ctrlx2 + b3 * x2 - x;
+    	double dy = b0 * y1 + b1 * ctrly1 + b2 * ctrly2 + b3 * y2 - y;
+    	double tx = 3 * (t1 * t1 * (ctrlx1 - x1) + 2 * t * t1 * (ctrlx2 - ctrlx1)
+    			+ t * t * (x2 - ctrlx2));
+    	double ty = 3 * (t1 * t1 * (ctrly1 - y1) + 2 * t * t1 * (ctrly2 - ctrly1)
+    			+ t * t * (y2 - ctrly2));
+    	return dx * tx + dy * ty;
+    }
+
+    /**
+     * Computes the derivative of distanceDerivative.
+     */
+    private double distanceSecondDerivative(double t, double x, double y) {
+    	double t1 = 1 - t;
+    	double b0 = t1 * t1 * t1;
+    	double b1 = 3 * t * t1 * t1;
+    	double b2 = 3 * t * t * t1;
+    	double b3 = t * t * t;
+    	double dx = b0 * x1 + b1 * ctrlx1 + b2 * ctrlx2 + b3 * x2 - x;
+    	double dy = b0 * y1 + b1 * ctrly1 + b2 * ctrly2 + b3 * y2 - y;
+    	double tx = 3 * (t1 * t1 * (ctrlx1 - x1) + 2 * t * t1 * (ctrlx2 - ctrlx1)
+    			+ t * t * (x2 - ctrlx2));
+    	double ty = 3 * (t1 * t1 * (ctrly1 - y1) + 2 * t * t1 * (ctrly2 - ctrly1)
+    			+ t * t * (y2 - ctrly2));
+    	double ax = 6 * (t1 * (ctrlx2 - 2 * ctrlx1 + x1) 
+    			+ t * (x2 - 2 * ctrlx2 + ctrlx1));
+    	double ay = 6 * (t1 * (ctrly2 - 2 * ctrly1 + y1) 
+    			+ t * (y2 - 2 * ctrly2 + ctrly1));
+    	return tx * tx + ty * ty + dx * ax + dy * ay;
     }
 
     /**
@@ -414,7 +649,7 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 	 * @see math.geom2d.Shape2D#contains(double, double)
 	 */
 	public boolean contains(double x, double y) {
-		return this.asPolyline(180).contains(x, y);
+		return this.flatten().contains(x, y);
 	}
 
 	/* (non-Javadoc)
@@ -432,22 +667,25 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Compute approximated distance, computed on a polyline.
+     * Computes the distance to the closest point of the curve.
      * 
+     * @see #project(Point2D)
      * @see net.javageom.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-    	return this.asPolyline(100).distance(x, y);
+    	return Math.sqrt(squaredDistance(project(x, y), x, y));
     }
 
     /**
-	 * Computes approximated squared distance, computed on a polyline
-	 * approximation.
+	 * Computes the squared distance to the closest point of the curve.
 	 * 
+	 * @see #project(Point2D)
 	 * @see net.javageom.geom2d.Shape2D#sqDistance(net.javageom.geom2d.Point2D)
 	 */
     public double sqDistance(Point2D p) {
-        return this.asPolyline(100).sqDistance(p);
+    	double x = p.x();
+    	double y = p.y();
+        return squaredDistance(project(x, y), x, y);
     }
 
     /**
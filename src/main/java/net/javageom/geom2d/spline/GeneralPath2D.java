@@ -6,6 +6,7 @@ package net.javageom.geom2d.spline;
 import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -13,8 +14,18 @@ import net.javageom.geom2d.*;
 import net.javageom.geom2d.curve.*;
 import net.javageom.geom2d.line.LineSegment2D;
 import net.javageom.geom2d.line.LinearShape2D;
+import net.javageom.utils.EqualUtils;
 
 /**
+ * A path composed of linear, quadratic and cubic segments, that can contain
+ * several continuous curves.<p>
+ *
+ * As in java.awt.geom.Path2D.Double, the path is stored in packed form: an
+ * array of bytes contains the type of each segment, and an array of doubles
+ * contains the coordinates of the control points of all the segments. The
+ * bounding box, the distance and the transform are computed directly from
+ * these arrays, and smooth curves are created only when needed.
+ *
  * @author dlegland
  *
  */
@@ -22,32 +33,46 @@ public class GeneralPath2D implements Curve2D {
 
 	// ===================================================================
 	// Static variables and constants
-   
-	private enum Type {
-		MOVE,
-		LINE, 
-		QUAD,
-		CUBIC,
-		CLOSE;
-	}
-	
+
+	/** The types of segments, as stored in the array of types */
+	private final static byte MOVE = 0;
+	private final static byte LINE = 1;
+	private final static byte QUAD = 2;
+	private final static byte CUBIC = 3;
+	private final static byte CLOSE = 4;
+
+	/** The number of coordinates of each type of segment */
+	private final static int[] COORD_NUMBERS = { 2, 2, 4, 6, 0 };
+
+	/** The default number of segments allocated for a new path */
+	private final static int INIT_SIZE = 20;
 
 	// ===================================================================
 	// class variables
-   
+
 	/**
-	 * A collection of elementary segments that can be linear, quad, conic, 
-	 * move or close
+	 * The type of each segment: move, line, quad, cubic or close.
 	 */
-	ArrayList<Segment> segments;
-		
+	byte[] types;
+
+	/** The number of segments */
+	int numTypes = 0;
+
+	/**
+	 * The coordinates of the control points of all the segments.
+	 */
+	double[] coords;
+
+	/** The number of coordinates */
+	int numCoords = 0;
+
 	/**
 	 * The last creation option of this path, used to know which action are
 	 * allowed.
 	 */
-	Type lastType = Type.CLOSE;
+	byte lastType = CLOSE;
+
 
-	
 	// ===================================================================
 	// constructors
 
@@ -55,124 +80,173 @@ public class GeneralPath2D implements Curve2D {
 	 * Initialize an empty path.
 	 */
 	public GeneralPath2D() {
-		this.segments = new ArrayList<Segment>();
+		this(INIT_SIZE);
 	}
-	
+
+	/**
+	 * Initialize an empty path, with the given initial capacity for segments.
+	 */
+	public GeneralPath2D(int initialCapacity) {
+		this.types = new byte[initialCapacity];
+		this.coords = new double[initialCapacity * 2];
+	}
+
 	/**
 	 * Copy constructor.
 	 */
 	public GeneralPath2D(GeneralPath2D path) {
-		
-		// init local segment array
-		this.segments = new ArrayList<Segment>(path.segments.size());
-		
-		Point2D[] pts;
-		
-		// iterate on the collection of segments
-		for (Segment seg : path.segments) {
-			switch(seg.type()) {
-			case MOVE:
-				pts = seg.controlPoints();
-				this.moveTo(pts[0]);
-				break;
-
-			case LINE:
-				pts = seg.controlPoints();
-				this.lineTo(pts[0]);
-				break;
-
-			case QUAD:
-				pts = seg.controlPoints();
-				this.quadTo(pts[0], pts[1]);
-				break;
-
-			case CUBIC:
-				pts = seg.controlPoints();
-				this.cubicTo(pts[0], pts[1], pts[2]);
-				break;
-
-			case CLOSE:
-				this.closePath();
-			}
-		}
+		this.types = Arrays.copyOf(path.types, path.numTypes);
+		this.numTypes = path.numTypes;
+		this.coords = Arrays.copyOf(path.coords, path.numCoords);
+		this.numCoords = path.numCoords;
+		this.lastType = path.lastType;
 	}
-	
+
 	// ===================================================================
 	// methods specific to GeneralPath2D
 
 	public void moveTo(Point2D p) {
-		this.segments.add(new MoveSegment(p));
-		this.lastType = Type.MOVE;
+		this.moveTo(p.x(), p.y());
+	}
+
+	public void moveTo(double x, double y) {
+		appendSegment(MOVE);
+		coords[numCoords++] = x;
+		coords[numCoords++] = y;
 	}
 
 	public void lineTo(Point2D p) {
-		this.segments.add(new LinearSegment(p));
-		this.lastType = Type.LINE;
+		this.lineTo(p.x(), p.y());
+	}
+
+	public void lineTo(double x, double y) {
+		appendSegment(LINE);
+		coords[numCoords++] = x;
+		coords[numCoords++] = y;
 	}
 
 	public void quadTo(Point2D p1, Point2D p2) {
-		this.segments.add(new QuadSegment(p1, p2));
-		this.lastType = Type.QUAD;
+		this.quadTo(p1.x(), p1.y(), p2.x(), p2.y());
+	}
+
+	public void quadTo(double x1, double y1, double x2, double y2) {
+		appendSegment(QUAD);
+		coords[numCoords++] = x1;
+		coords[numCoords++] = y1;
+		coords[numCoords++] = x2;
+		coords[numCoords++] = y2;
 	}
 
 	public void cubicTo(Point2D p1, Point2D p2, Point2D p3) {
-		this.segments.add(new CubicSegment(p1, p2, p3));
-		this.lastType = Type.CUBIC;
+		this.cubicTo(p1.x(), p1.y(), p2.x(), p2.y(), p3.x(), p3.y());
+	}
+
+	public void cubicTo(double x1, double y1, double x2, double y2,
+			double x3, double y3) {
+		appendSegment(CUBIC);
+		coords[numCoords++] = x1;
+		coords[numCoords++] = y1;
+		coords[numCoords++] = x2;
+		coords[numCoords++] = y2;
+		coords[numCoords++] = x3;
+		coords[numCoords++] = y3;
 	}
 
 	public void closePath() {
 		// Cannot close a path more than once
-		if (this.lastType == Type.CLOSE) 
+		if (this.lastType == CLOSE)
 			return;
-		this.segments.add(new ClosingSegment());
+		appendSegment(CLOSE);
 	}
-	
+
 	/**
-	 * Returns a collection of smooth curves corresponding to the elementary
+	 * Returns the number of segments of this path, including move and close
 	 * segments.
 	 */
-	private Collection<SmoothCurve2D> smoothCurves() {
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		Point2D[] pts;
-		
-		int n = this.segments.size();
-		ArrayList<SmoothCurve2D> curves = new ArrayList<SmoothCurve2D>(n);
-		
-		for (Segment seg : this.segments) {
-			switch (seg.type()) {
-			case MOVE:
-				// update last control and initial point
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
-				break;
+	public int segmentNumber() {
+		return numTypes;
+	}
 
-			case LINE:
-				pts = seg.controlPoints();
-				curves.add(new LineSegment2D(lastControl, pts[0]));
-				lastControl = pts[0];
-				break;
-				
-			case QUAD:
-				pts = seg.controlPoints();
-				curves.add(new QuadBezierCurve2D(lastControl, pts[0], pts[1]));
-				lastControl = pts[1];
-				break;
-				
-			case CUBIC:
-				pts = seg.controlPoints();
-				curves.add(new CubicBezierCurve2D(lastControl, pts[0], pts[1], pts[2]));
-				lastControl = pts[2];
-				break;
+	/**
+	 * Reduces the capacity of the arrays storing the path to the size of the
+	 * path, for saving memory when a large number of paths is kept.
+	 */
+	public void trimToSize() {
+		if (types.length != numTypes)
+			types = Arrays.copyOf(types, numTypes);
+		if (coords.length != numCoords)
+			coords = Arrays.copyOf(coords, numCoords);
+	}
 
-			case CLOSE:
-				// connect to the last initial point
-				curves.add(new LineSegment2D(lastControl, lastStart));
-				lastControl = lastStart;
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+	/**
+	 * Adds the type of a new segment, and ensures the capacity of the
+	 * coordinate array for the control points of this segment.
+	 */
+	private void appendSegment(byte type) {
+		if (numTypes == types.length)
+			types = Arrays.copyOf(types, Math.max(2 * numTypes, INIT_SIZE));
+		int n = numCoords + COORD_NUMBERS[type];
+		if (n > coords.length)
+			coords = Arrays.copyOf(coords,
+					Math.max(2 * coords.length, Math.max(n, 2 * INIT_SIZE)));
+		types[numTypes++] = type;
+		lastType = type;
+	}
+
+	/**
+	 * Creates the smooth curve corresponding to a segment, given the index of
+	 * its first coordinate, the last point of the path before the segment,
+	 * and the first point of the current continuous curve. Returns null for
+	 * MOVE segments.
+	 */
+	private SmoothCurve2D segmentCurve(byte type, int ci, double x0,
+			double y0, double xs, double ys) {
+		double[] c = this.coords;
+		switch (type) {
+		case MOVE:
+			return null;
+		case LINE:
+			return new LineSegment2D(x0, y0, c[ci], c[ci + 1]);
+		case QUAD:
+			return new QuadBezierCurve2D(x0, y0, c[ci], c[ci + 1],
+					c[ci + 2], c[ci + 3]);
+		case CUBIC:
+			return new CubicBezierCurve2D(x0, y0, c[ci], c[ci + 1],
+					c[ci + 2], c[ci + 3], c[ci + 4], c[ci + 5]);
+		case CLOSE:
+			// connect to the last initial point
+			return new LineSegment2D(x0, y0, xs, ys);
+		default:
+			throw new RuntimeException("Unknown Path segment type: " + type);
+		}
+	}
+
+	/**
+	 * Returns a collection of smooth curves corresponding to the elementary
+	 * segments.
+	 */
+	private Collection<SmoothCurve2D> smoothCurves() {
+		ArrayList<SmoothCurve2D> curves = new ArrayList<SmoothCurve2D>(numTypes);
+
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
+
+		for (int i = 0; i < numTypes; i++) {
+			byte type = types[i];
+			if (type == MOVE) {
+				xs = coords[ci];
+				ys = coords[ci + 1];
+			} else {
+				curves.add(segmentCurve(type, ci, x0, y0, xs, ys));
+			}
+			ci += COORD_NUMBERS[type];
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
@@ -182,60 +256,35 @@ public class GeneralPath2D implements Curve2D {
 
 	private SmoothCurve2D segmentCurve(int index) {
 		// Check index validity
-		int n = this.segments.size();
-		if (index > n - 2)
+		if (index > numTypes - 2)
 			throw new IllegalArgumentException("Index must be lower than segment number");
-		
-		SmoothCurve2D curve = null;
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		Point2D[] pts;
-		
-		
-		for (int i = 0; i < index + 2; i++) {
-			Segment seg = this.segments.get(i);
-			switch (seg.type()) {
-			case MOVE:
-				// update last control and initial point
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
-				break;
 
-			case LINE:
-				pts = seg.controlPoints();
-				curve = new LineSegment2D(lastControl, pts[0]);
-				lastControl = pts[0];
-				break;
-				
-			case QUAD:
-				pts = seg.controlPoints();
-				curve = new QuadBezierCurve2D(lastControl, pts[0], pts[1]);
-				lastControl = pts[1];
-				break;
-				
-			case CUBIC:
-				pts = seg.controlPoints();
-				curve = new CubicBezierCurve2D(lastControl, pts[0], pts[1], pts[2]);
-				lastControl = pts[2];
-				break;
-
-			case CLOSE:
-				// connect to the last initial point
-				curve = new LineSegment2D(lastControl, lastStart);
-				lastControl = lastStart;
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
+
+		// iterate until the segment before the requested one
+		for (int i = 0; i < index + 1; i++) {
+			byte type = types[i];
+			ci += COORD_NUMBERS[type];
+			if (type == MOVE) {
+				xs = coords[ci - 2];
+				ys = coords[ci - 1];
+			}
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
-		// Returns the set of curves
-		return curve;
+		return segmentCurve(types[index + 1], ci, x0, y0, xs, ys);
 	}
-	
+
 	// ===================================================================
-	// Methods implementing the Curve2D interface	
+	// Methods implementing the Curve2D interface
 
 	/**
 	 * The first parameterization value is equal to 0.
@@ -251,10 +300,10 @@ public class GeneralPath2D implements Curve2D {
 	/**
 	 * The last parameterization value is given by the number of elementary
 	 * operations (moveTo, closePath, lineTo...) minus one (for the initial
-	 * move). 
+	 * move).
 	 */
 	public double t1() {
-		return segments.size() - 1;
+		return numTypes - 1;
 	}
 
 	public double getT1() {
@@ -262,24 +311,24 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	public Point2D point(double t) {
-		// get curve segment index 
+		// get curve segment index
 		int index = (int) Math.floor(t);
-		
+
 		// Special case of last point
-		if (index == this.segments.size() - 1 && Math.abs(t - index) < Shape2D.ACCURACY)
+		if (index == numTypes - 1 && Math.abs(t - index) < Shape2D.ACCURACY)
 			return this.lastPoint();
-			
+
 		// extract curve segment
 		SmoothCurve2D curve = segmentCurve(index);
 		if (curve == null) {
 			throw new RuntimeException("Can not manage position for MOVE Path segments");
 		}
-		
+
 		// convert from global to local coordinates
 		double t0 = curve.t0();
 		double t1 = curve.t1();
 		double t2 = (t - index) * (t1 - t0) + t0;
-		
+
 		// delegate processing to sub-curve instance
 		return curve.point(t2);
 	}
@@ -288,47 +337,57 @@ public class GeneralPath2D implements Curve2D {
 	 * Returns the first point of the curve, or null if this curve is empty.
 	 */
 	public Point2D firstPoint() {
-		if (this.segments.isEmpty()) 
+		if (numCoords == 0)
 			return null;
-		return this.segments.get(0).controlPoints()[0];
+		return new Point2D(coords[0], coords[1]);
 	}
 
 	/**
 	 * Returns the last point of the curve, or null if this curve is empty.
+	 * If the path ends with a close segment, returns the first point of the
+	 * last continuous curve.
 	 */
 	public Point2D lastPoint() {
-		int n = this.segments.size();
-		if (n == 0) 
+		if (numTypes == 0)
 			return null;
-		return this.segments.get(n-1).lastControl();
+
+		if (types[numTypes - 1] != CLOSE)
+			return new Point2D(coords[numCoords - 2], coords[numCoords - 1]);
+
+		// find the last move segment
+		int ci = numCoords;
+		for (int i = numTypes - 1; i >= 0; i--) {
+			ci -= COORD_NUMBERS[types[i]];
+			if (types[i] == MOVE)
+				return new Point2D(coords[ci], coords[ci + 1]);
+		}
+		return null;
 	}
 
 	public Collection<Point2D> singularPoints() {
 		// allocate memory for result
-		ArrayList<Point2D> points = new ArrayList<Point2D>(this.segments.size());
-		
+		ArrayList<Point2D> points = new ArrayList<Point2D>(numTypes);
+
 		// iterate on segments, and add the last control of each segment
-		for (Segment seg : this.segments) {
-			Point2D p = seg.lastControl();
-			if (p != null)
-				points.add(p);
+		int ci = 0;
+		for (int i = 0; i < numTypes; i++) {
+			ci += COORD_NUMBERS[types[i]];
+			if (types[i] != CLOSE)
+				points.add(new Point2D(coords[ci - 2], coords[ci - 1]));
 		}
-		
+
 		// return the set of singular points
 		return points;
 	}
 
 	public Collection<Point2D> vertices() {
 		// allocate memory for result
-		ArrayList<Point2D> vertices = new ArrayList<Point2D>(this.segments.size());
-		
-		// iterate on segments, and add the control points of each segment
-		for (Segment seg : this.segments) {
-			for (Point2D p : seg.controlPoints()) {
-				vertices.add(p);
-			}
-		}
-		
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(numCoords / 2);
+
+		// add the control points of each segment
+		for (int i = 0; i < numCoords; i += 2)
+			vertices.add(new Point2D(coords[i], coords[i + 1]));
+
 		// return the set of vertices
 		return vertices;
 	}
@@ -342,79 +401,55 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	public double project(Point2D point) {
+		double x = point.x();
+		double y = point.y();
+
 		// local variables for computing position
-		int index = -1;
 		double pos = Double.NaN;
 		double minDist = Double.MAX_VALUE;
 		double dist;
-		
-		// local variables for iterating on segment curves
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		Point2D[] pts;
-		SmoothCurve2D curve;
-		
-		int n = this.segments.size();
-		
-		for (int i = 0; i < n; i++) {
-			Segment seg = segments.get(i);
-			switch (seg.type()) {
-			case MOVE:
-				// update last control and initial point
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
-				continue;
 
-			case LINE:
-				pts = seg.controlPoints();
-				curve = new LineSegment2D(lastControl, pts[0]);
-				lastControl = pts[0];
-				break;
-				
-			case QUAD:
-				pts = seg.controlPoints();
-				curve = new QuadBezierCurve2D(lastControl, pts[0], pts[1]);
-				lastControl = pts[1];
-				break;
-				
-			case CUBIC:
-				pts = seg.controlPoints();
-				curve = new CubicBezierCurve2D(lastControl, pts[0], pts[1], pts[2]);
-				lastControl = pts[2];
-				break;
-
-			case CLOSE:
-				// connect to the last initial point
-				curve = new LineSegment2D(lastControl, lastStart);
-				lastControl = lastStart;
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
+
+		for (int i = 0; i < numTypes; i++) {
+			byte type = types[i];
+			if (type == MOVE) {
+				xs = coords[ci];
+				ys = coords[ci + 1];
+			} else if (boxDistance(type, ci, x0, y0, xs, ys, x, y) < minDist) {
+				// Compute position on local curve
+				SmoothCurve2D curve = segmentCurve(type, ci, x0, y0, xs, ys);
+				dist = curve.distance(point);
+				if (dist < minDist) {
+					minDist = dist;
+					pos = i - 1 + curve.position(point);
+				}
 			}
-			
-			// Compute position on local curve
-			dist = curve.distance(point);
-			if (dist < minDist) {
-				minDist = dist;
-				index = i - 1;
-				pos = index + curve.position(point);
+
+			ci += COORD_NUMBERS[type];
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
-		// Returns the set of curves
 		return pos;
 	}
 
 	public Collection<Point2D> intersections(LinearShape2D line) {
 		// allocate array for the result
 		ArrayList<Point2D> pts = new ArrayList<Point2D>();
-		
+
 		// Iterate on the set of curves, and compute intersections
 		for (SmoothCurve2D curve : this.smoothCurves()) {
 			pts.addAll(curve.intersections(line));
 		}
-		
+
 		// returns the full set of intersections
 		return pts;
 	}
@@ -430,69 +465,67 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	private ArrayList<ContinuousCurve2D> splitContinuousCurves() {
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		Point2D[] pts;
-		
-		int n = this.segments.size();
-		ArrayList<ContinuousCurve2D> curveList = new ArrayList<ContinuousCurve2D>(n);
-		
+		ArrayList<ContinuousCurve2D> curveList = new ArrayList<ContinuousCurve2D>();
+
 		// the current continuous curve
 		PolyCurve2D<SmoothCurve2D> curve = null;
-		
-		for (Segment seg : this.segments) {
-			switch (seg.type()) {
+
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
+
+		for (int i = 0; i < numTypes; i++) {
+			byte type = types[i];
+			switch (type) {
 			case MOVE:
-				// If current curve is not null, add it the the set
-				if (curve != null) 
+				// If current curve is not empty, add it the the set
+				if (curve != null && curve.size() > 0)
 					curveList.add(curve);
 				curve = new PolyCurve2D<SmoothCurve2D>();
-				
-				// update last control and initial point
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
+
+				// update initial point
+				xs = coords[ci];
+				ys = coords[ci + 1];
 				break;
 
 			case LINE:
-				pts = seg.controlPoints();
-				curve.add(new LineSegment2D(lastControl, pts[0]));
-				lastControl = pts[0];
-				break;
-				
 			case QUAD:
-				pts = seg.controlPoints();
-				curve.add(new QuadBezierCurve2D(lastControl, pts[0], pts[1]));
-				lastControl = pts[1];
-				break;
-				
 			case CUBIC:
-				pts = seg.controlPoints();
-				curve.add(new CubicBezierCurve2D(lastControl, pts[0], pts[1], pts[2]));
-				lastControl = pts[2];
+				curve.add(segmentCurve(type, ci, x0, y0, xs, ys));
 				break;
 
 			case CLOSE:
 				// connect and close to the last initial point
-				curve.add(new LineSegment2D(lastControl, lastStart));
+				curve.add(segmentCurve(type, ci, x0, y0, xs, ys));
 				curve.setClosed(true);
-				
+
 				// add current curve to the list, and reset it
 				curveList.add(curve);
 				curve = new PolyCurve2D<SmoothCurve2D>();
-				
-				// update for next start
-				lastControl = lastStart;
 				break;
-				
+
 			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+				throw new RuntimeException("Unknown Path segment type: " + type);
+			}
+
+			ci += COORD_NUMBERS[type];
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
+		// add the last curve if it is not closed
+		if (curve != null && curve.size() > 0)
+			curveList.add(curve);
+
 		// Returns the set of continuous curves
 		return curveList;
 	}
-	
+
 	public Curve2D subCurve(double t0, double t1) {
 		// TODO Auto-generated method stub
 		return null;
@@ -503,51 +536,67 @@ public class GeneralPath2D implements Curve2D {
 	 */
 	public Path2D asAwtShape() {
 		// creates the awt path
-		Path2D.Double path = new Path2D.Double();
-		
+		Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, numTypes);
+
 		// iterate on the path segments
-		for (Segment seg : this.segments) {
-			seg.updatePath(path);
+		double[] c = this.coords;
+		int ci = 0;
+		for (int i = 0; i < numTypes; i++) {
+			switch (types[i]) {
+			case MOVE:
+				path.moveTo(c[ci], c[ci + 1]);
+				break;
+			case LINE:
+				path.lineTo(c[ci], c[ci + 1]);
+				break;
+			case QUAD:
+				path.quadTo(c[ci], c[ci + 1], c[ci + 2], c[ci + 3]);
+				break;
+			case CUBIC:
+				path.curveTo(c[ci], c[ci + 1], c[ci + 2], c[ci + 3],
+						c[ci + 4], c[ci + 5]);
+				break;
+			case CLOSE:
+				path.closePath();
+				break;
+			}
+			ci += COORD_NUMBERS[types[i]];
 		}
-		
+
 		// returns the updated path
 		return path;
 	}
 
 	// ===================================================================
 	// Methods implementing the Shape2D interface
-	
+
 	public boolean contains(Point2D p) {
 		return this.contains(p.x(), p.y());
 	}
 
-	public boolean contains(double x, double y) {		
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		
-		for (Segment seg : this.segments) {
-			switch (seg.type()) {
-			case MOVE:
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
-				break;
+	public boolean contains(double x, double y) {
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
 
-			case LINE:
-			case QUAD:
-			case CUBIC:
-				if (seg.asCurve(lastControl, lastStart).contains(x, y))
+		for (int i = 0; i < numTypes; i++) {
+			byte type = types[i];
+			if (type == MOVE) {
+				xs = coords[ci];
+				ys = coords[ci + 1];
+			} else if (boxDistance(type, ci, x0, y0, xs, ys, x, y)
+					<= Shape2D.ACCURACY) {
+				if (segmentCurve(type, ci, x0, y0, xs, ys).contains(x, y))
 					return true;
-				lastControl = seg.lastControl();
-				break;
+			}
 
-			case CLOSE:
-				if (seg.asCurve(lastControl, lastStart).contains(x, y))
-					return true;
-				lastControl = lastStart;
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+			ci += COORD_NUMBERS[type];
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
@@ -558,36 +607,56 @@ public class GeneralPath2D implements Curve2D {
 		return this.distance(p.x(), p.y());
 	}
 
+	/**
+	 * Computes the distance to the closest segment. Linear segments are
+	 * processed directly from the coordinates, and Bezier segments are
+	 * created only when the bounding box of their control points is closer
+	 * than the current minimal distance.
+	 */
 	public double distance(double x, double y) {
 		double minDist = Double.MAX_VALUE;
-		double dist;
-		
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		
-		for (Segment seg : this.segments) {
-			switch (seg.type()) {
+
+		// last point, and first point of current curve
+		double x0 = 0, y0 = 0, xs = 0, ys = 0;
+		int ci = 0;
+
+		for (int i = 0; i < numTypes; i++) {
+			byte type = types[i];
+			switch (type) {
 			case MOVE:
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
+				xs = coords[ci];
+				ys = coords[ci + 1];
 				break;
 
 			case LINE:
+				minDist = Math.min(minDist, segmentDistance(x0, y0,
+						coords[ci], coords[ci + 1], x, y));
+				break;
+
 			case QUAD:
 			case CUBIC:
-				dist = seg.asCurve(lastControl, lastStart).distance(x, y);
-				minDist = Math.min(dist, minDist);
-				lastControl = seg.lastControl();
+				if (boxDistance(type, ci, x0, y0, xs, ys, x, y) < minDist) {
+					minDist = Math.min(minDist, segmentCurve(type, ci, x0, y0,
+							xs, ys).distance(x, y));
+				}
 				break;
 
 			case CLOSE:
-				dist = seg.asCurve(lastControl, lastStart).distance(x, y);
-				minDist = Math.min(dist, minDist);
-				lastControl = lastStart;
+				minDist = Math.min(minDist, segmentDistance(x0, y0, xs, ys,
+						x, y));
 				break;
-				
+
 			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
+				throw new RuntimeException("Unknown Path segment type: " + type);
+			}
+
+			ci += COORD_NUMBERS[type];
+			if (type == CLOSE) {
+				x0 = xs;
+				y0 = ys;
+			} else {
+				x0 = coords[ci - 2];
+				y0 = coords[ci - 1];
 			}
 		}
 
@@ -595,40 +664,50 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	public double sqDistance(Point2D p) {
-		double minDist = Double.MAX_VALUE;
-		double dist;
-		
-		Point2D lastControl = null;
-		Point2D lastStart = null;
-		
-		for (Segment seg : this.segments) {
-			switch (seg.type()) {
-			case MOVE:
-				lastStart = seg.lastControl();
-				lastControl = lastStart;
-				break;
-
-			case LINE:
-			case QUAD:
-			case CUBIC:
-				dist = seg.asCurve(lastControl, lastStart).sqDistance(p);
-				minDist = Math.min(dist, minDist);
-				lastControl = seg.lastControl();
-				break;
+		double dist = this.distance(p.x(), p.y());
+		return dist * dist;
+	}
 
-			case CLOSE:
-				dist = seg.asCurve(lastControl, lastStart).sqDistance(p);
-				minDist = Math.min(dist, minDist);
-				lastControl = lastStart;
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
-			}
-		}
+	/**
+	 * Computes the distance from the point (x,y) to the bounding box of the
+	 * control points of a segment, which is a lower bound of the distance to
+	 * the segment.
+	 */
+	private double boxDistance(byte type, int ci, double x0, double y0,
+			double xs, double ys, double x, double y) {
+		double xmin = x0, xmax = x0;
+		double ymin = y0, ymax = y0;
+		if (type == CLOSE) {
+			xmin = Math.min(xmin, xs);
+			xmax = Math.max(xmax, xs);
+			ymin = Math.min(ymin, ys);
+			ymax = Math.max(ymax, ys);
+		}
+		for (int k = ci; k < ci + COORD_NUMBERS[type]; k += 2) {
+			xmin = Math.min(xmin, coords[k]);
+			xmax = Math.max(xmax, coords[k]);
+			ymin = Math.min(ymin, coords[k + 1]);
+			ymax = Math.max(ymax, coords[k + 1]);
+		}
+		double dx = Math.max(Math.max(xmin - x, x - xmax), 0);
+		double dy = Math.max(Math.max(ymin - y, y - ymax), 0);
+		return Math.hypot(dx, dy);
+	}
 
-		return minDist;
+	/**
+	 * Computes the distance from the point (x,y) to the line segment between
+	 * (x1,y1) and (x2,y2).
+	 */
+	private static double segmentDistance(double x1, double y1, double x2,
+			double y2, double x, double y) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double d2 = dx * dx + dy * dy;
+		double t = d2 == 0 ? 0 : ((x - x1) * dx + (y - y1) * dy) / d2;
+		t = Math.min(Math.max(t, 0), 1);
+		return Math.hypot(x1 + t * dx - x, y1 + t * dy - y);
 	}
+
 	/**
 	 * Returns true, as a curve composed of Bezier pieces is always bounded.
 	 */
@@ -637,34 +716,26 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	public boolean isEmpty() {
-		return this.segments.size() > 0;
+		return numTypes == 0;
 	}
 
 	public Box2D boundingBox() {
 		// Initialize with extreme values
-		double xmin = Double.MAX_VALUE;
-		double ymin = Double.MAX_VALUE;
-		double xmax = Double.MIN_VALUE;
-		double ymax = Double.MIN_VALUE;
-
-		// coordinates of current point
-		double x, y;
-		
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+
 		// Iterate on each control point of each segment
-		for (Segment seg : this.segments) {
-			for (Point2D p : seg.controlPoints()) {
-				// get current coordinates
-				x = p.x();
-				y = p.y();
-				
-				// update bounds
-				xmin = Math.min(xmin, x);
-				ymin = Math.min(ymin, y);
-				xmax = Math.max(xmax, x);
-				ymax = Math.max(ymax, y);
-			}
+		for (int i = 0; i < numCoords; i += 2) {
+			double x = coords[i];
+			double y = coords[i + 1];
+			if (x < xmin) xmin = x;
+			if (x > xmax) xmax = x;
+			if (y < ymin) ymin = y;
+			if (y > ymax) ymax = y;
 		}
-		
+
 		// create a new Box2D with the bounds
 		return new Box2D(xmin, xmax, ymin, ymax);
 	}
@@ -676,37 +747,16 @@ public class GeneralPath2D implements Curve2D {
 	}
 
 	public Curve2D transform(AffineTransform2D trans) {
-		GeneralPath2D path = new GeneralPath2D();
-		Point2D[] pts;
-		
-		for (Segment seg : this.segments) {
-			switch(seg.type()) {
-			case MOVE:
-				path.moveTo(seg.lastControl().transform(trans));
-				break;
-
-			case LINE:
-				path.lineTo(seg.lastControl().transform(trans));
-				break;
-
-			case QUAD:
-				pts = seg.controlPoints();
-				path.quadTo(pts[0].transform(trans), pts[1].transform(trans));
-				break;
+		double[] m = trans.coefficients();
 
-			case CUBIC:
-				pts = seg.controlPoints();
-				path.cubicTo(pts[0].transform(trans), pts[1].transform(trans), 
-						pts[2].transform(trans));
-				break;
-
-			case CLOSE:
-				path.closePath();
-				break;
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
-			}
+		// the new path has the same segments as this path
+		GeneralPath2D path = new GeneralPath2D(this);
+		double[] c = path.coords;
+		for (int i = 0; i < numCoords; i += 2) {
+			double x = c[i];
+			double y = c[i + 1];
+			c[i] = x * m[0] + y * m[1] + m[2];
+			c[i + 1] = x * m[3] + y * m[4] + m[5];
 		}
 
 		return path;
@@ -726,45 +776,34 @@ public class GeneralPath2D implements Curve2D {
 			return false;
 		if (!(obj instanceof GeneralPath2D))
 			return false;
-		
+
 		// class cast
 		GeneralPath2D that = (GeneralPath2D) obj;
-		
-		// Paths should have same number of segments
-		if (this.segments.size() != that.segments.size())
+
+		// Paths should have same segments
+		if (!sameTypes(that))
 			return false;
-		
-		Segment seg1, seg2;
-		Point2D[] pts1, pts2;
-		
-		for (int i = 0; i < this.segments.size(); i++) {
-			// extract each segment
-			seg1 = this.segments.get(i);
-			seg2 = that.segments.get(i);
-			
-			// check segments have same type
-			if (seg1.type() != seg2.type())
+
+		// check identity of control points
+		for (int i = 0; i < numCoords; i++) {
+			if (Math.abs(this.coords[i] - that.coords[i]) > eps)
 				return false;
-			
-			// extract control points
-			pts1 = seg1.controlPoints();
-			pts2 = seg2.controlPoints();
-			
-			// check size of control point arrays
-			if (pts1.length != pts2.length)
-				throw new RuntimeException("Two path segments have type but different number of control points");
-			
-			// check identity of control points
-			for (int j = 0; j < pts1.length; j++) {
-				if (!pts1[j].almostEquals(pts2[j], eps))
-					return false;
-			}
 		}
-		
+
 		// if no difference was found, then the paths are almost equal
 		return true;
 	}
 
+	private boolean sameTypes(GeneralPath2D that) {
+		if (this.numTypes != that.numTypes)
+			return false;
+		for (int i = 0; i < numTypes; i++) {
+			if (this.types[i] != that.types[i])
+				return false;
+		}
+		return true;
+	}
+
 
 	// ===================================================================
 	// Methods from the Object superclass
@@ -775,247 +814,25 @@ public class GeneralPath2D implements Curve2D {
 			return false;
 		if (!(obj instanceof GeneralPath2D))
 			return false;
-		
+
 		// class cast
 		GeneralPath2D that = (GeneralPath2D) obj;
-		
-		// Paths should have same number of segments
-		if (this.segments.size() != that.segments.size())
-			return false;
-		
-		Segment seg1, seg2;
-		Point2D[] pts1, pts2;
-		
-		for (int i = 0; i < this.segments.size(); i++) {
-			// extract each segment
-			seg1 = this.segments.get(i);
-			seg2 = that.segments.get(i);
-			
-			// check segments have same type
-			if (seg1.type() != seg2.type())
-				return false;
-			
-			// extract control points
-			pts1 = seg1.controlPoints();
-			pts2 = seg2.controlPoints();
-			
-			// check size of control point arrays
-			if (pts1.length != pts2.length)
-				throw new RuntimeException("Two path segments have type but different number of control points");
-			
-			// check identity of control points
-			for (int j = 0; j < pts1.length; j++) {
-				if (!pts1[j].equals(pts2[j]))
-					return false;
-			}
-		}
-		
-		// if no difference was found, then the paths are almost equal
-		return true;		
-	}
-	
-	public GeneralPath2D clone() {
-		GeneralPath2D path = new GeneralPath2D();
-		Point2D[] pts;
-		
-		// iterate on the collection of segments
-		for (Segment seg : this.segments) {
-			switch(seg.type()) {
-			case MOVE:
-				pts = seg.controlPoints();
-				path.moveTo(pts[0]);
-				break;
 
-			case LINE:
-				pts = seg.controlPoints();
-				path.lineTo(pts[0]);
-				break;
-
-			case QUAD:
-				pts = seg.controlPoints();
-				path.quadTo(pts[0], pts[1]);
-				break;
-
-			case CUBIC:
-				pts = seg.controlPoints();
-				path.cubicTo(pts[0], pts[1], pts[2]);
-				break;
-
-			case CLOSE:
-				path.closePath();
-				
-			default:
-				throw new RuntimeException("Unknown Path segment type: " + seg.type());
-			}
-		}
-
-		// return the new path
-		return path;
-	}
-
-	// ===================================================================
-	// Declaration and implementation of the path segments
-
-	private interface Segment {
-		public Type type();
-		public Point2D[] controlPoints();
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart);
-		/**
-		 * Returns the last control point of the segment, or null if the
-		 * segment type is CLOSE.
-		 */
-		public Point2D lastControl();
-		public void updatePath(Path2D path);
-	}
-	
-	private class MoveSegment implements Segment {
-
-		Point2D p;
-		public MoveSegment(Point2D p) {
-			this.p = p;
-		}
-		
-		public Point2D[] controlPoints() {
-			return new Point2D[]{p};
-		}
-
-		public Type type() {
-			return Type.MOVE;
-		}
-
-		/**
-		 * Returns null.
-		 */
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart) {
-			return null;
-		}		
-		
-		public Point2D lastControl() {
-			return p;
-		}
-		
-		public void updatePath(Path2D path) {
-			path.moveTo(p.x(), p.y());
-		}
-
-	}
-
-	private class LinearSegment implements Segment {
-
-		Point2D p;
-		public LinearSegment(Point2D p) {
-			this.p = p;
-		}
-		
-		public Point2D[] controlPoints() {
-			return new Point2D[]{p};
-		}
-
-		public Type type() {
-			return Type.LINE;
-		}		
-
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart) {
-			return new LineSegment2D(lastControl, p);
-		}		
-
-		public Point2D lastControl() {
-			return p;
-		}
-		
-		public void updatePath(Path2D path) {
-			path.lineTo(p.x(), p.y());
-		}		
-	}
-	
-
-	private class QuadSegment implements Segment {
-
-		Point2D p1;
-		Point2D p2;
-		public QuadSegment(Point2D p1, Point2D p2) {
-			this.p1 = p1;
-			this.p2 = p2;
-		}
-		
-		public Point2D[] controlPoints() {
-			return new Point2D[]{p1, p2};
-		}
-
-		public Type type() {
-			return Type.QUAD;
-		}		
-
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart) {
-			return new QuadBezierCurve2D(lastControl, p1, p2);
-		}		
+		// Paths should have same segments
+		if (!sameTypes(that))
+			return false;
 
-		public Point2D lastControl() {
-			return p2;
-		}
-		
-		public void updatePath(Path2D path) {
-			path.quadTo(p1.x(), p1.y(), p2.x(), p2.y());
-		}		
-	}
-	
-	private class CubicSegment implements Segment {
-
-		Point2D p1;
-		Point2D p2;
-		Point2D p3;
-		
-		public CubicSegment(Point2D p1, Point2D p2, Point2D p3) {
-			this.p1 = p1;
-			this.p2 = p2;
-			this.p3 = p3;
-		}
-		
-		public Point2D[] controlPoints() {
-			return new Point2D[]{p1, p2, p3};
+		// check identity of control points
+		for (int i = 0; i < numCoords; i++) {
+			if (!EqualUtils.areEqual(this.coords[i], that.coords[i]))
+				return false;
 		}
 
-		public Type type() {
-			return Type.CUBIC;
-		}		
-
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart) {
-			return new CubicBezierCurve2D(lastControl, p1, p2, p3);
-		}		
-
-		public Point2D lastControl() {
-			return p3;
-		}
-		
-		public void updatePath(Path2D path) {
-			path.curveTo(p1.x(), p1.y(), p2.x(), p2.y(), p3.x(), p3.y());
-		}		
+		// if no difference was found, then the paths are equal
+		return true;
 	}
-	
-
-	private class ClosingSegment implements Segment {
 
-		public ClosingSegment() {
-		}
-		
-		public Point2D[] controlPoints() {
-			return new Point2D[]{};
-		}
-
-		public Type type() {
-			return Type.CLOSE;
-		}
-
-		public SmoothCurve2D asCurve(Point2D lastControl, Point2D lastStart) {
-			return new LineSegment2D(lastControl, lastStart);
-		}		
-
-		public Point2D lastControl() {
-			return null;
-		}
-		
-		public void updatePath(Path2D path) {
-			path.closePath();
-		}		
+	public GeneralPath2D clone() {
+		return new GeneralPath2D(this);
 	}
 }
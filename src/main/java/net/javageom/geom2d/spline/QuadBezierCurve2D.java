@@ -189,7 +189,7 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * @see net.javageom.geom2d.domain.OrientedCurve2D#windingAngle(Point2D)
      */
     public double windingAngle(Point2D point) {
-        return this.asPolyline(100).windingAngle(point);
+        return this.flatten().windingAngle(point);
     }
 
     /**
@@ -200,7 +200,7 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * @return true if the point is on the left side of the curve.
      */
     public boolean isInside(Point2D pt) {
-        return this.asPolyline(100).isInside(pt);
+        return this.flatten().isInside(pt);
     }
 
     public double signedDistance(Point2D point) {
@@ -243,6 +243,22 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 		return (xp * ys - yp * xs) / Math.pow(Math.hypot(xp, yp), 3);
     }
 
+    /**
+     * Returns the largest distance between the inner control points of the
+     * curve portion between t0 and t1 and its chord. As the curve portion
+     * lies within the convex hull of its control points, this bounds the
+     * distance between the curve portion and its chord.
+     */
+    @Override
+    protected double chordDeviation(double t0, double t1) {
+		Point2D p0 = this.point(t0);
+		Point2D p2 = this.point(t1);
+		Vector2D v0 = this.tangent(t0);
+		double h = (t1 - t0) / 2;
+		return segmentDistance(p0.x(), p0.y(), p2.x(), p2.y(), 
+				p0.x() + h * v0.x(), p0.y() + h * v0.y());
+    }
+
     // ===================================================================
     // methods from ContinousCurve2D interface
 
@@ -304,12 +320,14 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
     
     /**
-     * Use approximation, by replacing Bezier curve with a polyline.
+     * Computes the intersections with the line without polyline
+     * approximation.
      * 
+     * @see BezierCurves2D#findIntersections(Curve2D, LinearShape2D)
      * @see net.javageom.geom2d.curve.Curve2D#intersections(net.javageom.geom2d.line.LinearShape2D)
      */
     public Collection<Point2D> intersections(LinearShape2D line) {
-        return this.asPolyline(100).intersections(line);
+        return BezierCurves2D.findIntersections(this, line);
     }
 
     /**
@@ -347,16 +365,99 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
      * Computes position by approximating cubic spline with a polyline.
      */
     public double position(Point2D point) {
-		int N = 100;
-		return this.asPolyline(N).position(point) / (N);
+		return curvePosition(this.flatten().position(point));
    }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Computes the position of the point of the curve closest to the given
+     * point. The derivative of the squared distance is a cubic polynomial,
+     * whose roots are computed in closed form.
      */
     public double project(Point2D point) {
-        int N = 100;
-        return this.asPolyline(N).project(point)/(N);
+        return project(point.x(), point.y());
+    }
+
+    private double project(double x, double y) {
+    	// the curve is given by P(t) = P1 + B*t + C*t^2
+    	double bx = 2 * (ctrlx - x1);
+    	double by = 2 * (ctrly - y1);
+    	double cx = x2 - 2 * ctrlx + x1;
+    	double cy = y2 - 2 * ctrly + y1;
+    	double mx = x1 - x;
+    	double my = y1 - y;
+    	
+    	// half of the derivative of the squared distance is given by 
+    	// a3*t^3 + a2*t^2 + a1*t + a0
+    	double a3 = 2 * (cx * cx + cy * cy);
+    	double a2 = 3 * (bx * cx + by * cy);
+    	double a1 = bx * bx + by * by + 2 * (mx * cx + my * cy);
+    	double a0 = mx * bx + my * by;
+    	
+    	// extremities are candidates
+    	double t = squaredDistance(1, x, y) < mx * mx + my * my ? 1 : 0;
+    	
+    	if (a3 <= 1e-12 * (Math.abs(a2) + Math.abs(a1) + Math.abs(a0))) {
+    		// the control points are aligned, and evenly spaced
+    		if (a1 != 0)
+    			t = closest(t, -a0 / a1, x, y);
+    		return t;
+    	}
+    	
+    	// normalize the polynomial, and solve
+    	double a = a2 / a3;
+    	double b = a1 / a3;
+    	double c = a0 / a3;
+    	double q = (a * a - 3 * b) / 9;
+    	double r = (2 * a * a * a - 9 * a * b + 27 * c) / 54;
+    	double q3 = q * q * q;
+    	if (r * r < q3) {
+    		// three real roots
+    		double theta = Math.acos(r / Math.sqrt(q3));
+    		double s = -2 * Math.sqrt(q);
+    		for (int k = -1; k <= 1; k++) {
+    			double root = s * Math.cos((theta + 2 * Math.PI * k) / 3) - a / 3;
+    			t = closest(t, polishRoot(a, b, c, root), x, y);
+    		}
+    	} else {
+    		// a single real root
+    		double u = -Math.copySign(Math.cbrt(Math.abs(r) 
+    				+ Math.sqrt(r * r - q3)), r);
+    		double v = u == 0 ? 0 : q / u;
+    		t = closest(t, polishRoot(a, b, c, u + v - a / 3), x, y);
+    	}
+    	return t;
+    }
+
+    /**
+     * Improves the precision of a root of t^3 + a*t^2 + b*t + c with a
+     * Newton iteration.
+     */
+    private static double polishRoot(double a, double b, double c, 
+    		double t) {
+    	double f = ((t + a) * t + b) * t + c;
+    	double df = (3 * t + 2 * a) * t + b;
+    	return df != 0 ? t - f / df : t;
+    }
+
+    /**
+     * Returns the position t2 if it lies within the curve and is closer to
+     * the point (x, y) than position t1, and t1 otherwise.
+     */
+    private double closest(double t1, double t2, double x, double y) {
+    	if (!(t2 > 0 && t2 < 1))
+    		return t1;
+    	return squaredDistance(t2, x, y) < squaredDistance(t1, x, y) ? t2 : t1;
+    }
+
+    /**
+     * Computes the squared distance between the point at position t and the
+     * point (x, y).
+     */
+    private double squaredDistance(double t, double x, double y) {
+    	double t1 = 1 - t;
+    	double dx = t1 * t1 * x1 + 2 * t * t1 * ctrlx + t * t * x2 - x;
+    	double dy = t1 * t1 * y1 + 2 * t * t1 * ctrly + t * t * y2 - y;
+    	return dx * dx + dy * dy;
     }
 
     /**
@@ -419,22 +520,25 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Computes approximated distance, computed on a polyline.
+     * Computes the distance to the closest point of the curve.
      * 
+     * @see #project(Point2D)
      * @see net.javageom.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        return this.asPolyline(100).distance(x, y);
+        return Math.sqrt(squaredDistance(project(x, y), x, y));
     }
 
     /**
-	 * Computes approximated squared distance, computed on a polyline
-	 * approximation.
+	 * Computes the squared distance to the closest point of the curve.
 	 * 
+	 * @see #project(Point2D)
 	 * @see net.javageom.geom2d.Shape2D#sqDistance(net.javageom.geom2d.Point2D)
 	 */
     public double sqDistance(Point2D p) {
-        return this.asPolyline(100).sqDistance(p);
+    	double x = p.x();
+    	double y = p.y();
+        return squaredDistance(project(x, y), x, y);
     }
 
     /**
@@ -40,8 +40,11 @@ public class AllTests {
 		suite.addTest(new TestSuite(AffineTransform2DTest.class));
         suite.addTest(new TestSuite(Angle2DTest.class));
 		suite.addTest(new TestSuite(Box2DTest.class));
+		suite.addTest(new TestSuite(BoxSweep2DTest.class));
 		suite.addTest(new TestSuite(Point2DTest.class));
+		suite.addTest(new TestSuite(RTree2DTest.class));
 		suite.addTest(new TestSuite(ShapeArray2DTest.class));
+		suite.addTest(new TestSuite(Shapes2DTest.class));
 		suite.addTest(new TestSuite(Vector2DTest.class));
 		//$JUnit-END$
 		return suite;
@@ -0,0 +1,103 @@
+/**
+ * File: 	BoxSweep2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class BoxSweep2DTest extends TestCase {
+
+	public void testOverlappingPairs_Single() {
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>();
+		boxes.add(new Box2D(0, 10, 0, 10));
+		boxes.add(new Box2D(20, 30, 0, 10));
+		boxes.add(new Box2D(5, 25, 5, 6));
+		boxes.add(new Box2D(5, 25, 20, 30));
+
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes, 0);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(2, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(2, pairs[1][1]);
+	}
+
+	public void testOverlappingPairs_Touching() {
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>();
+		boxes.add(new Box2D(0, 10, 0, 10));
+		boxes.add(new Box2D(10, 20, 10, 20));
+
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes, 0);
+		assertEquals(1, pairs.length);
+	}
+
+	public void testOverlappingPairs_Unbounded() {
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>();
+		boxes.add(new Box2D(0, 10, 0, 10));
+		boxes.add(Box2D.INFINITE_BOX);
+		boxes.add(new Box2D(20, 30, 20, 30));
+
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes, 0);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(1, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(2, pairs[1][1]);
+	}
+
+	public void testOverlappingPairs_TwoSets() {
+		ArrayList<Box2D> boxes1 = new ArrayList<Box2D>();
+		boxes1.add(new Box2D(0, 10, 0, 10));
+		boxes1.add(new Box2D(0, 10, 20, 30));
+		ArrayList<Box2D> boxes2 = new ArrayList<Box2D>();
+		boxes2.add(new Box2D(5, 15, 25, 35));
+		boxes2.add(new Box2D(5, 15, 5, 15));
+		boxes2.add(new Box2D(50, 60, 50, 60));
+
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes1, boxes2, 0);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(1, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(0, pairs[1][1]);
+	}
+
+	public void testOverlappingPairs_Random() {
+		Random random = new Random(42);
+		ArrayList<Box2D> boxes = new ArrayList<Box2D>();
+		for (int i = 0; i < 500; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			boxes.add(new Box2D(x, x + random.nextDouble() * 5, 
+					y, y + random.nextDouble() * 5));
+		}
+
+		// count overlapping pairs by brute force
+		int count = 0;
+		for (int i = 0; i < boxes.size(); i++) {
+			for (int j = i + 1; j < boxes.size(); j++) {
+				Box2D b1 = boxes.get(i);
+				Box2D b2 = boxes.get(j);
+				if (b1.getMinX() <= b2.getMaxX() && b2.getMinX() <= b1.getMaxX()
+						&& b1.getMinY() <= b2.getMaxY() 
+						&& b2.getMinY() <= b1.getMaxY())
+					count++;
+			}
+		}
+
+		int[][] pairs = BoxSweep2D.overlappingPairs(boxes, 0);
+		assertEquals(count, pairs.length);
+		for (int k = 1; k < pairs.length; k++) {
+			assertTrue(pairs[k-1][0] < pairs[k][0] || 
+					(pairs[k-1][0] == pairs[k][0] && pairs[k-1][1] < pairs[k][1]));
+		}
+	}
+}
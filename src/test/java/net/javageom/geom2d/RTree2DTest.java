@@ -0,0 +1,202 @@
+/**
+ * File: 	RTree2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.line.LineSegment2D;
+import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+public class RTree2DTest extends TestCase {
+
+	public void testSearch() {
+		ArrayList<LineSegment2D> segments = createSegments(1000);
+		RTree2D<LineSegment2D> tree = new RTree2D<LineSegment2D>(segments, 4);
+		assertEquals(1000, tree.size());
+
+		Box2D box = new Box2D(20, 40, 30, 60);
+		Collection<LineSegment2D> result = tree.search(box);
+
+		// compare with linear scan
+		int count = 0;
+		for (LineSegment2D seg : segments) {
+			Box2D box2 = seg.boundingBox();
+			if (box2.getMinX() <= box.getMaxX() && box.getMinX() <= box2.getMaxX()
+					&& box2.getMinY() <= box.getMaxY() 
+					&& box.getMinY() <= box2.getMaxY()) {
+				count++;
+				assertTrue(result.contains(seg));
+			}
+		}
+		assertEquals(count, result.size());
+	}
+
+	public void testSearch_Unbounded() {
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>();
+		shapes.add(new LineSegment2D(0, 0, 10, 10));
+		shapes.add(new StraightLine2D(0, 0, 1, 1));
+
+		RTree2D<Shape2D> tree = new RTree2D<Shape2D>(shapes);
+		assertEquals(1, tree.search(new Box2D(50, 60, 50, 60)).size());
+		assertEquals(2, tree.search(new Box2D(5, 6, 5, 6)).size());
+	}
+
+	public void testDistance() {
+		ArrayList<LineSegment2D> segments = createSegments(1000);
+		RTree2D<LineSegment2D> tree = new RTree2D<LineSegment2D>(segments);
+
+		Random random = new Random(10);
+		for (int i = 0; i < 20; i++) {
+			Point2D point = new Point2D(
+					random.nextDouble() * 120 - 10, random.nextDouble() * 120 - 10);
+			double exp = Double.POSITIVE_INFINITY;
+			for (LineSegment2D seg : segments)
+				exp = Math.min(exp, seg.distance(point));
+			assertEquals(exp, tree.distance(point), 1e-12);
+		}
+	}
+
+	public void testDistance_Empty() {
+		RTree2D<LineSegment2D> tree = 
+			new RTree2D<LineSegment2D>(new ArrayList<LineSegment2D>());
+		assertEquals(0, tree.size());
+		assertTrue(Double.isInfinite(tree.distance(new Point2D(0, 0))));
+		assertTrue(tree.search(new Box2D(0, 10, 0, 10)).isEmpty());
+	}
+
+	public void testNearest() {
+		ArrayList<LineSegment2D> segments = createSegments(1000);
+		RTree2D<LineSegment2D> tree = new RTree2D<LineSegment2D>(segments);
+
+		Random random = new Random(10);
+		for (int i = 0; i < 20; i++) {
+			Point2D point = new Point2D(
+					random.nextDouble() * 120 - 10, random.nextDouble() * 120 - 10);
+			LineSegment2D exp = null;
+			double minDist = Double.POSITIVE_INFINITY;
+			for (LineSegment2D seg : segments) {
+				double dist = seg.distance(point);
+				if (dist < minDist) {
+					exp = seg;
+					minDist = dist;
+				}
+			}
+			assertEquals(minDist, tree.nearest(point).distance(point), 1e-12);
+			assertSame(exp, tree.nearest(point));
+		}
+	}
+
+	public void testNearest_Unbounded() {
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>();
+		LineSegment2D segment = new LineSegment2D(0, 0, 10, 0);
+		StraightLine2D line = new StraightLine2D(0, 10, 1, 0);
+		shapes.add(segment);
+		shapes.add(line);
+
+		RTree2D<Shape2D> tree = new RTree2D<Shape2D>(shapes);
+		assertSame(segment, tree.nearest(new Point2D(5, 2)));
+		assertSame(line, tree.nearest(new Point2D(5, 8)));
+		assertEquals(2, tree.distance(new Point2D(5, 8)), 1e-12);
+
+		RTree2D<LineSegment2D> empty = 
+			new RTree2D<LineSegment2D>(new ArrayList<LineSegment2D>());
+		assertNull(empty.nearest(new Point2D(0, 0)));
+	}
+
+	public void testSearchContaining() {
+		ArrayList<SimplePolygon2D> squares = createSquares(1000);
+		RTree2D<SimplePolygon2D> tree = new RTree2D<SimplePolygon2D>(squares);
+
+		Random random = new Random(10);
+		int total = 0;
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(
+					random.nextDouble() * 100, random.nextDouble() * 100);
+			Collection<SimplePolygon2D> result = tree.searchContaining(point);
+
+			// compare with linear scan
+			int count = 0;
+			for (SimplePolygon2D square : squares) {
+				if (square.contains(point)) {
+					count++;
+					assertTrue(result.contains(square));
+				}
+			}
+			assertEquals(count, result.size());
+			assertEquals(count > 0, tree.contains(point));
+			total += count;
+		}
+		assertTrue(total > 0);
+	}
+
+	public void testContains_Curves() {
+		ArrayList<LineSegment2D> segments = new ArrayList<LineSegment2D>();
+		segments.add(new LineSegment2D(0, 0, 10, 0));
+		segments.add(new LineSegment2D(0, 5, 10, 5));
+		RTree2D<LineSegment2D> tree = new RTree2D<LineSegment2D>(segments);
+
+		assertTrue(tree.contains(new Point2D(3, 0)));
+		assertTrue(tree.contains(new Point2D(3, 5)));
+		assertFalse(tree.contains(new Point2D(3, 3)));
+	}
+
+	public void testVisit() {
+		ArrayList<LineSegment2D> segments = createSegments(1000);
+		RTree2D<LineSegment2D> tree = new RTree2D<LineSegment2D>(segments, 4);
+		Box2D box = new Box2D(20, 40, 30, 60);
+
+		final ArrayList<LineSegment2D> visited = new ArrayList<LineSegment2D>();
+		assertTrue(tree.visit(box, new RTree2D.Visitor<Shape2D>() {
+			public boolean visit(Shape2D shape) {
+				visited.add((LineSegment2D) shape);
+				return true;
+			}
+		}));
+		assertEquals(tree.search(box), visited);
+
+		// stop the traversal after three shapes
+		visited.clear();
+		assertFalse(tree.visit(box, new RTree2D.Visitor<LineSegment2D>() {
+			public boolean visit(LineSegment2D shape) {
+				visited.add(shape);
+				return visited.size() < 3;
+			}
+		}));
+		assertEquals(3, visited.size());
+	}
+
+	private static ArrayList<SimplePolygon2D> createSquares(int n) {
+		Random random = new Random(42);
+		ArrayList<SimplePolygon2D> squares = new ArrayList<SimplePolygon2D>(n);
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			double s = random.nextDouble() * 4;
+			squares.add(new SimplePolygon2D(new double[] {x, x + s, x + s, x},
+					new double[] {y, y, y + s, y + s}));
+		}
+		return squares;
+	}
+
+	private static ArrayList<LineSegment2D> createSegments(int n) {
+		Random random = new Random(42);
+		ArrayList<LineSegment2D> segments = new ArrayList<LineSegment2D>(n);
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			segments.add(new LineSegment2D(x, y, 
+					x + random.nextDouble() * 4 - 2, y + random.nextDouble() * 4 - 2));
+		}
+		return segments;
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * File: 	Shapes2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.conic.Circle2D;
+import net.javageom.geom2d.line.LineSegment2D;
+import net.javageom.geom2d.polygon.SimplePolygon2D;
+
+public class Shapes2DTest extends TestCase {
+
+	public void testContains_Parallel() {
+		SimplePolygon2D polygon = createStarPolygon(200);
+		double[][] points = createPoints(50000);
+		double[] xs = points[0], ys = points[1];
+
+		boolean[] res = new boolean[xs.length];
+		Shapes2D.contains(polygon, xs, ys, res, true);
+		for (int i = 0; i < xs.length; i += 7)
+			assertEquals(polygon.contains(xs[i], ys[i]), res[i]);
+
+		boolean[] res2 = new boolean[xs.length];
+		Shapes2D.contains(polygon, xs, ys, res2, false);
+		for (int i = 0; i < xs.length; i++)
+			assertEquals(res[i], res2[i]);
+	}
+
+	public void testDistance_Parallel() {
+		Circle2D circle = new Circle2D(50, 50, 20);
+		double[][] points = createPoints(50000);
+		double[] xs = points[0], ys = points[1];
+
+		double[] res = new double[xs.length];
+		Shapes2D.distance(circle, xs, ys, res, true);
+		for (int i = 0; i < xs.length; i++)
+			assertEquals(circle.distance(xs[i], ys[i]), res[i], 1e-12);
+	}
+
+	public void testDistance_DefaultImplementation() {
+		LineSegment2D seg = new LineSegment2D(0, 0, 10, 0);
+		double[] xs = new double[] {5, 15, -3};
+		double[] ys = new double[] {2, 0, 4};
+		double[] res = new double[3];
+		Shapes2D.distance(seg, xs, ys, res, true);
+		assertEquals(2, res[0], 1e-12);
+		assertEquals(5, res[1], 1e-12);
+		assertEquals(5, res[2], 1e-12);
+	}
+
+	public void testContains_WrongLength() {
+		Circle2D circle = new Circle2D(50, 50, 20);
+		try {
+			Shapes2D.contains(circle, new double[3], new double[3],
+					new boolean[2], true);
+			fail("should throw an IllegalArgumentException");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+
+	private static SimplePolygon2D createStarPolygon(int n) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double r = i % 2 == 0 ? 40 : 15;
+			double t = 2 * Math.PI * i / n;
+			xs[i] = 50 + r * Math.cos(t);
+			ys[i] = 50 + r * Math.sin(t);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	private static double[][] createPoints(int n) {
+		Random random = new Random(42);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 100;
+			ys[i] = random.nextDouble() * 100;
+		}
+		return new double[][] {xs, ys};
+	}
+}
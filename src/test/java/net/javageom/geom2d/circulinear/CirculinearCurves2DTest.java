@@ -243,6 +243,31 @@ public class CirculinearCurves2DTest extends TestCase {
 		assertTrue(points.contains(new Point2D(100, 100)));
 	}
 	
+	public void testLocateSelfIntersections_FarAwayVertex() {
+		// the extremities of consecutive elements differ by rounding errors
+		PolyCirculinearCurve2D<LineSegment2D> curve =
+			new PolyCirculinearCurve2D<LineSegment2D>();
+		curve.add(new LineSegment2D(
+				new Point2D(2e6, 0), new Point2D(2e6 + 10, 0)));
+		curve.add(new LineSegment2D(
+				new Point2D(2e6 + 10 - 1e-9, 0), new Point2D(2e6 + 20, 10)));
+		
+		assertEquals(0, CirculinearCurves2D.locateSelfIntersections(curve).length);
+	}
+	
+	public void testFindIntersections_DegeneratedSegment() {
+		LineSegment2D seg1 = new LineSegment2D(
+				new Point2D(0, 0), new Point2D(1e-7, 0));
+		LineSegment2D seg2 = new LineSegment2D(
+				new Point2D(0, -1), new Point2D(0, 1));
+		CircleArc2D arc = new CircleArc2D(new Point2D(1, 0), 1, 0, Math.PI);
+		
+		assertTrue(CirculinearCurves2D.findIntersections(seg1, seg2).isEmpty());
+		assertTrue(CirculinearCurves2D.findIntersections(seg2, seg1).isEmpty());
+		assertTrue(CirculinearCurves2D.findIntersections(arc, seg1).isEmpty());
+		assertEquals(1, CirculinearCurves2D.findIntersections(arc, seg2).size());
+	}
+	
 	public void testSplitContinuousCurveParallelBiRay () {
 		// first defines some constants
 		Point2D origin = new Point2D(10, 10);
@@ -16,6 +16,7 @@ import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Vector2D;
 import net.javageom.geom2d.line.*;
+import net.javageom.geom2d.polygon.Polyline2D;
 
 
 /**
@@ -154,4 +155,38 @@ public class PolyCirculinearCurve2DTest extends TestCase {
 		Box2D refBox = new Box2D(-3, -1, 1, 3);
 		assertTrue(refBox.equals(box));
 	}
+
+	public void testPosition_Polylines() {
+		// polylines with different numbers of vertices
+		Polyline2D poly1 = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10)});
+		Polyline2D poly2 = new Polyline2D(new Point2D[] {
+				new Point2D(10, 10), new Point2D(10, 20), 
+				new Point2D(20, 20), new Point2D(30, 20)});
+		PolyCirculinearCurve2D<Polyline2D> curve = 
+			PolyCirculinearCurve2D.create(poly1, poly2);
+
+		assertEquals(50, curve.length(), 1e-14);
+		assertEquals(2 + 2.5 / 3, curve.position(45), 1e-14);
+		assertEquals(45, curve.length(2 + 2.5 / 3), 1e-12);
+		Point2D point = curve.pointsAtLengths(new double[] {45})[0];
+		assertTrue(point.distance(new Point2D(25, 20)) < 1e-12);
+
+		// lengths outside of the curve are clamped
+		assertEquals(3, curve.position(60), 1e-14);
+	}
+
+	public void testPosition_AddCurve() {
+		PolyCirculinearCurve2D<LineSegment2D> curve = 
+			new PolyCirculinearCurve2D<LineSegment2D>();
+		curve.add(new LineSegment2D(0, 0, 10, 0));
+		assertEquals(10, curve.length(), 1e-14);
+
+		curve.add(new LineSegment2D(10, 0, 10, 10));
+		assertEquals(20, curve.length(), 1e-14);
+		assertEquals(2.5, curve.position(15), 1e-14);
+
+		curve.remove(0);
+		assertEquals(10, curve.length(), 1e-14);
+	}
 }
@@ -580,4 +580,22 @@ public class Circle2DTest extends TestCase {
 
 	    assertEquals(1, points.size());
 	}
+
+	public void testDistanceArrays() {
+		Circle2D circle = new Circle2D(10, 20, 5);
+		double[] px = new double[] {10, 18, 15, 13, 10};
+		double[] py = new double[] {20, 20, 20, 24, 40};
+		double[] res = new double[px.length];
+		circle.distance(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(circle.distance(px[i], py[i]), res[i], 1e-12);
+
+		boolean[] inside = new boolean[px.length];
+		circle.contains(px, py, inside);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(circle.contains(px[i], py[i]), inside[i]);
+		assertTrue(inside[2]);
+		assertTrue(inside[3]);
+		assertFalse(inside[0]);
+	}
 }
@@ -36,6 +36,8 @@ import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Shape2D;
 import net.javageom.geom2d.Vector2D;
 import net.javageom.geom2d.line.StraightLine2D;
+import net.javageom.geom2d.polygon.LinearCurve2D;
+import net.javageom.geom2d.polygon.LinearRing2D;
 
 /**
  * @author Legland
@@ -406,4 +408,43 @@ public class Ellipse2DTest extends TestCase {
 		assertTrue(ell3.almostEquals(ellipse, Shape2D.ACCURACY));
 	}
 	
+
+	public void testDistanceArrays() {
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 8, 4, Math.PI / 6);
+		double[] px = new double[] {10, 25, 14, 0, 10};
+		double[] py = new double[] {20, 20, 22, 10, 40};
+		double[] res = new double[px.length];
+		ellipse.distance(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(ellipse.distance(px[i], py[i]), res[i], 1e-12);
+
+		boolean[] inside = new boolean[px.length];
+		ellipse.contains(px, py, inside);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(ellipse.contains(px[i], py[i]), inside[i]);
+	}
+
+	public void testFlatten() {
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 8, 4, Math.PI / 6);
+		checkFlatten(ellipse, 1e-3);
+		
+		// a flat ellipse has high curvature near the ends of the major axis
+		Ellipse2D flat = new Ellipse2D(10, 20, 8, .5, 0);
+		LinearCurve2D ring = checkFlatten(flat, 1e-3);
+		int nEnds = 0;
+		for (Point2D vertex : ring.vertices())
+			if (Math.abs(vertex.x() - 10) > 7)
+				nEnds++;
+		assertTrue(nEnds > ring.vertexNumber() / 2);
+	}
+	
+	private static LinearCurve2D checkFlatten(Ellipse2D ellipse, double tol) {
+		LinearCurve2D ring = ellipse.flatten(tol);
+		assertTrue(ring instanceof LinearRing2D);
+		for (int i = 0; i < 1000; i++) {
+			Point2D point = ellipse.point(2 * Math.PI * i / 1000);
+			assertTrue(ring.distance(point) <= tol);
+		}
+		return ring;
+	}
 }
@@ -21,7 +21,9 @@ public class AllTests {
     public static Test suite() {
         TestSuite suite = new TestSuite("Test for math.geom2d.point");
         //$JUnit-BEGIN$
+        suite.addTest(new TestSuite(DynamicKDTree2DTest.class));
         suite.addTest(new TestSuite(KDTree2DTest.class));
+        suite.addTest(new TestSuite(PackedKDTree2DTest.class));
         suite.addTest(new TestSuite(PointArray2DTest.class));
         suite.addTest(new TestSuite(PointSets2DTest.class));
         //$JUnit-END$
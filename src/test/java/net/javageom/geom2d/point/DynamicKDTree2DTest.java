@@ -0,0 +1,183 @@
+/**
+ * File: 	DynamicKDTree2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+
+
+/**
+ * @author dlegland
+ *
+ */
+public class DynamicKDTree2DTest extends TestCase {
+
+    public void testAddRemove() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(5);
+        points.add(new Point2D(5, 5));
+        points.add(new Point2D(10, 10));
+        points.add(new Point2D(20, 20));
+        points.add(new Point2D(8, 12));
+        points.add(new Point2D(12, 8));
+        points.add(new Point2D(10, 10));
+        
+        DynamicKDTree2D tree = new DynamicKDTree2D(points);
+        assertEquals(5, tree.size());
+        assertTrue(tree.contains(new Point2D(10, 10)));
+        
+        assertFalse(tree.add(new Point2D(8, 12)));
+        assertTrue(tree.add(new Point2D(12, 13)));
+        assertEquals(6, tree.size());
+        assertTrue(tree.contains(new Point2D(12, 13)));
+        
+        assertTrue(tree.remove(new Point2D(10, 10)));
+        assertFalse(tree.remove(new Point2D(10, 10)));
+        assertFalse(tree.contains(new Point2D(10, 10)));
+        assertEquals(5, tree.size());
+        
+        assertTrue(tree.add(new Point2D(10, 10)));
+        assertTrue(tree.contains(new Point2D(10, 10)));
+        assertEquals(6, tree.size());
+    }
+    
+    public void testMove() {
+        DynamicKDTree2D tree = new DynamicKDTree2D();
+        tree.add(new Point2D(1, 1));
+        tree.add(new Point2D(2, 2));
+        
+        assertTrue(tree.move(new Point2D(1, 1), new Point2D(3, 3)));
+        assertFalse(tree.move(new Point2D(1, 1), new Point2D(4, 4)));
+        assertFalse(tree.contains(new Point2D(1, 1)));
+        assertTrue(tree.contains(new Point2D(3, 3)));
+        assertEquals(2, tree.size());
+    }
+    
+    public void testMove_ExistingPoint() {
+        DynamicKDTree2D tree = new DynamicKDTree2D();
+        tree.add(new Point2D(1, 1));
+        tree.add(new Point2D(2, 2));
+        
+        // the new position is already occupied: the tree is unchanged
+        assertFalse(tree.move(new Point2D(1, 1), new Point2D(2, 2)));
+        assertTrue(tree.contains(new Point2D(1, 1)));
+        assertTrue(tree.contains(new Point2D(2, 2)));
+        assertEquals(2, tree.size());
+        
+        // moving a point to its own position
+        assertTrue(tree.move(new Point2D(1, 1), new Point2D(1, 1)));
+        assertTrue(tree.contains(new Point2D(1, 1)));
+        assertEquals(2, tree.size());
+    }
+    
+    public void testNearestNeighbor() {
+        DynamicKDTree2D tree = new DynamicKDTree2D();
+        assertNull(tree.nearestNeighbor(new Point2D(0, 0)));
+        
+        tree.add(new Point2D(12, 10));
+        tree.add(new Point2D(7, 6));
+        tree.add(new Point2D(15, 16));
+        assertEquals(new Point2D(12, 10), tree.nearestNeighbor(new Point2D(11, 11)));
+        
+        tree.remove(new Point2D(12, 10));
+        assertEquals(new Point2D(15, 16), tree.nearestNeighbor(new Point2D(13, 13)));
+    }
+
+    public void testRangeSearch() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(8);
+        points.add(new Point2D(-15, 0));
+        points.add(new Point2D(15, 0));
+        points.add(new Point2D(0, -15));
+        points.add(new Point2D(0, 15));
+        points.add(new Point2D(-5, 5));
+        points.add(new Point2D(-5, -5));
+        points.add(new Point2D(5, 5));
+        points.add(new Point2D(5, -5));
+        DynamicKDTree2D tree = new DynamicKDTree2D(points);
+        tree.remove(new Point2D(5, 5));
+        
+        Box2D range = new Box2D(-10, 10, -10, 10);
+        assertEquals(3, tree.rangeSearch(range).size());
+    }
+
+    /**
+     * Applies random insertions and removals, and compares the results of
+     * queries with a brute-force search.
+     */
+    public void testChurn_Random() {
+        Random random = new Random(5);
+        DynamicKDTree2D tree = new DynamicKDTree2D();
+        HashSet<Point2D> set = new HashSet<Point2D>();
+        ArrayList<Point2D> list = new ArrayList<Point2D>();
+        
+        for (int i = 0; i < 20000; i++) {
+            if (list.isEmpty() || random.nextDouble() < .55) {
+                // insert points with increasing coordinates, to force rebalancing
+                Point2D point = new Point2D(i * .01 + random.nextInt(10), 
+                        random.nextInt(100));
+                assertEquals(set.add(point), tree.add(point));
+                if (!list.contains(point))
+                    list.add(point);
+            } else {
+                Point2D point = list.remove(random.nextInt(list.size()));
+                assertTrue(set.remove(point));
+                assertTrue(tree.remove(point));
+            }
+            
+            if (i % 500 == 0) {
+                assertEquals(set.size(), tree.size());
+                checkQueries(tree, set, random);
+            }
+        }
+        
+        // depth must remain logarithmic
+        int n = tree.size();
+        assertTrue(tree.height() <= 2 * Math.log(2 * n) / Math.log(1 / .7) + 2);
+    }
+    
+    private void checkQueries(DynamicKDTree2D tree, HashSet<Point2D> set,
+            Random random) {
+        double x = random.nextDouble() * 200;
+        double y = random.nextDouble() * 100;
+        Point2D query = new Point2D(x, y);
+        
+        double minDist = Double.POSITIVE_INFINITY;
+        for (Point2D p : set)
+            minDist = Math.min(minDist, p.distance(query));
+        assertEquals(minDist, tree.nearestNeighbor(query).distance(query), 1e-12);
+        
+        Box2D box = new Box2D(x - 10, x + 10, y - 10, y + 10);
+        int count = 0;
+        for (Point2D p : set)
+            if (x - 10 < p.x() && p.x() <= x + 10 && y - 10 < p.y() && p.y() <= y + 10)
+                count++;
+        assertEquals(count, tree.rangeSearch(box).size());
+        assertEquals(set, new HashSet<Point2D>(tree.points()));
+    }
+
+    public void testSnapshot() {
+        DynamicKDTree2D tree = new DynamicKDTree2D();
+        tree.add(new Point2D(1, 1));
+        tree.add(new Point2D(2, 2));
+        tree.add(new Point2D(3, 3));
+        tree.remove(new Point2D(2, 2));
+        
+        PackedKDTree2D snapshot = tree.snapshot();
+        tree.add(new Point2D(4, 4));
+        
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.contains(3, 3));
+        assertFalse(snapshot.contains(2, 2));
+        assertFalse(snapshot.contains(4, 4));
+    }
+}
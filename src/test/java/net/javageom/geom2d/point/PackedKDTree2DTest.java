@@ -0,0 +1,287 @@
+/**
+ * File: 	PackedKDTree2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+
+
+/**
+ * @author dlegland
+ *
+ */
+public class PackedKDTree2DTest extends TestCase {
+
+    public void testContains() {
+        int n = 5;
+        ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+        points.add(new Point2D(5, 5));
+        points.add(new Point2D(10, 10));
+        points.add(new Point2D(20, 20));
+        points.add(new Point2D(8, 12));
+        points.add(new Point2D(12, 8));
+        
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        
+        assertEquals(5, tree.size());
+        assertTrue(tree.contains(new Point2D(10, 10)));
+        assertTrue(tree.contains(new Point2D(8, 12)));
+        assertFalse(tree.contains(new Point2D(12, 12)));
+    }
+    
+    public void testContains_Duplicates() {
+        double[] xs = new double[100];
+        double[] ys = new double[100];
+        for (int i = 0; i < 100; i++) {
+            xs[i] = i % 3;
+            ys[i] = 5;
+        }
+        
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        assertTrue(tree.contains(0, 5));
+        assertTrue(tree.contains(1, 5));
+        assertTrue(tree.contains(2, 5));
+        assertFalse(tree.contains(1, 4));
+    }
+    
+    public void testNearestNeighborPoint2D() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(7);
+        points.add(new Point2D(12, 10));
+        points.add(new Point2D(7, 6));
+        points.add(new Point2D(15, 16));
+        points.add(new Point2D(4, 3));
+        points.add(new Point2D(6, 14));
+        points.add(new Point2D(16, 8));
+        points.add(new Point2D(14, 18));
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        
+        assertEquals(new Point2D(14, 18), tree.nearestNeighbor(new Point2D(11, 18)));
+        assertEquals(new Point2D(7, 6), tree.nearestNeighbor(new Point2D(13, 0)));
+        assertEquals(6, tree.nearestNeighborIndex(11, 18));
+        assertEquals(1, tree.nearestNeighborIndex(13, 0));
+    }
+
+    public void testNearestNeighbor_Random() {
+        Random random = new Random(1);
+        ArrayList<Point2D> points = new ArrayList<Point2D>(1000);
+        for (int i = 0; i < 1000; i++)
+            points.add(new Point2D(random.nextDouble() * 100, random.nextDouble() * 100));
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        
+        for (int k = 0; k < 50; k++) {
+            Point2D query = new Point2D(random.nextDouble() * 100, random.nextDouble() * 100);
+            double minDist = Double.POSITIVE_INFINITY;
+            for (Point2D p : points)
+                minDist = Math.min(minDist, p.distance(query));
+            assertEquals(minDist, tree.nearestNeighbor(query).distance(query), 1e-12);
+        }
+    }
+
+    public void testRangeSearch() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(8);
+        points.add(new Point2D(-15, 0));
+        points.add(new Point2D(15, 0));
+        points.add(new Point2D(0, -15));
+        points.add(new Point2D(0, 15));
+        points.add(new Point2D(-5, 5));
+        points.add(new Point2D(-5, -5));
+        points.add(new Point2D(5, 5));
+        points.add(new Point2D(5, -5));
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        
+        Box2D range = new Box2D(-10, 10, -10, 10);
+        
+        Collection<Point2D> result = tree.rangeSearch(range);
+        
+        assertEquals(4, result.size());
+        assertTrue(result.contains(new Point2D(-5, 5)));
+        assertTrue(result.contains(new Point2D(5, 5)));
+        assertTrue(result.contains(new Point2D(-5, -5)));
+        assertTrue(result.contains(new Point2D(5, -5)));
+    }
+
+    public void testRangeSearch_SameAsKDTree2D() {
+        Random random = new Random(2);
+        ArrayList<Point2D> points = new ArrayList<Point2D>(1000);
+        for (int i = 0; i < 1000; i++)
+            points.add(new Point2D(random.nextInt(50), random.nextInt(50)));
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        KDTree2D tree2 = new KDTree2D(new ArrayList<Point2D>(points));
+        
+        Box2D range = new Box2D(10, 30, 20, 25);
+        assertEquals(tree2.rangeSearch(range).size(), tree.rangeSearch(range).size());
+    }
+
+    public void testKNearest() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(7);
+        points.add(new Point2D(12, 10));
+        points.add(new Point2D(7, 6));
+        points.add(new Point2D(15, 16));
+        points.add(new Point2D(4, 3));
+        points.add(new Point2D(6, 14));
+        points.add(new Point2D(16, 8));
+        points.add(new Point2D(14, 18));
+        PackedKDTree2D tree = new PackedKDTree2D(points);
+        
+        int[] indices = new int[3];
+        double[] distances = new double[3];
+        int n = tree.kNearest(15, 17, 3, indices, distances);
+        
+        assertEquals(3, n);
+        assertEquals(2, indices[0]);
+        assertEquals(6, indices[1]);
+        assertEquals(0, indices[2]);
+        assertEquals(1, distances[0], 1e-12);
+        assertEquals(Math.hypot(1, 1), distances[1], 1e-12);
+        assertEquals(Math.hypot(3, 7), distances[2], 1e-12);
+        
+        ArrayList<Point2D> result = new ArrayList<Point2D>(
+                tree.kNearest(new Point2D(15, 17), 10));
+        assertEquals(7, result.size());
+        assertEquals(new Point2D(15, 16), result.get(0));
+        assertEquals(new Point2D(4, 3), result.get(6));
+    }
+
+    public void testKNearest_MaxDist() {
+        double[] xs = new double[]{0, 1, 2, 3, 4, 5};
+        double[] ys = new double[6];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int[] indices = new int[4];
+        double[] distances = new double[4];
+        int n = tree.kNearest(0, 0, 4, 2, indices, distances);
+        
+        assertEquals(3, n);
+        assertEquals(0, indices[0]);
+        assertEquals(1, indices[1]);
+        assertEquals(2, indices[2]);
+    }
+
+    public void testKNearest_Random() {
+        Random random = new Random(3);
+        int n = 2000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(100);
+            ys[i] = random.nextInt(100);
+        }
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int k = 10;
+        int[] indices = new int[k];
+        double[] distances = new double[k];
+        double[] allDists = new double[n];
+        for (int q = 0; q < 50; q++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            for (int i = 0; i < n; i++)
+                allDists[i] = Math.hypot(xs[i] - x, ys[i] - y);
+            Arrays.sort(allDists);
+            
+            assertEquals(k, tree.kNearest(x, y, k, indices, distances));
+            for (int i = 0; i < k; i++) {
+                assertEquals(allDists[i], distances[i], 1e-12);
+                assertEquals(distances[i], 
+                        Math.hypot(xs[indices[i]] - x, ys[indices[i]] - y), 1e-12);
+            }
+        }
+    }
+
+    public void testWithinRadius() {
+        Random random = new Random(4);
+        int n = 2000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(100);
+            ys[i] = random.nextInt(100);
+        }
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int[] buffer = new int[n];
+        for (int q = 0; q < 50; q++) {
+            double x = random.nextInt(100);
+            double y = random.nextInt(100);
+            double r = random.nextInt(20);
+            boolean[] expected = new boolean[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (Math.hypot(xs[i] - x, ys[i] - y) <= r) {
+                    expected[i] = true;
+                    count++;
+                }
+            }
+            
+            assertEquals(count, tree.withinRadius(x, y, r, buffer));
+            for (int i = 0; i < count; i++)
+                assertTrue(expected[buffer[i]]);
+            assertEquals(count, tree.withinRadius(new Point2D(x, y), r).size());
+        }
+    }
+
+    public void testWithinRadius_SmallBuffer() {
+        double[] xs = new double[]{0, 1, 2, 3, 4, 5};
+        double[] ys = new double[6];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int[] buffer = new int[2];
+        assertEquals(4, tree.withinRadius(1.5, 0, 2, buffer));
+    }
+
+    public void testWithinRadius_Visitor() {
+        double[] xs = new double[]{0, 1, 2, 3, 4, 5};
+        double[] ys = new double[]{0, 1, 2, 3, 4, 5};
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        final int[] sum = new int[1];
+        tree.withinRadius(3, 3, 1.5, new PackedKDTree2D.Visitor() {
+            public void visit(int index, double x, double y) {
+                sum[0] += index;
+            }
+        });
+        assertEquals(2 + 3 + 4, sum[0]);
+    }
+
+    public void testParallelBuild() {
+        Random random = new Random(6);
+        int n = 50000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(1000);
+            ys[i] = random.nextInt(1000);
+        }
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        PackedKDTree2D tree2 = new PackedKDTree2D(xs, ys, pool);
+        pool.shutdown();
+        
+        assertEquals(n, tree2.size());
+        for (int q = 0; q < 100; q++) {
+            double x = random.nextDouble() * 1000;
+            double y = random.nextDouble() * 1000;
+            int i1 = tree.nearestNeighborIndex(x, y);
+            int i2 = tree2.nearestNeighborIndex(x, y);
+            assertEquals(Math.hypot(xs[i1] - x, ys[i1] - y), 
+                    Math.hypot(xs[i2] - x, ys[i2] - y), 1e-12);
+            assertTrue(tree2.contains(xs[q], ys[q]));
+        }
+        Box2D range = new Box2D(100, 300, 200, 250);
+        assertEquals(tree.rangeSearch(range).size(), tree2.rangeSearch(range).size());
+    }
+}
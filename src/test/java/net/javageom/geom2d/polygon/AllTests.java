@@ -37,12 +37,18 @@ public class AllTests {
 	public static Test suite() {
 		TestSuite suite = new TestSuite("Test for math.geom2d.polygon");
 		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(BooleanSweep2DTest.class));
+		suite.addTest(new TestSuite(CascadedUnion2DTest.class));
 		suite.addTest(new TestSuite(LinearRing2DTest.class));
+		suite.addTest(new TestSuite(MonotoneChains2DTest.class));
         suite.addTest(new TestSuite(MultiPolygon2DTest.class));
 		suite.addTest(new TestSuite(Polyline2DTest.class));
 		suite.addTest(new TestSuite(Polygons2DTest.class));
+		suite.addTest(new TestSuite(PreparedPolygon2DTest.class));
 		suite.addTest(new TestSuite(Rectangle2DTest.class));
 		suite.addTest(new TestSuite(SimplePolygon2DTest.class));
+		suite.addTest(new TestSuite(StreamingSimplifier2DTest.class));
+		suite.addTest(new TestSuite(TilePyramid2DTest.class));
         //$JUnit-END$
 		return suite;
 	}
@@ -0,0 +1,274 @@
+/**
+ * File: 	BooleanSweep2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import static net.javageom.geom2d.polygon.PolygonFixtures.createSquare;
+import static net.javageom.geom2d.polygon.PolygonFixtures.createStar;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ */
+public class BooleanSweep2DTest extends TestCase {
+
+	public void testUnion_SharedEdge() {
+		SimplePolygon2D square1 = createSquare(0, 0, 10);
+		SimplePolygon2D square2 = createSquare(10, 0, 10);
+
+		Polygon2D union = BooleanSweep2D.union(square1, square2);
+		assertTrue(union instanceof SimplePolygon2D);
+		assertEquals(4, union.vertexNumber());
+		assertEquals(200, Polygons2D.computeArea(union), 1e-10);
+	}
+
+	public void testIntersection_SharedEdge() {
+		SimplePolygon2D square1 = createSquare(0, 0, 10);
+		SimplePolygon2D square2 = createSquare(10, 0, 10);
+
+		Polygon2D inter = BooleanSweep2D.intersection(square1, square2);
+		assertEquals(0, inter.contours().size());
+	}
+
+	public void testUnion_PartiallySharedEdge() {
+		SimplePolygon2D square1 = createSquare(0, 0, 10);
+		SimplePolygon2D square2 = createSquare(10, 5, 10);
+
+		Polygon2D union = BooleanSweep2D.union(square1, square2);
+		assertEquals(1, union.contours().size());
+		assertEquals(8, union.vertexNumber());
+		assertEquals(200, Polygons2D.computeArea(union), 1e-10);
+	}
+
+	public void testUnion_TouchingCorners() {
+		SimplePolygon2D square1 = createSquare(0, 0, 10);
+		SimplePolygon2D square2 = createSquare(10, 10, 10);
+
+		Polygon2D union = BooleanSweep2D.union(square1, square2);
+		assertEquals(2, union.contours().size());
+		assertEquals(200, Polygons2D.computeArea(union), 1e-10);
+	}
+
+	public void testUnion_SameSquares() {
+		SimplePolygon2D square = createSquare(0, 0, 10);
+
+		Polygon2D union = BooleanSweep2D.union(square, square);
+		assertEquals(4, union.vertexNumber());
+		assertEquals(100, Polygons2D.computeArea(union), 1e-10);
+
+		Polygon2D xor = BooleanSweep2D.exclusiveOr(square, square);
+		assertEquals(0, xor.contours().size());
+	}
+
+	public void testDifference_Hole() {
+		SimplePolygon2D square1 = createSquare(0, 0, 30);
+		SimplePolygon2D square2 = createSquare(10, 10, 10);
+
+		Polygon2D diff = BooleanSweep2D.difference(square1, square2);
+		assertTrue(diff instanceof MultiPolygon2D);
+		assertEquals(2, diff.contours().size());
+		assertEquals(800, Polygons2D.computeArea(diff), 1e-10);
+		assertTrue(diff.contains(5, 5));
+		assertFalse(diff.contains(15, 15));
+
+		// outer ring is counter-clockwise, and hole is clockwise
+		for (LinearRing2D ring : diff.contours()) {
+			double area = Polygons2D.computeArea(ring);
+			assertEquals(area > 0 ? 900 : -100, area, 1e-10);
+		}
+	}
+
+	public void testUnion_ClockwiseInput() {
+		SimplePolygon2D square1 = createSquare(0, 0, 10).complement();
+		SimplePolygon2D square2 = createSquare(5, 5, 10);
+
+		Polygon2D union = BooleanSweep2D.union(square1, square2);
+		assertEquals(8, union.vertexNumber());
+		assertEquals(175, Polygons2D.computeArea(union), 1e-10);
+	}
+
+	public void testIntersection_MultiPolygonsWithHoles() {
+		MultiPolygon2D ring1 = createSquareRing(0, 0, 30, 10);
+		MultiPolygon2D ring2 = createSquareRing(15, 0, 30, 10);
+
+		Polygon2D inter = BooleanSweep2D.intersection(ring1, ring2);
+		// the holes form notches on both sides of the intersection
+		assertEquals(1, inter.contours().size());
+		assertEquals(350, Polygons2D.computeArea(inter), 1e-10);
+		assertTrue(inter.contains(22, 15));
+		assertFalse(inter.contains(17, 15));
+		assertFalse(inter.contains(28, 15));
+	}
+
+	public void testOperations_RandomStars() {
+		Random random = new Random(1);
+		for (int i = 0; i < 50; i++) {
+			SimplePolygon2D star1 = createRandomStar(random);
+			SimplePolygon2D star2 = createRandomStar(random);
+			double area1 = Math.abs(Polygons2D.computeArea(star1));
+			double area2 = Math.abs(Polygons2D.computeArea(star2));
+
+			Polygon2D union = BooleanSweep2D.union(star1, star2);
+			Polygon2D inter = BooleanSweep2D.intersection(star1, star2);
+			Polygon2D diff = BooleanSweep2D.difference(star1, star2);
+			Polygon2D xor = BooleanSweep2D.exclusiveOr(star1, star2);
+			double unionArea = Polygons2D.computeArea(union);
+			double interArea = Polygons2D.computeArea(inter);
+
+			assertEquals(area1 + area2, unionArea + interArea, 1e-8);
+			assertEquals(area1 - interArea, Polygons2D.computeArea(diff), 1e-8);
+			assertEquals(unionArea - interArea, Polygons2D.computeArea(xor),
+					1e-8);
+
+			// compare with the position of random points
+			for (int k = 0; k < 100; k++) {
+				double x = random.nextDouble() * 30 - 5;
+				double y = random.nextDouble() * 30 - 5;
+				if (star1.boundary().distance(x, y) < 1e-8
+						|| star2.boundary().distance(x, y) < 1e-8)
+					continue;
+				boolean in1 = star1.contains(x, y);
+				boolean in2 = star2.contains(x, y);
+				assertEquals(in1 || in2, union.contains(x, y));
+				assertEquals(in1 && in2, inter.contains(x, y));
+				assertEquals(in1 && !in2, diff.contains(x, y));
+				assertEquals(in1 != in2, xor.contains(x, y));
+			}
+		}
+	}
+
+	public void testOperations_RandomGridPolygons() {
+		// polygons with integer coordinates have many overlapping edges and
+		// common vertices
+		Random random = new Random(1);
+		for (int i = 0; i < 200; i++) {
+			SimplePolygon2D poly1 = createGridStar(random);
+			SimplePolygon2D poly2 = createGridStar(random);
+			double area1 = Math.abs(Polygons2D.computeArea(poly1));
+			double area2 = Math.abs(Polygons2D.computeArea(poly2));
+
+			double unionArea = Polygons2D.computeArea(
+					BooleanSweep2D.union(poly1, poly2));
+			double interArea = Polygons2D.computeArea(
+					BooleanSweep2D.intersection(poly1, poly2));
+			double diffArea = Polygons2D.computeArea(
+					BooleanSweep2D.difference(poly1, poly2));
+			double xorArea = Polygons2D.computeArea(
+					BooleanSweep2D.exclusiveOr(poly1, poly2));
+
+			assertEquals(area1 + area2, unionArea + interArea, 1e-8);
+			assertEquals(area1 - interArea, diffArea, 1e-8);
+			assertEquals(unionArea - interArea, xorArea, 1e-8);
+		}
+	}
+
+	public void testOperations_VertexCloseToEdge() {
+		// the last vertex of the quad is within a few ulps of the left edge of
+		// the hole, and the second one is close to its supporting line
+		MultiPolygon2D ring = createSquareRing(0, 0, 10, 8);
+		SimplePolygon2D quad = new SimplePolygon2D(
+				new double[] {4.027660962102811, 1.0000000000000002,
+						-1.0862765630556028, 0.9999999999999992},
+				new double[] {6, 10.729916698703667, 6, 2.036620342798804});
+		double area1 = Polygons2D.computeArea(ring);
+		double area2 = Polygons2D.computeArea(quad);
+
+		Polygon2D union = BooleanSweep2D.union(ring, quad);
+		Polygon2D inter = BooleanSweep2D.intersection(ring, quad);
+		Polygon2D diff = BooleanSweep2D.difference(ring, quad);
+		double unionArea = Polygons2D.computeArea(union);
+		double interArea = Polygons2D.computeArea(inter);
+
+		assertEquals(2, union.contours().size());
+		assertEquals(50.94885741212907, unionArea, 1e-8);
+		assertEquals(area1 + area2, unionArea + interArea, 1e-8);
+		assertEquals(area1 - interArea, Polygons2D.computeArea(diff), 1e-8);
+		assertTrue(union.contains(.5, 5));
+		assertTrue(union.contains(2, 5));
+		assertFalse(union.contains(5, 3));
+		assertTrue(inter.contains(.5, 6));
+		assertFalse(inter.contains(2, 5));
+		assertTrue(diff.contains(.5, 1.5));
+		assertFalse(diff.contains(.5, 6));
+	}
+
+	public void testOperations_RandomVerticesCloseToEdges() {
+		// quads with vertices within a few ulps of the edges of the hole
+		Random random = new Random(1);
+		MultiPolygon2D ring = createSquareRing(0, 0, 10, 8);
+		double area1 = Polygons2D.computeArea(ring);
+		for (int i = 0; i < 200; i++) {
+			double y1 = 1 + random.nextDouble() * 8;
+			double y2 = 1 + random.nextDouble() * 8;
+			double x1 = 1 + (random.nextInt(9) - 4) * Math.ulp(1.0);
+			double x2 = 9 + (random.nextInt(9) - 4) * Math.ulp(9.0);
+			SimplePolygon2D quad = new SimplePolygon2D(
+					new double[] {x1, 5, x2, 5},
+					new double[] {y1, -1 - random.nextDouble() * 5, y2,
+							11 + random.nextDouble() * 5});
+			double area2 = Math.abs(Polygons2D.computeArea(quad));
+
+			double unionArea = Polygons2D.computeArea(
+					BooleanSweep2D.union(ring, quad));
+			double interArea = Polygons2D.computeArea(
+					BooleanSweep2D.intersection(ring, quad));
+			double diffArea = Polygons2D.computeArea(
+					BooleanSweep2D.difference(ring, quad));
+
+			assertEquals(area1 + area2, unionArea + interArea, 1e-8);
+			assertEquals(area1 - interArea, diffArea, 1e-8);
+		}
+	}
+
+	/**
+	 * Creates a square with a centered square hole.
+	 */
+	private static MultiPolygon2D createSquareRing(double x0, double y0,
+			double size, double holeSize) {
+		double d = (size - holeSize) / 2;
+		LinearRing2D outer = createSquare(x0, y0, size).contours()
+				.iterator().next();
+		LinearRing2D inner = createSquare(x0 + d, y0 + d, holeSize)
+				.complement().contours().iterator().next();
+		return new MultiPolygon2D(outer, inner);
+	}
+
+	private static SimplePolygon2D createRandomStar(Random random) {
+		int n = 3 + random.nextInt(50);
+		double xc = random.nextDouble() * 10 + 5;
+		double yc = random.nextDouble() * 10 + 5;
+		return createStar(random, xc, yc, 10, n);
+	}
+
+	private static SimplePolygon2D createGridStar(Random random) {
+		int n = 3 + random.nextInt(10);
+		double xc = random.nextInt(4) + .5;
+		double yc = random.nextInt(4) + .5;
+		double t0 = random.nextDouble();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int k = 0;
+		for (int i = 0; i < n; i++) {
+			double t = 2 * Math.PI * (i + t0) / n;
+			double r = 1 + random.nextInt(5);
+			double x = Math.round(xc + r * Math.cos(t));
+			double y = Math.round(yc + r * Math.sin(t));
+			if (k > 0 && xs[k - 1] == x && ys[k - 1] == y)
+				continue;
+			xs[k] = x;
+			ys[k] = y;
+			k++;
+		}
+		return SimplePolygon2D.createPacked(Arrays.copyOf(xs, k),
+				Arrays.copyOf(ys, k));
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * File: 	CascadedUnion2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import static net.javageom.geom2d.polygon.PolygonFixtures.createSquare;
+import static net.javageom.geom2d.polygon.PolygonFixtures.createStar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ */
+public class CascadedUnion2DTest extends TestCase {
+
+	public void testUnion_Empty() {
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		Polygon2D union = Polygons2D.union(polygons);
+		assertEquals(0, union.contours().size());
+
+		polygons.add(new MultiPolygon2D());
+		union = Polygons2D.union(polygons);
+		assertEquals(0, union.contours().size());
+	}
+
+	public void testUnion_Single() {
+		SimplePolygon2D square = createSquare(0, 0, 10);
+		Polygon2D union = Polygons2D.union(Collections.singleton(square));
+		assertSame(square, union);
+	}
+
+	public void testUnion_DisjointSquares() {
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 10; i++)
+			for (int j = 0; j < 10; j++)
+				polygons.add(createSquare(3 * i, 3 * j, 2));
+
+		Polygon2D union = Polygons2D.union(polygons);
+		assertEquals(100, union.contours().size());
+		assertEquals(400, Polygons2D.computeArea(union), 1e-10);
+		for (LinearRing2D ring : union.contours())
+			assertEquals(4, Polygons2D.computeArea(ring), 1e-10);
+	}
+
+	public void testUnion_AdjacentSquares() {
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 20; i++)
+			for (int j = 0; j < 20; j++)
+				polygons.add(createSquare(i, j, 1));
+
+		Polygon2D union = Polygons2D.union(polygons);
+		assertEquals(1, union.contours().size());
+		assertEquals(4, union.vertexNumber());
+		assertEquals(400, Polygons2D.computeArea(union), 1e-10);
+	}
+
+	public void testUnion_CompareWithFold() {
+		Random random = new Random(1);
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 12; i++)
+			for (int j = 0; j < 12; j++)
+				polygons.add(createStar(random, 10 * i, 10 * j, 8,
+						5 + random.nextInt(20)));
+		Collections.shuffle(polygons, random);
+
+		Polygon2D fold = polygons.get(0);
+		for (int i = 1; i < polygons.size(); i++)
+			fold = Polygons2D.union(fold, polygons.get(i));
+
+		Polygon2D union = new CascadedUnion2D(new ForkJoinPool(3))
+				.union(polygons);
+		assertEquals(Polygons2D.computeArea(fold),
+				Polygons2D.computeArea(union), 1e-8);
+
+		for (int k = 0; k < 2000; k++) {
+			double x = random.nextDouble() * 130 - 10;
+			double y = random.nextDouble() * 130 - 10;
+			if (fold.boundary().distance(x, y) < 1e-8)
+				continue;
+			assertEquals(fold.contains(x, y), union.contains(x, y));
+		}
+	}
+}
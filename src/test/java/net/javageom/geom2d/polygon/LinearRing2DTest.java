@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import junit.framework.TestCase;
+import net.javageom.geom2d.AffineTransform2D;
 import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Shape2D;
@@ -520,4 +521,90 @@ public class LinearRing2DTest extends TestCase {
         LinearRing2D copy = new LinearRing2D(ring);
         assertTrue(ring.equals(copy));
     }	
+
+	public void testCreatePacked() {
+		double[] xs = new double[] {0, 10, 10, 0};
+		double[] ys = new double[] {0, 0, 10, 10};
+		LinearRing2D packed = LinearRing2D.createPacked(xs, ys);
+		LinearRing2D ring = new LinearRing2D(xs, ys);
+
+		assertTrue(packed.isPacked());
+		assertTrue(packed.equals(ring));
+		assertEquals(100, packed.area(), 1e-12);
+		assertEquals(40, packed.length(), 1e-12);
+		assertEquals(4, packed.edges().size());
+		assertEquals(new Box2D(0, 10, 0, 10), packed.boundingBox());
+
+		Point2D[] points = new Point2D[] {
+				new Point2D(5, 5), new Point2D(5, -5), new Point2D(-1, 5),
+				new Point2D(10, 5), new Point2D(15, 15) };
+		for (Point2D point : points) {
+			assertEquals(ring.distance(point), packed.distance(point), 1e-12);
+			assertEquals(ring.signedDistance(point),
+					packed.signedDistance(point), 1e-12);
+			assertEquals(ring.project(point), packed.project(point), 1e-12);
+			assertEquals(ring.isInside(point), packed.isInside(point));
+		}
+
+		// closing edge
+		assertEquals(3.5, packed.project(new Point2D(-1, 5)), 1e-12);
+		assertEquals(2, packed.intersections(
+				new StraightLine2D(0, 5, 1, 0)).size());
+	}
+
+	public void testCreatePacked_Transform() {
+		LinearRing2D packed = LinearRing2D.createPacked(
+				new double[] {0, 10, 10, 0}, new double[] {0, 0, 10, 10});
+		LinearRing2D moved = packed.transform(
+				AffineTransform2D.createTranslation(5, 5));
+		assertTrue(moved.isPacked());
+		assertEquals(new Point2D(15, 15), moved.vertex(2));
+		assertEquals(100, moved.area(), 1e-12);
+	}
+
+	public void testSimplify_Visvalingam() {
+		Circle2D circle = new Circle2D(0, 0, 10);
+		LinearRing2D ring = circle.asPolyline(64);
+
+		LinearRing2D ring2 = ring.simplify(1,
+				Polylines2D.SimplificationMethod.VISVALINGAM);
+		assertTrue(ring2.vertexNumber() < 64);
+		assertTrue(ring2.vertexNumber() > 8);
+		assertEquals(ring.firstPoint(), ring2.firstPoint());
+
+		// a closed curve keeps at least three vertices
+		ring2 = ring.simplify(1000,
+				Polylines2D.SimplificationMethod.VISVALINGAM);
+		assertEquals(3, ring2.vertexNumber());
+	}
+
+	public void testSimplify_Packed() {
+		Circle2D circle = new Circle2D(0, 0, 10);
+		LinearRing2D ring = circle.asPolyline(32);
+		double[] xs = new double[32];
+		double[] ys = new double[32];
+		for (int i = 0; i < 32; i++) {
+			xs[i] = ring.vertex(i).x();
+			ys[i] = ring.vertex(i).y();
+		}
+		LinearRing2D packed = LinearRing2D.createPacked(xs, ys);
+
+		LinearRing2D ring2 = packed.simplify(2.5);
+		assertTrue(ring2.isPacked());
+		assertEquals(8, ring2.vertexNumber());
+		for (int i = 0; i < 8; i++)
+			assertEquals(ring.simplify(2.5).vertex(i), ring2.vertex(i));
+	}
+
+	public void testPosition_ClosingEdge() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), 
+				new Point2D(10, 10), new Point2D(0, 10)});
+		assertEquals(40, ring.length(), 1e-14);
+		assertEquals(35, ring.length(3.5), 1e-14);
+		assertEquals(3.5, ring.position(35), 1e-14);
+		assertEquals(4, ring.position(40), 1e-14);
+		assertEquals(new Point2D(0, 5), 
+				ring.pointsAtLengths(new double[] {35})[0]);
+	}
 }
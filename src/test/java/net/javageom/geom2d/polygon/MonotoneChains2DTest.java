@@ -0,0 +1,198 @@
+/**
+ * File: 	MonotoneChains2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import static net.javageom.geom2d.polygon.PolygonFixtures.createGaussianWalk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.line.LineSegment2D;
+import net.javageom.geom2d.line.LinearShape2D;
+import net.javageom.geom2d.line.Ray2D;
+import net.javageom.geom2d.line.StraightLine2D;
+
+/**
+ * @author dlegland
+ */
+public class MonotoneChains2DTest extends TestCase {
+
+	public void testChainNumber_Zigzag() {
+		// a zigzag with 10 teeth, made of 20 edges
+		double[] xs = new double[21];
+		double[] ys = new double[21];
+		for (int i = 0; i <= 20; i++) {
+			xs[i] = i;
+			ys[i] = i % 2;
+		}
+		MonotoneChains2D chains = new MonotoneChains2D(xs, ys, 21, false);
+		assertEquals(20, chains.ne);
+		assertEquals(20, chains.chainNumber());
+
+		// horizontal edges do not split the chains
+		for (int i = 0; i <= 20; i++)
+			ys[i] = i / 2;
+		chains = new MonotoneChains2D(xs, ys, 21, false);
+		assertEquals(1, chains.chainNumber());
+	}
+
+	public void testChainNumber_Square() {
+		double[] xs = new double[] {0, 10, 10, 0};
+		double[] ys = new double[] {0, 0, 10, 10};
+		MonotoneChains2D chains = new MonotoneChains2D(xs, ys, 4, true);
+		assertEquals(4, chains.ne);
+		assertEquals(2, chains.chainNumber());
+	}
+
+	public void testEdgeRanges_Box() {
+		// a staircase, with monotone coordinates along all the edges
+		double[] xs = new double[101];
+		double[] ys = new double[101];
+		for (int i = 0; i <= 100; i++) {
+			xs[i] = (i + 1) / 2;
+			ys[i] = i / 2;
+		}
+		MonotoneChains2D chains = new MonotoneChains2D(xs, ys, 101, false);
+		assertEquals(1, chains.chainNumber());
+
+		// only the edges around the box are selected
+		int[] ranges = chains.edgeRanges(20.5, 30.5, 20.5, 30.5);
+		assertEquals(2, ranges.length);
+		assertEquals(41, ranges[0]);
+		assertEquals(61, ranges[1]);
+
+		assertEquals(0, chains.edgeRanges(60, 70, 0, 10).length);
+	}
+
+	public void testIntersections_RandomWalk() {
+		Random random = new Random(1);
+		for (int k = 0; k < 20; k++) {
+			boolean closed = k % 2 == 1;
+			double[][] coords = createGaussianWalk(random, 500 + k * 100);
+			double[] xs = coords[0], ys = coords[1];
+			int n = xs.length;
+			MonotoneChains2D chains = new MonotoneChains2D(xs, ys, n, closed);
+
+			for (int i = 0; i < 30; i++) {
+				Point2D origin = new Point2D(random.nextGaussian() * 10,
+						random.nextGaussian() * 10);
+				double angle = random.nextDouble() * Math.PI;
+				LinearShape2D line;
+				switch (i % 3) {
+				case 0:
+					line = new StraightLine2D(origin, angle);
+					break;
+				case 1:
+					line = new Ray2D(origin, angle);
+					break;
+				default:
+					line = LineSegment2D.create(origin, new Point2D(
+							origin.x() + 20 * Math.cos(angle),
+							origin.y() + 20 * Math.sin(angle)));
+				}
+
+				assertEquals(
+						new ArrayList<Point2D>(Polylines2D.intersections(
+								xs, ys, n, closed, line)),
+						new ArrayList<Point2D>(Polylines2D.intersections(
+								xs, ys, n, closed, line, chains.edgeRanges(line))));
+			}
+		}
+	}
+
+	public void testClip_RandomWalk() {
+		Random random = new Random(1);
+		for (int k = 0; k < 20; k++) {
+			boolean closed = k % 2 == 1;
+			double[][] coords = createGaussianWalk(random, 500 + k * 100);
+			double[] xs = coords[0], ys = coords[1];
+			int n = xs.length;
+			MonotoneChains2D chains = new MonotoneChains2D(xs, ys, n, closed);
+
+			for (int i = 0; i < 30; i++) {
+				double x0 = random.nextGaussian() * 10;
+				double y0 = random.nextGaussian() * 10;
+				double x1 = x0 + random.nextDouble() * 20;
+				double y1 = y0 + random.nextDouble() * 20;
+
+				ArrayList<PackedPointList2D> expected = Polylines2D.clip(
+						xs, ys, n, closed, x0, x1, y0, y1);
+				ArrayList<PackedPointList2D> pieces = Polylines2D.clip(
+						xs, ys, n, closed, x0, x1, y0, y1,
+						chains.edgeRanges(x0, x1, y0, y1));
+				assertEquals(expected.size(), pieces.size());
+				for (int p = 0; p < pieces.size(); p++)
+					assertEquals(expected.get(p), pieces.get(p));
+			}
+		}
+	}
+
+	public void testDistance_RandomWalk() {
+		Random random = new Random(1);
+		for (int k = 0; k < 20; k++) {
+			boolean closed = k % 2 == 1;
+			double[][] coords = createGaussianWalk(random, 500 + k * 100);
+			double[] xs = coords[0], ys = coords[1];
+			int n = xs.length;
+			MonotoneChains2D chains = new MonotoneChains2D(xs, ys, n, closed);
+
+			for (int i = 0; i < 30; i++) {
+				double x = random.nextGaussian() * 10;
+				double y = random.nextGaussian() * 10;
+				assertEquals(Polylines2D.sqDistance(xs, ys, n, closed, x, y),
+						chains.sqDistance(x, y), 0);
+				assertEquals(Polylines2D.project(xs, ys, n, closed, x, y),
+						chains.project(x, y), 0);
+			}
+		}
+	}
+
+	public void testDistance_VerticesModifiedThroughView() {
+		// a long straight polyline, whose chains are computed by the first
+		// distance computation
+		int n = 200;
+		Point2D[] points = new Point2D[n];
+		for (int i = 0; i < n; i++)
+			points[i] = new Point2D(i, 0);
+		Polyline2D polyline = new Polyline2D(points);
+		assertEquals(10, polyline.distance(100, 10), 1e-12);
+
+		// move a vertex close to the point, keeping the number of vertices
+		List<Point2D> vertices = (List<Point2D>) polyline.vertices();
+		vertices.set(100, new Point2D(100, 9));
+		assertEquals(1, polyline.distance(100, 10), 1e-12);
+		assertEquals(100, polyline.project(new Point2D(100, 10)), 1e-12);
+	}
+
+	public void testClip_LinearRing() {
+		// a ring with many vertices around the origin, that ends with the
+		// first vertex
+		int n = 101;
+		Point2D[] points = new Point2D[n];
+		for (int i = 0; i < n; i++) {
+			double t = 2 * Math.PI * (i % 100) / 100;
+			points[i] = new Point2D(10 * Math.cos(t), 10 * Math.sin(t));
+		}
+		LinearRing2D ring = new LinearRing2D(points);
+
+		// the two portions around the first vertex are merged
+		Box2D box = new Box2D(5, 20, -20, 20);
+		assertEquals(1, ring.clip(box).size());
+		Polyline2D piece = (Polyline2D) ring.clip(box).firstCurve();
+		assertEquals(5, piece.firstPoint().x(), 1e-12);
+		assertEquals(5, piece.lastPoint().x(), 1e-12);
+
+		// box containing the whole ring
+		assertSame(ring, ring.clip(new Box2D(-20, 20, -20, 20)).firstCurve());
+	}
+}
@@ -308,4 +308,106 @@ public class MultiPolygon2DTest extends TestCase {
         MultiPolygon2D copy = new MultiPolygon2D(polygon);
         assertTrue(polygon.equals(copy));
 	}
+
+	public void testContainsArrays_WithHole() {
+		LinearRing2D ring1 = new LinearRing2D(new Point2D[]{
+				new Point2D(10, 10), 
+				new Point2D(20, 10),
+				new Point2D(20, 20),
+				new Point2D(10, 20) });
+		LinearRing2D ring2 = new LinearRing2D(new Point2D[]{
+				new Point2D(13, 13), 
+				new Point2D(13, 17),
+				new Point2D(17, 17),
+				new Point2D(17, 13) });
+		MultiPolygon2D polygon = new MultiPolygon2D(new LinearRing2D[]{
+				ring1, ring2});
+
+		double[] px = new double[] {14, 21, 11};
+		double[] py = new double[] {16, 20, 19};
+		boolean[] res = new boolean[px.length];
+		polygon.contains(px, py, res);
+		assertFalse(res[0]);
+		assertFalse(res[1]);
+		assertTrue(res[2]);
+
+		// large arrays use an index
+		int n = 60;
+		px = new double[n * n];
+		py = new double[n * n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				px[i * n + j] = i * .5 + .25;
+				py[i * n + j] = j * .5 + .25;
+			}
+		}
+		res = new boolean[n * n];
+		polygon.contains(px, py, res);
+		for (int i = 0; i < n * n; i++)
+			assertEquals(polygon.contains(px[i], py[i]), res[i]);
+	}
+
+	public void testContainsArrays_Boundary() {
+		LinearRing2D ring1 = new LinearRing2D(new Point2D[]{
+				new Point2D(10, 10), 
+				new Point2D(20, 10),
+				new Point2D(20, 20),
+				new Point2D(10, 20) });
+		LinearRing2D ring2 = new LinearRing2D(new Point2D[]{
+				new Point2D(13, 13), 
+				new Point2D(13, 17),
+				new Point2D(17, 17),
+				new Point2D(17, 13) });
+		MultiPolygon2D polygon = new MultiPolygon2D(new LinearRing2D[]{
+				ring1, ring2});
+
+		// vertices and points on the edges of both rings
+		double[] px = new double[] {10, 20, 20, 10, 15, 20, 15, 10, 
+				13, 13, 17, 17, 13, 15, 17, 15};
+		double[] py = new double[] {10, 10, 20, 20, 10, 15, 20, 15, 
+				13, 17, 17, 13, 15, 17, 15, 13};
+		boolean[] res = new boolean[px.length];
+		polygon.contains(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(polygon.contains(px[i], py[i]), res[i]);
+
+		// large arrays use an index, the grid contains the boundary points
+		int n = 60;
+		px = new double[n * n];
+		py = new double[n * n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				px[i * n + j] = i * .5;
+				py[i * n + j] = j * .5;
+			}
+		}
+		res = new boolean[n * n];
+		polygon.contains(px, py, res);
+		for (int i = 0; i < n * n; i++)
+			assertEquals(polygon.contains(px[i], py[i]), res[i]);
+	}
+
+	public void testDistanceArrays_WithHole() {
+		LinearRing2D ring1 = new LinearRing2D(new Point2D[]{
+				new Point2D(10, 10), 
+				new Point2D(20, 10),
+				new Point2D(20, 20),
+				new Point2D(10, 20) });
+		LinearRing2D ring2 = new LinearRing2D(new Point2D[]{
+				new Point2D(13, 13), 
+				new Point2D(13, 17),
+				new Point2D(17, 17),
+				new Point2D(17, 13) });
+		MultiPolygon2D polygon = new MultiPolygon2D(new LinearRing2D[]{
+				ring1, ring2});
+
+		double[] px = new double[] {15, 25, 11, 10, 14, 5};
+		double[] py = new double[] {15, 15, 19, 15, 16, 5};
+		double[] res = new double[px.length];
+		polygon.distance(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(polygon.distance(px[i], py[i]), res[i], 1e-12);
+		assertEquals(5, res[1], 1e-12);
+		assertEquals(0, res[2], 1e-12);
+	}
 }
@@ -0,0 +1,79 @@
+/**
+ * File: 	PolygonFixtures.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.Random;
+
+/**
+ * Shapes shared by the tests of the polygon package.
+ *
+ * @author dlegland
+ */
+abstract class PolygonFixtures {
+
+	/**
+	 * Creates a counter-clockwise square with the given lower-left corner
+	 * and size.
+	 */
+	static SimplePolygon2D createSquare(double x0, double y0, double size) {
+		return new SimplePolygon2D(
+				new double[] {x0, x0 + size, x0 + size, x0},
+				new double[] {y0, y0, y0 + size, y0 + size});
+	}
+
+	/**
+	 * Creates a star-shaped polygon with n vertices regularly spaced around
+	 * the center, at random distances between r/2 and r.
+	 */
+	static SimplePolygon2D createStar(Random random, double xc, double yc,
+			double r, int n) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double rho = r * (.5 + .5 * random.nextDouble());
+			double t = 2 * Math.PI * i / n;
+			xs[i] = xc + rho * Math.cos(t);
+			ys[i] = yc + rho * Math.sin(t);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a random walk with n vertices, that starts near (x0, y0) with
+	 * steps of the given length, and whose direction changes slowly.
+	 */
+	static Polyline2D createRandomWalk(Random random, int n, double x0,
+			double y0, double step) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double x = x0, y = y0, theta = 0;
+		for (int i = 0; i < n; i++) {
+			theta += random.nextDouble() - .5;
+			x += Math.cos(theta) * step;
+			y += Math.sin(theta) * step;
+			xs[i] = x;
+			ys[i] = y;
+		}
+		return new Polyline2D(xs, ys);
+	}
+
+	/**
+	 * Returns the coordinates of a random walk with n vertices, that starts
+	 * at the origin, with normally distributed steps along each axis.
+	 */
+	static double[][] createGaussianWalk(Random random, int n) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 1; i < n; i++) {
+			xs[i] = xs[i - 1] + random.nextGaussian();
+			ys[i] = ys[i - 1] + random.nextGaussian();
+		}
+		return new double[][] {xs, ys};
+	}
+}
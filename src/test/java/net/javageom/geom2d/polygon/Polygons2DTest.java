@@ -8,9 +8,12 @@
  */
 package net.javageom.geom2d.polygon;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Random;
 
 import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.domain.Boundary2D;
 import net.javageom.geom2d.domain.Domain2D;
@@ -489,5 +492,94 @@ public class Polygons2DTest extends TestCase {
     	
     	assertEquals(1, boundary.continuousCurves().size());
     }
+    
+    public void testConvexHull() {
+        Random random = new Random(9);
+        ArrayList<Point2D> points = new ArrayList<Point2D>(5000);
+        for (int i = 0; i < 5000; i++)
+            points.add(new Point2D(random.nextDouble() * 10, random.nextDouble() * 10));
+        points.add(new Point2D(0, 0));
+        points.add(new Point2D(10, 0));
+        points.add(new Point2D(10, 10));
+        points.add(new Point2D(0, 10));
+        
+        Polygon2D hull = Polygons2D.convexHull(points);
+        
+        assertEquals(4, hull.vertexNumber());
+        assertEquals(new Point2D(0, 0), hull.vertex(0));
+        assertEquals(new Point2D(10, 0), hull.vertex(1));
+        assertEquals(100, hull.area(), 1e-12);
+    }
+    
+    public void testClipPolygon_RandomStars() {
+        Random random = new Random(1);
+        Box2D box = new Box2D(0, 10, 0, 10);
+        Polygon2D boxPolygon = box.asRectangle();
+        for (int i = 0; i < 50; i++) {
+            int n = 3 + random.nextInt(50);
+            double xc = random.nextDouble() * 10;
+            double yc = random.nextDouble() * 10;
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int k = 0; k < n; k++) {
+                double r = 8 * (.5 + .5 * random.nextDouble());
+                double t = 2 * Math.PI * k / n;
+                xs[k] = xc + r * Math.cos(t);
+                ys[k] = yc + r * Math.sin(t);
+            }
+            SimplePolygon2D star = SimplePolygon2D.createPacked(xs, ys);
+            
+            Polygon2D clipped = Polygons2D.clipPolygon(star, box);
+            Polygon2D inter = BooleanSweep2D.intersection(star, boxPolygon);
+            assertEquals(Polygons2D.computeArea(inter), 
+                    Polygons2D.computeArea(clipped), 1e-8);
+            
+            for (int k = 0; k < 100; k++) {
+                double x = random.nextDouble() * 12 - 1;
+                double y = random.nextDouble() * 12 - 1;
+                if (star.boundary().distance(x, y) < 1e-8
+                        || box.boundary().distance(x, y) < 1e-8)
+                    continue;
+                assertEquals(inter.contains(x, y), clipped.contains(x, y));
+            }
+        }
+    }
+    
+    public void testClipPolygon_SharedEdgeOutside() {
+        SimplePolygon2D square = new SimplePolygon2D(
+                new double[] {10, 20, 20, 10}, new double[] {0, 0, 10, 10});
+        Polygon2D clipped = Polygons2D.clipPolygon(square, 
+                new Box2D(0, 10, 0, 10));
+        assertEquals(0, clipped.contours().size());
+    }
+    
+    public void testClipPolygon_BoxInside() {
+        SimplePolygon2D square = new SimplePolygon2D(
+                new double[] {0, 30, 30, 0}, new double[] {0, 0, 30, 30});
+        Polygon2D clipped = Polygons2D.clipPolygon(square, 
+                new Box2D(10, 20, 10, 20));
+        assertEquals(4, clipped.vertexNumber());
+        assertEquals(100, Polygons2D.computeArea(clipped), 1e-12);
+    }
+    
+    public void testClipPolygon_HoleCrossingBox() {
+        LinearRing2D outer = new LinearRing2D(
+                new double[] {0, 30, 30, 0}, new double[] {0, 0, 30, 30});
+        LinearRing2D hole = new LinearRing2D(
+                new double[] {10, 10, 20, 20}, new double[] {10, 20, 20, 10});
+        Polygon2D polygon = new MultiPolygon2D(outer, hole);
+        
+        // the box contains the left part of the hole
+        Polygon2D clipped = Polygons2D.clipPolygon(polygon, 
+                new Box2D(5, 15, 5, 25));
+        assertEquals(1, clipped.contours().size());
+        assertEquals(150, Polygons2D.computeArea(clipped), 1e-12);
+        assertTrue(clipped.contains(7, 15));
+        assertFalse(clipped.contains(12, 15));
+        
+        // the box is within the hole
+        clipped = Polygons2D.clipPolygon(polygon, new Box2D(12, 18, 12, 18));
+        assertEquals(0, clipped.contours().size());
+    }
     	
 }
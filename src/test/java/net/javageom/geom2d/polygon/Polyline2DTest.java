@@ -27,16 +27,24 @@
 
 package net.javageom.geom2d.polygon;
 
+import static net.javageom.geom2d.polygon.PolygonFixtures.createRandomWalk;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Vector2D;
 import net.javageom.geom2d.circulinear.CirculinearContinuousCurve2D;
 import net.javageom.geom2d.circulinear.buffer.BufferCalculator;
 import net.javageom.geom2d.conic.CircleArc2D;
+import net.javageom.geom2d.curve.Curve2D;
+import net.javageom.geom2d.curve.CurveSet2D;
+import net.javageom.geom2d.curve.Curves2D;
 import net.javageom.geom2d.domain.Boundary2D;
 import net.javageom.geom2d.domain.Domain2D;
 import net.javageom.geom2d.line.StraightLine2D;
@@ -401,4 +409,239 @@ public class Polyline2DTest extends TestCase
                 new Point2D(20, 20), 
                 new Point2D(10, 20) });
 	}
+
+	public void testCreatePacked() {
+		double[] xs = new double[] {10, 20, 20, 10, 10, 30};
+		double[] ys = new double[] {10, 10, 20, 20, 30, 30};
+		Polyline2D packed = Polyline2D.createPacked(xs, ys);
+		Polyline2D polyline = new Polyline2D(xs, ys);
+
+		assertTrue(packed.isPacked());
+		assertFalse(polyline.isPacked());
+		assertTrue(packed.equals(polyline));
+		assertEquals(polyline.length(), packed.length(), 1e-12);
+		assertEquals(polyline.boundingBox(), packed.boundingBox());
+
+		Point2D[] points = new Point2D[] {
+				new Point2D(15, 5), new Point2D(25, 15), new Point2D(15, 15),
+				new Point2D(20, 15), new Point2D(40, 40), new Point2D(0, 25) };
+		for (Point2D point : points) {
+			assertEquals(polyline.distance(point), packed.distance(point), 1e-12);
+			assertEquals(polyline.project(point), packed.project(point), 1e-12);
+			assertEquals(polyline.contains(point), packed.contains(point));
+		}
+
+		StraightLine2D line = new StraightLine2D(15, 0, 0, 1);
+		assertEquals(3, packed.intersections(line).size());
+		assertEquals(polyline.intersections(line), packed.intersections(line));
+	}
+
+	public void testCreatePacked_ModifyVertices() {
+		Polyline2D packed = Polyline2D.createPacked(
+				new double[] {10, 20}, new double[] {10, 10});
+		packed.addVertex(new Point2D(20, 20));
+		packed.insertVertex(0, new Point2D(0, 10));
+		packed.setVertex(3, new Point2D(20, 30));
+
+		assertTrue(packed.isPacked());
+		assertEquals(4, packed.vertexNumber());
+		assertEquals(new Point2D(0, 10), packed.firstPoint());
+		assertEquals(new Point2D(20, 30), packed.lastPoint());
+		assertEquals(40, packed.length(), 1e-12);
+
+		packed.removeVertex(0);
+		assertEquals(new Point2D(10, 10), packed.firstPoint());
+		assertEquals(30, packed.length(), 1e-12);
+	}
+
+	public void testContainsArrays() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+		double[] px = new double[] {5, 10, 5, 0, 10};
+		double[] py = new double[] {0, 5, 5, 0, 10};
+		boolean[] res = new boolean[px.length];
+		polyline.contains(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(polyline.contains(px[i], py[i]), res[i]);
+		assertTrue(res[0]);
+		assertTrue(res[1]);
+		assertFalse(res[2]);
+	}
+
+	public void testDistanceArrays() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+		double[] px = new double[] {5, 13, 5, -3, 10};
+		double[] py = new double[] {-2, 5, 5, 4, 20};
+		double[] res = new double[px.length];
+		polyline.distance(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(polyline.distance(px[i], py[i]), res[i], 1e-12);
+		assertEquals(2, res[0], 1e-12);
+		assertEquals(3, res[1], 1e-12);
+		assertEquals(5, res[3], 1e-12);
+	}
+
+	public void testSimplify_Tolerance() {
+		Polyline2D poly = createRandomWalk(new Random(1), 2000, 0, 0, 1);
+		Polyline2D poly2 = poly.simplify(1.5);
+
+		assertTrue(poly2.vertexNumber() < poly.vertexNumber());
+		assertEquals(poly.firstPoint(), poly2.firstPoint());
+		assertEquals(poly.lastPoint(), poly2.lastPoint());
+		for (Point2D vertex : poly.vertices())
+			assertTrue(poly2.distance(vertex) < 1.5);
+	}
+
+	public void testSimplify_LongPackedPolyline() {
+		// each split keeps a single vertex, which made the recursive
+		// implementation overflow the stack
+		int n = 20000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = i;
+			ys[i] = i % 2 == 0 ? 0 : 1;
+		}
+		Polyline2D poly = Polyline2D.createPacked(xs, ys);
+		Polyline2D poly2 = poly.simplify(1e-6);
+
+		assertTrue(poly2.isPacked());
+		assertEquals(n, poly2.vertexNumber());
+
+		poly2 = poly.simplify(2);
+		assertEquals(2, poly2.vertexNumber());
+	}
+
+	public void testSimplify_Visvalingam() {
+		Polyline2D poly = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(5, .1), new Point2D(10, 0),
+				new Point2D(12, 10), new Point2D(11.1, 15),
+				new Point2D(10, 20) });
+		Polyline2D poly2 = poly.simplify(1,
+				Polylines2D.SimplificationMethod.VISVALINGAM);
+
+		assertEquals(4, poly2.vertexNumber());
+		assertEquals(new Point2D(0, 0), poly2.vertex(0));
+		assertEquals(new Point2D(10, 0), poly2.vertex(1));
+		assertEquals(new Point2D(12, 10), poly2.vertex(2));
+		assertEquals(new Point2D(10, 20), poly2.vertex(3));
+	}
+
+	public void testSimplify_VisvalingamMonotonic() {
+		Polyline2D poly = createRandomWalk(new Random(2), 2000, 0, 0, 1);
+		int previous = poly.vertexNumber();
+		for (double area = .1; area < 100; area *= 2) {
+			Polyline2D poly2 = poly.simplify(area,
+					Polylines2D.SimplificationMethod.VISVALINGAM);
+			assertTrue(poly2.vertexNumber() <= previous);
+			assertEquals(poly.firstPoint(), poly2.firstPoint());
+			assertEquals(poly.lastPoint(), poly2.lastPoint());
+			previous = poly2.vertexNumber();
+		}
+		assertTrue(previous < 100);
+	}
+
+	public void testClip_Packed() {
+		Polyline2D zigzag = Polyline2D.createPacked(
+				new double[] {-5, 5, 15, 5, -5, 5},
+				new double[] {0, 2, 4, 6, 8, 10});
+		Box2D box = new Box2D(0, 10, 0, 10);
+		CurveSet2D<? extends LinearCurve2D> clipped = zigzag.clip(box);
+		assertEquals(3, clipped.size());
+		for (LinearCurve2D curve : clipped) {
+			assertTrue(curve.isPacked());
+			for (Point2D vertex : curve.vertices())
+				assertTrue(box.contains(vertex));
+		}
+		assertEquals(new Point2D(0, 1), clipped.firstCurve().firstPoint());
+		assertEquals(new Point2D(5, 10), clipped.lastCurve().lastPoint());
+		
+		// result of generic algorithm
+		CurveSet2D<? extends Curve2D> generic = Curves2D.clipCurve(zigzag, box);
+		assertEquals(generic.size(), clipped.size());
+		for (int i = 0; i < generic.size(); i++) {
+			assertTrue(generic.get(i).firstPoint().almostEquals(
+					clipped.get(i).firstPoint(), 1e-12));
+			assertTrue(generic.get(i).lastPoint().almostEquals(
+					clipped.get(i).lastPoint(), 1e-12));
+		}
+	}
+	
+	public void testClip_Inside() {
+		Polyline2D polyline = new Polyline2D(new double[] {1, 2, 3},
+				new double[] {1, 3, 1});
+		CurveSet2D<? extends LinearCurve2D> clipped = 
+				polyline.clip(new Box2D(0, 10, 0, 10));
+		assertEquals(1, clipped.size());
+		assertSame(polyline, clipped.firstCurve());
+	}
+
+	public void testPosition_RandomWalk() {
+		Polyline2D polyline = createRandomWalk(new Random(1), 1000, 0, 0, 1);
+		Polyline2D packed = Polyline2D.createPacked(
+				Polylines2D.coordinates(polyline.vertices)[0],
+				Polylines2D.coordinates(polyline.vertices)[1]);
+		double length = polyline.length();
+
+		for (int i = 0; i <= 100; i++) {
+			double pos = polyline.position(i * length / 100);
+			assertEquals(i * length / 100, polyline.length(pos), 1e-9);
+			assertEquals(pos, packed.position(i * length / 100), 1e-12);
+		}
+
+		// lengths outside of the curve are clamped
+		assertEquals(0, polyline.position(-1), 1e-12);
+		assertEquals(polyline.t1(), polyline.position(length + 1), 1e-12);
+	}
+
+	public void testPosition_ModifiedVertices() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10)});
+		assertEquals(20, polyline.length(), 1e-14);
+		assertEquals(1.5, polyline.position(15), 1e-14);
+
+		polyline.setVertex(2, new Point2D(10, 30));
+		assertEquals(40, polyline.length(), 1e-14);
+		assertEquals(1 + 5. / 30, polyline.position(15), 1e-14);
+
+		polyline.addVertex(new Point2D(0, 30));
+		assertEquals(50, polyline.length(), 1e-14);
+		assertEquals(2.5, polyline.position(45), 1e-14);
+
+		polyline.removeVertex(0);
+		assertEquals(40, polyline.length(), 1e-14);
+	}
+
+	public void testLength_VerticesModifiedThroughView() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(20, 0)});
+		assertEquals(20, polyline.length(), 1e-14);
+
+		// modification that keeps the number of vertices
+		List<Point2D> vertices = (List<Point2D>) polyline.vertices();
+		vertices.set(2, new Point2D(10, 20));
+		assertEquals(30, polyline.length(), 1e-14);
+		assertEquals(new Point2D(10, 20), polyline.lastPoint());
+
+		// modifications through the iterator
+		Iterator<Point2D> iter = vertices.iterator();
+		iter.next();
+		iter.remove();
+		assertEquals(20, polyline.length(), 1e-14);
+		assertEquals(2, polyline.vertexNumber());
+	}
+
+	public void testPointsAtLengths() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10)});
+		Point2D[] points = polyline.pointsAtLengths(
+				new double[] {0, 5, 10, 17.5, 20});
+		assertEquals(5, points.length);
+		assertEquals(new Point2D(0, 0), points[0]);
+		assertEquals(new Point2D(5, 0), points[1]);
+		assertEquals(new Point2D(10, 0), points[2]);
+		assertEquals(new Point2D(10, 7.5), points[3]);
+		assertEquals(new Point2D(10, 10), points[4]);
+	}
 }
@@ -0,0 +1,144 @@
+/**
+ * File: 	PreparedPolygon2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Point2D;
+
+/**
+ * @author dlegland
+ */
+public class PreparedPolygon2DTest extends TestCase {
+
+	public void testContains_Square() {
+		SimplePolygon2D square = new SimplePolygon2D(
+				new double[] {10, 20, 20, 10}, new double[] {10, 10, 20, 20});
+		PreparedPolygon2D prepared = new PreparedPolygon2D(square);
+
+		assertEquals(100, prepared.area(), 1e-12);
+		assertEquals(4, prepared.edgeNumber());
+		assertTrue(prepared.contains(15, 15));
+		assertTrue(prepared.contains(new Point2D(15, 15)));
+		assertFalse(prepared.contains(5, 15));
+		assertFalse(prepared.contains(15, 25));
+
+		// points on the boundary
+		assertTrue(prepared.contains(10, 10));
+		assertTrue(prepared.contains(20, 15));
+		assertTrue(prepared.contains(15, 20));
+	}
+
+	public void testContains_StarPolygon() {
+		Random random = new Random(1);
+		int n = 500;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = i * 2 * Math.PI / n;
+			double rho = 100 * (.5 + .5 * random.nextDouble());
+			xs[i] = rho * Math.cos(theta);
+			ys[i] = rho * Math.sin(theta);
+		}
+		SimplePolygon2D polygon = new SimplePolygon2D(xs, ys);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+
+		for (int i = 0; i < 2000; i++) {
+			double x = random.nextDouble() * 240 - 120;
+			double y = random.nextDouble() * 240 - 120;
+			assertEquals(polygon.contains(x, y), prepared.contains(x, y));
+		}
+
+		// vertices and middle of edges are on the boundary
+		for (int i = 0; i < n; i++) {
+			int i2 = (i + 1) % n;
+			assertTrue(prepared.contains(xs[i], ys[i]));
+			assertTrue(prepared.contains((xs[i] + xs[i2]) / 2,
+					(ys[i] + ys[i2]) / 2));
+		}
+	}
+
+	public void testContains_ClockwisePolygon() {
+		SimplePolygon2D square = new SimplePolygon2D(
+				new double[] {10, 10, 20, 20}, new double[] {10, 20, 20, 10});
+		PreparedPolygon2D prepared = new PreparedPolygon2D(square);
+
+		assertEquals(-100, prepared.area(), 1e-12);
+		assertFalse(prepared.contains(15, 15));
+		assertTrue(prepared.contains(5, 15));
+		assertTrue(prepared.contains(100, 100));
+		assertTrue(prepared.contains(10, 15));
+	}
+
+	public void testContains_MultiPolygonWithHole() {
+		LinearRing2D outer = new LinearRing2D(
+				new double[] {0, 100, 100, 0}, new double[] {0, 0, 100, 100});
+		LinearRing2D hole = new LinearRing2D(
+				new double[] {20, 20, 80, 80}, new double[] {20, 80, 80, 20});
+		LinearRing2D island = new LinearRing2D(
+				new double[] {40, 60, 60, 40}, new double[] {40, 40, 60, 60});
+		MultiPolygon2D polygon = new MultiPolygon2D(
+				new LinearRing2D[] {outer, hole, island});
+		PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+
+		assertTrue(prepared.contains(10, 50));
+		assertFalse(prepared.contains(30, 50));
+		assertTrue(prepared.contains(50, 50));
+		assertFalse(prepared.contains(150, 50));
+		assertEquals(1, prepared.windingNumber(50, 50));
+		assertEquals(0, prepared.windingNumber(30, 50));
+
+		for (int i = 1; i < 50; i++) {
+			for (int j = 1; j < 50; j++) {
+				double x = i * 2.3 - 5, y = j * 2.3 - 5;
+				assertEquals(polygon.contains(x, y), prepared.contains(x, y));
+			}
+		}
+	}
+
+	public void testContains_LongEdges() {
+		// a comb with long vertical teeth
+		int nTeeth = 200;
+		double[] xs = new double[4 * nTeeth];
+		double[] ys = new double[4 * nTeeth];
+		for (int i = 0; i < nTeeth; i++) {
+			xs[4 * i] = 2 * i;
+			ys[4 * i] = 0;
+			xs[4 * i + 1] = 2 * i + 1;
+			ys[4 * i + 1] = 0;
+			xs[4 * i + 2] = 2 * i + 1;
+			ys[4 * i + 2] = 1000;
+			xs[4 * i + 3] = 2 * i + 2;
+			ys[4 * i + 3] = 1000;
+		}
+		SimplePolygon2D polygon = SimplePolygon2D.createPacked(xs, ys)
+				.complement();
+		polygon.addVertex(new Point2D(2 * nTeeth, -10));
+		polygon.addVertex(new Point2D(0, -10));
+		polygon = polygon.complement();
+		PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+
+		// the number of bands is reduced to limit memory usage
+		assertTrue(prepared.bandNumber() < prepared.edgeNumber());
+
+		for (int i = 0; i < 2 * nTeeth; i++) {
+			double x = i + .5;
+			assertEquals(polygon.contains(x, 500), prepared.contains(x, 500));
+			assertEquals(polygon.contains(x, -5), prepared.contains(x, -5));
+		}
+	}
+
+	public void testContains_Empty() {
+		PreparedPolygon2D prepared = new PreparedPolygon2D(
+				new SimplePolygon2D());
+		assertEquals(0, prepared.edgeNumber());
+		assertFalse(prepared.contains(0, 0));
+	}
+}
@@ -466,4 +466,104 @@ public class SimplePolygon2DTest extends TestCase {
         SimplePolygon2D copy = new SimplePolygon2D(polygon);
         assertTrue(polygon.equals(copy));
     }
+
+	public void testCreatePacked() {
+		// a star-shaped polygon
+		int n = 50;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double r = i % 2 == 0 ? 100 : 40;
+			double t = 2 * Math.PI * i / n;
+			xs[i] = 100 + r * Math.cos(t);
+			ys[i] = 100 + r * Math.sin(t);
+		}
+		SimplePolygon2D packed = SimplePolygon2D.createPacked(xs, ys);
+		SimplePolygon2D poly = new SimplePolygon2D(xs, ys);
+
+		assertTrue(packed.isPacked());
+		assertTrue(packed.equals(poly));
+		assertEquals(poly.area(), packed.area(), 1e-9);
+		assertEquals(poly.boundingBox(), packed.boundingBox());
+		assertTrue(packed.getRing().isPacked());
+
+		for (int i = 0; i <= 20; i++) {
+			for (int j = 0; j <= 20; j++) {
+				Point2D point = new Point2D(i * 10, j * 10);
+				assertEquals(poly.contains(point), packed.contains(point));
+				assertEquals(poly.distance(point), packed.distance(point), 1e-9);
+			}
+		}
+	}
+
+	public void testCreatePacked_Transform() {
+		SimplePolygon2D packed = SimplePolygon2D.createPacked(
+				new double[] {0, 10, 10, 0}, new double[] {0, 0, 10, 10});
+
+		SimplePolygon2D reflected = packed.transform(
+				AffineTransform2D.createLineReflection(
+						new StraightLine2D(0, 0, 1, 0)));
+		assertTrue(reflected.isPacked());
+		assertEquals(4, reflected.vertexNumber());
+		assertEquals(100, reflected.area(), 1e-12);
+		assertTrue(reflected.contains(5, -5));
+		assertFalse(reflected.contains(5, 5));
+	}
+
+	public void testContainsArrays() {
+		int n = 50;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double r = i % 2 == 0 ? 100 : 40;
+			double t = 2 * Math.PI * i / n;
+			xs[i] = 100 + r * Math.cos(t);
+			ys[i] = 100 + r * Math.sin(t);
+		}
+		SimplePolygon2D poly = new SimplePolygon2D(xs, ys);
+
+		// small arrays use vertex coordinates, large arrays use an index
+		for (int size : new int[] {10, 1000}) {
+			double[] px = new double[size];
+			double[] py = new double[size];
+			for (int i = 0; i < size; i++) {
+				px[i] = (i * 37) % 211;
+				py[i] = (i * 59) % 211;
+			}
+			// include vertices
+			px[0] = xs[0];
+			py[0] = ys[0];
+			px[1] = xs[1];
+			py[1] = ys[1];
+
+			boolean[] res = new boolean[size];
+			poly.contains(px, py, res);
+			for (int i = 0; i < size; i++)
+				assertEquals(poly.contains(px[i], py[i]), res[i]);
+
+			poly.complement().contains(px, py, res);
+			for (int i = 0; i < size; i++)
+				assertEquals(poly.complement().contains(px[i], py[i]), res[i]);
+		}
+	}
+
+	public void testDistanceArrays() {
+		SimplePolygon2D poly = new SimplePolygon2D(
+				new double[] {0, 10, 10, 0}, new double[] {0, 0, 10, 10});
+		double[] px = new double[] {5, 15, -3, 5, 10};
+		double[] py = new double[] {5, 5, -4, 12, 10};
+		double[] res = new double[px.length];
+		poly.distance(px, py, res);
+		for (int i = 0; i < px.length; i++)
+			assertEquals(poly.distance(px[i], py[i]), res[i], 1e-12);
+		assertEquals(0, res[0], 1e-12);
+		assertEquals(5, res[1], 1e-12);
+		assertEquals(5, res[2], 1e-12);
+
+		try {
+			poly.distance(px, py, new double[2]);
+			fail("should throw an IllegalArgumentException");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
 }
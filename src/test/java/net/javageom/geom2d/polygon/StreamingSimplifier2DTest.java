@@ -0,0 +1,92 @@
+/**
+ * File: 	StreamingSimplifier2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import static net.javageom.geom2d.polygon.PolygonFixtures.createRandomWalk;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Point2D;
+
+/**
+ * @author dlegland
+ */
+public class StreamingSimplifier2DTest extends TestCase {
+
+	public void testAdd_Tolerance() {
+		Polyline2D track = createRandomWalk(new Random(1), 5000, 0, 0, 1);
+		StreamingSimplifier2D.PolylineSink sink =
+				new StreamingSimplifier2D.PolylineSink();
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(1.5, sink);
+		for (Point2D point : track.vertices())
+			simplifier.add(point);
+		simplifier.flush();
+
+		Polyline2D result = sink.polyline();
+		assertTrue(result.isPacked());
+		assertTrue(result.vertexNumber() < track.vertexNumber() / 4);
+		assertEquals(track.firstPoint(), result.firstPoint());
+		assertEquals(track.lastPoint(), result.lastPoint());
+		for (Point2D vertex : track.vertices())
+			assertTrue(result.distance(vertex) <= 1.5 + 1e-12);
+	}
+
+	public void testAdd_StraightLine() {
+		StreamingSimplifier2D.PolylineSink sink =
+				new StreamingSimplifier2D.PolylineSink();
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(.1, sink);
+		for (int i = 0; i <= 100; i++)
+			simplifier.add(i, 2 * i);
+
+		// only the first vertex is known before the end of the stream
+		assertEquals(1, sink.vertexNumber());
+		assertEquals(100, simplifier.pendingPointNumber());
+
+		simplifier.flush();
+		Polyline2D result = sink.polyline();
+		assertEquals(2, result.vertexNumber());
+		assertEquals(new Point2D(100, 200), result.lastPoint());
+	}
+
+	public void testAdd_WindowSize() {
+		StreamingSimplifier2D.PolylineSink sink =
+				new StreamingSimplifier2D.PolylineSink();
+		StreamingSimplifier2D simplifier =
+				new StreamingSimplifier2D(.1, 10, sink);
+		for (int i = 0; i <= 100; i++) {
+			simplifier.add(i, 0);
+			assertTrue(simplifier.pendingPointNumber() <= 10);
+		}
+		simplifier.flush();
+
+		// a vertex is retained each time the window is full
+		Polyline2D result = sink.polyline();
+		assertEquals(11, result.vertexNumber());
+		for (int i = 0; i <= 10; i++)
+			assertEquals(new Point2D(10 * i, 0), result.vertex(i));
+	}
+
+	public void testFlush_NewPolyline() {
+		StreamingSimplifier2D.PolylineSink sink =
+				new StreamingSimplifier2D.PolylineSink();
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(.1, sink);
+		simplifier.add(0, 0);
+		simplifier.add(10, 0);
+		simplifier.add(10, 10);
+		simplifier.flush();
+		assertEquals(3, sink.vertexNumber());
+
+		sink.clear();
+		simplifier.add(20, 20);
+		simplifier.flush();
+		assertEquals(1, sink.vertexNumber());
+		assertEquals(new Point2D(20, 20), sink.polyline().firstPoint());
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * File: 	TilePyramid2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon;
+
+import static net.javageom.geom2d.polygon.PolygonFixtures.createRandomWalk;
+import static net.javageom.geom2d.polygon.PolygonFixtures.createSquare;
+import static net.javageom.geom2d.polygon.PolygonFixtures.createStar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Box2D;
+
+/**
+ * @author dlegland
+ */
+public class TilePyramid2DTest extends TestCase {
+
+	public void testProcess_FullSquare() {
+		SimplePolygon2D square = createSquare(0, 0, 8);
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 8, 0, 8), 2);
+		List<TilePyramid2D.Tile> tiles = process(pyramid,
+				Collections.singletonList(square));
+
+		assertEquals(1 + 4 + 16, tiles.size());
+		for (TilePyramid2D.Tile tile : tiles) {
+			double size = 8.0 / (1 << tile.getZoom());
+			assertEquals(1, tile.getPolygons().size());
+			assertEquals(size * size, Polygons2D.computeArea(
+					tile.getPolygons().get(0)), 1e-12);
+		}
+	}
+
+	public void testProcess_EmptyTiles() {
+		// a small square in the upper-left corner of the extent
+		SimplePolygon2D square = createSquare(.5, 14.5, 1);
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 16, 0, 16), 3);
+		List<TilePyramid2D.Tile> tiles = process(pyramid,
+				Collections.singletonList(square));
+
+		assertEquals(4, tiles.size());
+		for (TilePyramid2D.Tile tile : tiles) {
+			assertEquals(0, tile.getX());
+			assertEquals(0, tile.getY());
+		}
+	}
+
+	public void testTileBox() {
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 16, 0, 16), 3);
+		Box2D box = pyramid.tileBox(2, 1, 0);
+		assertEquals(4, box.getMinX(), 1e-12);
+		assertEquals(8, box.getMaxX(), 1e-12);
+		assertEquals(12, box.getMinY(), 1e-12);
+		assertEquals(16, box.getMaxY(), 1e-12);
+	}
+
+	public void testProcess_CompareWithDirectClip() {
+		Random random = new Random(1);
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 10; i++)
+			polygons.add(createStar(random, random.nextDouble() * 100,
+					random.nextDouble() * 100, 30, 5 + random.nextInt(50)));
+		ArrayList<LinearCurve2D> curves = new ArrayList<LinearCurve2D>();
+		curves.add(createRandomWalk(random, 2000, 50, 50, .5));
+
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 100, 0, 100),
+				4, new ForkJoinPool(3));
+		final List<TilePyramid2D.Tile> tiles = Collections.synchronizedList(
+				new ArrayList<TilePyramid2D.Tile>());
+		pyramid.process(polygons, curves, new TilePyramid2D.Sink() {
+			public void tile(TilePyramid2D.Tile tile) {
+				tiles.add(tile);
+			}
+		});
+
+		for (TilePyramid2D.Tile tile : tiles) {
+			Box2D box = tile.getBox();
+			double area = 0;
+			for (Polygon2D polygon : polygons)
+				area += Polygons2D.computeArea(
+						Polygons2D.clipPolygon(polygon, box));
+			double tileArea = 0;
+			for (Polygon2D polygon : tile.getPolygons())
+				tileArea += Polygons2D.computeArea(polygon);
+			assertEquals(area, tileArea, 1e-8);
+
+			int n = curves.get(0).clip(box).size();
+			assertEquals(n, tile.getCurves().size());
+		}
+	}
+
+	public void testSetTolerance() {
+		Random random = new Random(1);
+		Polyline2D walk = createRandomWalk(random, 2000, 50, 50, .5);
+		Box2D bounds = walk.boundingBox();
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(
+				bounds.getMinX() - 1, bounds.getMaxX() + 1,
+				bounds.getMinY() - 1, bounds.getMaxY() + 1), 1);
+		pyramid.setTolerance(0, 2);
+		List<TilePyramid2D.Tile> tiles = process(pyramid,
+				new ArrayList<Polygon2D>(), Collections.singletonList(walk));
+
+		int n0 = 0, n1 = 0;
+		for (TilePyramid2D.Tile tile : tiles) {
+			for (LinearCurve2D curve : tile.getCurves()) {
+				if (tile.getZoom() == 0)
+					n0 += curve.vertexNumber();
+				else
+					n1 += curve.vertexNumber();
+			}
+		}
+		// tiles at zoom 1 are computed from the curve before simplification
+		assertTrue(n0 < walk.vertexNumber() / 4);
+		assertTrue(n1 >= walk.vertexNumber());
+	}
+
+	public void testSetBuffer() {
+		SimplePolygon2D square = createSquare(0, 0, 8);
+		TilePyramid2D pyramid = new TilePyramid2D(new Box2D(0, 8, 0, 8), 1);
+		pyramid.setBuffer(.25);
+		List<TilePyramid2D.Tile> tiles = process(pyramid,
+				Collections.singletonList(square));
+
+		assertEquals(5, tiles.size());
+		for (TilePyramid2D.Tile tile : tiles) {
+			if (tile.getZoom() == 1)
+				assertEquals(5 * 5, Polygons2D.computeArea(
+						tile.getPolygons().get(0)), 1e-12);
+		}
+	}
+
+	private static List<TilePyramid2D.Tile> process(TilePyramid2D pyramid,
+			List<? extends Polygon2D> polygons) {
+		return process(pyramid, polygons, new ArrayList<LinearCurve2D>());
+	}
+
+	private static List<TilePyramid2D.Tile> process(TilePyramid2D pyramid,
+			List<? extends Polygon2D> polygons,
+			List<? extends LinearCurve2D> curves) {
+		final List<TilePyramid2D.Tile> tiles = Collections.synchronizedList(
+				new ArrayList<TilePyramid2D.Tile>());
+		pyramid.process(polygons, curves, new TilePyramid2D.Sink() {
+			public void tile(TilePyramid2D.Tile tile) {
+				tiles.add(tile);
+			}
+		});
+		return tiles;
+	}
+}
@@ -37,8 +37,12 @@ public class AllTests {
 	public static Test suite() {
 		TestSuite suite = new TestSuite("Test for math.geom2d.polygon.convhull");
 		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(Chan2DTest.class));
+		suite.addTest(new TestSuite(ConvexHulls2DTest.class));
 		suite.addTest(new TestSuite(GrahamScan2DTest.class));
 		suite.addTest(new TestSuite(JarvisMarch2DTest.class));
+		suite.addTest(new TestSuite(MonotoneChain2DTest.class));
+		suite.addTest(new TestSuite(ParallelConvexHull2DTest.class));
         //$JUnit-END$
 		return suite;
 	}
@@ -0,0 +1,80 @@
+/**
+ * File: 	Chan2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.point.PointArray2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+public class Chan2DTest extends TestCase {
+
+	public void testConvexHull_Lozenge() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(1, 0),
+				new Point2D(2, 1),
+				new Point2D(1, 2),
+				new Point2D(0, 1)});
+		
+		Polygon2D hull = new Chan2D().convexHull(pointSet.points());
+		
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertices().size());
+		assertEquals(new Point2D(1, 0), hull.vertex(0));
+		assertEquals(new Point2D(2, 1), hull.vertex(1));
+		assertTrue(hull.area() > 0);
+	}
+
+	public void testConvexHull_Square() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(1, 0),
+				new Point2D(.2, .2),
+				new Point2D(.7, .7),
+				new Point2D(.2, .7),
+				new Point2D(.7, .2),
+				new Point2D(.5, .5),
+				new Point2D(.5, 0),
+				new Point2D(1, 1),
+				new Point2D(1, 1),
+				new Point2D(0, 1)});
+		
+		Polygon2D hull = new Chan2D().convexHull(pointSet.points());
+		
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertices().size());
+		assertEquals(1, hull.area(), 1e-12);
+	}
+
+	public void testConvexHull_Degenerated() {
+		Chan2D algo = new Chan2D();
+		assertEquals(0, algo.convexHull(new double[0], new double[0]).vertexNumber());
+		assertEquals(1, algo.convexHull(new double[]{2, 2, 2}, new double[]{3, 3, 3}).vertexNumber());
+		assertEquals(2, algo.convexHull(new double[]{0, 1, 2, 3}, new double[]{0, 1, 2, 3}).vertexNumber());
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(7);
+		int n = 5000;
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			points.add(new Point2D(random.nextGaussian(), random.nextGaussian()));
+		
+		Polygon2D hull = new Chan2D().convexHull(points);
+		Polygon2D hull2 = new JarvisMarch2D().convexHull(points);
+		
+		assertEquals(hull2.vertexNumber(), hull.vertexNumber());
+		assertEquals(hull2.area(), hull.area(), 1e-10);
+		for (Point2D point : points)
+			assertTrue(hull.boundary().signedDistance(point) < 1e-12);
+	}
+}
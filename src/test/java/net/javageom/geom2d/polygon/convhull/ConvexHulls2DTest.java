@@ -0,0 +1,52 @@
+/**
+ * File: 	ConvexHulls2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+public class ConvexHulls2DTest extends TestCase {
+
+	public void testFilterInteriorPoints() {
+		// corners of a square, and points inside
+		double[] xs = new double[]{0, 10, 10, 0, 5, 2, 8, 5, 5, 0};
+		double[] ys = new double[]{0, 0, 10, 10, 5, 2, 8, 1, 9, 5};
+		
+		int n = ConvexHulls2D.filterInteriorPoints(xs, ys, xs.length);
+		
+		// the four corners, and the point on the left edge remain
+		assertEquals(5, n);
+		assertEquals(0, xs[0], 0);
+		assertEquals(10, xs[1], 0);
+		assertEquals(5, ys[4], 0);
+	}
+
+	public void testFilterInteriorPoints_SameHull() {
+		Random random = new Random(8);
+		int n = 10000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble();
+			ys[i] = random.nextDouble();
+		}
+		Polygon2D hull = new MonotoneChain2D().convexHull(xs, ys);
+		
+		int n2 = ConvexHulls2D.filterInteriorPoints(xs, ys, n);
+		assertTrue(n2 < n / 10);
+		
+		Polygon2D hull2 = new MonotoneChain2D().convexHull(
+				Arrays.copyOf(xs, n2), Arrays.copyOf(ys, n2));
+		assertEquals(hull.vertexNumber(), hull2.vertexNumber());
+		assertEquals(hull.area(), hull2.area(), 1e-12);
+	}
+}
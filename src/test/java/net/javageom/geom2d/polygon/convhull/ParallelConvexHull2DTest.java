@@ -0,0 +1,72 @@
+/**
+ * File: 	ParallelConvexHull2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.polygon.Polygon2D;
+
+public class ParallelConvexHull2DTest extends TestCase {
+
+	public void testConvexHull_Square() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(0, 0));
+		points.add(new Point2D(1, 0));
+		points.add(new Point2D(.2, .2));
+		points.add(new Point2D(.7, .7));
+		points.add(new Point2D(1, 1));
+		points.add(new Point2D(0, 1));
+		
+		Polygon2D hull = new ParallelConvexHull2D().convexHull(points);
+		
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(new Point2D(0, 0), hull.vertex(0));
+		assertEquals(1, hull.area(), 1e-12);
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(10);
+		int n = 200000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = random.nextDouble() * 2 * Math.PI;
+			double rho = Math.sqrt(random.nextDouble());
+			xs[i] = rho * Math.cos(theta);
+			ys[i] = rho * Math.sin(theta);
+		}
+		
+		ForkJoinPool pool = new ForkJoinPool(4);
+		Polygon2D hull = new ParallelConvexHull2D(pool).convexHull(xs, ys);
+		pool.shutdown();
+		Polygon2D hull2 = new MonotoneChain2D().convexHull(xs, ys);
+		
+		assertEquals(hull2.vertexNumber(), hull.vertexNumber());
+		for (int i = 0; i < hull.vertexNumber(); i++)
+			assertEquals(hull2.vertex(i), hull.vertex(i));
+	}
+
+	public void testConvexHull_Degenerated() {
+		ParallelConvexHull2D algo = new ParallelConvexHull2D();
+		assertEquals(0, algo.convexHull(new double[0], new double[0]).vertexNumber());
+		
+		int n = 50000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = i % 100;
+			ys[i] = 2 * xs[i];
+		}
+		assertEquals(2, algo.convexHull(xs, ys).vertexNumber());
+	}
+}
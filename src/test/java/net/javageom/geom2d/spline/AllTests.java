@@ -37,6 +37,7 @@ public class AllTests {
 	public static Test suite() {
 		TestSuite suite = new TestSuite("Test for math.geom2d.spline");
 		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(BezierCurves2DTest.class));
 		suite.addTest(new TestSuite(CubicBezierCurve2DTest.class));
 		suite.addTest(new TestSuite(PolyCubicBezierCurve2DTest.class));
 		suite.addTest(new TestSuite(QuadBezierCurve2DTest.class));
@@ -0,0 +1,161 @@
+/**
+ * File: 	BezierCurves2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.spline;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import net.javageom.geom2d.AffineTransform2D;
+import net.javageom.geom2d.Point2D;
+import net.javageom.geom2d.circulinear.CirculinearCurves2D;
+import net.javageom.geom2d.conic.Circle2D;
+import net.javageom.geom2d.line.LineSegment2D;
+import net.javageom.geom2d.line.StraightLine2D;
+
+/**
+ * @author dlegland
+ */
+public class BezierCurves2DTest extends TestCase {
+
+	public void testLocateIntersections_CubicLine() {
+		// y(t) = 6t(1-t)(1-2t), x(t) = 3t
+		CubicBezierCurve2D curve = new CubicBezierCurve2D(
+				0, 0, 1, 2, 2, -2, 3, 0);
+		LineSegment2D line = new LineSegment2D(-1, 0, 4, 0);
+
+		double[][] pos = BezierCurves2D.locateIntersections(curve, line);
+		assertEquals(3, pos.length);
+		assertEquals(0, pos[0][0], 1e-12);
+		assertEquals(.5, pos[1][0], 1e-12);
+		assertEquals(1, pos[2][0], 1e-12);
+		assertEquals(.2, pos[0][1], 1e-12);
+		assertEquals(.5, pos[1][1], 1e-12);
+		assertEquals(.8, pos[2][1], 1e-12);
+	}
+
+	public void testLocateIntersections_BoundedLine() {
+		CubicBezierCurve2D curve = new CubicBezierCurve2D(
+				0, 0, 1, 2, 2, -2, 3, 0);
+		LineSegment2D line = new LineSegment2D(1, 0, 4, 0);
+		assertEquals(2, BezierCurves2D.locateIntersections(curve, line).length);
+	}
+
+	public void testLocateIntersections_RandomLines() {
+		Random random = new Random(1);
+		for (int k = 0; k < 200; k++) {
+			CubicBezierCurve2D curve = createRandomCubic(random);
+			StraightLine2D line = new StraightLine2D(
+					new Point2D(random.nextDouble(), random.nextDouble()),
+					new Point2D(random.nextDouble(), random.nextDouble()));
+
+			double[][] pos = BezierCurves2D.locateIntersections(curve, line);
+			assertEquals(curve.asPolyline(2000).intersections(line).size(),
+					pos.length);
+			for (double[] row : pos) {
+				Point2D p1 = curve.point(row[0]);
+				Point2D p2 = line.point(row[1]);
+				assertTrue(p1.distance(p2) < 1e-9);
+			}
+			assertEquals(pos.length, curve.intersections(line).size());
+		}
+	}
+
+	public void testLocateIntersections_QuadCubic() {
+		QuadBezierCurve2D quad = new QuadBezierCurve2D(0, 0, 5, 10, 10, 0);
+		CubicBezierCurve2D cubic = new CubicBezierCurve2D(
+				0, 4, 3, 3, 7, 3, 10, 4);
+
+		double[][] pos = BezierCurves2D.locateIntersections(quad, cubic);
+		assertEquals(2, pos.length);
+		assertTrue(pos[0][0] < pos[1][0]);
+		for (double[] row : pos)
+			assertTrue(quad.point(row[0]).distance(cubic.point(row[1])) < 1e-9);
+
+		// the curves are symmetric with respect to the line x=5
+		assertEquals(1, pos[0][0] + pos[1][0], 1e-10);
+	}
+
+	public void testLocateIntersections_RandomCubics() {
+		Random random = new Random(1);
+		int total = 0;
+		for (int k = 0; k < 200; k++) {
+			CubicBezierCurve2D curve1 = createRandomCubic(random);
+			CubicBezierCurve2D curve2 = createRandomCubic(random);
+
+			double[][] pos = BezierCurves2D.locateIntersections(curve1, curve2);
+			assertEquals(CirculinearCurves2D.findIntersections(
+					curve1.asPolyline(1000), curve2.asPolyline(1000)).size(),
+					pos.length);
+			for (double[] row : pos) {
+				Point2D p1 = curve1.point(row[0]);
+				Point2D p2 = curve2.point(row[1]);
+				assertTrue(p1.distance(p2) < 1e-9);
+			}
+			total += pos.length;
+		}
+		assertTrue(total > 100);
+	}
+
+	public void testLocateIntersections_SelfLoops() {
+		// two cubics with loops, that intersect 6 times
+		CubicBezierCurve2D curve1 = new CubicBezierCurve2D(
+				0, 0, 20, 20, -10, 20, 10, 0);
+		CubicBezierCurve2D curve2 = curve1.transform(
+				AffineTransform2D.createRotation(5, 8, 2.5));
+
+		double[][] pos = BezierCurves2D.locateIntersections(curve1, curve2);
+		assertEquals(6, pos.length);
+		assertEquals(CirculinearCurves2D.findIntersections(
+				curve1.asPolyline(1000), curve2.asPolyline(1000)).size(),
+				pos.length);
+		for (double[] row : pos)
+			assertTrue(curve1.point(row[0]).distance(
+					curve2.point(row[1])) < 1e-9);
+	}
+
+	public void testLocateIntersections_PolyBezier() {
+		// a wave made of two cubics, with a junction on the x-axis
+		PolyCubicBezierCurve2D wave = new PolyCubicBezierCurve2D(
+				new CubicBezierCurve2D(0, 0, 1, 2, 2, 2, 3, 0),
+				new CubicBezierCurve2D(3, 0, 4, -2, 5, -2, 6, 0));
+		LineSegment2D axis = new LineSegment2D(-1, 0, 7, 0);
+
+		double[][] pos = BezierCurves2D.locateIntersections(wave, axis);
+		assertEquals(3, pos.length);
+		assertEquals(0, pos[0][0], 1e-12);
+		assertEquals(1, pos[1][0], 1e-12);
+		assertEquals(3, pos[2][0], 1e-12);
+		assertEquals(new Point2D(3, 0), wave.point(pos[1][0]));
+
+		// a vertical segment crossing the second cubic
+		LineSegment2D segment = new LineSegment2D(4.5, -5, 4.5, 5);
+		pos = BezierCurves2D.locateIntersections(wave, segment);
+		assertEquals(1, pos.length);
+		assertTrue(pos[0][0] > 2 && pos[0][0] < 3);
+		assertEquals(4.5, wave.point(pos[0][0]).x(), 1e-10);
+	}
+
+	public void testLocateIntersections_Unsupported() {
+		CubicBezierCurve2D curve = new CubicBezierCurve2D(
+				0, 0, 1, 2, 2, -2, 3, 0);
+		try {
+			BezierCurves2D.locateIntersections(curve, new Circle2D(0, 0, 1));
+			fail("should throw an IllegalArgumentException");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+
+	private static CubicBezierCurve2D createRandomCubic(Random random) {
+		return new CubicBezierCurve2D(
+				random.nextDouble(), random.nextDouble(),
+				random.nextDouble(), random.nextDouble(),
+				random.nextDouble(), random.nextDouble(),
+				random.nextDouble(), random.nextDouble());
+	}
+}
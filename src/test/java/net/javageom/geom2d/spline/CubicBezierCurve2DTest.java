@@ -26,9 +26,14 @@
 
 package net.javageom.geom2d.spline;
 
+import static net.javageom.geom2d.spline.SplineFixtures.randomPoint;
+
+import java.util.Random;
+
 import junit.framework.TestCase;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Vector2D;
+import net.javageom.geom2d.polygon.LinearCurve2D;
 import net.javageom.geom2d.polygon.Polyline2D;
 
 /**
@@ -165,4 +170,153 @@ public class CubicBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p4), 0, 1e-10);
 	}
 
+
+	public void testFlatten() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(0, 10), 
+				new Point2D(10, 10), new Point2D(10, 0));
+		
+		int previous = 0;
+		for (double tol : new double[] {1e-1, 1e-3, 1e-5}) {
+			LinearCurve2D poly = bezier.flatten(tol);
+			assertTrue(poly.vertexNumber() > previous);
+			previous = poly.vertexNumber();
+			assertEquals(bezier.firstPoint(), poly.firstPoint());
+			assertEquals(bezier.lastPoint(), poly.lastPoint());
+			
+			// sample the curve, and check the distance to the polyline
+			for (int i = 0; i <= 1000; i++) {
+				Point2D point = bezier.point(i / 1000.0);
+				assertTrue(poly.distance(point) <= tol);
+			}
+		}
+		
+		// each call returns a new polyline, that can be modified
+		LinearCurve2D poly = bezier.flatten(1e-3);
+		LinearCurve2D poly2 = bezier.flatten(1e-3);
+		assertNotSame(poly, poly2);
+		assertEquals(poly.vertexNumber(), poly2.vertexNumber());
+		int n = poly.vertexNumber();
+		poly.addVertex(new Point2D(20, 20));
+		assertEquals(n, bezier.flatten(1e-3).vertexNumber());
+	}
+	
+	public void testFlatten_Random() {
+		Random random = new Random(1);
+		double tol = 1e-3;
+		for (int i = 0; i < 3000; i++) {
+			CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+					randomPoint(random), randomPoint(random), 
+					randomPoint(random), randomPoint(random));
+			LinearCurve2D poly = bezier.flatten(tol);
+			
+			// sample the curve, and check the distance to the polyline
+			for (int k = 0; k <= 200; k++) {
+				Point2D point = bezier.point(k / 200.0);
+				assertTrue(poly.distance(point) <= tol);
+			}
+		}
+	}
+	
+	public void testProject() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(0, 10), 
+				new Point2D(10, 10), new Point2D(10, 0));
+		for (int i = 0; i <= 10; i++) {
+			double t = i / 10.0;
+			assertEquals(t, bezier.project(bezier.point(t)), 1e-4);
+			assertEquals(0, bezier.distance(bezier.point(t)), 1e-3);
+		}
+	}
+
+	public void testProject_Random() {
+		Random random = new Random(1);
+		for (int i = 0; i < 100; i++) {
+			CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+					randomPoint(random), randomPoint(random), 
+					randomPoint(random), randomPoint(random));
+			Point2D point = randomPoint(random);
+			double t = bezier.project(point);
+			assertTrue(t >= 0 && t <= 1);
+			double dist = bezier.distance(point);
+			assertEquals(bezier.point(t).distance(point), dist, 1e-10);
+			
+			// compare with the distance to sampled points
+			double distMin = Double.POSITIVE_INFINITY;
+			for (int k = 0; k <= 10000; k++)
+				distMin = Math.min(distMin, 
+						bezier.point(k / 10000.0).distance(point));
+			assertTrue(dist <= distMin + 1e-12);
+			assertEquals(distMin, dist, 1e-4);
+		}
+	}
+	
+	public void testProject_Cusp() {
+		// a curve with a cusp, with several local minima of distance
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(10, 10), 
+				new Point2D(0, 10), new Point2D(10, 0));
+		Point2D point = bezier.point(.8);
+		assertEquals(.8, bezier.project(point), 1e-10);
+		assertEquals(0, bezier.distance(point), 1e-10);
+	}
+
+	public void testProject_CuspSymmetric() {
+		// points close to the axis of symmetry have two close local minima
+		// of distance, and the derivative of the distance of points on the
+		// axis vanishes at the cusp
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(10, 17), 
+				new Point2D(0, 17), new Point2D(10, 0));
+		double[] xs = new double[] {4.9, 4.95, 5, 5, 5.05, 5.1};
+		double[] ys = new double[] {12.6, 12.6, 12.6, 13, 12.6, 12.6};
+		for (int i = 0; i < xs.length; i++)
+			assertProjection(bezier, new Point2D(xs[i], ys[i]));
+	}
+
+	public void testProject_LoopSymmetric() {
+		// a self-intersecting curve: points close to the axis of symmetry
+		// have two close local minima of distance
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(12, 16), 
+				new Point2D(-2, 16), new Point2D(10, 0));
+		for (int i = 0; i <= 20; i++)
+			assertProjection(bezier, new Point2D(5, 11 + i * .1));
+	}
+
+	/**
+	 * Checks that the distance to the curve is the distance to the closest
+	 * sampled point, up to the sampling accuracy.
+	 */
+	private void assertProjection(CubicBezierCurve2D bezier, 
+			Point2D point) {
+		double dist = bezier.distance(point);
+		double distMin = Double.POSITIVE_INFINITY;
+		for (int k = 0; k <= 10000; k++)
+			distMin = Math.min(distMin, 
+					bezier.point(k / 10000.0).distance(point));
+		assertTrue(dist <= distMin + 1e-12);
+		assertEquals(distMin, dist, 1e-4);
+	}
+	
+	public void testProject_SeveralRootsAroundSample() {
+		// the derivative of the distance is positive at both samples around
+		// the closest sample, and changes its sign twice between them
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0.50886568178055, -0.5646017246106341), 
+				new Point2D(-2.280293631762596, -1.070125127391963), 
+				new Point2D(6.1153059027966155, 0.4627727340642662), 
+				new Point2D(1.6259828570577421, -0.33559091040992706));
+		Point2D point = new Point2D(0.044491882760024234, -0.8303154750061474);
+		
+		double t = bezier.project(point);
+		assertEquals(.089, t, 1e-3);
+		assertEquals(.1789, bezier.distance(point), 1e-4);
+		
+		double distMin = Double.POSITIVE_INFINITY;
+		for (int k = 0; k <= 10000; k++)
+			distMin = Math.min(distMin, 
+					bezier.point(k / 10000.0).distance(point));
+		assertTrue(bezier.distance(point) <= distMin + 1e-12);
+	}
 }
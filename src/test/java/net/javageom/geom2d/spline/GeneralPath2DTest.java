@@ -6,6 +6,7 @@ package net.javageom.geom2d.spline;
 import java.util.Collection;
 
 import junit.framework.TestCase;
+import net.javageom.geom2d.AffineTransform2D;
 import net.javageom.geom2d.Box2D;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.Shape2D;
@@ -151,6 +152,90 @@ public class GeneralPath2DTest extends TestCase {
 		assertFalse(curve.isEmpty());
 	}
 	
+	public void testBoundingBox_Bounds() {
+		GeneralPath2D path = new GeneralPath2D();
+		path.moveTo(-10, -20);
+		path.quadTo(-5, -30, -1, -2);
+		path.closePath();
+
+		Box2D box = path.boundingBox();
+		assertEquals(new Box2D(-10, -1, -30, -2), box);
+	}
+
+	public void testTransform() {
+		GeneralPath2D path = createDefaultPath();
+		AffineTransform2D trans = AffineTransform2D.createRotation(
+				new Point2D(100, 100), Math.PI / 3);
+
+		GeneralPath2D path2 = (GeneralPath2D) path.transform(trans);
+		assertEquals(path.segmentNumber(), path2.segmentNumber());
+		assertTrue(path2.firstPoint().almostEquals(
+				path.firstPoint().transform(trans), Shape2D.ACCURACY));
+		Point2D p = new Point2D(400, 100);
+		assertEquals(path.distance(p), path2.distance(p.transform(trans)),
+				Shape2D.ACCURACY);
+	}
+
+	public void testDistance_CompareWithCurves() {
+		GeneralPath2D path = createDefaultPath();
+		path.moveTo(500, 500);
+		path.cubicTo(600, 400, 700, 600, 800, 500);
+
+		for (int i = 0; i < 20; i++) {
+			Point2D p = new Point2D(40 * i, 30 * i);
+			double dist = Double.MAX_VALUE;
+			for (ContinuousCurve2D curve : path.continuousCurves())
+				dist = Math.min(dist, curve.distance(p));
+			assertEquals(dist, path.distance(p), 1e-10);
+		}
+	}
+
+	public void testContinuousCurves_Open() {
+		GeneralPath2D path = createDefaultPath();
+		path.moveTo(500, 500);
+		path.lineTo(600, 500);
+		path.lineTo(600, 600);
+
+		Collection<? extends ContinuousCurve2D> curves = path.continuousCurves();
+		assertEquals(2, curves.size());
+	}
+
+	public void testClosePath_Twice() {
+		GeneralPath2D path = createDefaultPath();
+		int n = path.segmentNumber();
+		path.closePath();
+		assertEquals(n, path.segmentNumber());
+	}
+
+	public void testLastPoint_Closed() {
+		GeneralPath2D path = createDefaultPath();
+		assertEquals(new Point2D(200, 200), path.lastPoint());
+	}
+
+	public void testIsEmpty() {
+		GeneralPath2D path = new GeneralPath2D();
+		assertTrue(path.isEmpty());
+		path.moveTo(200, 200);
+		assertFalse(path.isEmpty());
+	}
+
+	public void testTrimToSize() {
+		GeneralPath2D path = createDefaultPath();
+		GeneralPath2D copy = new GeneralPath2D(path);
+		path.trimToSize();
+		assertEquals(copy, path);
+
+		// the path can still be extended after trimming
+		path.moveTo(500, 500);
+		path.lineTo(600, 500);
+		assertEquals(7, path.segmentNumber());
+	}
+
+	public void testClone() {
+		GeneralPath2D path = createDefaultPath();
+		assertEquals(path, path.clone());
+	}
+
 	private GeneralPath2D createDefaultPath() {
 		GeneralPath2D path = new GeneralPath2D();
 		path.moveTo(
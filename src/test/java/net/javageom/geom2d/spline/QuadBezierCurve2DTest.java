@@ -26,6 +26,10 @@
 
 package net.javageom.geom2d.spline;
 
+import static net.javageom.geom2d.spline.SplineFixtures.randomPoint;
+
+import java.util.Random;
+
 import junit.framework.TestCase;
 import net.javageom.geom2d.Point2D;
 import net.javageom.geom2d.polygon.Polyline2D;
@@ -115,4 +119,33 @@ public class QuadBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p3), 0, 1e-10);
 	}
 
+	public void testProject_Random() {
+		Random random = new Random(1);
+		for (int i = 0; i < 100; i++) {
+			QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+					randomPoint(random), randomPoint(random), 
+					randomPoint(random));
+			Point2D point = randomPoint(random);
+			double t = bezier.project(point);
+			assertTrue(t >= 0 && t <= 1);
+			double dist = bezier.distance(point);
+			assertEquals(bezier.point(t).distance(point), dist, 1e-10);
+			
+			// compare with the distance to sampled points
+			double distMin = Double.POSITIVE_INFINITY;
+			for (int k = 0; k <= 10000; k++)
+				distMin = Math.min(distMin, 
+						bezier.point(k / 10000.0).distance(point));
+			assertTrue(dist <= distMin + 1e-12);
+			assertEquals(distMin, dist, 1e-4);
+		}
+	}
+	
+	public void testProject_Aligned() {
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				new Point2D(0, 0), new Point2D(5, 0), new Point2D(10, 0));
+		assertEquals(.3, bezier.project(new Point2D(3, 2)), 1e-12);
+		assertEquals(2, bezier.distance(3, 2), 1e-12);
+		assertEquals(0, bezier.project(new Point2D(-3, 2)), 1e-12);
+	}
 }
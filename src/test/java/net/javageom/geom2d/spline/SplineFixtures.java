@@ -0,0 +1,28 @@
+/**
+ * File: 	SplineFixtures.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package net.javageom.geom2d.spline;
+
+import java.util.Random;
+
+import net.javageom.geom2d.Point2D;
+
+/**
+ * Points and curves shared by the tests of the spline package.
+ *
+ * @author dlegland
+ */
+abstract class SplineFixtures {
+
+	/**
+	 * Returns a random point within the square [0, 10] x [0, 10].
+	 */
+	static Point2D randomPoint(Random random) {
+		return new Point2D(random.nextDouble() * 10, random.nextDouble() * 10);
+	}
+}